@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/* global Packages */
+
+/**
+ * patterDetector.js
+ *
+ * Export an API for checking chat messages for links, email addresses, excessive character sequenses etc.
+ * Use the $.patternDetector API
+ */
+(function() {
+    /**
+     * @function analysis
+     * @param {Object} event
+     * @returns {MessageAnalysis} The analysis cached on the event, or a new analysis if the event is not an IrcModerationEvent
+     */
+    function analysis(event) {
+        if (event instanceof Packages.tv.phantombot.event.irc.message.IrcModerationEvent) {
+            return event.analysis();
+        }
+
+        return Packages.com.gmt2001.PatternDetector.analyze(event.getMessage(), event.getTags());
+    }
+
+    /**
+     * @function hasLinks
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {boolean}
+     */
+    function hasLinks(event) {
+        return analysis(event).hasLinks();
+    }
+
+    /**
+     * @function getLinks
+     * @export $.patternDetector
+     * @param {String} message
+     * @returns {string[]}
+     */
+    function getLinks(message) {
+        let jlinks = Packages.com.gmt2001.PatternDetector.getLinks(message);
+        let links = [];
+
+        for (let i = 0; i < jlinks.size(); i++) {
+            links.push($.jsString(jlinks.get(i)));
+        }
+
+        return links;
+    }
+
+    /**
+     * @function logLastLink
+     * @export $.patternDetector
+     */
+    function logLastLink(event) {
+        let jlink = analysis(event).firstLink();
+
+        if (jlink === null) {
+            jlink = '';
+        }
+
+        $.log.file('patternDetector', 'Matched link on message from ' + event.getSender() + ': ' + jlink);
+    }
+
+    /**
+     * @function getLongestRepeatedSequence
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {number}
+     */
+    function getLongestRepeatedSequence(event) {
+        return analysis(event).longestRepeatedSequence();
+    }
+
+    /**
+     * @function getLongestNonLetterSequence
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {number}
+     */
+    function getLongestNonLetterSequence(event) {
+        return analysis(event).longestNonLetterSequence();
+    }
+
+    /**
+     * @function getNumberOfNonLetters
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {number}
+     */
+    function getNumberOfNonLetters(event) {
+        return analysis(event).nonLetters();
+    }
+
+    /**
+     * @function getEmotesCount
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {number}
+     * @info this gets the emote count from the ircv3 tags and the emotes cache if enabled.
+     */
+    function getEmotesCount(event) {
+        return analysis(event).emotes() + $.emotesHandler.getEmotesMatchCount(event.getMessage());
+    }
+
+    /**
+     * @function getMessageWithoutEmotes
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {string}
+     */
+    function getMessageWithoutEmotes(event, message) {
+        let emotes = event.getTags().get('emotes'),
+            str = message;
+
+        if (emotes !== null && emotes.length() > 0) {
+            emotes = emotes.replaceAll('[0-9]+:', '').split('/');
+            for (let i in emotes) {
+                str = str.replace(getWordAt(message, parseInt(emotes[i].split('-')[0])), '');
+            }
+        }
+        return str;
+    }
+
+    /**
+     * @function getWordAt
+     *
+     * @param  {String} str
+     * @param  {Number} pos
+     * @return {String}
+     */
+    function getWordAt(str, pos) {
+        str = $.jsString(str);
+        pos = pos >>> 0;
+
+        let left = str.slice(0, pos + 2).search(/\S+$/),
+            right = str.slice(pos).search(/\s/);
+
+        if (right < 0) {
+            return str.slice(left);
+        }
+
+        return str.slice(left, right + pos);
+    }
+
+    /**
+     * @function getNumberOfCaps
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {number}
+     */
+    function getNumberOfCaps(event) {
+        return analysis(event).caps();
+    }
+
+    /**
+     * @function getColoredMessage
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {boolean}
+     */
+    function getColoredMessage(event) {
+        return analysis(event).colored();
+    }
+
+    /**
+     * @function getFakePurge
+     * @export $.patternDetector
+     * @param {Object} event
+     * @returns {boolean}
+     */
+    function getFakePurge(event) {
+        return analysis(event).fakePurge();
+    }
+
+    /** Export functions to API */
+    $.patternDetector = {
+        hasLinks: hasLinks,
+        getLinks: getLinks,
+        getLongestRepeatedSequence: getLongestRepeatedSequence,
+        getLongestNonLetterSequence: getLongestNonLetterSequence,
+        getNumberOfNonLetters: getNumberOfNonLetters,
+        getEmotesCount: getEmotesCount,
+        getMessageWithoutEmotes: getMessageWithoutEmotes,
+        getNumberOfCaps: getNumberOfCaps,
+        logLastLink: logLastLink,
+        getColoredMessage: getColoredMessage,
+        getFakePurge: getFakePurge
+    };
+})();
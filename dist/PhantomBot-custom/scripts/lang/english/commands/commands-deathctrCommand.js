@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('deathcounter.set-error', 'Provide a new valid death counter value.');
+$.lang.register('deathcounter.set-success', 'Death counter for $1 set to $2.');
+$.lang.register('deathcounter.add-success', '$1 has died again in $2, bringing the total to $3.');
+$.lang.register('deathcounter.sub-success', 'Calling back a death, the total is now $2 in $1.');
+$.lang.register('deathcounter.sub-zero', 'The death counter for $1 is already zero, can\'t go any lower!');
+$.lang.register('deathcounter.counter', '$1 has died $3 times in $2.');
+$.lang.register('deathcounter.none', '$1 has not died in $2....yet.');
+$.lang.register('deathcounter.reset', 'Reset the death counter back to 0 from $2 for $1.');
+$.lang.register('deathcounter.reset-nil', 'The death counter for $1 is already 0.');
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('dualstreamcommand.usage', 'Usage: !multi [set / clear / timer / timerinterval]');
+$.lang.register('dualstreamcommand.set.usage', 'Usage: !multi set [channel(s)]');
+$.lang.register('dualstreamcommand.link.set', 'Multi link set! - http://multistre.am/$1');
+$.lang.register('dualstreamcommand.clear', 'Multi command cleared, and disabled.');
+$.lang.register('dualstreamcommand.timer.usage', 'Usage: !multi timer [on / off]');
+$.lang.register('dualstreamcommand.timer.enabled', 'Multi timer enabled.');
+$.lang.register('dualstreamcommand.timer.disabled', 'Multi timer disabled.');
+$.lang.register('dualstreamcommand.timerinterval.usage', 'Usage: !multi timerinterval (time in minutes)');
+$.lang.register('dualstreamcommand.timerinterval.err', 'Minimum for the timer is 5 minutes.');
+$.lang.register('dualstreamcommand.timerinterval.set', 'Timer interval set to $1 minutes!');
+$.lang.register('dualstreamcommand.link', 'http://multistre.am/');
+$.lang.register('dualstreamcommand.req.usage', 'Usage: !multi reqmessage (amount of messages)');
+$.lang.register('dualstreamcommand.reqmessages.set', 'Req message set to $1 messages!');
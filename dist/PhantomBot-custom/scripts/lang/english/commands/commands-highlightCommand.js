@@ -0,0 +1,23 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('highlightcommand.highlight.offline', 'Highlights can only be set when the stream is online.');
+$.lang.register('highlightcommand.highlight.usage', 'Usage: !highlight [description] (Using date stamp for timezone: $1)');
+$.lang.register('highlightcommand.highlight.success', 'Highlight successfully saved with a timestamp of $1.');
+$.lang.register('highlightcommand.gethighlights.no-highlights', 'There are currently no highlights.');
+$.lang.register('highlightcommand.clearhighlights.success', 'Highlights have been cleared.');
+$.lang.register('highlightcommand.highlights', 'Highlights: $1');
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('namechange.default', 'Usage: !namechange [old name] [new name]');
+$.lang.register('namechange.updating', 'Updating name $1 to $2 in all the database tables. This may take time.');
+$.lang.register('namechange.success', 'Username $1 has been updated to $2 in $3 tables!');
+$.lang.register('namechange.notfound', 'Username $1 was not found in any tables.');
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('streamcommand.vod.404', 'No videos were found.');
+$.lang.register('streamcommand.vod.online', 'Stream Uptime: $1 [$2]');
+$.lang.register('streamcommand.vod.offline', 'Stream is offline. Last video created: [$1] [Length: $2]');
+$.lang.register('streamcommand.playtime.offline', '$1 is not streaming right now.');
+$.lang.register('streamcommand.playtime.online', '$1 has been playing $2 for $3');
+$.lang.register('streamcommand.title.offline', 'Current Status: $1');
+$.lang.register('streamcommand.title.no.title', 'There\'s no status set.');
+$.lang.register('streamcommand.title.online', 'Current Status: $1. Uptime: $2');
+$.lang.register('streamcommand.title.set.usage', 'Usage: !settitle [stream title]. Currently: $1');
+$.lang.register('streamcommand.game.online', 'Current Game: $1. Playtime: $2');
+$.lang.register('streamcommand.game.offline', 'Current Game: $1');
+$.lang.register('streamcommand.game.no.game', 'There\'s no game set.');
+$.lang.register('streamcommand.game.set.usage', 'Usage: !setgame [game title]. Currently: $1');
+$.lang.register('streamcommand.communities.set.usage', 'Usage: !setcommunities [communities]. Currently: $1');
+$.lang.register('streamcommand.viewers', 'Currently $1 viewers are watching.');
+$.lang.register('streamcommand.online.offline', 'Stream is offline.');
+$.lang.register('streamcommand.online.online', 'Stream is online.');
+$.lang.register('streamcommand.createdat.404', 'Please provide a channel');
+$.lang.register('streamcommand.createdat.error', 'The channel does not exist or a Twitch API error occurred.');
+$.lang.register('streamcommand.createdat', 'Channel: $1 | Created At: $2');
@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('top5.default', 'Top $1 $2: $3');
+$.lang.register('top5.points-disabled', 'Points are disabled.');
+$.lang.register('top5.amount.points.usage', 'Usage: !topamount (amount) - Set how many viewers will appear in the !top points list.');
+$.lang.register('top5.amount.max', 'The max amount of users is 15.');
+$.lang.register('top5.amount.points.set', '$1 users will now show in the !top command.');
+$.lang.register('top5.amount.time.usage', 'Usage: !toptimeamount (amount) - Set how many viewers will appear in the !toptime list.');
+$.lang.register('top5.amount.time.set', '$1 viwers will now show in the !toptime command.');
+$.lang.register('top5.reloadtopbots', 'Deprecated. Please run !reloadbots');
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('chatmoderator.moderation.logs', 'Moderation logs have been $1');
+$.lang.register('chatmoderator.moderation.enabled', 'Enabled - this will require a bot reboot.');
+$.lang.register('chatmoderator.usage.toggles', 'Usage: !moderation [links / caps / symbols / spam / emotes / colors / longmessages / spamtracker / fakepurge / regulars / subscribers / silenttimeout]');
+$.lang.register('chatmoderator.usage.messages', 'Usage: !moderation [linksmessage / capsmessage / symbolsmessage / spammessage / emotesmessage / colorsmessage / blacklistmessage / blacklistmessageban / longmsgmessage / spamtrackermessage / fakepurgemessage]');
+$.lang.register('chatmoderator.options', 'Usage: !moderation [capstriggerlength / capslimit / symbolstriggerlength / symbolslimit / symbolsgrouplimit / spamlimit / emoteslimit / spamtrackerlimit / spamtrackertime / permittime / warningtime / timeouttime / messagecooldown / messagecharacterlimit / warningresettime]');
+$.lang.register('chatmoderator.link.usage', 'Usage: !moderation links [on / off] (link filter is currently $1)');
+$.lang.register('chatmoderator.fakepurge.usage', 'Usage: !moderation fakepurge [on / off] (fake purge is currently $1)');
+$.lang.register('chatmoderator.link.filter.enabled', 'Link filter has been enabled.');
+$.lang.register('chatmoderator.msgcooldown.usage', 'Usage: !moderation messagecooldown [time in seconds]');
+$.lang.register('chatmoderator.msgcooldown.set', 'message cooldown set to $1 seconds.');
+$.lang.register('chatmoderator.warningresettime.usage', 'Usage: !moderation warningresettime [time in minutes]');
+$.lang.register('chatmoderator.warningresettime.set', 'Warning reset time set to $1 minutes.');
+$.lang.register('chatmoderator.link.filter.disabled', 'Link filter has been disabled.');
+$.lang.register('chatmoderator.message.limit.usage', 'Usage: !moderation messagecharacterlimit [amount]');
+$.lang.register('chatmoderator.message.limit.set', 'Max characters allowed in a message set to $1 characters.');
+$.lang.register('chatmoderator.message.message.usage', 'Usage: !moderation longmsgmessage [message]');
+$.lang.register('chatmoderator.message.fakepurge.usage', 'Usage: !moderation fakepurgemessage [message]');
+$.lang.register('chatmoderator.message.message.set', 'Message length filter message set to $1');
+$.lang.register('chatmoderator.message.usage', 'Usage: !moderation longmessages [on / off] (long message filter is currently $1)');
+$.lang.register('chatmoderator.message.filter.enabled', 'Long message filter enabled.');
+$.lang.register('chatmoderator.message.filter.disabled', 'Long message filter disabled.');
+$.lang.register('chatmoderator.caps.usage', 'Usage: !moderation caps [on / off] (cap filter is currently $1)');
+$.lang.register('chatmoderator.caps.filter.enabled', 'Caps filter has been enabled.');
+$.lang.register('chatmoderator.caps.filter.disabled', 'Caps filter has been disabled.');
+$.lang.register('chatmoderator.spam.usage', 'Usage: !moderation spam [on / off] (spam filter is currently $1)');
+$.lang.register('chatmoderator.spam.filter.enabled', 'Spam filter has been enabled.');
+$.lang.register('chatmoderator.spam.filter.disabled', 'Spam filter has been disabled.');
+$.lang.register('chatmoderator.spamtracker.usage', 'Usage: !moderation spamtracker [on / off] (spam tracker filter is currently $1)');
+$.lang.register('chatmoderator.spamtracker.filter.enabled', 'Spam tracker filter has been enabled.');
+$.lang.register('chatmoderator.spamtracker.filter.disabled', 'Spam tracker filter has been disabled.');
+$.lang.register('chatmoderator.symbols.usage', 'Usage: !moderation symbols [on / off] (symbol filter is currently $1)');
+$.lang.register('chatmoderator.symbols.filter.enabled', 'Symbol filter has been enabled.');
+$.lang.register('chatmoderator.symbols.filter.disabled', 'Symbol filter has been disabled.');
+$.lang.register('chatmoderator.emotes.usage', 'Usage: !moderation emotes [on / off] (emote filter is currently $1)');
+$.lang.register('chatmoderator.emotes.filter.enabled', 'Emotes filter has been enabled.');
+$.lang.register('chatmoderator.emotes.filter.disabled', 'Emotes filter has been disabled.');
+$.lang.register('chatmoderator.colors.usage', 'Usage: !moderation colors [on / off] (colors filter is currently $1)');
+$.lang.register('chatmoderator.colors.filter.enabled', 'Colour filter has been enabled.');
+$.lang.register('chatmoderator.colors.filter.disabled', 'Colour filter has been disabled.');
+$.lang.register('chatmoderator.fakepurge.filter.enabled', 'Fake purge filter has been enabled.');
+$.lang.register('chatmoderator.fakepurge.filter.disabled', 'fake purge filter has been disabled.');
+$.lang.register('chatmoderator.subscribers.usage', 'Usage: !moderation subscribers [links / caps / symbols / spam / emotes / colors / longmessages / spamtracker / fakepurge] [true / false]');
+$.lang.register('chatmoderator.subscribers.links.allowed', 'subscribers will now be effected by the link filter.');
+$.lang.register('chatmoderator.subscribers.links.not.allowed', 'subscribers will no longer be effected by the link filter.');
+$.lang.register('chatmoderator.subscribers.caps.allowed', 'subscribers will now be effected by the caps filter.');
+$.lang.register('chatmoderator.subscribers.caps.not.allowed', 'subscribers will no longer be effected by the caps filter.');
+$.lang.register('chatmoderator.subscribers.symbols.allowed', 'subscribers will now be effected by the symbols filter.');
+$.lang.register('chatmoderator.subscribers.symbols.not.allowed', 'subscribers will no longer be effected by the symbols filter.');
+$.lang.register('chatmoderator.subscribers.spam.allowed', 'subscribers will now be effected by the spam filter.');
+$.lang.register('chatmoderator.subscribers.spam.not.allowed', 'subscribers will no longer be effected by the spam filter.');
+$.lang.register('chatmoderator.subscribers.emotes.allowed', 'subscribers will now be effected by the emotes filter.');
+$.lang.register('chatmoderator.subscribers.emotes.not.allowed', 'subscribers will no longer be effected by the emotes filter.');
+$.lang.register('chatmoderator.subscribers.spamtracker.allowed', 'subscribers will now be effected by the spam tracker filter.');
+$.lang.register('chatmoderator.subscribers.spamtracker.not.allowed', 'subscribers will no longer be effected by the spam tracker filter.');
+$.lang.register('chatmoderator.subscribers.colors.allowed', 'subscribers will now be effected by the colors filter.');
+$.lang.register('chatmoderator.subscribers.colors.not.allowed', 'subscribers will no longer be effected by the colors filter.');
+$.lang.register('chatmoderator.subscribers.long.messages.allowed', 'subscribers will now be effected by the long message filter.');
+$.lang.register('chatmoderator.subscribers.long.messages.not.allowed', 'subscribers will no longer be effected by the long message filter.');
+$.lang.register('chatmoderator.subscribers.fakepurge.allowed', 'subscribers will now be effected by the fake purges filter.');
+$.lang.register('chatmoderator.subscribers.fakepurge.not.allowed', 'subscribers will no longer be effected by the fake purges filter.');
+$.lang.register('chatmoderator.subscribers.toggle.link', 'subscribers are currently $1 to post links.');
+$.lang.register('chatmoderator.subscribers.toggle.caps', 'subscribers are currently $1 to type all in caps.');
+$.lang.register('chatmoderator.subscribers.toggle.symbols', 'subscribers are currently $1 to spam symbols.');
+$.lang.register('chatmoderator.subscribers.toggle.spam', 'subscribers are currently $1 to spam repeating characters.');
+$.lang.register('chatmoderator.subscribers.toggle.emotes', 'subscribers are currently $1 to overuse emotes.');
+$.lang.register('chatmoderator.subscribers.toggle.colors', 'subscribers are currently $1 to use /me for colored text');
+$.lang.register('chatmoderator.subscribers.toggle.fakepurge', 'subscribers are currently $1 to use fake purges.');
+$.lang.register('chatmoderator.subscribers.toggle.long.msg', 'subscribers are currently $1 to post long messages.');
+$.lang.register('chatmoderator.vips.usage', 'Usage: !moderation vips [links / caps / symbols / spam / emotes / colors / longmessages / spamtracker / fakepurge] [true / false]');
+$.lang.register('chatmoderator.vips.links.allowed', 'vips will now be effected by the link filter.');
+$.lang.register('chatmoderator.vips.links.not.allowed', 'vips will no longer be effected by the link filter.');
+$.lang.register('chatmoderator.vips.caps.allowed', 'vips will now be effected by the caps filter.');
+$.lang.register('chatmoderator.vips.caps.not.allowed', 'vips will no longer be effected by the caps filter.');
+$.lang.register('chatmoderator.vips.symbols.allowed', 'vips will now be effected by the symbols filter.');
+$.lang.register('chatmoderator.vips.symbols.not.allowed', 'vips will no longer be effected by the symbols filter.');
+$.lang.register('chatmoderator.vips.spam.allowed', 'vips will now be effected by the spam filter.');
+$.lang.register('chatmoderator.vips.spam.not.allowed', 'vips will no longer be effected by the spam filter.');
+$.lang.register('chatmoderator.vips.emotes.allowed', 'vips will now be effected by the emotes filter.');
+$.lang.register('chatmoderator.vips.emotes.not.allowed', 'vips will no longer be effected by the emotes filter.');
+$.lang.register('chatmoderator.vips.spamtracker.allowed', 'vips will now be effected by the spam tracker filter.');
+$.lang.register('chatmoderator.vips.spamtracker.not.allowed', 'vips will no longer be effected by the spam tracker filter.');
+$.lang.register('chatmoderator.vips.colors.allowed', 'vips will now be effected by the colors filter.');
+$.lang.register('chatmoderator.vips.colors.not.allowed', 'vips will no longer be effected by the colors filter.');
+$.lang.register('chatmoderator.vips.long.messages.allowed', 'vips will now be effected by the long message filter.');
+$.lang.register('chatmoderator.vips.long.messages.not.allowed', 'vips will no longer be effected by the long message filter.');
+$.lang.register('chatmoderator.vips.fakepurge.allowed', 'vips will now be effected by the fake purges filter.');
+$.lang.register('chatmoderator.vips.fakepurge.not.allowed', 'vips will no longer be effected by the fake purges filter.');
+$.lang.register('chatmoderator.vips.toggle.link', 'vips are currently $1 to post links.');
+$.lang.register('chatmoderator.vips.toggle.caps', 'vips are currently $1 to type all in caps.');
+$.lang.register('chatmoderator.vips.toggle.symbols', 'vips are currently $1 to spam symbols.');
+$.lang.register('chatmoderator.vips.toggle.spam', 'vips are currently $1 to spam repeating characters.');
+$.lang.register('chatmoderator.vips.toggle.emotes', 'vips are currently $1 to overuse emotes.');
+$.lang.register('chatmoderator.vips.toggle.colors', 'vips are currently $1 to use /me for colored text');
+$.lang.register('chatmoderator.vips.toggle.fakepurge', 'vips are currently $1 to use fake purges.');
+$.lang.register('chatmoderator.vips.toggle.long.msg', 'vips are currently $1 to post long messages.');
+$.lang.register('chatmoderator.regulars.usage', 'Usage: !moderation regulars [links / caps / symbols / spam / emotes / colors / longmessages / spamtracker / fakepurge] [true / false]');
+$.lang.register('chatmoderator.regulars.links.allowed', 'regulars will now be effected by the link filter.');
+$.lang.register('chatmoderator.regulars.links.not.allowed', 'regulars will no longer be effected by the link filter.');
+$.lang.register('chatmoderator.regulars.caps.allowed', 'regulars will now be effected by the caps filter.');
+$.lang.register('chatmoderator.regulars.caps.not.allowed', 'regulars will no longer be effected by the caps filter.');
+$.lang.register('chatmoderator.regulars.symbols.allowed', 'regulars will now be effected by the symbols filter.');
+$.lang.register('chatmoderator.regulars.symbols.not.allowed', 'regulars will no longer be effected by the symbols filter.');
+$.lang.register('chatmoderator.regulars.spam.allowed', 'regulars will now be effected by the spam filter.');
+$.lang.register('chatmoderator.regulars.spam.not.allowed', 'regulars will no longer be effected by the spam filter.');
+$.lang.register('chatmoderator.regulars.emotes.allowed', 'regulars will now be effected by the emotes filter.');
+$.lang.register('chatmoderator.regulars.emotes.not.allowed', 'regulars will no longer be effected by the emotes filter.');
+$.lang.register('chatmoderator.regulars.spamtracker.allowed', 'regulars will now be effected by the spam tracker filter.');
+$.lang.register('chatmoderator.regulars.spamtracker.not.allowed', 'regulars will no longer be effected by the spam tracker filter.');
+$.lang.register('chatmoderator.regulars.colors.allowed', 'regulars will now be effected by the colors filter.');
+$.lang.register('chatmoderator.regulars.colors.not.allowed', 'regulars will no longer be effected by the colors filter.');
+$.lang.register('chatmoderator.regulars.long.messages.allowed', 'regulars will now be effected by the long message filter.');
+$.lang.register('chatmoderator.regulars.long.messages.not.allowed', 'regulars will no longer be effected by the long message filter.');
+$.lang.register('chatmoderator.regulars.fakepurge.allowed', 'regulars will now be effected by the fake purges filter.');
+$.lang.register('chatmoderator.regulars.fakepurge.not.allowed', 'regulars will no longer be effected by the fake purges filter.');
+$.lang.register('chatmoderator.regulars.toggle.link', 'regulars are currently $1 to post links.');
+$.lang.register('chatmoderator.regulars.toggle.caps', 'regulars are currently $1 to type all in caps.');
+$.lang.register('chatmoderator.regulars.toggle.symbols', 'regulars are currently $1 to spam symbols.');
+$.lang.register('chatmoderator.regulars.toggle.spam', 'regulars are currently $1 to spam repeating characters.');
+$.lang.register('chatmoderator.regulars.toggle.emotes', 'regulars are currently $1 to overuse emotes.');
+$.lang.register('chatmoderator.regulars.toggle.colors', 'regulars are currently $1 to use fake purges.');
+$.lang.register('chatmoderator.regulars.toggle.fakepurge', 'regulars are currently $1 to use fake purges.');
+$.lang.register('chatmoderator.regulars.toggle.long.msg', 'regulars are currently $1 to post long messages.');
+$.lang.register('chatmoderator.silenttimeout.toggle.links', 'silent timeout is currently $1 for links.');
+$.lang.register('chatmoderator.silenttimeout.usage.all', 'usage: !moderation silenttimeout all [true / false]');
+$.lang.register('chatmoderator.silenttimeout.true', 'silent timeout has been enabled for all filters.');
+$.lang.register('chatmoderator.silenttimeout.false', 'silent timeout has been disabled for all filters.');
+$.lang.register('chatmoderator.silenttimeout.toggle.caps', 'silent timeout is currently $1 for caps.');
+$.lang.register('chatmoderator.silenttimeout.toggle.spamtracker', 'silent timeout is currently $1 for spam tracker.');
+$.lang.register('chatmoderator.silenttimeout.toggle.symbols', 'silent timeout is currently $1 for symbols.');
+$.lang.register('chatmoderator.silenttimeout.toggle.spam', 'silent timeout is currently $1 for spam.');
+$.lang.register('chatmoderator.silenttimeout.toggle.emotes', 'silent timeout is currently $1 for emotes.');
+$.lang.register('chatmoderator.silenttimeout.toggle.colors', 'silent timeout is currently $1 for colors.');
+$.lang.register('chatmoderator.silenttimeout.toggle.fakepurge', 'silent timeout is currently $1 for fake purges.');
+$.lang.register('chatmoderator.silenttimeout.toggle.long.message', 'silent timeout is currently $1 for long messages.');
+$.lang.register('chatmoderator.silenttimeout.toggle.blacklist', 'silent timeout is currently $1 for blacklist.');
+$.lang.register('chatmoderator.silenttimeout.links.true', 'silent timeout has been turned on for links.');
+$.lang.register('chatmoderator.silenttimeout.caps.true', 'silent timeout has been turned on for caps.');
+$.lang.register('chatmoderator.silenttimeout.symbols.true', 'silent timeout has been turned on for symbols.');
+$.lang.register('chatmoderator.silenttimeout.spam.true', 'silent timeout has been turned on for spam.');
+$.lang.register('chatmoderator.silenttimeout.spamtracker.true', 'silent timeout has been turned on for spam tracker.');
+$.lang.register('chatmoderator.silenttimeout.emotes.true', 'silent timeout has been turned on for emotes.');
+$.lang.register('chatmoderator.silenttimeout.colors.true', 'silent timeout has been turned on for colors.');
+$.lang.register('chatmoderator.silenttimeout.fakepurge.true', 'silent timeout has been turned on for fake purges.');
+$.lang.register('chatmoderator.silenttimeout.long.msg.true', 'silent timeout has been turned on for long messages.');
+$.lang.register('chatmoderator.silenttimeout.links.false', 'silent timeout has been turned off for links.');
+$.lang.register('chatmoderator.silenttimeout.caps.false', 'silent timeout has been turned off for caps.');
+$.lang.register('chatmoderator.silenttimeout.symbols.false', 'silent timeout has been turned off for symbols.');
+$.lang.register('chatmoderator.silenttimeout.spam.false', 'silent timeout has been turned off for spam.');
+$.lang.register('chatmoderator.silenttimeout.spamtracker.false', 'silent timeout has been turned off for spam tracker.');
+$.lang.register('chatmoderator.silenttimeout.emotes.false', 'silent timeout has been turned off for emotes.');
+$.lang.register('chatmoderator.silenttimeout.colors.false', 'silent timeout has been turned off for colors.');
+$.lang.register('chatmoderator.silenttimeout.fakepurge.false', 'silent timeout has been turned off for fake purges.');
+$.lang.register('chatmoderator.silenttimeout.long.msg.false', 'silent timeout has been turned off for long messages.');
+$.lang.register('chatmoderator.silenttimeout.usage', 'Usage: !moderation silenttimeout [links / caps / symbols / spam / emotes / colors / longmessages / spamtracker / fakepurge / all] [true / false]');
+$.lang.register('chatmoderator.link.message.usage', 'Usage: !moderation linksmessage [message]');
+$.lang.register('chatmoderator.link.message.set', 'link warning message set to: $1');
+$.lang.register('chatmoderator.caps.message.usage', 'Usage: !moderation capsmessage [message]');
+$.lang.register('chatmoderator.caps.message.set', 'cap warning message set to: $1');
+$.lang.register('chatmoderator.symbols.message.usage', 'Usage: !moderation symbolsmessage [message]');
+$.lang.register('chatmoderator.symbols.message.set', 'symbol warning message set to: $1');
+$.lang.register('chatmoderator.emotes.message.usage', 'Usage: !moderation emotesmessage [message]');
+$.lang.register('chatmoderator.emotes.message.set', 'emotes warning message set to: $1');
+$.lang.register('chatmoderator.spam.message.usage', 'Usage: !moderation spammessage [message]');
+$.lang.register('chatmoderator.spam.message.set', 'spam warning message set to: $1');
+$.lang.register('chatmoderator.spamtracker.message.usage', 'Usage: !moderation spamtrackermessage [message]');
+$.lang.register('chatmoderator.spamtracker.message.set', 'spam tracker warning message set to: $1');
+$.lang.register('chatmoderator.colors.message.usage', 'Usage: !moderation colorsmessage [message]');
+$.lang.register('chatmoderator.colors.message.set', 'color warning message set to: $1');
+$.lang.register('chatmoderator.fakepurge.message.usage', 'Usage: !moderation fakepurgemessage [message]');
+$.lang.register('chatmoderator.fakepurge.message.set', 'fake purge warning message set to: $1');
+$.lang.register('chatmoderator.blacklist.message.usage', 'Usage: !moderation blacklistmessage [message]');
+$.lang.register('chatmoderator.blacklist.message.set', 'blacklist warning message set to: $1');
+$.lang.register('chatmoderator.blacklistban.message.usage', 'Usage: !moderation blacklistmessageban [message]');
+$.lang.register('chatmoderator.blacklistban.message.set', 'blacklist ban message set to: $1');
+$.lang.register('chatmoderator.permit.time.usage', 'Usage: !moderation permittime [time]');
+$.lang.register('chatmoderator.permit.time.set', 'link permit time set to: $1 seconds.');
+$.lang.register('chatmoderator.caps.limit.usage', 'Usage: !moderation capslimit [amount in percent]');
+$.lang.register('chatmoderator.caps.limit.set', 'cap limit set to: $1% of caps.');
+$.lang.register('chatmoderator.caps.trigger.length.set', 'cap trigger length set to: $1');
+$.lang.register('chatmoderator.caps.trigger.length.usage', 'Usage: !moderation capstriggerlength [amount]');
+$.lang.register('chatmoderator.spam.limit.usage', 'Usage: !moderation spamlimit [amount]');
+$.lang.register('chatmoderator.spam.limit.set', 'spam limit set to: $1');
+$.lang.register('chatmoderator.spamtracker.limit.usage', 'Usage: !moderation spamtrackerlimit [amount]');
+$.lang.register('chatmoderator.spamtracker.limit.set', 'spam tracker limit set to: $1 message');
+$.lang.register('chatmoderator.spamtracker.time.usage', 'Usage: !moderation spamtrackertime [amount in seconds]');
+$.lang.register('chatmoderator.spamtracker.time.set', 'spam tracker time set to: $1 seconds');
+$.lang.register('chatmoderator.symbols.limit.usage', 'Usage: !moderation symbolslimit [amount]');
+$.lang.register('chatmoderator.symbols.limit.set', 'symbol limit set to: $1% of symbols');
+$.lang.register('chatmoderator.symbols.group.limit.usage', 'Usage: !moderation symbolsgrouplimit [amount]');
+$.lang.register('chatmoderator.symbols.group.limit.set', 'grouped symbol limit set to: $1 symbols');
+$.lang.register('chatmoderator.symbols.trigger.length.usage', 'Usage: !moderation symbolsTriggerLength [amount]');
+$.lang.register('chatmoderator.symbols.trigger.length.set', 'symbol trigger length set to: $1');
+$.lang.register('chatmoderator.emotes.limit.usage', 'Usage: !moderation emoteslimit [amount]');
+$.lang.register('chatmoderator.emotes.limit.set', 'emotes limit set to: $1 emotes');
+$.lang.register('chatmoderator.permit.usage', 'Usage: !permit [username]');
+$.lang.register('chatmoderator.permited', ' is now permitted to post one link during the next $1 seconds!');
+$.lang.register('chatmoderator.blacklist.usage', 'Usage: !blackList [add / remove]');
+$.lang.register('chatmoderator.blacklist.add.usage', 'Usage: !blackList add (timeout time) (message | regex) - Use regex: to specify a regex.');
+$.lang.register('chatmoderator.blacklist.added', 'Word added to the blacklist.');
+$.lang.register('chatmoderator.blacklist.remove.usage', 'Usage: !blackList remove (message | regex) - Use regex: to specify a regex.');
+$.lang.register('chatmoderator.err', 'That\'s an invalid option.');
+$.lang.register('chatmoderator.blacklist.removed', 'Word removed from the blacklist.');
+$.lang.register('chatmoderator.blacklist.show.usage', 'Usage: !blackList show (id)');
+$.lang.register('chatmoderator.whitelist.usage', 'Usage: !whiteList [add / remove]');
+$.lang.register('chatmoderator.whitelist.add.usage', 'Usage: !whiteList add (url)');
+$.lang.register('chatmoderator.whitelist.link.added', 'Link added to the whiteList.');
+$.lang.register('chatmoderator.whitelist.remove.usage', 'Usage: !whiteList remove (url)');
+$.lang.register('chatmoderator.whitelist.removed', 'Link removed from the whitelist!');
+$.lang.register('chatmoderator.warning', '(warning)');
+$.lang.register('chatmoderator.timeout', '(timeout)');
+$.lang.register('chatmoderator.ban', '(ban)');
+$.lang.register('chatmoderator.blacklisttimeouttime.set', 'blacklist timeout time set to $1 seconds.');
+$.lang.register('chatmoderator.blacklisttimeouttime.usage', '!moderation blacklisttimeouttime [time in seconds] (blacklist timeout time is currently $1 seconds)');
+$.lang.register('chatmoderator.warningtime.usage', '!moderation warningtime [links / caps / symbols / spam / emotes / colors / longmessages / spamtracker / fakepurge] [time in seconds]');
+$.lang.register('chatmoderator.warningtime.links.usage', '!moderation warningtime links [time in seconds] (current warning time for links is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.links', 'warning time for links has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.caps.usage', '!moderation warningtime caps [time in seconds] (current warning time for caps is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.caps', 'warning time for caps has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.symbols.usage', '!moderation warningtime symbols [time in seconds] (current warning time for symbols is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.symbols', 'warning time for symbols has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.spam.usage', '!moderation warningtime spam [time in seconds] (current warning time for spam is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.spam', 'warning time for spam has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.spamtracker.usage', '!moderation warningtime spamtracker [time in seconds] (current warning time for spam tracker is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.spamtracker', 'warning time for spam tracker has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.colors.usage', '!moderation warningtime colors [time in seconds] (current warning time for colors is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.colors', 'warning time for colors has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.emotes.usage', '!moderation warningtime emotes [time in seconds] (current warning time for emotes is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.emotes', 'warning time for emotes has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.longmsg.usage', '!moderation warningtime longmessages [time in seconds] (current warning time for long messages is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.longmsg', 'warning time for long messages has been set to $1 seconds.');
+$.lang.register('chatmoderator.warningtime.fakepurge.usage', '!moderation warningtime fakepurge [time in seconds] (current warning time for fake purges is set to $1 seconds)');
+$.lang.register('chatmoderator.warningtime.fakepurge', 'warning time for fake purges has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.usage', '!moderation timeouttime [links / caps / symbols / spam / emotes / colors / longmessages / spamtracker / fakepurge] [time in seconds]');
+$.lang.register('chatmoderator.timeouttime.links.usage', '!moderation timeoutime links [time in seconds] (current timeout time for links is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.links', 'timeout time for links has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.caps.usage', '!moderation timeoutime caps [time in seconds] (current timeout time for caps is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.caps', 'timeout time for caps has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.symbols.usage', '!moderation timeoutime symbols [time in seconds] (current timeout time for symbols is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.symbols', 'timeout time for symbols has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.spam.usage', '!moderation timeoutime spam [time in seconds] (current timeout time for spam is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.spam', 'timeout time for spam has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.spamtracker.usage', '!moderation timeoutime spamtracker [time in seconds] (current timeout time for spam tracker is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.spamtracker', 'timeout time for spam tracker has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.colors.usage', '!moderation timeoutime colors [time in seconds] (current timeout time for colors is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.colors', 'timeout time for colors has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.emotes.usage', '!moderation timeoutime emotes [time in seconds] (current timeout time for emotes is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.emotes', 'timeout time for emotes has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.longmsg.usage', '!moderation timeoutime longmessages [time in seconds] (current timeout time for long messages is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.longmsg', 'timeout time for long messages has been set to $1 seconds.');
+$.lang.register('chatmoderator.timeouttime.fakepuge.usage', '!moderation timeoutime fakepurge [time in seconds] (current timeout time for fake purges is set to $1 seconds)');
+$.lang.register('chatmoderator.timeouttime.fakepuge', 'timeout time for fake purges has been set to $1 seconds.');
\ No newline at end of file
@@ -0,0 +1,22 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('commandpause.ended', 'All commands are enabled again.');
+$.lang.register('commandpause.notactive', 'All commands are already enabled.');
+$.lang.register('commandpause.initiated', 'All commands are disabled for $1.');
+$.lang.register('commandpause.isactive', 'All commands are currently disabled.');
+$.lang.register('pausecommands.usage', 'usage: !pausecommands [seconds | clear]');
\ No newline at end of file
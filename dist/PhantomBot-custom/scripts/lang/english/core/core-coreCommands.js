@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+$.lang.register('corecommands.shoutout.usage', 'Usage: !$1 (streamer)');
+$.lang.register('corecommands.shoutout.offline', 'Go give $1 a follow at $2 - they were last seen playing: $3!');
+$.lang.register('corecommands.shoutout.online', 'Go give $1 a follow at $2 - they are currently playing: $3!');
+$.lang.register('corecommands.shoutoutapi.enable', '!shoutout will now also trigger the Twitch /shoutout command');
+$.lang.register('corecommands.shoutoutapi.disable', '!shoutout will not trigger the Twitch /shoutout command');
+$.lang.register('corecommands.shoutout.no.game', 'Hey! Go give $1 a follow at $2!');
+$.lang.register('corecommands.settimevar.usage', 'Usage: !settimevar (varName) (Optional: Time to Set)');
+$.lang.register('corecommands.settimevar.success', 'Set the timevar $1 to the time $2');
+$.lang.register('corecommands.synconline.success', 'Syncing title, game, and online state with Twitch API. This may take a moment');
+$.lang.register('corecommands.synconline.failure', 'Stream status cache is not ready yet, please try again in 30 seconds');
\ No newline at end of file
@@ -0,0 +1,24 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('lang.curlang', 'The current language is $1!');
+$.lang.register('lang.lang.404', 'That language file does not exist!');
+$.lang.register('lang.lang.changed', 'Changed language to $1!');
+$.lang.register('lang.response.action.disabled', 'Chat output will be normal text. (without /me)');
+$.lang.register('lang.response.action.enabled', 'Chat output wil be prepended with "/me".');
+$.lang.register('lang.response.disabled', 'Responses are now disabled! To enable them, use !mute');
+$.lang.register('lang.response.enabled', 'Responses are now enabled! To disable them, use: !mute');
\ No newline at end of file
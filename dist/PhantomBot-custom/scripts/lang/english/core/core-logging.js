@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('logging.enabled.files', 'File and chat logging has been enabled!');
+$.lang.register('logging.disabled.files', 'File and chat logging has been disabled!');
+$.lang.register('logging.enabled.event', 'Event logging has been enabled!');
+$.lang.register('logging.disabled.event', 'Event logging has been disabled!');
+$.lang.register('logging.enabled.error', 'Error logging has been enabled!');
+$.lang.register('logging.disabled.error', 'Error logging has been disabled!');
+$.lang.register('logging.usage', 'Usage: !log [files / errors / events]');
+$.lang.register('logging.rotatedays.usage', 'usage: !log rotatedays [days]. 0 to keep all logs. Currently: $1');
+$.lang.register('logging.rotatedays.success', 'Logs will rotate every $1 days.');
+$.lang.register('logging.rotatedays.success.off', 'Logs will not be rotated');
\ No newline at end of file
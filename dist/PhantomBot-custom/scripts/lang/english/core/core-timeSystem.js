@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('timesystem.uptime.offline', '$1 is currently offline.');
+$.lang.register('timesystem.uptime', '$1 has been live for $2!');
+$.lang.register('timesystem.add.error.negative', 'You can not give negative time.');
+$.lang.register('timesystem.add.success', 'Sent $1 to $2. New balance is $3.');
+$.lang.register('timesystem.add.usage', 'Usage: "!time give [name] [amount]"');
+$.lang.register('timesystem.autolevel.disabled', 'Users will no longer be promoted to $1 when they have been in the chat for $2 hour(s).');
+$.lang.register('timesystem.autolevel.enabled', 'Users will now be promoted to $1 when they have been in the chat for $2 hour(s).');
+$.lang.register('timesystem.autolevel.promoted', '$1 has been promoted to $2 by being in the chat for $3 hour(s). Congratulations!');
+$.lang.register('timesystem.get.other', '$1 currently spent $2 in the chat.');
+$.lang.register('timesystem.get.self', 'you currently have spent $2 in the chat.');
+$.lang.register('timesystem.modpermtoggle.success', 'Users in the group $1 or higher are now able to use time management commands.');
+$.lang.register('timesystem.offlinetime.disabled', 'Offline time will no longer be counted towards the time earned in chat.');
+$.lang.register('timesystem.offlinetime.enabled', 'Offline time will now be counted towards the time earned in chat.');
+$.lang.register('timesystem.set.promotehours.error.negative', 'You can not set the time in hours to promote a user to $1 to a negative number.');
+$.lang.register('timesystem.set.promotehours.success', 'Set the time in hours to promote a user to $1 to $2.');
+$.lang.register('timesystem.set.promotehours.usage', 'Usage: "!time promotehours [amount]"');
+$.lang.register('timesystem.set.timezone.invalid', '"$1" is not a valid time zone. A list of time zones can be found on "http://en.wikipedia.org/wiki/List_of_tz_database_time_zones".');
+$.lang.register('timesystem.set.timezone.success', 'The time zone has been set to "$1". Automatically adjusts for daylight saving time: $2');
+$.lang.register('timesystem.set.timezone.usage', 'Usage: !timezone [timezone name] (Current timezone is $1)');
+$.lang.register('timesystem.settime.error.negative', 'You can not set a balance to negative time.');
+$.lang.register('timesystem.settime.success', 'Set the time balance of $1 to $2.');
+$.lang.register('timesystem.settime.usage', 'Usage: "!time set [name] [amount]"');
+$.lang.register('timesystem.streamertime', 'It is currently $1 where $2 is located.');
+$.lang.register('timesystem.take.error.toomuch', 'You can not take more than what $1 has in time.');
+$.lang.register('timesystem.take.success', 'Took $1 from $2. New balance is $3.');
+$.lang.register('timesystem.take.usage', 'Usage: "!time take [name] [amount]"');
+$.lang.register('timesystem.autolevel.chat.enabled', 'Auto level chat announcements are now enabled!');
+$.lang.register('timesystem.autolevel.chat.disabled', 'Auto level chat announcements are now disabled.');
+$.lang.register('get.long.time.string.short', ' $1 days, $2 hours and $3 minutes.');
+$.lang.register('get.long.time.string.long', '$1 months, $2 hours and $3 minutes.');
+$.lang.register('user.time.string.hours', ' $1 hours and $2 minutes');
+$.lang.register('user.time.string.minutes', ' $1 minutes');
\ No newline at end of file
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.misc.module.usage', 'Usage: !module [enable / disable / list]');
+$.lang.register('discord.misc.module.enabled', 'Module: $1 has been enabled.');
+$.lang.register('discord.misc.module.disabled', 'Module: $1 has been disabled.');
+$.lang.register('discord.misc.module.list', 'Discord Module list: \r\n $1');
+$.lang.register('discord.misc.module.404', 'That module does not exist: $1');
+$.lang.register('discord.misc.game.set.usage', 'Usage: !setgame [game name]');
+$.lang.register('discord.misc.game.set', 'Bot game updated to: $1');
+$.lang.register('discord.misc.game.stream.set.usage', 'Usage: !setstream [twitch url] [game name]');
+$.lang.register('discord.misc.game.stream.set', 'Bot stream changed to: $1 and game to: $2');
+$.lang.register('discord.misc.game.removed', 'Bot game has been removed.');
+$.lang.register('discord.misc.reconnect', 'A Discord reconnect is being attempted.');
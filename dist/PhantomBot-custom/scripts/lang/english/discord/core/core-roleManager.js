@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.rolemanager.usage', 'Usage: !rolemanager [togglesyncpermissions / togglesyncranks / blacklist]');
+$.lang.register('discord.rolemanager.permission.sync.on', 'Bot permissions will now be synced with users who have their account linked with the bot.');
+$.lang.register('discord.rolemanager.permission.sync.off', 'Bot permissions will no longer be synced.');
+$.lang.register('discord.rolemanager.ranks.sync.on', 'Ranks will now be synced with users who have their account linked with the bot.');
+$.lang.register('discord.rolemanager.ranks.sync.off', 'Ranks will no longer be synced.');
+$.lang.register('discord.rolemanager.blacklist.usage', 'Usage: !rolemanager blacklist [add / remove] [permission or rank] - Blacklist a ranks or permissions from being set.');
+$.lang.register('discord.rolemanager.blacklist.add.usage', 'Usage: !rolemanager blacklist add [permission or rank] - Blacklist a ranks or permissions from being set.');
+$.lang.register('discord.rolemanager.blacklist.add.success', 'Group $1 has been added to the blacklist!');
+$.lang.register('discord.rolemanager.blacklist.remove.usage', 'Usage: !rolemanager blacklist remove [permission or rank]');
+$.lang.register('discord.rolemanager.blacklist.remove.success', 'Group $1 has been removed from the blacklist.');
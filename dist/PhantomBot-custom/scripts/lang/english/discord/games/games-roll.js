@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.roll.rolled', '$1 rolls a [$2] and [$3]. ');
+$.lang.register('discord.roll.doubleone', 'Snake eyes for $1! ');
+$.lang.register('discord.roll.doubletwo', 'Hard four for $1! ');
+$.lang.register('discord.roll.doublethree', 'Hard six for $1! ');
+$.lang.register('discord.roll.doublefour', 'Hard eight for $1! ');
+$.lang.register('discord.roll.doublefive', 'Hard ten for $1! ');
+$.lang.register('discord.roll.doublesix', 'Boxcars to the max!!! $1! ');
+$.lang.register('discord.roll.rewards.usage', 'Usage: !roll rewards [double 1\'s] [2\'s] [3\'s] [4\'s] [5\'s] [6\'s]. Currently: $1');
+$.lang.register('discord.roll.rewards.success', 'Updated rewards for the dice roll.');
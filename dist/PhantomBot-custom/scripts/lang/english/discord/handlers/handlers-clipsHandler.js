@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.cliphandler.toggle.off', 'Clips announcements have been disabled.');
+$.lang.register('discord.cliphandler.toggle.on', 'Clips announcements have been enabled.');
+$.lang.register('discord.cliphandler.message.usage', 'Usage: !clipsmessage (message) - Tags: (name), (url)');
+$.lang.register('discord.cliphandler.message.set', 'Clips message has been set to: $1.');
+$.lang.register('discord.cliphandler.channel.usage', 'Usage: !clipschannel (channel).  Currently: $1');
+$.lang.register('discord.cliphandler.channel.set', 'Clips channel has been set to: $1.');
+$.lang.register('discord.cliphandler.noclip', 'No clip found');
+$.lang.register('discord.cliphandler.lastclip', 'Last Clip: $1');
+$.lang.register('discord.cliphandler.topclip', 'Today\'s Most Viewed Clip: $1');
+$.lang.register('discord.cliphandler.clip.embedtitle', 'New Clip!');
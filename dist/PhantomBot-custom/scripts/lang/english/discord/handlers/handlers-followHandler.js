@@ -0,0 +1,24 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.followhandler.usage', 'Usage: !followhandler [toggle / message / channel]');
+$.lang.register('discord.followhandler.follow.toggle', 'Follow announcements have been $1.');
+$.lang.register('discord.followhandler.follow.message.usage', 'Usage: !followhandler message [message] - Tag: (name)');
+$.lang.register('discord.followhandler.follow.message.set', 'Follow announcements message set to: $1');
+$.lang.register('discord.followhandler.follow.channel.usage', 'Usage: !followhandler channel [channel name]');
+$.lang.register('discord.followhandler.follow.channel.set', 'Follow announcements will now be made in channel $1');
+$.lang.register('discord.followhandler.follow.embedtitle', 'New Follower!');
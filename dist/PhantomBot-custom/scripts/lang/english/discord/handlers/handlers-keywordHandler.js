@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.keywordhandler.usage', 'Usage: !keyword [add / edit / remove]');
+$.lang.register('discord.keywordhandler.add.usage', 'Usage: !keyword add [keyword] [response]');
+$.lang.register('discord.keywordhandler.add.error', 'That keyword already exists.');
+$.lang.register('discord.keywordhandler.add.success', 'Keyword: "$1" has been added!');
+$.lang.register('discord.keywordhandler.edit.usage', 'Usage: !keyword edit [keyword] [response]');
+$.lang.register('discord.keywordhandler.404', 'That keyword does not exist.');
+$.lang.register('discord.keywordhandler.edit.success', 'Keyword: "$1" has been edited!');
+$.lang.register('discord.keywordhandler.remove.usage', 'Usage: !keyword remove [keyword]');
+$.lang.register('discord.keywordhandler.remove.success', 'Keyword: "$1" has been removed!');
@@ -0,0 +1,24 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.streamelementshandler.usage', 'Usage: !streamelementshandler [toggle / message / channel]');
+$.lang.register('discord.streamelementshandler.toggle', 'StreamElements donation announcements have been $1.');
+$.lang.register('discord.streamelementshandler.message.usage', 'Usage: !streamelementshandler message [message] - Tags: (name) (amount) (currency) (message)');
+$.lang.register('discord.streamelementshandler.message.set', 'StreamElements donation message set to: $1');
+$.lang.register('discord.streamelementshandler.channel.usage', 'Usage: !streamelementshandler channel [channel name]');
+$.lang.register('discord.streamelementshandler.channel.set', 'StreamElements donation annoucements will now be made in channel $1');
+$.lang.register('discord.streamelementshandler.embed.title', 'New Tip!');
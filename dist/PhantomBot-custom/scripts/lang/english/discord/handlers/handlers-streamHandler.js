@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.streamhandler.usage', 'Usage: !streamhandler [toggleonline / onlinemessage / toggleoffline / offlinemessage / togglegame / gamemessage / togglebotstatus / channel / toggledeletemessage]');
+$.lang.register('discord.streamhandler.online.toggle', 'Online announcements have been $1.');
+$.lang.register('discord.streamhandler.online.publish.on', 'Online announcements are now published in Announcement channels.');
+$.lang.register('discord.streamhandler.online.publish.off', 'Online announcements are no longer published in Announcement channels.');
+$.lang.register('discord.streamhandler.online.message.usage', 'Usage: !streamhandler onlinemessage [message] - Tags: (name)');
+$.lang.register('discord.streamhandler.online.message.set', 'Online announcement message set to: $1');
+$.lang.register('discord.streamhandler.offline.toggle', 'Offline announcements have been $1.');
+$.lang.register('discord.streamhandler.offline.publish.on', 'Offline announcements are now published in Announcement channels.');
+$.lang.register('discord.streamhandler.offline.publish.off', 'Offline announcements are no longer published in Announcement channels.');
+$.lang.register('discord.streamhandler.offline.message.usage', 'Usage: !streamhandler offlinemessage [message] - Tags: (name)');
+$.lang.register('discord.streamhandler.offline.message.set', 'Offline announcement message set to: $1');
+$.lang.register('discord.streamhandler.game.toggle', 'Game change announcements have been $1');
+$.lang.register('discord.streamhandler.game.publish.on', 'Game change announcements are now published in Announcement channels.');
+$.lang.register('discord.streamhandler.game.publish.off', 'Game change announcements are no longer published in Announcement channels.');
+$.lang.register('discord.streamhandler.game.message.usage', 'Usage: !streamhandler gamemessage [message] - Tags: (name) (url)');
+$.lang.register('discord.streamhandler.game.message.set', 'Game change announcement message set to: $1');
+$.lang.register('discord.streamhandler.channel.usage', 'Usage: !streamhandler channel [channel name]');
+$.lang.register('discord.streamhandler.channel.set', 'Stream annoucements will now be made in channel $1');
+$.lang.register('discord.streamhandler.delete.toggle', 'Automatically delete the online message after the stream ends and the offline message when a new stream starts: $1');
+$.lang.register('discord.streamhandler.bot.game.toggle', 'Bot stream status has been $1.');
+$.lang.register('discord.streamhandler.common.title', 'Stream Status');
+$.lang.register('discord.streamhandler.common.game', 'Now Playing');
+$.lang.register('discord.streamhandler.common.uptime', 'Stream Uptime');
+$.lang.register('discord.streamhandler.offline.game', 'Last Game');
+$.lang.register('discord.streamhandler.offline.viewers', 'Viewers');
+$.lang.register('discord.streamhandler.offline.chatters', 'Chatters');
+$.lang.register('discord.streamhandler.offline.followers', 'Followers');
+$.lang.register('discord.streamhandler.offline.viewers.stat', 'Average - $1 High - $2');
+$.lang.register('discord.streamhandler.offline.chatters.stat', 'Average - $1 High - $2');
+$.lang.register('discord.streamhandler.offline.followers.stat', 'Session - $1 Total - $2');
@@ -0,0 +1,24 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.streamlabshandler.usage', 'Usage: !streamlabshandler [toggle / message / channel]');
+$.lang.register('discord.streamlabshandler.toggle', 'StreamLabs donation announcements have been $1.');
+$.lang.register('discord.streamlabshandler.message.usage', 'Usage: !streamlabshandler message [message] - Tags: (name) (amount) (currency) (message)');
+$.lang.register('discord.streamlabshandler.message.set', 'StreamLabs donation message set to: $1');
+$.lang.register('discord.streamlabshandler.channel.usage', 'Usage: !streamlabshandler channel [channel name]');
+$.lang.register('discord.streamlabshandler.channel.set', 'StreamLabs donation annoucements will now be made in channel $1');
+$.lang.register('discord.streamlabshandler.embed.title', 'New Tip!');
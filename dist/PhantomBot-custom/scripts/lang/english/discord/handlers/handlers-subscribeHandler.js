@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.subscribehandler.usage', 'Usage: !subscribehandler [giftsubmessage / submessage / primemessage / resubmessage / giftsubtoggle / subtoggle / primetoggle / resubtoggle / channel]');
+$.lang.register('discord.subscribehandler.sub.toggle', 'Subscriber annoucements have been $1.');
+$.lang.register('discord.subscribehandler.giftsub.toggle', 'Gifted subscriber annoucements have been $1.');
+$.lang.register('discord.subscribehandler.prime.toggle', 'Twitch Prime subscriber annoucements have been $1.');
+$.lang.register('discord.subscribehandler.resub.toggle', 'Re-subscriber annoucements have been $1.');
+$.lang.register('discord.subscribehandler.sub.message.usage', 'Usage: !subscribehandler submessage [message] - Tag: (name)');
+$.lang.register('discord.subscribehandler.sub.message.set', 'Subscriber annoucement message set to: $1');
+$.lang.register('discord.subscribehandler.giftsub.message.usage', 'Usage: !subscribehandler giftsubmessage [message] - Tag: (name)');
+$.lang.register('discord.subscribehandler.giftsub.message.set', 'Gifted subscriber annoucement message set to: $1');
+$.lang.register('discord.subscribehandler.prime.sub.message.usage', 'Usage: !subscribehandler primemessage [message] - Tag: (name)');
+$.lang.register('discord.subscribehandler.prime.sub.message.set', 'Twitch Prime subscriber annoucement message set to: $1');
+$.lang.register('discord.subscribehandler.resub.message.usage', 'Usage: !subscribehandler resubmessage [message] - Tags: (name) (months)');
+$.lang.register('discord.subscribehandler.resub.message.set', 'Re-subscriber annoucement message set to: $1');
+$.lang.register('discord.subscribehandler.channel.usage', 'Usage: !subscribehandler channel [channel name]');
+$.lang.register('discord.subscribehandler.channel.set', 'Subscriber annoucements will now be made in channel $1');
+$.lang.register('discord.subscribehandler.resubscriber.embedtitle', 'New Resubscriber!');
+$.lang.register('discord.subscribehandler.subscriber.embedtitle', 'New Subscriber!');
+$.lang.register('discord.subscribehandler.giftsubscriber.embedtitle', 'New Gifted Subscription!');
+$.lang.register('discord.subscribehandler.primesubscriber.embedtitle', 'New Prime Subscriber!');
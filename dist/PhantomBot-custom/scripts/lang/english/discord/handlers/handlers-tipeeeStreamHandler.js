@@ -0,0 +1,24 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.tipeeestreamhandler.usage', 'Usage: !tipeeestreamhandler [toggle / message / channel]');
+$.lang.register('discord.tipeeestreamhandler.toggle', 'TipeeeStream donation announcements have been $1.');
+$.lang.register('discord.tipeeestreamhandler.message.usage', 'Usage: !tipeeestreamhandler message [message] - Tags: (name) (amount) (currency) (formattedamount) (message)');
+$.lang.register('discord.tipeeestreamhandler.message.set', 'TipeeeStream donation message set to: $1');
+$.lang.register('discord.tipeeestreamhandler.channel.usage', 'Usage: !tipeeestreamhandler channel [channel name]');
+$.lang.register('discord.tipeeestreamhandler.channel.set', 'TipeeeStream donation announcements will now be made in channel $1');
+$.lang.register('discord.tipeeestreamhandler.embed.title', 'New Tip!');
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.customcommandlogs.sender', 'By');
+$.lang.register('discord.customcommandlogs.add.command', 'Custom command created');
+$.lang.register('discord.customcommandlogs.add.response', 'Response');
+$.lang.register('discord.customcommandlogs.edit.command', 'Custom command edited');
+$.lang.register('discord.customcommandlogs.edit.response', 'New response');
+$.lang.register('discord.customcommandlogs.delete.command', 'Custom command deleted');
+$.lang.register('discord.customcommandlogs.alias.command', 'Custom alias created');
+$.lang.register('discord.customcommandlogs.alias.target', 'To');
+$.lang.register('discord.customcommandlogs.alias.delete.command', 'Custom alias deleted');
+$.lang.register('discord.customcommandlogs.set.perm.command', 'Command permissions updated');
+$.lang.register('discord.customcommandlogs.set.perm.group', 'New group');
+$.lang.register('discord.customcommandlogs.set.price.command', 'Command price updated');
+$.lang.register('discord.customcommandlogs.set.price.amount', 'New price');
+$.lang.register('discord.customcommandlogs.set.pay.command', 'Command reward updated');
+$.lang.register('discord.customcommandlogs.set.pay.amount', 'New reward');
+$.lang.register('discord.customcommandlogs.disable.command', 'Command disabled');
+$.lang.register('discord.customcommandlogs.enable.command', 'Command enabled');
+$.lang.register('discord.customcommandlogs.reset.command', 'Command counter reset');
+$.lang.register('discord.customcommandlogs.reset.count', 'New value');
+$.lang.register('discord.customcommandlogs.hide.command', 'Command hidden from !commands list');
+$.lang.register('discord.customcommandlogs.show.command', 'Command shown in !commands list');
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.greetingssystem.usage', 'Usage: !greetingssystem [jointoggle / parttoggle / joinmessage / partmessage / joinrole / channel]');
+$.lang.register('discord.greetingssystem.join.toggle', 'Join announcements have been $1.');
+$.lang.register('discord.greetingssystem.part.toggle', 'Part announcements have been $1.');
+$.lang.register('discord.greetingssystem.join.message.usage', 'Usage: !greetingssystem joinmessage [message] - Tags: (name), (role), and (@name)');
+$.lang.register('discord.greetingssystem.join.message.set', 'Join announcements message has been set to: $1.');
+$.lang.register('discord.greetingssystem.part.message.usage', 'Usage: !greetingssystem partmessage [message] - Tags: (name) and (@name)');
+$.lang.register('discord.greetingssystem.part.message.set', 'Part announcements message has been set to: $1.');
+$.lang.register('discord.greetingssystem.channel.usage', 'Usage: !greetingssystem channel [channel name]');
+$.lang.register('discord.greetingssystem.channel.set', 'Greeting announcements will now be made in channel $1');
+$.lang.register('discord.greetingssystem.joinrole.usage', 'Usage: !greetingssystem joinrole [role name]');
+$.lang.register('discord.greetingssystem.joinrole.set', 'Default role has been set to $1');
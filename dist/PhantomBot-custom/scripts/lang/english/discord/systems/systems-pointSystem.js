@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('discord.pointsystem.self.points', 'You currently have $1.'); // Use $2 to display the users time and $3 for the user's rank. The rank also has his name by default.
+$.lang.register('discord.pointsystem.other.points', '$1 currently has $2.'); // Use $3 to display the users time and $4 for the user's rank. The rank also has his name by default.
+$.lang.register('discord.pointsystem.no.points.other', 'That user currently has no $1.');
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('8ball.answer.1', 'Reply hazy try again.');
+$.lang.register('8ball.answer.2', 'Ask again later.');
+$.lang.register('8ball.answer.3', 'Better not tell you now.');
+$.lang.register('8ball.answer.4', 'Cannot predict now.');
+$.lang.register('8ball.answer.5', 'Go for it!');
+$.lang.register('8ball.answer.6', 'Yes, in due time.');
+$.lang.register('8ball.answer.7', 'You will have to wait.');
+$.lang.register('8ball.answer.8', 'Ask again later.');
+$.lang.register('8ball.answer.9', 'Yeah, for sure.');
+$.lang.register('8ball.answer.10', 'Concentrate and ask again.');
+$.lang.register('8ball.answer.11', 'Probably.');
+$.lang.register('8ball.answer.12', 'Never going to happen!');
+$.lang.register('8ball.answer.13', 'The odds of that happening are pretty slim.');
+$.lang.register('8ball.answer.14', 'My reply is no.');
+$.lang.register('8ball.answer.15', 'My sources say no.');
+$.lang.register('8ball.answer.16', 'Very doubtful.');
+$.lang.register('8ball.answer.17', 'No.');
+$.lang.register('8ball.answer.18', 'I have no response for that question...');
+$.lang.register('8ball.answer.19', 'Why would I tell you?');
+$.lang.register('8ball.answer.20', 'Forget about it.');
+$.lang.register('8ball.answer.21', 'Don\'t bet on it.');
+$.lang.register('8ball.answer.22', 'Who knows?');
+$.lang.register('8ball.answer.23', 'Signs point to yes.');
+$.lang.register('8ball.answer.24', 'It is certain.');
+$.lang.register('8ball.answer.25', 'Without a doubt.');
+$.lang.register('8ball.answer.26', 'Yes definitely.');
+$.lang.register('8ball.answer.27', 'You may rely on it.');
+$.lang.register('8ball.answer.28', 'As I see it, yes.');
+$.lang.register('8ball.answer.29', 'Most likely.');
+$.lang.register('8ball.answer.30', 'Outlook good.');
+$.lang.register('8ball.answer.31', 'Yes.');
+$.lang.register('8ball.answer.32', 'Signs point to yes.');
+$.lang.register('8ball.answer.33', 'This is not the Bot you\'re looking for ༼ﾉ۞⌂۞༽ﾉ');
+$.lang.register('8ball.answer.34', 'There\'s a pretty good chance.');
+$.lang.register('8ball.answer.35', 'No, don\'t even think about.');
+$.lang.register('8ball.console.loaded', 'Found $1 8ball messages.');
+$.lang.register('8ball.response', 'Magic-8ball says... $1');
+$.lang.register('8ball.discord.response', ':8ball: says... $1');
+$.lang.register('8ball.usage', 'Ask the magic-8ball a question with "!8ball [question]"');
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('roulette.win.1', 'The trigger is pulled, and the revolver clicks. $1 has lived to survive roulette!');
+$.lang.register('roulette.win.2', 'The trigger is pulled, but the revolver malfunctions! $1 is lucky, and lives another day!');
+$.lang.register('roulette.win.3', 'The trigger is pulled, but $1 has been saved by magic!');
+$.lang.register('roulette.win.4', 'The trigger is pulled, but $1 has lived due to not having anything in their skull to begin with.');
+$.lang.register('roulette.win.5', 'The trigger is pulled, but $1\'s skull was so thick the bullet could not penetrate it.');
+$.lang.register('roulette.win.6', 'The trigger is pulled, but $1 stopped space and time and dodged the bullet!');
+$.lang.register('roulette.win.7', 'The trigger is pulled, but $1 did not die from the bullet, the bullet died from them.');
+
+$.lang.register('roulette.lost.1', 'The trigger is pulled, and the revolver fires! $1 lies dead in the chat.');
+$.lang.register('roulette.lost.2', 'The trigger is pulled, and $1 loses their head!');
+$.lang.register('roulette.lost.3', '$1\'s finger slides over the trigger, $1 crashes to the floor like a sack of flour!');
+$.lang.register('roulette.lost.4', 'The trigger is pulled, and the hand-cannon goes off with a roar! $1 lies dead in the chat.');
+$.lang.register('roulette.lost.5', 'The hammer drops, and the .44 fires! $1 is now dead in the chat.');
+$.lang.register('roulette.lost.6', 'The trigger is pulled, and the revolver fires! $1 is now just a blood splatter on the wall.');
+$.lang.register('roulette.lost.7', 'The trigger is pulled, and the revolver fires! $1 ended their miserable life.');
+
+$.lang.register('roulette.set.timeouttime.success', 'The !roulette timeout has been set to $1 seconds!');
+$.lang.register('roulette.set.timeouttime.usage', 'Usage: !roulette timeout [seconds]');
+$.lang.register('roulette.timeout.notifyuser', 'You have lost the roulette and have been timed out for $1 seconds.');
+$.lang.register('roulette.console.loaded', 'Found Roulette messages: $1 wins, $2 losts.');
@@ -0,0 +1,23 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('slotmachine.result.start', '$1: [ $2 $3 $4 ] ');
+$.lang.register('slotmachine.result.win', ' +$1 ');
+$.lang.register('slotmachine.rewards.usage', 'Usage: !slot rewards [val1] [val2] [val3] [val4] [val5]. Currently: $1');
+$.lang.register('slotmachine.rewards.success', 'Updated rewards for the slot machine.');
+$.lang.register('slotmachine.emote.usage', 'Usage: !slot emotes [emote1] [emote2] [emote3] [emote4] [emote5]. Currently: $1');
+$.lang.register('slotmachine.emote.success', 'Updated emotes for the slot machine.');
@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('bitshandler.toggle.off', 'Bits announcements have been disabled.');
+$.lang.register('bitshandler.toggle.on', 'Bits announcements have been enabled.');
+$.lang.register('bitshandler.rewardmulttoggle.off', 'Bits reward is now a constant value.');
+$.lang.register('bitshandler.rewardmulttoggle.on', 'Bits reward is now a multiplicative factor of the number of bits.');
+$.lang.register('bitshandler.message.usage', 'Usage: !bitsmessage (message) - Tags: (name), (amount), (message)');
+$.lang.register('bitshandler.message.set', 'Bits message has been set to: $1.');
+$.lang.register('bitshandler.reward.usage', 'Usage: !bitsreward (amount)');
+$.lang.register('bitshandler.reward.set', 'Bits reward has been set to: $1.');
+$.lang.register('bitshandler.minimum.usage', 'Usage: !bitsminimum (amount)');
+$.lang.register('bitshandler.minimum.set', 'Bits minimum has been set to $1 bits.');
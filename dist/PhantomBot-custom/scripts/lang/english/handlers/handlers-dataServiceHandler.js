@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('dataservicehandler.update.status.success', 'Data has been sent and loaded.');
+$.lang.register('dataservicehandler.update.status.authentication_failed', 'Authentication failed, check API key.');
+$.lang.register('dataservicehandler.update.status.no_such_user', 'No such user defined in remote service.');
+$.lang.register('dataservicehandler.update.status.no_auth_key', 'No authorization key has been configured.');
+$.lang.register('dataservicehandler.update.status.launch_fail', 'Failed to launch the remote API.');
+$.lang.register('dataservicehandler.update.status.rate_limit', 'Failed to update due to rate limits.');
+
+$.lang.register('dataservicehandler.delete.status.success', 'All account and PhantomBot data has been removed from remote server.');
+$.lang.register('dataservicehandler.delete.status.authentication_failed', 'Authentication failed, check API key.');
+$.lang.register('dataservicehandler.delete.status.no_such_user', 'No such user defined in remote service.');
+$.lang.register('dataservicehandler.delete.status.no_auth_key', 'No authorization key has been configured.');
+$.lang.register('dataservicehandler.delete.status.launch_fail', 'Failed to launch the remote API.');
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('followhandler.check.follows', '$1 is following the channel.');
+$.lang.register('followhandler.check.notfollows', '$1 is not following the channel.');
+$.lang.register('followhandler.check.usage', 'Usage: !checkfollow [username]');
+$.lang.register('followhandler.follow.message', '(name) just followed the channel! Here\'s +(reward)!');
+$.lang.register('followhandler.followers', '$1 users are following this channel!');
+$.lang.register('followhandler.followtrain.mega', 'Mega follow train!! ($1)');
+$.lang.register('followhandler.followtrain.penta', 'Penta follow!!');
+$.lang.register('followhandler.followtrain.quad', 'Quadra follow!!');
+$.lang.register('followhandler.followtrain.triple', 'Triple follow!!');
+$.lang.register('followhandler.followtrain.ultra', 'Ultra follow train!! ($1)');
+$.lang.register('followhandler.followtrain.unbelievable', 'Unbelievable follow train!! ($1)');
+$.lang.register('followhandler.set.followmessage.success', 'Follow message set to "$1".');
+$.lang.register('followhandler.set.followmessage.usage', 'Usage: !followmessage [message] - Tags: (reward) (name)');
+$.lang.register('followhandler.set.followreward.success', 'Follow reward set to $1.');
+$.lang.register('followhandler.set.followreward.usage', 'Usage: !followreward [$1]. (Currently $2)');
+$.lang.register('followhandler.followtoggle.on', 'Announcements are enabled for new followers.');
+$.lang.register('followhandler.followtoggle.off', 'Announcements are disabled for new followers.');
+$.lang.register('followhandler.followtraintoggle.on', 'Follow train announcements are now enabled.');
+$.lang.register('followhandler.followtraintoggle.off', 'Follow train announcements are now disabled.');
+$.lang.register('followhandler.fixfollow.usage', 'Usage: !fixfollow (username)');
+$.lang.register('followhandler.fixfollow.error', '$1 is already in the followed list.');
+$.lang.register('followhandler.fixfollow.error.404', '$1 is not following your channel.');
+$.lang.register('followhandler.fixfollow.added', 'Added $1 to the followed list!');
+$.lang.register('followhandler.set.followdelay.usage', 'Usage: !followdelay [amount in seconds] - Minimum is 5 seconds.');
+$.lang.register('followhandler.set.followdelay.success', 'Follow delay set to $1 seconds.');
+$.lang.register('followhandler.follow.age.err.404', '$1 $2 is not following channel $3');
+$.lang.register('followhandler.follow.age.time.days', '$1 $2 has been following channel $3 since $4 ($5 days ago).');
+$.lang.register('followhandler.follow.age.time', '$1 $2 has been following channel $3 since $4.');
+$.lang.register('followhandler.follow.age.datefmt', 'MM-dd-yyyy');
+$.lang.register('followhandler.follow.age.datefmt.404', 'Not Following');
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('gamescanhandler.gamescan.usage', 'Usage: !gamescan [game name]');
+$.lang.register('gamescanhandler.gamescan.notplayed', '$1 has not played $2 yet!');
+$.lang.register('gamescanhandler.gamescan.hasplayeddates', '$1 has played $2 on: $3, (AntiSpam +$4 dates found.)');
+$.lang.register('gamescanhandler.gamescan.hasplayed', '$1 has played $2 on: $3.');
@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('keywordhandler.add.usage', 'Usage: !keyword add [flags] [keyword] [response]. Flags can by empty or any combination of "--regex", "--case-sensitive".');
+$.lang.register('keywordhandler.keyword.404', 'That keyword does not exist.');
+$.lang.register('keywordhandler.keyword.added', 'keyword "$1" added!');
+$.lang.register('keywordhandler.keyword.removed', 'keyword "$1" has been removed!');
+$.lang.register('keywordhandler.keyword.usage', 'Usage: !keyword [add / remove / cooldown] [keyword]');
+$.lang.register('keywordhandler.remove.usage', 'Usage: !keyword remove [keyword]');
+$.lang.register('keywordhandler.cooldown.usage', 'Usage: !keyword cooldown [keyword] [seconds] - Use -1 to remove a cooldown.');
+$.lang.register('keywordhandler.cooldown.removed', 'Cooldown for keyword $1 has been removed.');
+$.lang.register('keywordhandler.cooldown.set', 'Cooldown for keyword $1 has been set to $2 seconds.');
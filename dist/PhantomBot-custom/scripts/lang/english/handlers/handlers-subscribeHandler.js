@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('subscribehandler.sub.msg.set', 'New subscriber welcome message set for $1!');
+$.lang.register('subscribehandler.resub.msg.set', 'Resubscriber welcome message set for $1!');
+$.lang.register('subscribehandler.giftsub.msg.set', 'Subscriber gift welcome message set for $1!');
+$.lang.register('subscribehandler.giftanonsub.msg.set', 'Anonymous Subscriber gift welcome message set for $1!');
+$.lang.register('subscribehandler.massgiftsub.msg.set', 'Mass Subscriber gift welcome message set for $1!');
+$.lang.register('subscribehandler.anonmassgiftsub.msg.set', 'Anonymous Mass Subscriber gift welcome message set for $1!');
+$.lang.register('subscribehandler.sub.msg.usage', 'Usage: !submessage [1|2|3|prime|all] (message)');
+$.lang.register('subscribehandler.resub.msg.usage', 'Usage: !resubmessage [1|2|3|prime|all] (message)');
+$.lang.register('subscribehandler.giftsub.msg.usage', 'Usage: !giftsubmessage [1|2|3|all] (message)');
+$.lang.register('subscribehandler.giftanonsub.msg.usage', 'Usage: !giftanonsubmessage [1|2|3|all] (message)');
+$.lang.register('subscribehandler.massgiftsub.msg.usage', 'Usage: !massgiftsubmessage [1|2|3|all] (message)');
+$.lang.register('subscribehandler.anonmassgiftsub.msg.usage', 'Usage: !massanongiftsubmessage [1|2|3|all] (message)');
+$.lang.register('subscribehandler.new.sub.toggle.off', 'New Subscribers will no longer be welcomed upon subscribing.');
+$.lang.register('subscribehandler.resub.toggle.off', 'Resubscribers will no longer be welcomed upon resubscribing.');
+$.lang.register('subscribehandler.giftsub.toggle.off', 'Subscriber gift will no longer be welcomed upon subscribing.');
+$.lang.register('subscribehandler.anongiftsub.toggle.off', 'Anonymous Subscriber gift will no longer be welcomed upon subscribing.');
+$.lang.register('subscribehandler.massgiftsub.toggle.off', 'Mass Subscriber gift will no longer be welcomed upon subscribing.');
+$.lang.register('subscribehandler.anonmassgiftsub.toggle.off', 'Anonymous Mass Subscriber gift will no longer be welcomed upon subscribing.');
+$.lang.register('subscribehandler.new.sub.toggle.on', 'New Subscribers will now be welcomed upon subscribing.');
+$.lang.register('subscribehandler.resub.toggle.on', 'Resubscribers will now be welcomed upon resubscribing.');
+$.lang.register('subscribehandler.giftsub.toggle.on', 'Subscriber gift will now be welcomed upon subscribing.');
+$.lang.register('subscribehandler.anongiftsub.toggle.on', 'Anonymous Subscriber gift will now be welcomed upon subscribing.');
+$.lang.register('subscribehandler.massgiftsub.toggle.on', 'Mass Subscriber gift will now be welcomed upon subscribing.');
+$.lang.register('subscribehandler.anonmassgiftsub.toggle.on', 'Anonymous Mass Subscriber gift will now be welcomed upon subscribing.');
+$.lang.register('subscribehandler.sub.reward.set', 'Reward for subscribing set for $1!');
+$.lang.register('subscribehandler.resub.reward.set', 'Reward for resubscribing set for $1!');
+$.lang.register('subscribehandler.giftsub.reward.set', 'Reward for gift subs set for $1!');
+$.lang.register('subscribehandler.massgiftsub.reward.set', 'Reward for mass gift subs set for $1!');
+$.lang.register('subscribehandler.sub.reward.usage', 'Usage: !subscribereward [1|2|3|prime|all] (amount)');
+$.lang.register('subscribehandler.resub.reward.usage', 'Usage: !resubscribereward [1|2|3|prime|all] (amount)');
+$.lang.register('subscribehandler.giftsub.reward.usage', 'Usage: !giftsubreward [1|2|3|all] (amount)');
+$.lang.register('subscribehandler.massgiftsub.reward.usage', 'Usage: !massgiftsubreward [1|2|3|all] (amount)');
+$.lang.register('subscribehandler.sub.count', 'There are currently $1 subscribers!');
+$.lang.register('subscribehandler.resubemote.usage', 'Usage: !subemote [1|2|3|prime|all] (emotes)');
+$.lang.register('subscribehandler.resubemote.set', 'Subscriber emote set for $1!');
+$.lang.register('subscribehandler.namesubplan.usage', 'Usage: !namesubplan [1|2|3|prime] (name of plan)');
+$.lang.register('subscribehandler.namesubplan.show', 'The current name for subscription tier $1 is: $2');
+$.lang.register('subscribehandler.namesubplan.set', 'The name for subscription tier $1 was changed to: $2');
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('tipeeestream.donation.new', 'Thank you very much (name) for the tip of (amount)(currency)!');
+$.lang.register('tipeeestream.donation.newreward', 'Thank you very much (name) for the tip of $(amount) (currency)! Here are (points) (pointname)!');
+$.lang.register('tipeeestream.donations.usage', 'Usage: !tipeeestream (announce | rewardmultiplier n.n | message | lastmessage)');
+$.lang.register('tipeeestream.donations.announce.disable', 'Tips will no longer be announced.');
+$.lang.register('tipeeestream.donations.announce.enable', 'Tips will now be announced.');
+$.lang.register('tipeeestream.donations.reward.usage', 'Usage: !tipeeestream rewardmultiplier n.n  Set to 0 to disable');
+$.lang.register('tipeeestream.donations.reward.success', 'The reward for tips has been set to $1 $2 per whole amount of currency donated.');
+$.lang.register('tipeeestream.donations.message.usage', 'Usage: !tipeeestream message [message...] Tags: (name) (amount) (currency) (currencysymbol) (message)');
+$.lang.register('tipeeestream.donations.rewardmessage.usage', 'Usage: !tipeeestream rewardmessage [message...] Tags: (name) (amount) (currency) (reward) (message)');
+$.lang.register('tipeeestream.donations.message.no-name', 'A (name) tag was not provided, at a minimum provide the (name) tag. Tags: (name) (amount) (currency) (message)');
+$.lang.register('tipeeestream.donations.rewardmessage.no-name', 'A (name) tag was not provided, at a minimum provide the (name) tag. Tags: (name) (amount) (currency) (reward) (message)');
+$.lang.register('tipeeestream.donations.message.success', 'Updated the message for tips when rewards are disabled.');
+$.lang.register('tipeeestream.donations.rewardmessage.success', 'Updated the message for tips with rewards enabled.');
+$.lang.register('tipeeestream.donations.lastmessage.success', 'Updates the message for !lasttip command.');
+$.lang.register('tipeeestream.enabled.donators', 'The donators group has been enabled.');
+$.lang.register('tipeeestream.disabled.donators', 'The donators group has been disabled.');
+$.lang.register('tipeeestream.donators.min', 'The minimum before being promoted to a Donator was set to $1');
+$.lang.register('tipeeestream.donators.min.usage', 'Usage: !tipeeestream minmumbeforepromotion (amount)');
@@ -0,0 +1,24 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('wordcounter.usage', 'Usage: !wordcounter [add / remove] !count [word]');
+$.lang.register('wordcounter.add.usage', 'Usage: !wordcounter add [word]');
+$.lang.register('wordcounter.added', ' has been added to the word counter list!');
+$.lang.register('wordcounter.remove.usage', 'Usage: !wordcounter remove [word]');
+$.lang.register('wordcounter.err.404', 'That word is not in the counter list.');
+$.lang.register('wordcounter.removed', ' has been removed to the word counter list!');
+$.lang.register('wordcounter.count', '$1 has been said $2 times.');
@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('cleanupsystem.run.progress', 'Cleanup is starting, $1 might be unresponsive or slow during this process. This might take time...');
+$.lang.register('cleanupsystem.run.success', 'Cleanup done!');
+$.lang.register('cleanupsystem.run.usage', 'Usage: !cleanup [time / points / all] [amount of time in seconds or points if cleaning points]');
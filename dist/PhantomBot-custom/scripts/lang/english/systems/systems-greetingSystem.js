@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+$.lang.register('greetingsystem.set.autogreet.enabled', 'Auto greeting enabled. $1 will now greet viewers with a greeting configured.');
+$.lang.register('greetingsystem.set.autogreet.disabled', 'Auto greeting disabled.');
+$.lang.register('greetingsystem.set.autogreet.noname', 'Please use the (name) tag in the default greeting.');
+$.lang.register('greetingsystem.set.default.success', 'Changed the default greeting to "$1".');
+$.lang.register('greetingsystem.set.personal.success', 'Changed your personal greeting to "$1".');
+$.lang.register('greetingsystem.set.success', 'Changed $1s greeting to "$2".');
+$.lang.register('greetingsystem.remove.personal.success', 'Successfully removed your personal greeting message.');
+$.lang.register('greetingsystem.remove.success', 'Successfully removed $1s greeting message.');
+$.lang.register('greetingsystem.remove.error', 'Usage: !greeting remove [username].');
+$.lang.register('greetingsystem.generalusage.admin', 'Usage: !greeting [toggle | enable [default | message text] | set [username] [default | message text] | disable | setdefault ]. Tags for message text: (name)');
+$.lang.register('greetingsystem.generalusage.other', 'Usage: !greeting [ enable [default | message text] | disable ]. Tags for message text: (name)');
+$.lang.register('greetingsystem.cooldown.usage', 'Usage: !greeting cooldown [hours]');
+$.lang.register('greetingsystem.cooldown.success', 'Greetings cooldown set to $1 hours.');
+$.lang.register('greetingsystem.set.userselfservice.off', 'Users are prevented to set their own greeting messages now!');
+$.lang.register('greetingsystem.set.userselfservice.on', 'Users are allowed to set their own greeting messages!');
+$.lang.register('greetingsystem.set.onJoin.off', 'Users will be greeted after their first message!');
+$.lang.register('greetingsystem.set.onJoin.on', 'Users will be greeted upon joining the chat!');
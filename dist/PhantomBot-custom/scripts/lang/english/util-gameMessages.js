@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+// Win messages for the slot machine (slotMachine.js) mini game:
+$.lang.register('slot.win.1', 'Congratulations!');
+$.lang.register('slot.win.2', 'On a scale of 1 to 10, this was 2 easy');
+$.lang.register('slot.win.3', 'Aw, yeah!');
+$.lang.register('slot.win.4', 'You got lucky.');
+$.lang.register('slot.win.5', 'GOOOOOOOAAAAAL!!');
+$.lang.register('slot.win.6', 'Keep it up!');
+$.lang.register('slot.win.7', 'Baby, now you\'re number one, shining bright for everyone!');
+$.lang.register('slot.win.8', 'I only let you win out of pity.');
+$.lang.register('slot.win.9', 'If there were more clumsy and perverted people like $1, the world would be a better place.');
+$.lang.register('slot.win.10', 'Dreams do come true!');
+$.lang.register('slot.win.11', 'The way to success is always difficult, but you still manage to get yourself on top and be honored.');
+$.lang.register('slot.win.12', 'You rarely win, but sometimes you do.');
+$.lang.register('slot.win.13', 'Sometimes in life you don\'t always feel like a winner, but that doesn\'t mean you\'re not a winner.');
+$.lang.register('slot.win.14', 'It\'s easy to win. Anybody can win.');
+$.lang.register('slot.win.15', 'Winning is great, sure, but if you are really going to do something in life, the secret is learning how to lose.');
+$.lang.register('slot.win.16', 'A winner is just a loser who tried one more time.');
+$.lang.register('slot.win.17', 'Sugoi~!');
+$.lang.register('slot.win.18', 'This thing must have been rigged!');
+$.lang.register('slot.win.19', 'The Goddess Fortuna smiles upon you.');
+$.lang.register('slot.win.20', '?!......... (Seriously?!)');
+
+// Lose messages for the slot machine (slotMachine.js) mini game:
+$.lang.register('slot.lost.1', 'Better luck next time!');
+$.lang.register('slot.lost.2', 'Gambling can be hard, but don\'t stray.');
+$.lang.register('slot.lost.3', 'Dreamin\', don\'t give it up $1');
+$.lang.register('slot.lost.4', 'You have ignited a nuclear war! And no, there is no animated display of a mushroom cloud. Why? Because we do not reward failure.');
+$.lang.register('slot.lost.5', 'Can you like.. win? please?');
+$.lang.register('slot.lost.6', 'Game Over.');
+$.lang.register('slot.lost.7', 'Don\'t looooose your waaaaaaay!');
+$.lang.register('slot.lost.8', 'You just weren\'t good enough.');
+$.lang.register('slot.lost.9', 'Will $1 finally win? Find out next time on Dragon Ball Z!');
+$.lang.register('slot.lost.10', '$1 has lost something great today!');
+$.lang.register('slot.lost.11', 'Perhaps if you trained in the mountains in solitude, you could learn how to win.');
+$.lang.register('slot.lost.12', 'Believe in the heart of the cards!');
+$.lang.register('slot.lost.13', 'Believe in me who believes in you!');
+$.lang.register('slot.lost.14', '404 Win Not Found.');
+$.lang.register('slot.lost.15', 'If the human body is 65% water, how can you be 100% salt?');
+$.lang.register('slot.lost.16', 'To win you must gain sight beyond sight!');
+$.lang.register('slot.lost.17', 'You\'re great at losing! Don\'t let anyone tell you otherwise.');
+$.lang.register('slot.lost.18', 'So tell me, what\'s it like living in a constant haze of losses?');
+$.lang.register('slot.lost.19', 'Did you know that games of chance is the same way how Quantum Mechanics work?');
+$.lang.register('slot.lost.20', 'L-O-S-E-R...');
+$.lang.register('slot.lost.21', 'Dreams shattered :(');
+$.lang.register('slot.lost.22', 'Looks like you\'ve activated my trap card Kappa');
+$.lang.register('slot.lost.23', 'You\'re not obligated to win. You\'re obligated to keep trying.');
+$.lang.register('slot.lost.24', 'This is not the end, this is not even the beginning of the end, this is just perhaps the end of the beginning.');
+$.lang.register('slot.lost.25', 'Sometimes not getting what you want is a brilliant stroke of luck.');
+$.lang.register('slot.lost.26', 'Winning takes talent, to repeat takes character.');
+$.lang.register('slot.lost.27', 'Snake? Snake?! Snaaaaaaaaaake!!.');
+$.lang.register('slot.lost.28', 'You\'re like forrest gump without the running thing');
+$.lang.register('slot.lost.29', 'You should go set the world record for holding your breath.');
+$.lang.register('slot.lost.30', 'Shut down!');
+$.lang.register('slot.lost.31', 'You don\'t deserve to play this game. Go back to playing with crayons.');
+$.lang.register('slot.lost.32', 'Too bad. Game over. Insert new quarter.');
+$.lang.register('slot.lost.33', 'The Goddess Fortuna frowns upon you.');
+$.lang.register('slot.lost.34', 'In my ideal nation, there would exist no one as weak as you!');
+$.lang.register('slot.lost.35', 'What a joke!');
+$.lang.register('slot.lost.36', 'Learn from your defeat, child.');
+$.lang.register('slot.lost.37', 'You do not have enough experience! Are you listening to me?!');
+$.lang.register('slot.lost.38', 'Hope you\'re listening. Level up homie!');
+$.lang.register('slot.lost.39', 'Your technique need work.');
+$.lang.register('slot.lost.40', 'Hey, did you hurt yourself?');
+$.lang.register('slot.lost.41', 'That\'s your best?');
+$.lang.register('slot.lost.42', 'Hah ha ha ha ha ha ha!');
+$.lang.register('slot.lost.43', 'Don\'t make excuses for your loss! Go train and try again!');
+$.lang.register('slot.lost.44', 'Hey, you\'re not that bad. You\'re not very good, either.');
+$.lang.register('slot.lost.45', 'I\'ve had meetings that were more grueling than this.');
+$.lang.register('slot.lost.46', 'Even by the lowest standards, that was really bad.');
+$.lang.register('slot.lost.47', 'Ha-ha-ha! What\'s the matter? You don\'t like losing? Well, that\'s not my problem. Ha, ha, ha, ha, ha!');
+$.lang.register('slot.lost.48', 'Ancient words of wisdom... \"you suck\"');
+$.lang.register('slot.lost.49', 'I won\'t say you\'re bad. I\'ll just think it, OK?');
+$.lang.register('slot.lost.50', 'I think I\'ve learned something from this. You\'re nothing...');
+$.lang.register('slot.lost.51', 'Hey! Don\'t worry about it! You know... being bad and all!');
+$.lang.register('slot.lost.52', 'The tragedy of all losers is that they think they were on the verge of victory.');
+$.lang.register('slot.lost.53', 'Hm! You should go back to playing puzzle games!');
+$.lang.register('slot.lost.54', 'The past is the past man. If you are a loser now, then you’re a loser period.');
+$.lang.register('slot.lost.55', 'The reason you lost is quite simple: you\'re bad!');
+$.lang.register('slot.lost.56', 'Remember that one time during the game when it looked like you might actually win? No? Me neither.');
+$.lang.register('slot.lost.57', 'Is that all you can do? You wouldn\'t have gone very far with that anyway.');
+$.lang.register('slot.lost.58', 'Don\'t blame bad luck or fate. You lost because you suck.');
+$.lang.register('slot.lost.59', 'You weren\'t that bad. You were pathetic! Go home!');
+$.lang.register('slot.lost.60', 'You made an effort at least, pathetic as it was!');
+$.lang.register('slot.lost.61', 'My dad could win, and he\'s dead!');
+$.lang.register('slot.lost.62', 'You with the keyboard! I won DESPITE you. You suck. And smell -- REALLY smell.');
+
+
+// Win messages for the roll (roll.js) mini game:
+$.lang.register('roll.win.1', 'Congratulations!');
+$.lang.register('roll.win.2', 'On a scale of 1 to 10, this was 2 easy');
+$.lang.register('roll.win.3', 'Aw, yeah!');
+$.lang.register('roll.win.4', 'You got lucky.');
+$.lang.register('roll.win.5', 'GOOOOOOOAAAAAL!!');
+$.lang.register('roll.win.6', 'Keep it up!');
+$.lang.register('roll.win.7', 'Baby, now you\'re number one, shining bright for everyone!');
+$.lang.register('roll.win.8', 'I only let you win out of pity.');
+$.lang.register('roll.win.9', 'If there were more clumsy and perverted people like $1, the world would be a better place.');
+$.lang.register('roll.win.10', 'Dreams do come true!');
+$.lang.register('roll.win.11', 'The way to success is always difficult, but you still manage to get yourself on top and be honored.');
+$.lang.register('roll.win.12', 'You rarely win, but sometimes you do.');
+$.lang.register('roll.win.13', 'Sometimes in life you don\'t always feel like a winner, but that doesn\'t mean you\'re not a winner.');
+$.lang.register('roll.win.14', 'It\'s easy to win. Anybody can win.');
+$.lang.register('roll.win.15', 'Winning is great, sure, but if you are really going to do something in life, the secret is learning how to lose.');
+$.lang.register('roll.win.16', 'A winner is just a loser who tried one more time.');
+$.lang.register('roll.win.17', 'Sugoi~!');
+$.lang.register('roll.win.18', 'This thing must have been rigged!');
+$.lang.register('roll.win.19', 'The Goddess Fortuna smiles upon you.');
+$.lang.register('roll.win.20', '?!......... (Seriously?!)');
+
+// Lose messages for the roll (roll.js) mini game:
+$.lang.register('roll.lost.1', 'Better luck next time!');
+$.lang.register('roll.lost.2', 'Gambling can be hard, but don\'t stray.');
+$.lang.register('roll.lost.3', 'Dreamin\', don\'t give it up $1');
+$.lang.register('roll.lost.4', 'You have ignited a nuclear war! And no, there is no animated display of a mushroom cloud. Why? Because we do not reward failure.');
+$.lang.register('roll.lost.5', 'Can you like.. win? please?');
+$.lang.register('roll.lost.6', 'Game Over.');
+$.lang.register('roll.lost.7', 'Don\'t looooose your waaaaaaay!');
+$.lang.register('roll.lost.8', 'You just weren\'t good enough.');
+$.lang.register('roll.lost.9', 'Will $1 finally win? Find out next time on Dragon Ball Z!');
+$.lang.register('roll.lost.10', '$1 has lost something great today!');
+$.lang.register('roll.lost.11', 'Perhaps if you trained in the mountains in solitude, you could learn how to win.');
+$.lang.register('roll.lost.12', 'Believe in the heart of the cards!');
+$.lang.register('roll.lost.13', 'Believe in me who believes in you!');
+$.lang.register('roll.lost.14', '404 Win Not Found.');
+$.lang.register('roll.lost.15', 'If the human body is 65% water, how can you be 100% salt?');
+$.lang.register('roll.lost.16', 'To win you must gain sight beyond sight!');
+$.lang.register('roll.lost.17', 'You\'re great at losing! Don\'t let anyone tell you otherwise.');
+$.lang.register('roll.lost.18', 'So tell me, what\'s it like living in a constant haze of losses?');
+$.lang.register('roll.lost.19', 'Did you know that games of chance is the same way how Quantum Mechanics work?');
+$.lang.register('roll.lost.20', 'L-O-S-E-R...');
+$.lang.register('roll.lost.21', 'Dreams shattered :(');
+$.lang.register('roll.lost.22', 'Looks like you\'ve activated my trap card Kappa');
+$.lang.register('roll.lost.23', 'You\'re not obligated to win. You\'re obligated to keep trying.');
+$.lang.register('roll.lost.24', 'This is not the end, this is not even the beginning of the end, this is just perhaps the end of the beginning.');
+$.lang.register('roll.lost.25', 'Sometimes not getting what you want is a brilliant stroke of luck.');
+$.lang.register('roll.lost.26', 'Winning takes talent, to repeat takes character.');
+$.lang.register('roll.lost.27', 'Snake? Snake?! Snaaaaaaaaaake!!.');
+$.lang.register('roll.lost.28', 'You\'re like forrest gump without the running thing');
+$.lang.register('roll.lost.29', 'You should go set the world record for holding your breath.');
+$.lang.register('roll.lost.30', 'Shut down!');
+$.lang.register('roll.lost.31', 'You don\'t deserve to play this game. Go back to playing with crayons.');
+$.lang.register('roll.lost.32', 'Too bad. Game over. Insert new quarter.');
+$.lang.register('roll.lost.33', 'The Goddess Fortuna frowns upon you.');
+$.lang.register('roll.lost.34', 'In my ideal nation, there would exist no one as weak as you!');
+$.lang.register('roll.lost.35', 'What a joke!');
+$.lang.register('roll.lost.36', 'Learn from your defeat, child.');
+$.lang.register('roll.lost.37', 'You do not have enough experience! Are you listening to me?!');
+$.lang.register('roll.lost.38', 'Hope you\'re listening. Level up homie!');
+$.lang.register('roll.lost.39', 'Your technique need work.');
+$.lang.register('roll.lost.40', 'Hey, did you hurt yourself?');
+$.lang.register('roll.lost.41', 'That\'s your best?');
+$.lang.register('roll.lost.42', 'Hah ha ha ha ha ha ha!');
+$.lang.register('roll.lost.43', 'Don\'t make excuses for your loss! Go train and try again!');
+$.lang.register('roll.lost.44', 'Hey, you\'re not that bad. You\'re not very good, either.');
+$.lang.register('roll.lost.45', 'I\'ve had meetings that were more grueling than this.');
+$.lang.register('roll.lost.46', 'Even by the lowest standards, that was really bad.');
+$.lang.register('roll.lost.47', 'Ha-ha-ha! What\'s the matter? You don\'t like losing? Well, that\'s not my problem. Ha, ha, ha, ha, ha!');
+$.lang.register('roll.lost.48', 'Ancient words of wisdom... \"you suck\"');
+$.lang.register('roll.lost.49', 'I won\'t say you\'re bad. I\'ll just think it, OK?');
+$.lang.register('roll.lost.50', 'I think I\'ve learned something from this. You\'re nothing...');
+$.lang.register('roll.lost.51', 'Hey! Don\'t worry about it! You know... being bad and all!');
+$.lang.register('roll.lost.52', 'The tragedy of all losers is that they think they were on the verge of victory.');
+$.lang.register('roll.lost.53', 'Hm! You should go back to playing puzzle games!');
+$.lang.register('roll.lost.54', 'The past is the past man. If you are a loser now, then you’re a loser period.');
+$.lang.register('roll.lost.55', 'The reason you lost is quite simple: you\'re bad!');
+$.lang.register('roll.lost.56', 'Remember that one time during the game when it looked like you might actually win? No? Me neither.');
+$.lang.register('roll.lost.57', 'Is that all you can do? You wouldn\'t have gone very far with that anyway.');
+$.lang.register('roll.lost.58', 'Don\'t blame bad luck or fate. You lost because you suck.');
+$.lang.register('roll.lost.59', 'You weren\'t that bad. You were pathetic! Go home!');
+$.lang.register('roll.lost.60', 'You made an effort at least, pathetic as it was!');
+$.lang.register('roll.lost.61', 'My dad could win, and he\'s dead!');
+$.lang.register('roll.lost.62', 'You with the keyboard! I won DESPITE you. You suck. And smell -- REALLY smell.');
+$.lang.register('roll.lost.63', 'A loser doesn\'t know what he\'ll do if he loses, but talks about what he\'ll do if he wins, and a winner doesn\'t talk about what he\'ll do if he wins, but knows what he\'ll do if he loses.');
+$.lang.register('roll.lost.64', 'If you can\'t win, lose like a champion!');
+$.lang.register('roll.lost.65', 'Welcome to Loserville! Population: You!');
+$.lang.register('roll.lost.66', 'Whoever said, "It\'s not whether you win or lose that counts," probably lost.');
+$.lang.register('roll.lost.67', 'What went wrong? What didn\'t? - it was just one of those days. Not your day really');
+
+// Win messages for the gambling (gambling.js) mini game, remove the /// to start using it.:
+
+///$.lang.register('gamble.win.1', 'Cool message here');
+///$.lang.register('gamble.win.2', '');
+///$.lang.register('gamble.win.3', '');
+
+// Lose messages for the gambling (gambling.js) mini game, remove the /// to start using it.:
+
+///$.lang.register('gamble.lost.1', 'Cool message here!');
+///$.lang.register('gamble.lost.2', '');
+///$.lang.register('gamble.lost.3', '');
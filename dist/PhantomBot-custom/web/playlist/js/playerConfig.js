@@ -0,0 +1,9 @@
+// Configuration for YTPlayer
+// Automatically Generated by PhantomBot Core at Startup
+// Do NOT Modify! Overwritten when PhantomBot is restarted!
+var playerPort = 27003;
+var channelName = "notillusionaryone";
+var auth="NhTVYZ41N9Nip0g884ES3n9CV0C31E";
+function getPlayerPort() { return playerPort; }
+function getChannelName() { return channelName; }
+function getAuth() { return auth; }
@@ -39,19 +39,17 @@
      * @returns {Array}
      */
     function getTop5(iniName) {
-        var keys = $.inidb.GetKeysByNumberOrderValue(iniName, '', 'DESC', (iniName.equals('points') ? amountPoints + 2: amountTime + 2), 0),
+        var amount = (iniName.equals('points') ? amountPoints : amountTime),
+            rows = $.inidb.StreamKeyValuesByNumberOrderValue(iniName, '', 'DESC', amount + 2).iterator(),
             list = [],
-            i,
-            ctr = 0;
-
-        for (i in keys) {
-            if (!$.isBot(keys[i]) && !$.isOwner(keys[i])) {
-                if (ctr++ === (iniName.equals('points') ? amountPoints : amountTime)) {
-                    break;
-                }
+            row;
+
+        while (list.length < amount && rows.hasNext()) {
+            row = rows.next();
+            if (!$.isBot(row.getKey()) && !$.isOwner(row.getKey())) {
                 list.push({
-                    username: keys[i],
-                    value: $.inidb.get(iniName, keys[i])
+                    username: row.getKey(),
+                    value: row.getValue()
                 });
             }
         }
@@ -60,11 +58,7 @@
             return (b.value - a.value);
         });
 
-        if (iniName.equals('points')) {
-            return list.slice(0, amountPoints);
-        } else {
-            return list.slice(0, amountTime);
-        }
+        return list;
     }
 
     /*
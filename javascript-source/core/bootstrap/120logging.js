@@ -80,17 +80,16 @@
         return !Packages.com.gmt2001.PathValidator.isValidPathScript($.javaString(path));
     }
 
-    function writeToFile(line, path, append) {
-        if (invalidLocation(path)) {
-            Packages.com.gmt2001.Console.err.printlnRhino('Failed to write to \'' + path + '\': Outside of valid paths');
+    /*
+     * Queues a line for the daily log file in the directory, which is written in batches by the Java logger
+     */
+    function writeToLog(line, directory) {
+        if (invalidLocation(directory)) {
+            Packages.com.gmt2001.Console.err.printlnRhino('Failed to write to \'' + directory + '\': Outside of valid paths');
             return;
         }
 
-        try {
-            Packages.com.gmt2001.JSFileSystem.WriteLineToFile($.javaString(path), $.javaString(line), append);
-        } catch (e) {
-            Packages.com.gmt2001.Console.err.printlnRhino('Failed to write to \'' + path + '\': ' + e);
-        }
+        Packages.com.illusionaryone.Logger.instance().log($.javaString(directory), $.javaString(line));
     }
 
     /*
@@ -105,9 +104,7 @@
             return;
         }
 
-        Packages.com.gmt2001.JSFileSystem.MakeDir($.javaString('./logs/' + filePrefix));
-
-        writeToFile('[' + getLogEntryTimeDateString() + '] ' + message, './logs/' + filePrefix + '/' + getLogDateString() + '.txt', true);
+        writeToLog('[' + getLogEntryTimeDateString() + '] ' + message, './logs/' + filePrefix);
     }
 
     /*
@@ -121,15 +118,13 @@
             return;
         }
 
-        Packages.com.gmt2001.JSFileSystem.MakeDir($.javaString('./logs/js-event'));
-
         try {
             throw new Error('eventlog');
         } catch (e) {
             sourceFile = e.stack.split('\n')[1].split('@')[1];
         }
 
-        writeToFile('[' + getLogEntryTimeDateString() + '] [' + sourceFile.trim() + '] ' + message, './logs/js-event/' + getLogDateString() + '.txt', true);
+        writeToLog('[' + getLogEntryTimeDateString() + '] [' + sourceFile.trim() + '] ' + message, './logs/js-event');
     }
 
     /*
@@ -143,15 +138,13 @@
             return;
         }
 
-        Packages.com.gmt2001.JSFileSystem.MakeDir($.javaString('./logs/js-error'));
-
         try {
             throw new Error('errorlog');
         } catch (e) {
             sourceFile = e.stack.split('\n')[1].split('@')[1];
         }
 
-        writeToFile('[' + getLogEntryTimeDateString() + '] [' + sourceFile.trim() + '] ' + message, './logs/js-error/' + getLogDateString() + '.txt', true);
+        writeToLog('[' + getLogEntryTimeDateString() + '] [' + sourceFile.trim() + '] ' + message, './logs/js-error');
         Packages.com.gmt2001.Console.err.printlnRhino(java.util.Objects.toString('[' + sourceFile.trim() + '] ' + message));
     }
 
@@ -166,15 +159,13 @@
             return;
         }
 
-        Packages.com.gmt2001.JSFileSystem.MakeDir($.javaString('./logs/js-warning'));
-
         try {
             throw new Error('warninglog');
         } catch (e) {
             sourceFile = e.stack.split('\n')[1].split('@')[1];
         }
 
-        writeToFile('[' + getLogEntryTimeDateString() + '] [' + sourceFile.trim() + '] ' + message, './logs/js-warning/' + getLogDateString() + '.txt', true);
+        writeToLog('[' + getLogEntryTimeDateString() + '] [' + sourceFile.trim() + '] ' + message, './logs/js-warning');
         Packages.com.gmt2001.Console.warn.printlnRhino(java.util.Objects.toString(message));
     }
 
@@ -21,7 +21,7 @@
     var permitList = [],
             timeouts = [],
             whiteList = [],
-            blackList = [],
+            moderationEngine = Packages.tv.phantombot.moderation.ModerationEngine.instance(),
             spamTracker = {},
             linksToggle = $.getSetIniDbBoolean('chatModerator', 'linksToggle', false),
             linksMessage = $.getSetIniDbString('chatModerator', 'linksMessage', 'you were timed out for linking.'),
@@ -274,6 +274,7 @@
         msgCooldownSec = $.getIniDbNumber('chatModerator', 'msgCooldownSecs');
         resetTime = (warningResetTime * 6e4);
 
+        moderationEngine.reloadSettings();
         loadBlackList();
         loadWhiteList();
     }
@@ -308,32 +309,10 @@
 
     /**
      * @function loadBlackList
+     * Recompiles the blacklist of the moderation engine from the blackList table
      */
     function loadBlackList() {
-        var keys = $.inidb.GetKeyList('blackList', '');
-        blackList = [];
-
-        for (i = 0; i < keys.length; i++) {
-            var json = JSON.parse($.inidb.get('blackList', keys[i]));
-
-            if (json !== null) {
-                if (json.isRegex) {
-                    try {
-                        json.phrase = new RegExp(json.phrase.replace('regex:', ''));
-                    } catch (ex) {
-                        // Failed to create regex, use as non-regex.
-                        json.phrase = json.phrase.replace('regex:', '').toLowerCase();
-                        json.isRegex = false;
-                        continue;
-                    }
-                } else {
-                    json.phrase = json.phrase.toLowerCase();
-                }
-                json.isBan = parseInt(json.timeout) === -1;
-
-                blackList.push(json);
-            }
-        }
+        moderationEngine.reloadBlacklist();
     }
 
     /**
@@ -508,56 +487,30 @@
      * @function checkBlackList
      *
      * @param {string} sender
-     * @param {string} message
+     * @param {Object} event
+     * @param {BlacklistEntry} entry The matching entry returned by the moderation engine
      * @param {map} tags
+     * @return {boolean} true if the user was moderated; false if the user is exempt from the entry
      */
-    function checkBlackList(sender, event, message, tags) {
-        for (i in blackList) {
-            if (blackList[i].isRegex) {
-                if ($.test(message, blackList[i].phrase)) {
-                    if (blackList[i].excludeRegulars && $.checkUserPermission(sender, tags, $.PERMISSION.Regular) || blackList[i].excludeSubscribers && $.checkUserPermission(sender, tags, $.PERMISSION.Sub) || blackList[i].excludeVips && $.checkUserPermission(sender, tags, $.PERMISSION.VIP)) {
-                        return false;
-                    }
+    function checkBlackList(sender, event, entry, tags) {
+        if (entry.excludeRegulars() && $.checkUserPermission(sender, tags, $.PERMISSION.Regular) || entry.excludeSubscribers() && $.checkUserPermission(sender, tags, $.PERMISSION.Sub) || entry.excludeVips() && $.checkUserPermission(sender, tags, $.PERMISSION.VIP)) {
+            return false;
+        }
 
-                    try {
-                        if (blackList[i].isBan) {
-                            banUser(sender, blackList[i].banReason);
-                            warning = $.lang.get('chatmoderator.ban');
-                            sendMessage(sender, blackList[i].message, blackList[i].isSilent);
-                        } else {
-                            timeoutDeleteUser(sender, blackList[i].timeout, blackList[i].banReason, tags);
-                            warning = $.lang.get('chatmoderator.timeout');
-                            sendMessage(sender, blackList[i].message, blackList[i].isSilent);
-                        }
-                        return true;
-                    } finally {
-                        event.moderated();
-                    }
-                }
+        try {
+            if (entry.isBan()) {
+                banUser(sender, entry.banReason());
+                warning = $.lang.get('chatmoderator.ban');
+                sendMessage(sender, entry.message(), entry.isSilent());
             } else {
-                if (message.indexOf(blackList[i].phrase) !== -1) {
-                    if (blackList[i].excludeRegulars && $.checkUserPermission(sender, tags, $.PERMISSION.Regular) || blackList[i].excludeSubscribers && $.checkUserPermission(sender, tags, $.PERMISSION.Sub) || blackList[i].excludeVips && $.checkUserPermission(sender, tags, $.PERMISSION.VIP)) {
-                        return false;
-                    }
-
-                    try {
-                        if (blackList[i].isBan) {
-                            banUser(sender, blackList[i].banReason);
-                            warning = $.lang.get('chatmoderator.ban');
-                            sendMessage(sender, blackList[i].message, blackList[i].isSilent);
-                        } else {
-                            timeoutDeleteUser(sender, blackList[i].timeout, blackList[i].banReason, tags);
-                            warning = $.lang.get('chatmoderator.timeout');
-                            sendMessage(sender, blackList[i].message, blackList[i].isSilent);
-                        }
-                        return true;
-                    } finally {
-                        event.moderated();
-                    }
-                }
+                timeoutDeleteUser(sender, entry.timeout(), entry.banReason(), tags);
+                warning = $.lang.get('chatmoderator.timeout');
+                sendMessage(sender, entry.message(), entry.isSilent());
             }
+            return true;
+        } finally {
+            event.moderated();
         }
-        return false;
     }
 
     /**
@@ -611,37 +564,42 @@
     $.bind('ircModeration', function (event) {
         var sender = event.getSender(),
                 message = event.getMessage().toLowerCase(),
-                messageLength = message.length(),
-                tags = event.getTags();
+                tags = event.getTags(),
+                extraEmotes,
+                result;
 
         if (!$.checkUserPermission(sender, tags, $.PERMISSION.Mod)) {
-            // Blacklist
-            if (checkBlackList(sender, event, message, tags)) {
-                return;
-            }
+            extraEmotes = emotesToggle ? $.emotesHandler.getEmotesMatchCount(event.getMessage()) : 0;
+            result = moderationEngine.evaluate(event, extraEmotes);
 
-            // Links filter
-            if (linksToggle && $.patternDetector.hasLinks(event)) {
-                if (checkYoutubePlayer(message) || checkPermitList(sender) || checkWhiteList(message)) {
-                    return;
-                }
-                if ((!regulars.Links && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Links && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Links && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+            if ($.jsString(result.filterName()) === 'Blacklist') {
+                if (checkBlackList(sender, event, result.blacklistEntry(), tags)) {
                     return;
                 }
 
-                try {
-                    timeout(sender, warningTime.Links, timeoutTime.Links, silentTimeout.LinkMessage, tags);
-                    sendMessage(sender, linksMessage, silentTimeout.Links);
-                    $.patternDetector.logLastLink(event);
-                } finally {
-                    event.moderated();
-                }
-                return;
+                // Exempt from the matched entry, so the other filters still apply
+                result = moderationEngine.evaluate(event, extraEmotes, true);
             }
 
-            // Symbol filter
-            if (symbolsToggle && messageLength >= symbolsTriggerLength) {
-                if ($.patternDetector.getLongestNonLetterSequence(event) >= symbolsGroupLimit || (($.patternDetector.getNumberOfNonLetters(event) / messageLength) * 100) >= symbolsLimitPercent) {
+            switch ($.jsString(result.filterName())) {
+                case 'Links':
+                    if (checkYoutubePlayer(message) || checkPermitList(sender) || checkWhiteList(message)) {
+                        return;
+                    }
+
+                    if ((!regulars.Links && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Links && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Links && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                        return;
+                    }
+
+                    try {
+                        timeout(sender, warningTime.Links, timeoutTime.Links, silentTimeout.LinkMessage, tags);
+                        sendMessage(sender, linksMessage, silentTimeout.Links);
+                        $.patternDetector.logLastLink(event);
+                    } finally {
+                        event.moderated();
+                    }
+                    return;
+                case 'Symbols':
                     if ((!regulars.Symbols && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Symbols && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Symbols && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
                         return;
                     }
@@ -653,72 +611,55 @@
                         event.moderated();
                     }
                     return;
-                }
-            }
+                case 'Spam':
+                    if ((!regulars.Spam && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Spam && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Spam && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                        return;
+                    }
 
-            // Spam filter
-            if (spamToggle && $.patternDetector.getLongestRepeatedSequence(event) >= spamLimit) {
-                if ((!regulars.Spam && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Spam && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Spam && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                    try {
+                        timeout(sender, warningTime.Spam, timeoutTime.Spam, silentTimeout.SpamMessage, tags);
+                        sendMessage(sender, spamMessage, silentTimeout.Spam);
+                    } finally {
+                        event.moderated();
+                    }
                     return;
-                }
-
-                try {
-                    timeout(sender, warningTime.Spam, timeoutTime.Spam, silentTimeout.SpamMessage, tags);
-                    sendMessage(sender, spamMessage, silentTimeout.Spam);
-                } finally {
-                    event.moderated();
-                }
-                return;
-            }
+                case 'LongMessage':
+                    if ((!regulars.LongMsg && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.LongMsg && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.LongMsg && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                        return;
+                    }
 
-            // Long msg filter
-            if (longMessageToggle && messageLength >= longMessageLimit) {
-                if ((!regulars.LongMsg && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.LongMsg && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.LongMsg && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                    try {
+                        timeout(sender, warningTime.LongMsg, timeoutTime.LongMsg, silentTimeout.LongMessage, tags);
+                        sendMessage(sender, longMessageMessage, silentTimeout.LongMsg);
+                    } finally {
+                        event.moderated();
+                    }
                     return;
-                }
-
-                try {
-                    timeout(sender, warningTime.LongMsg, timeoutTime.LongMsg, silentTimeout.LongMessage, tags);
-                    sendMessage(sender, longMessageMessage, silentTimeout.LongMsg);
-                } finally {
-                    event.moderated();
-                }
-                return;
-            }
+                case 'FakePurge':
+                    if ((!regulars.FakePurge && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.FakePurge && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.FakePurge && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                        return;
+                    }
 
-            // Fake purge filter
-            if (fakePurgeToggle && $.patternDetector.getFakePurge(event)) {
-                if ((!regulars.FakePurge && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.FakePurge && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.FakePurge && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                    try {
+                        timeout(sender, warningTime.FakePurge, timeoutTime.FakePurge, silentTimeout.FakePurgeMessage, tags);
+                        sendMessage(sender, fakePurgeMessage, silentTimeout.FakePurge);
+                    } finally {
+                        event.moderated();
+                    }
                     return;
-                }
-
-                try {
-                    timeout(sender, warningTime.FakePurge, timeoutTime.FakePurge, silentTimeout.FakePurgeMessage, tags);
-                    sendMessage(sender, fakePurgeMessage, silentTimeout.FakePurge);
-                } finally {
-                    event.moderated();
-                }
-                return;
-            }
+                case 'Emotes':
+                    if ((!regulars.Emotes && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Emotes && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Emotes && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                        return;
+                    }
 
-            // Emotes folter
-            if (emotesToggle && $.patternDetector.getEmotesCount(event) >= emotesLimit) {
-                if ((!regulars.Emotes && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Emotes && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Emotes && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                    try {
+                        timeout(sender, warningTime.Emotes, timeoutTime.Emotes, silentTimeout.EmoteMessage, tags);
+                        sendMessage(sender, emotesMessage, silentTimeout.Emotes);
+                    } finally {
+                        event.moderated();
+                    }
                     return;
-                }
-
-                try {
-                    timeout(sender, warningTime.Emotes, timeoutTime.Emotes, silentTimeout.EmoteMessage, tags);
-                    sendMessage(sender, emotesMessage, silentTimeout.Emotes);
-                } finally {
-                    event.moderated();
-                }
-                return;
-            }
-
-            // Caps filter
-            if (capsToggle && messageLength >= capsTriggerLength) {
-                if ((($.patternDetector.getNumberOfCaps(event) / messageLength) * 100) >= capsLimitPercent) {
+                case 'Caps':
                     if ((!regulars.Caps && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Caps && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Caps && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
                         return;
                     }
@@ -730,22 +671,20 @@
                         event.moderated();
                     }
                     return;
-                }
-            }
+                case 'Colors':
+                    if ((!regulars.Colors && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Colors && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Colors && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                        return;
+                    }
 
-            // Color filter
-            if (colorsToggle && $.patternDetector.getColoredMessage(event)) {
-                if ((!regulars.Colors && $.checkUserPermission(sender, tags, $.PERMISSION.Regular)) || (!subscribers.Colors && $.checkUserPermission(sender, tags, $.PERMISSION.Sub)) || (!vips.Colors && $.checkUserPermission(sender, tags, $.PERMISSION.VIP))) {
+                    try {
+                        timeout(sender, warningTime.Colors, timeoutTime.Colors, silentTimeout.ColorMessage, tags);
+                        sendMessage(sender, colorsMessage, silentTimeout.Colors);
+                    } finally {
+                        event.moderated();
+                    }
                     return;
-                }
-
-                try {
-                    timeout(sender, warningTime.Colors, timeoutTime.Colors, silentTimeout.ColorMessage, tags);
-                    sendMessage(sender, colorsMessage, silentTimeout.Colors);
-                } finally {
-                    event.moderated();
-                }
-                return;
+                default:
+                    break;
             }
 
             // Spam tracker
@@ -1225,9 +1164,11 @@
     }
 
     /*
-     * @event command
+     * @function moderationCommand
+     *
+     * @param {Object} event
      */
-    $.bind('command', function (event) {
+    function moderationCommand(event) {
         var sender = event.getSender(),
                 command = event.getCommand(),
                 argString = event.getArguments(),
@@ -2262,6 +2203,19 @@
                 $.say($.whisperPrefix(sender) + $.lang.get('chatmoderator.warningresettime.set', warningResetTime));
             }
         }
+    }
+
+    /*
+     * @event command
+     */
+    $.bind('command', function (event) {
+        try {
+            moderationCommand(event);
+        } finally {
+            if (event.getCommand().equalsIgnoreCase('moderation') || event.getCommand().equalsIgnoreCase('mod')) {
+                moderationEngine.reloadSettings();
+            }
+        }
     });
 
     /**
@@ -2269,6 +2223,7 @@
      */
     $.bind('initReady', function () {
         loadWhiteList();
+        moderationEngine.reloadSettings();
         loadBlackList();
 
         $.registerChatCommand('./core/chatModerator.js', 'permit', $.PERMISSION.Mod);
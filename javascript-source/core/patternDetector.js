@@ -24,15 +24,18 @@
  * Use the $.patternDetector API
  */
 (function() {
-    let patterns = {
-        emotes: new RegExp('([0-9][0-9]-[0-9][0-9])|([0-9]-[0-9])', 'g'),
-        repeatedSeq: /(.)(\1+)/ig,
-        nonAlphaSeq: /([^a-z0-9 ])(\1+)/ig,
-        nonAlphaCount: /([^a-z0-9 ])/ig,
-        capsCount: /([A-Z])/g,
-        meCheck: /^\/me/,
-        fakePurge: new RegExp(/^<message \w+>|^<\w+ deleted>/i)
-    };
+    /**
+     * @function analysis
+     * @param {Object} event
+     * @returns {MessageAnalysis} The analysis cached on the event, or a new analysis if the event is not an IrcModerationEvent
+     */
+    function analysis(event) {
+        if (event instanceof Packages.tv.phantombot.event.irc.message.IrcModerationEvent) {
+            return event.analysis();
+        }
+
+        return Packages.com.gmt2001.PatternDetector.analyze(event.getMessage(), event.getTags());
+    }
 
     /**
      * @function hasLinks
@@ -41,7 +44,7 @@
      * @returns {boolean}
      */
     function hasLinks(event) {
-        return Packages.com.gmt2001.PatternDetector.hasAnyLinks(event.getMessage());
+        return analysis(event).hasLinks();
     }
 
     /**
@@ -66,7 +69,7 @@
      * @export $.patternDetector
      */
     function logLastLink(event) {
-        let jlink = Packages.com.gmt2001.PatternDetector.getLink(event.getMessage());
+        let jlink = analysis(event).firstLink();
 
         if (jlink === null) {
             jlink = '';
@@ -82,11 +85,7 @@
      * @returns {number}
      */
     function getLongestRepeatedSequence(event) {
-        let sequences = $.match(event.getMessage(), patterns.repeatedSeq);
-
-        return (sequences === null ? 0 : sequences.sort(function(a, b) {
-            return b.length - a.length;
-        })[0].length);
+        return analysis(event).longestRepeatedSequence();
     }
 
     /**
@@ -96,12 +95,7 @@
      * @returns {number}
      */
     function getLongestNonLetterSequence(event) {
-        let message = (event.getMessage() + ''),
-            sequences = $.match(message, patterns.nonAlphaSeq);
-
-        return (sequences === null ? 0 : sequences.sort(function(a, b) {
-            return b.length - a.length;
-        })[0].length);
+        return analysis(event).longestNonLetterSequence();
     }
 
     /**
@@ -111,9 +105,7 @@
      * @returns {number}
      */
     function getNumberOfNonLetters(event) {
-        let sequences = $.match(event.getMessage(), patterns.nonAlphaCount);
-
-        return (sequences === null ? 0 : sequences.length);
+        return analysis(event).nonLetters();
     }
 
     /**
@@ -124,11 +116,7 @@
      * @info this gets the emote count from the ircv3 tags and the emotes cache if enabled.
      */
     function getEmotesCount(event) {
-        let emotes = event.getTags().get('emotes'),
-            matched = $.match(emotes, patterns.emotes),
-            extraEmotes = $.emotesHandler.getEmotesMatchCount(event.getMessage());
-
-        return (matched === null ? extraEmotes : (matched.length + extraEmotes));
+        return analysis(event).emotes() + $.emotesHandler.getEmotesMatchCount(event.getMessage());
     }
 
     /**
@@ -178,9 +166,7 @@
      * @returns {number}
      */
     function getNumberOfCaps(event) {
-        let sequences = $.match(getMessageWithoutEmotes(event, event.getMessage()), patterns.capsCount);
-
-        return (sequences === null ? 0 : sequences.length);
+        return analysis(event).caps();
     }
 
     /**
@@ -190,7 +176,7 @@
      * @returns {boolean}
      */
     function getColoredMessage(event) {
-        return event.getMessage().indexOf('/me') === 0;
+        return analysis(event).colored();
     }
 
     /**
@@ -200,7 +186,7 @@
      * @returns {boolean}
      */
     function getFakePurge(event) {
-        return $.test($.jsString(event.getMessage()).replace(patterns.meCheck, ''), patterns.fakePurge);
+        return analysis(event).fakePurge();
     }
 
     /** Export functions to API */
@@ -34,6 +34,8 @@
             botList = new Packages.java.util.concurrent.CopyOnWriteArrayList(),
             lastJoinPart = $.systemTime(),
             isUpdatingUsers = false,
+            lastUsersResync = 0,
+            usersResyncInterval = 6e5,
             _isSwappedSubscriberVIP = $.getSetIniDbBoolean('settings', 'isSwappedSubscriberVIP', true),
             _usersGroupsLock = new Packages.java.util.concurrent.locks.ReentrantLock();
 
@@ -929,6 +931,32 @@
         return PERMISSION.VIP;
     }
 
+    /**
+     * @function resyncUsers
+     * @param {java.util.Collection} chatters The logins of everyone currently in chat
+     *
+     * Rebuilds $.users from the full chatter list, so users missed by the join/part deltas, such as after a reload of this script, are restored
+     */
+    function resyncUsers(chatters) {
+        let present = {},
+                newUsers = [],
+                it = chatters.iterator();
+
+        while (it.hasNext()) {
+            let username = $.jsString(it.next()).toLowerCase();
+
+            if (isTwitchBot(username) || present[username] === true) {
+                continue;
+            }
+
+            present[username] = true;
+            newUsers.push(username);
+        }
+
+        $.users = newUsers;
+        lastUsersResync = $.systemTime();
+    }
+
     /**
      * @event ircChannelJoinUpdate
      */
@@ -937,33 +965,86 @@
             // Don't allow other events to add or remove users.
             isUpdatingUsers = true;
 
-            let chatters = event.chatters(),
+            let joins = event.joins(),
+                    parts = event.parts(),
+                    resync = lastUsersResync === 0 || $.systemTime() - lastUsersResync >= usersResyncInterval,
+                    removed = {},
+                    present = {},
                     newUsers = [],
                     keys = [],
                     values = [];
 
-            // Handle joins.
-            for (let i = 0; i < chatters.size(); i++) {
-                let username = $.jsString(chatters.get(i).toLowerCase());
-                $.restoreSubscriberStatus(username);
-                keys.push(username);
-                values.push('true');
+            try {
+                // The first update after loading, and periodically after that, rebuilds from the full list instead of the deltas
+                if (resync) {
+                    resyncUsers(event.chatters());
+                } else {
+                    for (let i = 0; i < parts.size(); i++) {
+                        removed[$.jsString(parts.get(i).toLowerCase())] = true;
+                    }
 
-                if (isTwitchBot(username)) {
-                    continue;
+                    // Keep the users that did not leave
+                    for (let i = 0; i < $.users.length; i++) {
+                        let username = $.jsString($.users[i]).toLowerCase();
+
+                        if (removed[username] !== true && present[username] !== true) {
+                            present[username] = true;
+                            newUsers.push(username);
+                        }
+                    }
                 }
 
-                newUsers.push(username);
-            }
+                for (let i = 0; i < joins.size(); i++) {
+                    let username = $.jsString(joins.get(i).toLowerCase());
+                    $.restoreSubscriberStatus(username);
+                    keys.push(username);
+                    values.push('true');
 
-            $.users = newUsers;
+                    if (resync || isTwitchBot(username) || present[username] === true) {
+                        continue;
+                    }
 
-            $.inidb.SetBatchString('visited', '', keys, values);
+                    present[username] = true;
+                    newUsers.push(username);
+                }
 
-            isUpdatingUsers = false;
+                if (!resync) {
+                    $.users = newUsers;
+                }
+
+                if (keys.length > 0) {
+                    $.inidb.SetBatchString('visited', '', keys, values);
+                }
+            } finally {
+                isUpdatingUsers = false;
+            }
         }, 0, 'core::permissions.js::ircChannelUsersUpdate');
     });
 
+    /*
+     * Update events are only sent when someone joins or parts, so also resync periodically from the cache to cover a quiet chat
+     */
+    setInterval(function () {
+        if (isUpdatingUsers || $.systemTime() - lastUsersResync < usersResyncInterval) {
+            return;
+        }
+
+        isUpdatingUsers = true;
+
+        try {
+            let logins = new Packages.java.util.ArrayList(),
+                    it = Packages.com.gmt2001.twitch.cache.ViewerCache.instance().chattersView().iterator();
+
+            while (it.hasNext()) {
+                logins.add(it.next().login());
+            }
+
+            resyncUsers(logins);
+        } finally {
+            isUpdatingUsers = false;
+        }
+    }, 6e4, 'core::permissions.js::resyncUsers');
+
     /**
      * @event ircChannelJoin
      */
@@ -503,7 +503,8 @@
     // Set an interval for increasing all current users logged time
     setInterval(function () {
         if ($.isOnline($.channelName) || keepTimeWhenOffline) {
-            $.inidb.IncreaseBatchString('time', '', $.users, '60');
+            let stats = $.inidb.IncreaseBatchString('time', '', $.users, '60');
+            $.consoleDebug('Time payout: ' + stats);
         }
     }, 6e4, 'scripts::systems::timeSystem.js#1');
 
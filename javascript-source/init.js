@@ -25,6 +25,7 @@
     let isReady = false,
             modules = [],
             hooks = [],
+            loadedHooks = [],
             jsOnlyHooks = ['initReady'];
 
     /*
@@ -414,9 +415,31 @@
                 hooks[hookName] = new HookHandler(hookName);
             }
             hooks[hookName].handlers.push(new Hook(scriptName, hookName, handler, $script.getRealFileName(), always));
+            registerHook(hookName);
         }
     }
 
+    /*
+     * @function registerHook - Subscribes to an event the first time it is hooked, events which are never hooked are not dispatched to the scripts
+     *
+     * @param {String} hookName
+     */
+    function registerHook(hookName) {
+        if (jsOnlyHooks.includes(hookName) || loadedHooks.includes(hookName)) {
+            return;
+        }
+
+        $api.on($script, hookName, function (event) {
+            let hookname = String($api.formatEventName(event.getClass().getSimpleName()) + '');
+            try {
+                callHook(hookname, event, false);
+            } catch (ex) {
+                handleException(hookname, ex);
+            }
+        });
+        loadedHooks.push(hookName);
+    }
+
     /*
      * @function hookName
      *
@@ -595,9 +618,8 @@
      */
     function events() {
         try {
-            // Load all API events.
+            // Load the core events. Other events are registered by registerHook() once a script hooks them.
 
-            let loadedHooks = [];
             /*
              * @event ircModeration
              */
@@ -871,22 +893,6 @@
                 }
             });
             loadedHooks.push('discordGuildCreate');
-
-            let hookNames = $api.getEventNames();
-            for (let i = 0; i < hookNames.size(); i++) {
-                let hookName = String(hookNames.get(i) + '');
-                if (!loadedHooks.includes(hookName)) {
-                    $api.on($script, hookName, function (event) {
-                        let hookname = String($api.formatEventName(event.getClass().getSimpleName()) + '');
-                        try {
-                            callHook(hookname, event, false);
-                        } catch (ex) {
-                            handleException(hookname, ex);
-                        }
-                    });
-                    loadedHooks.push(hookName);
-                }
-            }
         } catch (ex) {
             handleException('events', ex);
         }
@@ -137,6 +137,7 @@
     function runPointsPayout() {
         let now = $.systemTime(),
             normalPayoutUsers = [], // users that get the normal online payout, nothing custom.
+            customPayouts = new java.util.HashMap(), // users with a custom payout, written in one bulk increment.
             isOnline = false,
             username,
             amount;
@@ -160,10 +161,10 @@
         }
 
         let activeList = $.viewer.activeChatters();
-        let active = [];
+        let active = {};
 
         for (let i = 0; i < activeList.size(); i++) {
-            active.push($.jsString(activeList.get(i).login()));
+            active[$.jsString(activeList.get(i).login())] = true;
         }
 
         for (let i in $.users) {
@@ -183,7 +184,7 @@
                     }
                 }
 
-                if (active.includes(username)) {
+                if (active[username] === true) {
                     amount += activeBonus;
                 }
 
@@ -204,7 +205,7 @@
                     if (amount === onlineGain || amount === offlineGain) {
                         normalPayoutUsers.push(username);
                     } else {
-                        $.inidb.incr('points', username, amount);
+                        customPayouts.put(username, java.lang.Long.valueOf(Math.trunc(amount)));
                     }
                 }
             }
@@ -212,7 +213,14 @@
 
 
         // Update points for all users with the same amount of online/offline gain.
-        $.inidb.IncreaseBatchString('points', '', normalPayoutUsers, (isOnline ? onlineGain : offlineGain));
+        let stats = $.inidb.IncreaseBatchString('points', '', normalPayoutUsers, (isOnline ? onlineGain : offlineGain));
+        $.consoleDebug('Points payout (normal): ' + stats);
+
+        // Update points for all users with a custom amount.
+        if (!customPayouts.isEmpty()) {
+            stats = $.inidb.IncreaseBatchLong('points', '', customPayouts);
+            $.consoleDebug('Points payout (custom): ' + stats);
+        }
 
         lastPayout = now;
     }
@@ -295,10 +303,13 @@
         }
 
 
+        let users = [];
         for (let i in $.users) {
-            $.inidb.incr('points', $.users[i].toLowerCase(), amount);
+            users.push($.users[i].toLowerCase());
         }
 
+        $.inidb.IncreaseBatchLong('points', '', users, amount);
+
 
         $.say($.lang.get('pointsystem.add.all.success', getPointsString(amount)));
     }
@@ -716,7 +727,8 @@
         if (command.equalsIgnoreCase('makeitrain')) {
             let lastAmount = 0,
                     amount = 0,
-                    totalAmount = 0;
+                    totalAmount = 0,
+                    amounts = new java.util.HashMap();
 
             action = parseInt(action);
             if (isNaN(action)) {
@@ -734,9 +746,11 @@
                     amount = $.randRange(1, action);
                 } while (amount === lastAmount);
                 totalAmount += amount;
-                $.inidb.incr('points', $.users[i].toLowerCase(), amount);
+                amounts.put($.users[i].toLowerCase(), java.lang.Long.valueOf(amount));
             }
 
+            $.inidb.IncreaseBatchLong('points', '', amounts);
+
             if (totalAmount > 0) {
                 $.say($.lang.get('pointsystem.makeitrain.success', username, action, pointNameMultiple));
             }
@@ -41,6 +41,7 @@ $(function () {
     var webSocket = new ReconnectingWebSocket((window.location.protocol === 'https:' ? 'wss://' : 'ws://') + helpers.getBotHost() + '/ws/panel?target=' + helpers.getBotHost(), null, {reconnectInterval: 500}),
             callbacks = [],
             listeners = [],
+            chunks = [],
             socket = {};
 
     /*
@@ -631,6 +632,15 @@ $(function () {
                 delete callbacks[message.versionresult];
                 helpers.log('Callback complete', helpers.LOG_TYPE.DEBUG);
             } else {
+                // Large results are sent in several chunks, buffer them until the last one arrives.
+                if (message.more === true) {
+                    chunks[message.query_id] = (chunks[message.query_id] || []).concat(message.results);
+                    return;
+                } else if (chunks[message.query_id] !== undefined) {
+                    message.results = chunks[message.query_id].concat(message.results);
+                    delete chunks[message.query_id];
+                }
+
                 helpers.log('Looking for callbacks and listeners for ' + message.query_id + '...', helpers.LOG_TYPE.DEBUG);
                 // Handle callbacks.
                 let callback = callbacks[message.query_id],
@@ -16,7 +16,7 @@
  */
 package com.gmt2001;
 
-import com.gmt2001.httpclient.HttpClient;
+import com.gmt2001.httpclient.HttpCache;
 import com.gmt2001.httpclient.HttpClientResponse;
 import com.gmt2001.httpclient.URIUtil;
 import java.io.IOException;
@@ -110,7 +110,7 @@ public final class GamesListUpdater {
 
         PhantomBot.instance().getDataStore().SetLong("settings", "", "gamesList-lastCheck", LocalDateTime.now().toEpochSecond(ZoneOffset.UTC));
 
-        HttpClientResponse response = HttpClient.get(URIUtil.create(BASE_URL + "index.json"));
+        HttpClientResponse response = HttpCache.get(URIUtil.create(BASE_URL + "index.json"));
 
         if (!response.isSuccess() || !response.hasJson()) {
             if (force) {
@@ -225,7 +225,7 @@ public final class GamesListUpdater {
      */
     private static void UpdateFromIndex(List<String> data, int index, boolean force) {
         HttpClientResponse response;
-        response = HttpClient.get(URIUtil.create(BASE_URL + "data/games" + index + ".json"));
+        response = HttpCache.get(URIUtil.create(BASE_URL + "data/games" + index + ".json"));
 
         if (!response.isSuccess()) {
             if (force) {
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The moderation-relevant properties of a chat message
+ * <p>
+ * The character statistics are computed in a single pass when the analysis is created. The links are found with a single pass of the
+ * {@link PatternDetector#linksMatcher(String) links pattern} the first time any of the link accessors is called, and are cached afterwards
+ */
+public final class MessageAnalysis {
+
+    private static final Pattern FAKE_PURGE = Pattern.compile("^<message \\w+>|^<\\w+ deleted>", Pattern.CASE_INSENSITIVE);
+    private final String message;
+    private final int length;
+    private final int nonLetters;
+    private final int longestNonLetterSequence;
+    private final int longestRepeatedSequence;
+    private final int caps;
+    private final int emotes;
+    private final boolean colored;
+    private final boolean fakePurge;
+    private volatile Links links = null;
+
+    /**
+     * Analyzes a message
+     *
+     * @param message The message, in its original case
+     * @param tags The IRCv3 tags of the message, used to locate Twitch emotes; {@code null} if not available
+     */
+    public MessageAnalysis(String message, Map<String, String> tags) {
+        int[] emoteRanges = parseEmoteRanges(tags == null ? null : tags.get("emotes"));
+        int rnonLetters = 0;
+        int rlongestNonLetter = 0;
+        int rlongestRepeated = 0;
+        int rcaps = 0;
+        int runLength = 0;
+        char previous = 0;
+        int codePoint = 0;
+        int range = 0;
+
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            boolean alnum = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+
+            if (!alnum && c != ' ') {
+                rnonLetters++;
+            }
+
+            if (i > 0 && !isLineTerminator(c) && (c == previous || Character.toUpperCase(c) == Character.toUpperCase(previous))) {
+                runLength++;
+            } else {
+                runLength = isLineTerminator(c) ? 0 : 1;
+            }
+
+            if (runLength > 1) {
+                rlongestRepeated = Math.max(rlongestRepeated, runLength);
+
+                if (!alnum && c != ' ') {
+                    rlongestNonLetter = Math.max(rlongestNonLetter, runLength);
+                }
+            }
+
+            while (range < emoteRanges.length && emoteRanges[range + 1] < codePoint) {
+                range += 2;
+            }
+
+            if (c >= 'A' && c <= 'Z' && (range >= emoteRanges.length || codePoint < emoteRanges[range])) {
+                rcaps++;
+            }
+
+            if (!Character.isHighSurrogate(c)) {
+                codePoint++;
+            }
+
+            previous = c;
+        }
+
+        this.message = message;
+        this.length = message.length();
+        this.nonLetters = rnonLetters;
+        this.longestNonLetterSequence = rlongestNonLetter;
+        this.longestRepeatedSequence = rlongestRepeated;
+        this.caps = rcaps;
+        this.emotes = emoteRanges.length / 2;
+        this.colored = message.startsWith("/me");
+        this.fakePurge = FAKE_PURGE.matcher(this.colored ? message.substring(3) : message).find();
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == (char) 0x2028 || c == (char) 0x2029;
+    }
+
+    /**
+     * Parses the {@code emotes} tag into an array of inclusive {@code start, end} code point index pairs, sorted by start index
+     *
+     * @param rawEmotes The raw {@code emotes} tag
+     * @return The emote ranges
+     */
+    private static int[] parseEmoteRanges(String rawEmotes) {
+        if (rawEmotes == null || rawEmotes.isBlank()) {
+            return new int[0];
+        }
+
+        List<long[]> pairs = new ArrayList<>();
+
+        for (String emote : rawEmotes.split("/")) {
+            for (String position : emote.substring(emote.indexOf(':') + 1).split(",")) {
+                int dash = position.indexOf('-');
+
+                if (dash > 0) {
+                    try {
+                        pairs.add(new long[]{Integer.parseInt(position.substring(0, dash)), Integer.parseInt(position.substring(dash + 1))});
+                    } catch (NumberFormatException ex) {
+                    }
+                }
+            }
+        }
+
+        pairs.sort((a, b) -> Long.compare(a[0], b[0]));
+        int[] ranges = new int[pairs.size() * 2];
+
+        for (int i = 0; i < pairs.size(); i++) {
+            ranges[i * 2] = (int) pairs.get(i)[0];
+            ranges[i * 2 + 1] = (int) pairs.get(i)[1];
+        }
+
+        return ranges;
+    }
+
+    /**
+     * @return The length of the message
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * @return The number of characters which are not {@code a-z}, {@code A-Z}, {@code 0-9}, or a space
+     */
+    public int nonLetters() {
+        return this.nonLetters;
+    }
+
+    /**
+     * @return The length of the longest run of a single repeated character which is not {@code a-z}, {@code A-Z}, {@code 0-9}, or a space;
+     * {@code 0} if there is no run
+     */
+    public int longestNonLetterSequence() {
+        return this.longestNonLetterSequence;
+    }
+
+    /**
+     * @return The length of the longest run of a single repeated character, ignoring case; {@code 0} if there is no run
+     */
+    public int longestRepeatedSequence() {
+        return this.longestRepeatedSequence;
+    }
+
+    /**
+     * @return The number of {@code A-Z} characters outside of Twitch emotes
+     */
+    public int caps() {
+        return this.caps;
+    }
+
+    /**
+     * @return The ratio of {@link #caps()} to {@link #length()}, from {@code 0.0} to {@code 1.0}
+     */
+    public double capsRatio() {
+        return this.length == 0 ? 0.0 : this.caps / (double) this.length;
+    }
+
+    /**
+     * @return The number of Twitch emotes, according to the IRCv3 tags
+     */
+    public int emotes() {
+        return this.emotes;
+    }
+
+    /**
+     * @return {@code true} if the message is a {@code /me} message
+     */
+    public boolean colored() {
+        return this.colored;
+    }
+
+    /**
+     * @return {@code true} if the message, excluding a leading {@code /me}, imitates a deleted message
+     */
+    public boolean fakePurge() {
+        return this.fakePurge;
+    }
+
+    /**
+     * @return {@code true} if the message contains a link of any type
+     */
+    public boolean hasLinks() {
+        return !this.links().all.isEmpty();
+    }
+
+    /**
+     * @return The first link in the message; {@code null} if there are no links
+     */
+    public String firstLink() {
+        List<String> all = this.links().all;
+        return all.isEmpty() ? null : all.get(0);
+    }
+
+    /**
+     * @return All links in the message, in order
+     */
+    public List<String> allLinks() {
+        return this.links().all;
+    }
+
+    /**
+     * @return The links matching the {@code weburi} capture group of the links pattern
+     */
+    public List<String> webLinks() {
+        return this.links().web;
+    }
+
+    /**
+     * @return The links matching the {@code ip} capture group of the links pattern
+     */
+    public List<String> ipLinks() {
+        return this.links().ip;
+    }
+
+    /**
+     * @return The links matching the {@code protouri} capture group of the links pattern
+     */
+    public List<String> protoLinks() {
+        return this.links().proto;
+    }
+
+    private Links links() {
+        Links rlinks = this.links;
+
+        if (rlinks == null) {
+            rlinks = new Links(PatternDetector.reusableLinksMatcher(this.message));
+            this.links = rlinks;
+        }
+
+        return rlinks;
+    }
+
+    /**
+     * The links found in a message, by type
+     */
+    private static final class Links {
+
+        private final List<String> all;
+        private final List<String> web;
+        private final List<String> ip;
+        private final List<String> proto;
+
+        private Links(Matcher matcher) {
+            List<String> rall = new ArrayList<>();
+            List<String> rweb = new ArrayList<>();
+            List<String> rip = new ArrayList<>();
+            List<String> rproto = new ArrayList<>();
+
+            while (matcher.find()) {
+                String link = matcher.group();
+                rall.add(link);
+
+                if (matcher.group("weburi") != null) {
+                    rweb.add(link);
+                } else if (matcher.group("ip") != null) {
+                    rip.add(link);
+                } else if (matcher.group("protouri") != null) {
+                    rproto.add(link);
+                }
+            }
+
+            this.all = wrap(rall);
+            this.web = wrap(rweb);
+            this.ip = wrap(rip);
+            this.proto = wrap(rproto);
+        }
+
+        private static List<String> wrap(List<String> list) {
+            return list.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(list);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MessageAnalysis{length=" + this.length + ", nonLetters=" + this.nonLetters + ", longestNonLetterSequence=" + this.longestNonLetterSequence
+                + ", longestRepeatedSequence=" + this.longestRepeatedSequence + ", caps=" + this.caps + ", emotes=" + this.emotes
+                + ", colored=" + this.colored + ", fakePurge=" + this.fakePurge + ", links=" + (this.links == null ? "?" : Arrays.toString(this.links.all.toArray())) + "}";
+    }
+}
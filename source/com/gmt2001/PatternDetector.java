@@ -19,6 +19,7 @@ package com.gmt2001;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,6 +44,11 @@ public final class PatternDetector {
      */
     private final static Pattern LINKS_PATTERN = Pattern.compile("(?i)(?U)(?:\\b|^)?(?<weburi>(?:(?<webscheme>(?:|[st])ftp(?:|s)|http(?:|s)|rtsp(?:|s)|ws(?:|s)):\\/\\/)?(?<webauthority>(?<webdomain>[\\p{L}\\p{S}\\p{Mn}\\p{Nd}\\p{Nl}\\p{No}\\p{Pc}\\p{Pd}\\p{Po}]+)(?:\\s*\\.\\s*)" + TLD_PATTERN + "(?:\\:(?<webport>\\d{1,5}))?))|(?<ip>(?<ipv4>(?:25[0-5]|2[0-4][0-9]|[0-1][0-9]{2}|[1-9][0-9]|[0-9])\\.(?:25[0-5]|2[0-4][0-9]|[0-1][0-9]{2}|[1-9][0-9]|[0-9])\\.(?:25[0-5]|2[0-4][0-9]|[0-1][0-9]{2}|[1-9][0-9]|[0-9])\\.(?:25[0-5]|2[0-4][0-9]|[0-1][0-9]{2}|[1-9][0-9]|[0-9]))|(?<ipv6>(?:[0-9a-fA-F]{1,4}(?::|::)|::)+[0-9a-fA-F]{1,4}))|(?<protouri>(?<protoscheme>bitcoin(?:|cash)|c(?:allto|ontent)|ed2k|f(?:acetime|eed)|git|i(?:ntent|rc(?:|6|s))|jar|m(?:a(?:gnet|ilto|ps|rket)|ms)|payto|s(?:ip(?:|s)|kype|potify|team)|te(?:ams(?:|peak)|l)|webcal|xmpp):(?:\\/\\/)?(?<protourn>(?:[\\p{L}\\p{S}\\p{Mn}\\p{Nd}\\p{Nl}\\p{No}\\p{Pc}\\p{Pd}\\p{Po}])+))(?:\\b|$)");
 
+    /**
+     * A {@link Matcher} for {@link #LINKS_PATTERN} per thread, which is reset for each input instead of allocating a new one
+     */
+    private final static ThreadLocal<Matcher> LINKS_MATCHER = ThreadLocal.withInitial(() -> LINKS_PATTERN.matcher(""));
+
     /**
      * Static class. Constructor disabled
      */
@@ -118,7 +124,35 @@ public final class PatternDetector {
     }
 
     /**
-     * Indicates if the input string matches the links regex
+     * Provides the {@link Matcher} of the current thread for the links pattern, reset to the input string
+     * <p>
+     * The returned matcher is shared by every call on the same thread, so it must be fully consumed before calling any other method of this
+     * class and must not be retained
+     *
+     * @see #linksMatcher(String)
+     *
+     * @param str the string being tested
+     * @return the reset {@link Matcher}
+     */
+    static Matcher reusableLinksMatcher(String str) {
+        return LINKS_MATCHER.get().reset(str);
+    }
+
+    /**
+     * Analyzes a chat message in a single pass
+     *
+     * @see MessageAnalysis
+     *
+     * @param message the message, in its original case
+     * @param tags the IRCv3 tags of the message; {@code null} if not available
+     * @return the {@link MessageAnalysis} of the message
+     */
+    public static MessageAnalysis analyze(String message, Map<String, String> tags) {
+        return new MessageAnalysis(message, tags);
+    }
+
+    /**
+     * Indicates if the input string contains a match for the links regex
      *
      * @see #linksMatcher(String)
      *
@@ -126,7 +160,7 @@ public final class PatternDetector {
      * @return {@code true} if a link is detected
      */
     public static boolean hasAnyLinks(String str) {
-        return linksMatcher(str).matches();
+        return reusableLinksMatcher(str).find();
     }
 
     /**
@@ -138,7 +172,7 @@ public final class PatternDetector {
      * @return {@code true} if a link is detected in the {@code weburi} capture group
      */
     public static boolean hasWebLinks(String str) {
-        Matcher matcher = linksMatcher(str);
+        Matcher matcher = reusableLinksMatcher(str);
         boolean found = matcher.find();
 
         if (found) {
@@ -157,7 +191,7 @@ public final class PatternDetector {
      * @return {@code true} if a link is detected in the {@code ip} capture group
      */
     public static boolean hasIpLinks(String str) {
-        Matcher matcher = linksMatcher(str);
+        Matcher matcher = reusableLinksMatcher(str);
         boolean found = matcher.find();
 
         if (found) {
@@ -176,7 +210,7 @@ public final class PatternDetector {
      * @return {@code true} if a link is detected in the {@code protouri} capture group
      */
     public static boolean hasProtoLinks(String str) {
-        Matcher matcher = linksMatcher(str);
+        Matcher matcher = reusableLinksMatcher(str);
         boolean found = matcher.find();
 
         if (found) {
@@ -199,7 +233,7 @@ public final class PatternDetector {
      * @return {@code null} if no links were detected; otherwise, the first link returned by the {@link Matcher}
      */
     public static String getLink(String str) {
-        Matcher matcher = linksMatcher(str);
+        Matcher matcher = reusableLinksMatcher(str);
 
         if (matcher.find()) {
             return matcher.group();
@@ -219,7 +253,7 @@ public final class PatternDetector {
      * @return a {@link List} of links returned by the {@link Matcher}
      */
     public static List<String> getLinks(String str) {
-        Matcher matcher = linksMatcher(str);
+        Matcher matcher = reusableLinksMatcher(str);
         List<String> links = new ArrayList<>();
 
         while (matcher.find()) {
@@ -0,0 +1,747 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.datastore;
+
+import com.gmt2001.ExecutorService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind caching decorator for another {@link DataStore}
+ * <br /><br />
+ * Rows of the configured tables are kept in a size-bounded LRU cache, so repeated reads are served from memory.
+ * Writes to those tables are held in a pending map and periodically flushed to the underlying store in batched transactions
+ * <br /><br />
+ * Any operation which can not be answered from the cache, such as ordered key lists or raw SQL, first flushes
+ * the pending writes of the affected tables and is then passed to the underlying store
+ * <br /><br />
+ * Writes which bypass the cache, such as {@link #IncreaseBatchLong(String, String, Map)}, hold the write lock of the table while they flush,
+ * write to the underlying store, and invalidate the cached rows. Cached writes and loads from the underlying store hold the read lock, so they
+ * can not read a value from before the bypassing write and park it in the cache after it
+ */
+public final class CachedDataStore extends DataStore {
+
+    private static CachedDataStore instance;
+    private final DataStore store;
+    private final Set<String> cachedTables;
+    private final int maxRows;
+    /**
+     * Per-table caches, keyed by lower-cased table name like {@link #cachedTables}, so that differently cased names share one cache
+     */
+    private final ConcurrentMap<String, TableCache> tables = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+    private final ScheduledFuture<?> flushFuture;
+
+    /**
+     * Singleton method. The first call creates the instance wrapping {@code store}, subsequent calls return that instance
+     *
+     * @param store The underlying store
+     * @param cachedTables The names of the tables to cache, without the {@code phantombot_} prefix
+     * @param maxRows The maximum number of rows to keep in memory for each cached table
+     * @param flushInterval The number of seconds between flushes of pending writes
+     * @return
+     */
+    public static synchronized CachedDataStore instance(DataStore store, Collection<String> cachedTables, int maxRows, int flushInterval) {
+        if (instance == null) {
+            instance = new CachedDataStore(store, cachedTables, maxRows, flushInterval);
+        }
+
+        return instance;
+    }
+
+    private CachedDataStore(DataStore store, Collection<String> cachedTables, int maxRows, int flushInterval) {
+        super("");
+        this.store = store;
+        this.cachedTables = ConcurrentHashMap.newKeySet();
+        cachedTables.forEach(t -> this.cachedTables.add(t.toLowerCase()));
+        this.maxRows = Math.max(100, maxRows);
+        this.flushFuture = ExecutorService.scheduleAtFixedRate(this::flushScheduled, flushInterval, Math.max(1, flushInterval), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the store which is being cached
+     *
+     * @return
+     */
+    public DataStore getStore() {
+        return this.store;
+    }
+
+    /**
+     * Returns the cache for the given table, creating it if necessary
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @return The cache; {@code null} if the table is not cached
+     */
+    private TableCache table(String fName) {
+        if (fName == null || !this.cachedTables.contains(fName.toLowerCase())) {
+            return null;
+        }
+
+        return this.tables.computeIfAbsent(fName.toLowerCase(), k -> new TableCache(this.store.GetCategoryList(fName), this.maxRows));
+    }
+
+    /**
+     * Writes the pending rows of the given table to the underlying store
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param tc The cache for the table
+     */
+    private void flush(String fName, TableCache tc) {
+        if (tc.pending.isEmpty()) {
+            return;
+        }
+
+        synchronized (tc.flushLock) {
+            Map<RowKey, Optional<String>> snapshot = new HashMap<>(tc.pending);
+            Map<String, List<RowKey>> sets = new HashMap<>();
+
+            snapshot.forEach((rk, v) -> {
+                if (v.isPresent()) {
+                    sets.computeIfAbsent(rk.section, s -> new ArrayList<>()).add(rk);
+                } else {
+                    this.store.RemoveKey(fName, rk.section, rk.key);
+                }
+            });
+
+            sets.forEach((section, rks) -> {
+                String[] keys = new String[rks.size()];
+                String[] values = new String[rks.size()];
+
+                for (int i = 0; i < rks.size(); i++) {
+                    keys[i] = rks.get(i).key;
+                    values[i] = snapshot.get(rks.get(i)).get();
+                }
+
+                this.store.SetBatchString(fName, section, keys, values);
+            });
+
+            snapshot.forEach(tc.pending::remove);
+        }
+    }
+
+    /**
+     * Writes the pending rows of the given table to the underlying store
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     */
+    private void flush(String fName) {
+        TableCache tc = fName == null ? null : this.tables.get(fName.toLowerCase());
+
+        if (tc != null) {
+            this.flush(fName, tc);
+        }
+    }
+
+    /**
+     * Writes the pending rows of all tables to the underlying store
+     */
+    public void flush() {
+        this.tables.forEach(this::flush);
+    }
+
+    /**
+     * Flush task for the executor. Exceptions are logged and swallowed to prevent the schedule from being cancelled
+     */
+    private void flushScheduled() {
+        this.flushQueued.set(false);
+
+        try {
+            this.flush();
+        } catch (Exception ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+    }
+
+    /**
+     * Queues an early flush if the table has accumulated more pending rows than it is allowed to cache
+     *
+     * @param tc The cache for the table
+     */
+    private void checkPending(TableCache tc) {
+        if (tc.pending.size() >= this.maxRows && this.flushQueued.compareAndSet(false, true)) {
+            ExecutorService.execute(this::flushScheduled);
+        }
+    }
+
+    /**
+     * Runs a write which bypasses the cache. On a cached table, the pending writes are flushed first and the LRU cache is cleared afterwards,
+     * while holding the write lock of the table so that no cached write or load can interleave
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param tc The cache for the table; {@code null} if the table is not cached
+     * @param write The write to the underlying store
+     */
+    private void bypass(String fName, TableCache tc, Runnable write) {
+        if (tc == null) {
+            write.run();
+            return;
+        }
+
+        tc.lock.writeLock().lock();
+
+        try {
+            this.flush(fName, tc);
+            write.run();
+            tc.clear();
+        } finally {
+            tc.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops all rows of all tables from the LRU caches. Pending writes are not affected
+     */
+    private void invalidate() {
+        this.tables.forEach((k, tc) -> tc.clear());
+    }
+
+    @Override
+    public String[] GetFileList() {
+        return this.store.GetFileList();
+    }
+
+    @Override
+    public String[] GetCategoryList(String fName) {
+        this.flush(fName);
+        return this.store.GetCategoryList(fName);
+    }
+
+    @Override
+    public String[] GetKeyList(String fName, String section) {
+        this.flush(fName);
+        return this.store.GetKeyList(fName, section);
+    }
+
+    @Override
+    public KeyValue[] GetKeyValueList(String fName, String section) {
+        this.flush(fName);
+        return this.store.GetKeyValueList(fName, section);
+    }
+
+    @Override
+    public KeyValue[] GetKeyValuePage(String fName, String section, String afterKey, int limit) {
+        this.flush(fName);
+        return this.store.GetKeyValuePage(fName, section, afterKey, limit);
+    }
+
+    @Override
+    public NumberKeyValue[] GetKeyValuePageByNumberOrderValue(String fName, String section, String order, NumberKeyValue after, int limit) {
+        this.flush(fName);
+        return this.store.GetKeyValuePageByNumberOrderValue(fName, section, order, after, limit);
+    }
+
+    @Override
+    public String[] GetKeysByOrder(String fName, String section, String order, String limit, String offset) {
+        this.flush(fName);
+        return this.store.GetKeysByOrder(fName, section, order, limit, offset);
+    }
+
+    @Override
+    public String[] GetKeysByNumberOrder(String fName, String section, String order, String limit, String offset) {
+        this.flush(fName);
+        return this.store.GetKeysByNumberOrder(fName, section, order, limit, offset);
+    }
+
+    @Override
+    public String[] GetKeysByOrderValue(String fName, String section, String order, String limit, String offset) {
+        this.flush(fName);
+        return this.store.GetKeysByOrderValue(fName, section, order, limit, offset);
+    }
+
+    @Override
+    public String[] GetKeysByNumberOrderValue(String fName, String section, String order, String limit, String offset) {
+        this.flush(fName);
+        return this.store.GetKeysByNumberOrderValue(fName, section, order, limit, offset);
+    }
+
+    @Override
+    public String GetKeyByValue(String fName, String section, String value) {
+        this.flush(fName);
+        return this.store.GetKeyByValue(fName, section, value);
+    }
+
+    @Override
+    public String[] GetKeysByLikeValues(String fName, String section, String search) {
+        this.flush(fName);
+        return this.store.GetKeysByLikeValues(fName, section, search);
+    }
+
+    @Override
+    public String[] GetKeysByLikeKeys(String fName, String section, String search) {
+        this.flush(fName);
+        return this.store.GetKeysByLikeKeys(fName, section, search);
+    }
+
+    @Override
+    public String[] GetKeysByLikeKeysOrder(String fName, String section, String search, String order, String limit, String offset) {
+        this.flush(fName);
+        return this.store.GetKeysByLikeKeysOrder(fName, section, search, order, limit, offset);
+    }
+
+    @Override
+    public String GetString(String fName, String section, String key) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null) {
+            return this.store.GetString(fName, section, key);
+        }
+
+        if (section == null) {
+            if (!tc.defaultOnly) {
+                this.flush(fName, tc);
+                return this.store.GetString(fName, section, key);
+            }
+
+            section = "";
+        }
+
+        RowKey rk = new RowKey(section, key);
+        Optional<String> value = tc.pending.get(rk);
+
+        if (value == null) {
+            value = tc.get(rk);
+        }
+
+        if (value == null) {
+            tc.lock.readLock().lock();
+
+            try {
+                value = Optional.ofNullable(this.store.GetString(fName, section, key));
+                tc.putIfClean(rk, value);
+            } finally {
+                tc.lock.readLock().unlock();
+            }
+        }
+
+        return value.orElse(null);
+    }
+
+    @Override
+    public String[] GetBatchString(String fName, String section, String[] keys) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null) {
+            return this.store.GetBatchString(fName, section, keys);
+        }
+
+        if (section == null) {
+            if (!tc.defaultOnly) {
+                this.flush(fName, tc);
+                return this.store.GetBatchString(fName, section, keys);
+            }
+
+            section = "";
+        }
+
+        String[] out = new String[keys.length];
+        List<Integer> misses = new ArrayList<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            RowKey rk = new RowKey(section, keys[i]);
+            Optional<String> value = tc.pending.get(rk);
+
+            if (value == null) {
+                value = tc.get(rk);
+            }
+
+            if (value == null) {
+                misses.add(i);
+            } else {
+                out[i] = value.orElse(null);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            String[] missKeys = misses.stream().map(i -> keys[i]).toArray(String[]::new);
+            tc.lock.readLock().lock();
+
+            try {
+                String[] loaded = this.store.GetBatchString(fName, section, missKeys);
+
+                for (int i = 0; i < missKeys.length; i++) {
+                    out[misses.get(i)] = loaded[i];
+                    tc.putIfClean(new RowKey(section, missKeys[i]), Optional.ofNullable(loaded[i]));
+                }
+            } finally {
+                tc.lock.readLock().unlock();
+            }
+        }
+
+        return out;
+    }
+
+    @Override
+    public boolean HasKey(String fName, String section, String key) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null) {
+            return this.store.HasKey(fName, section, key);
+        }
+
+        /* The stores treat the empty section as a wildcard here */
+        return this.GetString(fName, section == null || section.isEmpty() ? null : section, key) != null;
+    }
+
+    @Override
+    public void SetString(String fName, String section, String key, String value) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null || section == null || value == null) {
+            this.bypass(fName, tc, () -> this.store.SetString(fName, section, key, value));
+            return;
+        }
+
+        tc.ensureFile(this.store, fName);
+
+        if (!section.isEmpty()) {
+            tc.defaultOnly = false;
+        }
+
+        RowKey rk = new RowKey(section, key);
+        tc.lock.readLock().lock();
+
+        try {
+            tc.pending.put(rk, Optional.of(value));
+            tc.put(rk, Optional.of(value));
+        } finally {
+            tc.lock.readLock().unlock();
+        }
+
+        this.checkPending(tc);
+    }
+
+    @Override
+    public void SetBatchString(String fName, String section, String[] keys, String[] values) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null || section == null) {
+            this.bypass(fName, tc, () -> this.store.SetBatchString(fName, section, keys, values));
+            return;
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            this.SetString(fName, section, keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public IncrementStats IncreaseBatchLong(String fName, String section, Map<String, Long> amounts) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null) {
+            return this.store.IncreaseBatchLong(fName, section, amounts);
+        }
+
+        tc.lock.writeLock().lock();
+
+        try {
+            this.flush(fName, tc);
+            IncrementStats stats = this.store.IncreaseBatchLong(fName, section, amounts);
+
+            if (section == null) {
+                tc.clear();
+            } else {
+                for (String key : amounts.keySet()) {
+                    tc.remove(new RowKey(section, key));
+                }
+            }
+
+            return stats;
+        } finally {
+            tc.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Increases the value of the {@code value} column as a long in the given table, section, and key
+     * <br /><br />
+     * On cached tables the increment is applied atomically to the in-memory value and is written to the underlying store by the next flush
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
+     * @param key The value of the {@code variable} column
+     * @param amount The amount to increase the value of the {@code value} column by
+     */
+    @Override
+    public void incr(String fName, String section, String key, long amount) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null || section == null) {
+            this.bypass(fName, tc, () -> this.store.incr(fName, section, key, amount));
+            return;
+        }
+
+        tc.ensureFile(this.store, fName);
+
+        if (!section.isEmpty()) {
+            tc.defaultOnly = false;
+        }
+
+        RowKey rk = new RowKey(section, key);
+        tc.lock.readLock().lock();
+
+        try {
+            /* Loads the current value into the LRU, if it is not already cached */
+            String loaded = this.GetString(fName, section, key);
+
+            tc.pending.compute(rk, (k, v) -> {
+                if (v == null) {
+                    v = tc.get(rk);
+                }
+
+                long ival;
+
+                try {
+                    ival = Long.parseLong(v != null ? v.orElse(null) : loaded);
+                } catch (NumberFormatException ex) {
+                    ival = 0L;
+                }
+
+                Optional<String> value = Optional.of(Long.toString(ival + amount));
+                tc.put(rk, value);
+                return value;
+            });
+        } finally {
+            tc.lock.readLock().unlock();
+        }
+
+        this.checkPending(tc);
+    }
+
+    @Override
+    public void RemoveKey(String fName, String section, String key) {
+        TableCache tc = this.table(fName);
+
+        if (tc == null || section == null) {
+            this.store.RemoveKey(fName, section, key);
+            return;
+        }
+
+        RowKey rk = new RowKey(section, key);
+        tc.lock.readLock().lock();
+
+        try {
+            tc.pending.put(rk, Optional.empty());
+            tc.put(rk, Optional.empty());
+        } finally {
+            tc.lock.readLock().unlock();
+        }
+
+        this.checkPending(tc);
+    }
+
+    @Override
+    public void RemoveSection(String fName, String section) {
+        this.bypass(fName, this.tables.get(fName.toLowerCase()), () -> this.store.RemoveSection(fName, section));
+    }
+
+    @Override
+    public void AddFile(String fName) {
+        this.store.AddFile(fName);
+    }
+
+    @Override
+    public void RemoveFile(String fName) {
+        TableCache tc = this.tables.remove(fName.toLowerCase());
+
+        if (tc != null) {
+            synchronized (tc.flushLock) {
+                tc.pending.clear();
+            }
+        }
+
+        this.store.RemoveFile(fName);
+    }
+
+    @Override
+    public void RenameFile(String fNameSource, String fNameDest) {
+        this.flush(fNameSource);
+        this.tables.remove(fNameSource.toLowerCase());
+        this.tables.remove(fNameDest.toLowerCase());
+        this.store.RenameFile(fNameSource, fNameDest);
+    }
+
+    @Override
+    public boolean FileExists(String fName) {
+        return this.store.FileExists(fName);
+    }
+
+    @Override
+    public List<List<String>> query(String sql, String[] replacements) {
+        this.flush();
+        List<List<String>> results = this.store.query(sql, replacements);
+        this.invalidate();
+        return results;
+    }
+
+    @Override
+    public void CreateIndexes() {
+        this.flush();
+        this.store.CreateIndexes();
+    }
+
+    @Override
+    public void DropIndexes() {
+        this.flush();
+        this.store.DropIndexes();
+    }
+
+    @Override
+    public boolean CanConnect(String db, String user, String pass) {
+        return this.store.CanConnect(db, user, pass);
+    }
+
+    @Override
+    public boolean canBackup() {
+        return this.store.canBackup();
+    }
+
+    @Override
+    public void backupDB(String filename) {
+        this.flush();
+        this.store.backupDB(filename);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+
+        if (this.flushFuture != null) {
+            this.flushFuture.cancel(false);
+        }
+
+        this.flush();
+        this.store.dispose();
+    }
+
+    /**
+     * Identifies a row within a table
+     */
+    private static final class RowKey {
+
+        private final String section;
+        private final String key;
+
+        RowKey(String section, String key) {
+            this.section = section;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof RowKey)) {
+                return false;
+            }
+
+            RowKey other = (RowKey) o;
+            return Objects.equals(this.section, other.section) && Objects.equals(this.key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.section, this.key);
+        }
+    }
+
+    /**
+     * The cached rows of a single table
+     * <br /><br />
+     * Values are wrapped in an {@link Optional}, where an empty Optional indicates that the row is known to not exist
+     */
+    private static final class TableCache {
+
+        private final Map<RowKey, Optional<String>> lru;
+        private final ConcurrentMap<RowKey, Optional<String>> pending = new ConcurrentHashMap<>();
+        private final Object flushLock = new Object();
+        /**
+         * Write lock held by writes which bypass the cache, read lock held by cached writes and loads from the underlying store
+         */
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean defaultOnly = true;
+        private volatile boolean fileExists = false;
+
+        TableCache(String[] sections, int maxRows) {
+            for (String section : sections) {
+                if (section == null || !section.isEmpty()) {
+                    this.defaultOnly = false;
+                }
+            }
+
+            this.lru = new LinkedHashMap<>(Math.min(maxRows, 1024), 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RowKey, Optional<String>> eldest) {
+                    return this.size() > maxRows;
+                }
+            };
+        }
+
+        /**
+         * Ensures the table exists in the underlying store before the first pending write is accepted
+         */
+        void ensureFile(DataStore store, String fName) {
+            if (!this.fileExists) {
+                store.AddFile(fName);
+                this.fileExists = true;
+            }
+        }
+
+        synchronized Optional<String> get(RowKey rk) {
+            return this.lru.get(rk);
+        }
+
+        synchronized void put(RowKey rk, Optional<String> value) {
+            this.lru.put(rk, value);
+        }
+
+        /**
+         * Caches a value read from the underlying store, unless a write for the same row raced with the read
+         */
+        synchronized void putIfClean(RowKey rk, Optional<String> value) {
+            if (!this.pending.containsKey(rk)) {
+                this.lru.putIfAbsent(rk, value);
+            }
+        }
+
+        synchronized void remove(RowKey rk) {
+            this.lru.remove(rk);
+        }
+
+        synchronized void clear() {
+            this.lru.clear();
+        }
+    }
+}
@@ -0,0 +1,628 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.datastore;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.PooledConnection;
+import tv.phantombot.CaselessProperties;
+
+/**
+ * JDBC connection pool shared by the SQL datastores
+ * <br /><br />
+ * Idle connections are kept in a lock-free LIFO deque so that the most recently used, warm, connection is handed out first. The number of borrowed
+ * connections is bounded by a {@link Semaphore}, which is only contended when the pool is exhausted. The pool grows on demand up to the maximum
+ * size, and a maintenance task shrinks it back to the minimum size after connections have been idle for a while
+ * <br /><br />
+ * Connections which have been idle for longer than {@link #VALIDATION_INTERVAL} are validated with {@link Connection#isValid(int)}, both by the
+ * maintenance task and before they are handed out. Connections which are held for longer than the leak detection threshold are reported once,
+ * along with the current stack trace of the thread which borrowed them
+ * <br /><br />
+ * The time callers spend waiting for a free connection is recorded in a histogram, see {@link #waitHistogram()} and {@link #toString()}
+ */
+public final class ConnectionPool {
+
+    /**
+     * Connections idle for longer than this are validated before being handed out
+     */
+    public static final Duration VALIDATION_INTERVAL = Duration.ofSeconds(30);
+    /**
+     * Number of buckets in the wait time histogram. Bucket 0 counts waits below 1ms, bucket {@code i} counts waits below {@code 2^i} ms, and the
+     * last bucket counts everything longer
+     */
+    public static final int HISTOGRAM_BUCKETS = 16;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long MAINTENANCE_INTERVAL_SECONDS = 30;
+    private static final int STATE_IDLE = 0;
+    private static final int STATE_BORROWED = 1;
+    private static final int STATE_VALIDATING = 2;
+    private static final int STATE_CLOSED = 3;
+    private final String name;
+    private final ConnectionPoolDataSource dataSource;
+    private final int minConnections;
+    private final int maxConnections;
+    private final long timeoutNanos;
+    private final long idleTimeoutNanos;
+    private final long leakThresholdNanos;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PoolEntry> idle = new ConcurrentLinkedDeque<>();
+    private final Set<PoolEntry> entries = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<Connection>> discardListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger open = new AtomicInteger(0);
+    private final AtomicLongArray waitHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    private final AtomicLong maxWaitNanos = new AtomicLong(0);
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final ScheduledFuture<?> maintenance;
+    private long lastReportedWaits = 0;
+    private volatile boolean disposed = false;
+
+    /**
+     * Creates a pool sized from the bot properties
+     *
+     * @param name The name of the pool, used in log messages
+     * @param dataSource The data source which creates the physical connections
+     * @return
+     */
+    public static ConnectionPool create(String name, ConnectionPoolDataSource dataSource) {
+        /**
+         * @botproperty datastorepoolmin - The number of database connections to keep open while idle. Default `1`
+         * @botpropertycatsort datastorepoolmin 400 30 Datastore
+         * @botpropertyrestart datastorepoolmin
+         */
+        /**
+         * @botproperty datastorepoolmax - The maximum number of database connections. Default `30`
+         * @botpropertycatsort datastorepoolmax 410 30 Datastore
+         * @botpropertyrestart datastorepoolmax
+         */
+        /**
+         * @botproperty datastorepooltimeout - The maximum time, in seconds, to wait for a free database connection. Default `60`
+         * @botpropertycatsort datastorepooltimeout 420 30 Datastore
+         * @botpropertyrestart datastorepooltimeout
+         */
+        /**
+         * @botproperty datastorepoolidletimeout - The time, in seconds, after which idle database connections above `datastorepoolmin` are closed. Default `600`
+         * @botpropertycatsort datastorepoolidletimeout 430 30 Datastore
+         * @botpropertyrestart datastorepoolidletimeout
+         */
+        /**
+         * @botproperty datastorepoolleakthreshold - The time, in seconds, after which a borrowed database connection is reported as leaked. `0` to disable. Default `300`
+         * @botpropertycatsort datastorepoolleakthreshold 440 30 Datastore
+         * @botpropertyrestart datastorepoolleakthreshold
+         */
+        return new ConnectionPool(name, dataSource,
+                CaselessProperties.instance().getPropertyAsInt("datastorepoolmin", 1),
+                CaselessProperties.instance().getPropertyAsInt("datastorepoolmax", 30),
+                Duration.ofSeconds(CaselessProperties.instance().getPropertyAsInt("datastorepooltimeout", 60)),
+                Duration.ofSeconds(CaselessProperties.instance().getPropertyAsInt("datastorepoolidletimeout", 600)),
+                Duration.ofSeconds(CaselessProperties.instance().getPropertyAsInt("datastorepoolleakthreshold", 300)));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param name The name of the pool, used in log messages
+     * @param dataSource The data source which creates the physical connections
+     * @param minConnections The number of connections to keep open while idle
+     * @param maxConnections The maximum number of connections
+     * @param timeout The maximum time to wait for a free connection
+     * @param idleTimeout The time after which idle connections above {@code minConnections} are closed
+     * @param leakThreshold The time after which a borrowed connection is reported as leaked. {@link Duration#ZERO} to disable
+     */
+    public ConnectionPool(String name, ConnectionPoolDataSource dataSource, int minConnections, int maxConnections, Duration timeout,
+            Duration idleTimeout, Duration leakThreshold) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Invalid maxConnections value.");
+        }
+
+        this.name = name;
+        this.dataSource = dataSource;
+        this.maxConnections = maxConnections;
+        this.minConnections = Math.max(0, Math.min(minConnections, maxConnections));
+        this.timeoutNanos = timeout.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.leakThresholdNanos = leakThreshold.toNanos();
+        this.permits = new Semaphore(maxConnections);
+        this.maintenance = com.gmt2001.ExecutorService.scheduleWithFixedDelay(this::maintain, MAINTENANCE_INTERVAL_SECONDS,
+                MAINTENANCE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Retrieves a connection from the pool, waiting up to the configured timeout if all connections are in use
+     * <br /><br />
+     * The connection must be closed to return it to the pool
+     *
+     * @return A connection
+     * @throws SQLTimeoutException if no connection became available before the timeout
+     * @throws SQLException if the pool has been disposed, or opening a new connection fails
+     */
+    public Connection getConnection() throws SQLException {
+        if (this.disposed) {
+            throw new SQLException("Connection pool " + this.name + " has been disposed.");
+        }
+
+        long start = System.nanoTime();
+
+        if (!this.permits.tryAcquire()) {
+            this.waits.increment();
+
+            try {
+                if (!this.permits.tryAcquire(this.timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    this.recordWait(System.nanoTime() - start);
+                    this.timeouts.increment();
+                    throw new SQLTimeoutException("Timeout while waiting for a free database connection. " + this.toString());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a database connection.", ex);
+            }
+        }
+
+        this.recordWait(System.nanoTime() - start);
+        this.borrows.increment();
+
+        try {
+            return this.borrow();
+        } catch (SQLException | RuntimeException ex) {
+            this.permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Registers a listener which is called with the physical connection, as returned by {@link #physical(Connection)}, right before it is closed
+     * and removed from the pool
+     * <br /><br />
+     * Allows caches of per-connection resources, such as prepared statements, to release them along with the connection
+     *
+     * @param listener The listener
+     */
+    public void addDiscardListener(Consumer<Connection> listener) {
+        this.discardListeners.add(listener);
+    }
+
+    /**
+     * Unwraps a pooled logical connection to the physical connection backing it, which stays the same across all logical handles leased from
+     * one pooled connection
+     *
+     * @param connection The connection
+     * @return The physical connection, or {@code connection} if it can not be unwrapped
+     */
+    public static Connection physical(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                Connection physical = connection.unwrap(Connection.class);
+
+                if (physical != null) {
+                    return physical;
+                }
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.debug.printStackTrace(ex);
+        }
+
+        return connection;
+    }
+
+    /**
+     * Hands out an idle connection, validating it if it has been idle for a while, or opens a new one. The caller must hold a permit
+     *
+     * @return
+     * @throws SQLException
+     */
+    private Connection borrow() throws SQLException {
+        PoolEntry entry;
+
+        while ((entry = this.idle.pollFirst()) != null) {
+            if (!entry.state.compareAndSet(STATE_IDLE, STATE_BORROWED)) {
+                continue;
+            }
+
+            boolean validate = System.nanoTime() - Math.max(entry.lastUsed, entry.lastValidated) > VALIDATION_INTERVAL.toNanos();
+            Connection connection = null;
+
+            try {
+                connection = entry.lease();
+
+                if (!validate || connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    return connection;
+                }
+            } catch (SQLException ex) {
+                com.gmt2001.Console.debug.printStackTrace(ex);
+            }
+
+            this.validationFailures.increment();
+            entry.discard();
+        }
+
+        entry = this.open();
+        entry.state.set(STATE_BORROWED);
+
+        try {
+            return entry.lease();
+        } catch (SQLException | RuntimeException ex) {
+            entry.discard();
+            throw ex;
+        }
+    }
+
+    /**
+     * Opens a new physical connection
+     *
+     * @return
+     * @throws SQLException
+     */
+    private PoolEntry open() throws SQLException {
+        PooledConnection pooledConnection = this.dataSource.getPooledConnection();
+        PoolEntry entry = new PoolEntry(pooledConnection);
+        pooledConnection.addConnectionEventListener(entry);
+        this.entries.add(entry);
+        this.open.incrementAndGet();
+        this.created.increment();
+        return entry;
+    }
+
+    /**
+     * Returns a connection to the idle deque after its logical handle was closed
+     *
+     * @param entry The entry
+     */
+    private void recycle(PoolEntry entry) {
+        if (entry.state.compareAndSet(STATE_BORROWED, STATE_IDLE)) {
+            entry.lastUsed = System.nanoTime();
+            entry.borrower = null;
+
+            if (this.disposed || this.open.get() > this.maxConnections) {
+                entry.discard();
+            } else {
+                this.idle.offerFirst(entry);
+            }
+
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Records the time a caller waited for a permit
+     *
+     * @param nanos The wait time, in nanoseconds
+     */
+    private void recordWait(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        this.waitHistogram.incrementAndGet(Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis)));
+        this.waitNanos.add(nanos);
+        this.maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Periodic maintenance: reports leaks, closes connections which were idle for too long, validates the remaining idle connections, and opens
+     * connections up to the minimum size
+     */
+    private void maintain() {
+        if (this.disposed) {
+            return;
+        }
+
+        try {
+            long now = System.nanoTime();
+
+            if (this.leakThresholdNanos > 0) {
+                for (PoolEntry entry : this.entries) {
+                    if (entry.state.get() == STATE_BORROWED && !entry.leakReported && now - entry.borrowedAt > this.leakThresholdNanos) {
+                        entry.leakReported = true;
+                        this.leaks.increment();
+                        Thread borrower = entry.borrower;
+                        com.gmt2001.Console.warn.println("Database connection from pool " + this.name + " has been held by thread "
+                                + (borrower == null ? "?" : borrower.getName()) + " for " + TimeUnit.NANOSECONDS.toSeconds(now - entry.borrowedAt)
+                                + " seconds, it may have been leaked");
+
+                        if (borrower != null && borrower.isAlive()) {
+                            Exception trace = new Exception("Current stack of thread " + borrower.getName());
+                            trace.setStackTrace(borrower.getStackTrace());
+                            com.gmt2001.Console.debug.printStackTrace(trace);
+                        }
+                    }
+                }
+            }
+
+            PoolEntry entry;
+            while (this.open.get() > this.minConnections && (entry = this.idle.peekLast()) != null
+                    && now - entry.lastUsed > this.idleTimeoutNanos) {
+                if (this.idle.removeLastOccurrence(entry) && entry.state.compareAndSet(STATE_IDLE, STATE_VALIDATING)) {
+                    entry.discard();
+                }
+            }
+
+            for (PoolEntry idleEntry : this.idle) {
+                if (now - Math.max(idleEntry.lastUsed, idleEntry.lastValidated) > VALIDATION_INTERVAL.toNanos()
+                        && this.idle.removeFirstOccurrence(idleEntry)) {
+                    if (idleEntry.state.compareAndSet(STATE_IDLE, STATE_VALIDATING)) {
+                        if (idleEntry.validate()) {
+                            idleEntry.lastValidated = System.nanoTime();
+                            idleEntry.state.set(STATE_IDLE);
+                            this.idle.offerLast(idleEntry);
+                        } else {
+                            this.validationFailures.increment();
+                            idleEntry.discard();
+                        }
+                    }
+                }
+            }
+
+            while (!this.disposed && this.open.get() < this.minConnections) {
+                PoolEntry newEntry = this.open();
+                newEntry.lastUsed = System.nanoTime();
+                this.idle.offerLast(newEntry);
+            }
+
+            long totalWaits = this.waits.sum();
+            if (totalWaits != this.lastReportedWaits) {
+                this.lastReportedWaits = totalWaits;
+                com.gmt2001.Console.debug.println(this.toString());
+            }
+        } catch (SQLException | RuntimeException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+    }
+
+    /**
+     * Closes all idle connections. Borrowed connections are closed when they are returned
+     */
+    public void dispose() {
+        this.disposed = true;
+
+        if (this.maintenance != null) {
+            this.maintenance.cancel(false);
+        }
+
+        PoolEntry entry;
+        while ((entry = this.idle.pollFirst()) != null) {
+            if (entry.state.compareAndSet(STATE_IDLE, STATE_VALIDATING)) {
+                entry.discard();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of connections which are currently borrowed
+     *
+     * @return
+     */
+    public int getActiveConnections() {
+        return this.maxConnections - this.permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of idle connections
+     *
+     * @return
+     */
+    public int getInactiveConnections() {
+        return this.idle.size();
+    }
+
+    /**
+     * Returns the number of open physical connections
+     *
+     * @return
+     */
+    public int getOpenConnections() {
+        return this.open.get();
+    }
+
+    /**
+     * Returns the number of threads currently waiting for a connection
+     *
+     * @return
+     */
+    public int getQueueLength() {
+        return this.permits.getQueueLength();
+    }
+
+    /**
+     * Returns a copy of the wait time histogram. See {@link #HISTOGRAM_BUCKETS} for the bucket boundaries
+     *
+     * @return
+     */
+    public long[] waitHistogram() {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = this.waitHistogram.get(i);
+        }
+
+        return histogram;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the wait time
+     *
+     * @param percentile The percentile, between {@code 0.0} and {@code 1.0}
+     * @return The upper boundary of the histogram bucket containing the percentile, in milliseconds; {@link Long#MAX_VALUE} if it is in the last
+     * bucket
+     */
+    public long waitPercentile(double percentile) {
+        long[] histogram = this.waitHistogram();
+        long total = 0;
+
+        for (long count : histogram) {
+            total += count;
+        }
+
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+
+        for (int i = 0; i < HISTOGRAM_BUCKETS - 1; i++) {
+            seen += histogram[i];
+
+            if (seen >= target) {
+                return 1L << i;
+            }
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        long p99 = this.waitPercentile(0.99);
+        return "ConnectionPool " + this.name + ": active=" + this.getActiveConnections() + " idle=" + this.getInactiveConnections()
+                + " open=" + this.getOpenConnections() + "/" + this.maxConnections + " queued=" + this.getQueueLength()
+                + " borrows=" + this.borrows.sum() + " waits=" + this.waits.sum() + " timeouts=" + this.timeouts.sum()
+                + " waitTotal=" + TimeUnit.NANOSECONDS.toMillis(this.waitNanos.sum()) + "ms"
+                + " waitMax=" + TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos.get()) + "ms"
+                + " waitP99" + (p99 == Long.MAX_VALUE ? ">=" + (1L << (HISTOGRAM_BUCKETS - 2)) : "<" + p99) + "ms"
+                + " created=" + this.created.sum() + " validationFailures=" + this.validationFailures.sum() + " leaks=" + this.leaks.sum();
+    }
+
+    /**
+     * A physical connection and its pool state
+     */
+    private final class PoolEntry implements ConnectionEventListener {
+
+        private final PooledConnection pooledConnection;
+        private final AtomicInteger state = new AtomicInteger(STATE_IDLE);
+        private volatile long lastUsed = System.nanoTime();
+        private volatile long lastValidated = this.lastUsed;
+        private volatile long borrowedAt;
+        private volatile boolean leakReported;
+        private volatile Thread borrower;
+        private volatile boolean leasing;
+        private volatile Connection physical;
+
+        private PoolEntry(PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+        }
+
+        /**
+         * Opens a logical handle for a caller. The entry must be in the borrowed state
+         *
+         * @return
+         * @throws SQLException
+         */
+        private Connection lease() throws SQLException {
+            this.borrowedAt = System.nanoTime();
+            this.leakReported = false;
+            this.borrower = Thread.currentThread();
+            this.leasing = true;
+
+            try {
+                Connection connection = this.pooledConnection.getConnection();
+
+                if (this.physical == null) {
+                    this.physical = ConnectionPool.physical(connection);
+                }
+
+                return connection;
+            } finally {
+                this.leasing = false;
+            }
+        }
+
+        /**
+         * Validates an idle connection. The entry must be in the validating state
+         *
+         * @return {@code true} if the connection is valid
+         */
+        private boolean validate() {
+            try ( Connection connection = this.pooledConnection.getConnection()) {
+                return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException ex) {
+                com.gmt2001.Console.debug.printStackTrace(ex);
+                return false;
+            }
+        }
+
+        /**
+         * Closes the physical connection and removes it from the pool
+         *
+         * @return The state of the entry before it was closed
+         */
+        private int discard() {
+            int previous = this.state.getAndSet(STATE_CLOSED);
+
+            if (previous != STATE_CLOSED && ConnectionPool.this.entries.remove(this)) {
+                ConnectionPool.this.open.decrementAndGet();
+                this.pooledConnection.removeConnectionEventListener(this);
+
+                if (this.physical != null) {
+                    for (Consumer<Connection> listener : ConnectionPool.this.discardListeners) {
+                        try {
+                            listener.accept(this.physical);
+                        } catch (RuntimeException ex) {
+                            com.gmt2001.Console.debug.printStackTrace(ex);
+                        }
+                    }
+
+                    this.physical = null;
+                }
+
+                try {
+                    this.pooledConnection.close();
+                } catch (SQLException ex) {
+                    com.gmt2001.Console.debug.printStackTrace(ex);
+                }
+            }
+
+            return previous;
+        }
+
+        @Override
+        public void connectionClosed(ConnectionEvent event) {
+            /* Some drivers close the previous logical handle from within PooledConnection.getConnection(), which must not return the entry */
+            if (!this.leasing) {
+                ConnectionPool.this.recycle(this);
+            }
+        }
+
+        @Override
+        public void connectionErrorOccurred(ConnectionEvent event) {
+            /* While leasing, the failure surfaces from getConnection() and the borrowing thread releases its own permit */
+            boolean leasing = this.leasing;
+            int previous = this.discard();
+
+            if (previous == STATE_BORROWED && !leasing) {
+                ConnectionPool.this.permits.release();
+            } else if (previous == STATE_IDLE) {
+                ConnectionPool.this.idle.remove(this);
+            }
+        }
+    }
+}
@@ -16,9 +16,17 @@
  */
 package com.gmt2001.datastore;
 
+import java.math.BigInteger;
 import java.sql.PreparedStatement;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Database Access Base Class
@@ -27,6 +35,12 @@ import java.util.List;
  */
 public abstract class DataStore {
 
+    /**
+     * The default number of rows read per query by {@link #StreamKeyValues(String, String)}
+     */
+    public static final int STREAM_PAGE_SIZE = 1000;
+    private static final Pattern LEADING_INTEGER = Pattern.compile("^\\s*([+-]?\\d+)");
+
     public static DataStore instance() {
         return null;
     }
@@ -69,6 +83,132 @@ public abstract class DataStore {
      */
     public abstract KeyValue[] GetKeyValueList(String fName, String section);
 
+    /**
+     * Returns one page of {@code variable/value} pairs within the table and section, sorted by the {@code variable} column
+     * <br /><br />
+     * This is keyset pagination: pass the key of the last pair of the previous page as {@code afterKey} to read the next page,
+     * which stays fast at any depth and does not skip or repeat rows when rows before the current position change
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
+     * @param afterKey The last key of the previous page; {@code null} for the first page
+     * @param limit The maximum number of pairs to return
+     * @return
+     */
+    public KeyValue[] GetKeyValuePage(String fName, String section, String afterKey, int limit) {
+        return Arrays.stream(this.GetKeyValueList(fName, section))
+                .filter(kv -> afterKey == null || kv.getKey().compareTo(afterKey) > 0)
+                .sorted(Comparator.comparing(KeyValue::getKey))
+                .limit(limit).toArray(KeyValue[]::new);
+    }
+
+    /**
+     * Streams all {@code variable/value} pairs within the table and section, sorted by the {@code variable} column
+     * <br /><br />
+     * The pairs are read lazily, {@link #STREAM_PAGE_SIZE} at a time, using {@link #GetKeyValuePage(String, String, String, int)}.
+     * No connection is held between pages, so the stream does not need to be closed and can be abandoned at any point
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections, which is not paged
+     * @return
+     */
+    public Stream<KeyValue> StreamKeyValues(String fName, String section) {
+        return this.StreamKeyValues(fName, section, STREAM_PAGE_SIZE);
+    }
+
+    /**
+     * Streams all {@code variable/value} pairs within the table and section, sorted by the {@code variable} column
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections, which is not paged
+     * @param pageSize The number of pairs to read per query
+     * @return
+     * @see #StreamKeyValues(String, String)
+     */
+    public Stream<KeyValue> StreamKeyValues(String fName, String section, int pageSize) {
+        int size = Math.max(1, pageSize);
+
+        if (section == null) {
+            return Arrays.stream(this.GetKeyValueList(fName, section));
+        }
+
+        return Stream.iterate(this.GetKeyValuePage(fName, section, null, size), page -> page.length > 0,
+                page -> page.length < size ? new KeyValue[0] : this.GetKeyValuePage(fName, section, page[page.length - 1].getKey(), size))
+                .flatMap(Arrays::stream);
+    }
+
+    /**
+     * Returns a page of {@code variable/value} pairs within the table and section, sorted by the {@code value} column as integers, then by the
+     * {@code variable} column
+     * <br /><br />
+     * Pages are read with a keyset cursor on the integer value and the {@code variable} column, rather than an offset, so reading a page costs
+     * the same at any depth, and rows are not skipped or repeated when other rows are written between pages
+     * <br /><br />
+     * The default implementation reads the whole table with {@link #GetKeyValueList(String, String)}; stores override it with a single query
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
+     * @param order The sort order. Valid values: {@code ASC}, {@code DESC}
+     * @param after The last pair of the previous page; {@code null} to start at the first pair
+     * @param limit The maximum number of pairs to return
+     * @return
+     */
+    public NumberKeyValue[] GetKeyValuePageByNumberOrderValue(String fName, String section, String order, NumberKeyValue after, int limit) {
+        Comparator<NumberKeyValue> comparator = Comparator.comparing((NumberKeyValue kv) -> new BigInteger(kv.getNumber()))
+                .thenComparing(NumberKeyValue::getKey);
+
+        if (order == null || !order.trim().equalsIgnoreCase("ASC")) {
+            comparator = comparator.reversed();
+        }
+
+        final Comparator<NumberKeyValue> fcomparator = comparator;
+
+        return Arrays.stream(this.GetKeyValueList(fName, section))
+                .map(kv -> new NumberKeyValue(kv.getKey(), kv.getValue(), toNumber(kv.getValue())))
+                .filter(kv -> after == null || fcomparator.compare(kv, after) > 0)
+                .sorted(fcomparator)
+                .limit(limit).toArray(NumberKeyValue[]::new);
+    }
+
+    /**
+     * Converts a value to an integer in the same way as {@code CAST(value AS INTEGER)}: the leading integer, ignoring leading whitespace, or
+     * {@code 0}
+     *
+     * @param value The value
+     * @return The integer, as a string
+     */
+    private static String toNumber(String value) {
+        if (value == null) {
+            return "0";
+        }
+
+        Matcher matcher = LEADING_INTEGER.matcher(value);
+        return matcher.find() ? new BigInteger(matcher.group(1)).toString() : "0";
+    }
+
+    /**
+     * Streams all {@code variable/value} pairs within the table and section, sorted by the {@code value} column as integers, then by the
+     * {@code variable} column
+     * <br /><br />
+     * Pages of {@code pageSize} pairs are read lazily with {@link #GetKeyValuePageByNumberOrderValue(String, String, String, NumberKeyValue, int)},
+     * using the last pair of each page as the cursor for the next. No connection is held between pages, so the stream does not need to be closed.
+     * Consumers which only need the first few rows, such as top lists, should pass a small {@code pageSize} and stop reading once they are done
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
+     * @param order The sort order. Valid values: {@code ASC}, {@code DESC}
+     * @param pageSize The number of pairs to read per query
+     * @return
+     */
+    public Stream<KeyValue> StreamKeyValuesByNumberOrderValue(String fName, String section, String order, int pageSize) {
+        int size = Math.max(1, pageSize);
+
+        return Stream.iterate(this.GetKeyValuePageByNumberOrderValue(fName, section, order, null, size), page -> page.length > 0,
+                page -> page.length < size ? new NumberKeyValue[0]
+                        : this.GetKeyValuePageByNumberOrderValue(fName, section, order, page[page.length - 1], size))
+                .flatMap(Arrays::<KeyValue>stream);
+    }
+
     /**
      * Returns a list of all values in the {@code variable} column within the default section of the table, sorted naturally in Descending order
      *
@@ -355,6 +495,26 @@ public abstract class DataStore {
      */
     public abstract String GetString(String fName, String section, String key);
 
+    /**
+     * Performs a bulk {@link #GetString(String, String, String)} operation, using available database features to do so more efficiently.
+     *
+     * The array index of the keys param and the returned values are linked
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
+     * @param keys The values of the {@code variable} column to retrieve
+     * @return The values of the {@code value} column; {@code null} for keys which do not exist
+     */
+    public String[] GetBatchString(String fName, String section, String[] keys) {
+        String[] values = new String[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = GetString(fName, section, keys[i]);
+        }
+
+        return values;
+    }
+
     /**
      * Sets the value of the {@code value} column for the given table, section, and key as a string
      *
@@ -386,22 +546,65 @@ public abstract class DataStore {
      * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
      * @param keys The values of the {@code variable} column to update
      * @param value The new value to increase the {@code value} column by
-     * @return
+     * @return Timing information about the increment
      */
-    public void IncreaseBatchString(String fName, String section, String[] keys, String value) {
-        int amount;
+    public IncrementStats IncreaseBatchString(String fName, String section, String[] keys, String value) {
+        long amount;
 
         try {
-            amount = Integer.parseInt(value);
+            amount = Long.parseLong(value);
         } catch (NumberFormatException ex) {
-            amount = 0;
+            try {
+                amount = (long) Double.parseDouble(value);
+            } catch (NumberFormatException | NullPointerException ex2) {
+                amount = 0L;
+            }
         }
 
+        return IncreaseBatchLong(fName, section, keys, amount);
+    }
+
+    /**
+     * Increases the value of the {@code value} column as a long for all keys of the given table and section
+     * <br /><br />
+     * Duplicate keys are increased once for every time they appear
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
+     * @param keys The values of the {@code variable} column to update
+     * @param amount The amount to increase the {@code value} column by
+     * @return Timing information about the increment
+     */
+    public IncrementStats IncreaseBatchLong(String fName, String section, String[] keys, long amount) {
+        Map<String, Long> amounts = new TreeMap<>();
+
         for (String key : keys) {
-            int ival = GetInteger(fName, section, key);
-            ival += amount;
-            SetInteger(fName, section, key, ival);
+            if (key != null) {
+                amounts.merge(key, amount, Long::sum);
+            }
         }
+
+        return IncreaseBatchLong(fName, section, amounts);
+    }
+
+    /**
+     * Increases the value of the {@code value} column as a long by a separate amount for each key of the given table and section
+     * <br /><br />
+     * Rows which do not exist yet are created with their amount. The SQL implementations send the rows as multi-row upserts,
+     * chunked to stay below the parameter limit of the database, inside a single transaction.
+     * Keys are written in sorted order, so concurrent batches lock rows in the same order
+     *
+     * @param fName A table name, without the {@code phantombot_} prefix
+     * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
+     * @param amounts The values of the {@code variable} column to update, mapped to the amount to increase the {@code value} column by
+     * @return Timing information about the increment
+     */
+    public IncrementStats IncreaseBatchLong(String fName, String section, Map<String, Long> amounts) {
+        long start = System.nanoTime();
+
+        amounts.forEach((key, amount) -> incr(fName, section, key, amount));
+
+        return new IncrementStats(amounts.size(), amounts.size(), System.nanoTime() - start);
     }
 
     /**
@@ -707,9 +910,7 @@ public abstract class DataStore {
      * @param amount The amount to increase the value of the {@code value} column by
      */
     public void incr(String fName, String section, String key, int amount) {
-        int ival = GetInteger(fName, section, key);
-        ival += amount;
-        SetInteger(fName, section, key, ival);
+        incr(fName, section, key, (long) amount);
     }
 
     /**
@@ -732,9 +933,7 @@ public abstract class DataStore {
      * @param amount The amount to decrease the value of the {@code value} column by
      */
     public void decr(String fName, String section, String key, int amount) {
-        int ival = GetInteger(fName, section, key);
-        ival -= amount;
-        SetInteger(fName, section, key, ival);
+        incr(fName, section, key, -((long) amount));
     }
 
     /**
@@ -761,6 +960,9 @@ public abstract class DataStore {
 
     /**
      * Increases the value of the {@code value} column as a long in the given table, section, and key
+     * <br /><br />
+     * The base implementation performs a read followed by a write. The SQL implementations override this with a single atomic upsert,
+     * so concurrent increments of the same row are not lost
      *
      * @param fName A table name, without the {@code phantombot_} prefix
      * @param section A section name. {@code ""} (empty string) for the default section; {@code null} for all sections
@@ -793,9 +995,7 @@ public abstract class DataStore {
      * @param amount The amount to decrease the value of the {@code value} column by
      */
     public void decr(String fName, String section, String key, long amount) {
-        long ival = GetLong(fName, section, key);
-        ival -= amount;
-        SetLong(fName, section, key, ival);
+        incr(fName, section, key, -amount);
     }
 
     /**
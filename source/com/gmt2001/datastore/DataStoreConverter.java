@@ -16,13 +16,37 @@
  */
 package com.gmt2001.datastore;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Final class that is used to convert datastores.
+ * <br /><br />
+ * Tables are copied concurrently. Each section is read with keyset pagination and written with one
+ * {@link DataStore#SetBatchString(String, String, String[], String[])} per page, which the SQL stores run as a single transaction
+ * <br /><br />
+ * Progress is recorded in the {@link #PROGRESS_TABLE} table of the destination after every page. If the conversion is interrupted,
+ * {@link #isIncomplete(DataStore)} returns {@code true} and the next conversion skips the finished tables and resumes the others after their last copied key
  *
  * @author ScaniaTV
  */
 public final class DataStoreConverter {
 
+    /**
+     * Table in the destination which tracks an unfinished conversion. Section {@code ""} holds the finished tables,
+     * every other section is a table name and maps the sections of that table to the last copied key
+     */
+    private static final String PROGRESS_TABLE = "datastoreconverter_progress";
+    private static final int PAGE_SIZE = 5000;
+    private static final int MAX_THREADS = 4;
+    private static final int PROGRESS_INTERVAL = 5;
+
     /*
 	 * Class constructor.
      */
@@ -30,6 +54,16 @@ public final class DataStoreConverter {
 
     }
 
+    /**
+     * Indicates if a previous conversion into the given datastore did not finish
+     *
+     * @param primaryDbInstance - The destination datastore
+     * @return {@code true} if the conversion should be resumed
+     */
+    public static boolean isIncomplete(DataStore primaryDbInstance) {
+        return primaryDbInstance.FileExists(PROGRESS_TABLE);
+    }
+
     /**
 	 * Method that converts a datastore to another one.
 	 *
@@ -40,30 +74,64 @@ public final class DataStoreConverter {
         com.gmt2001.Console.out.println("Starting datatore conversion. This could take time...");
         com.gmt2001.Console.warn.println();
         com.gmt2001.Console.warn.println("DO NOT SHUTDOWN THE BOT UNTIL THIS IS COMPLETE");
-        com.gmt2001.Console.warn.println("DATA LOSS COULD OCCUR");
+        com.gmt2001.Console.warn.println("If the bot is stopped anyway, the conversion will resume on the next start");
         com.gmt2001.Console.warn.println();
 
+        if (isIncomplete(primaryDbInstance)) {
+            com.gmt2001.Console.out.println("Resuming previous conversion...");
+        } else {
+            primaryDbInstance.AddFile(PROGRESS_TABLE);
+        }
+
         // Convert our old database to our new one.
         com.gmt2001.Console.out.println("Converting old datastore to the new one...");
         String[] tables = secondaryDbInstance.GetFileList();
+        AtomicLong rows = new AtomicLong(0);
+        AtomicInteger tablesDone = new AtomicInteger(0);
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(MAX_THREADS, tables.length)));
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+
         for (String table : tables) {
-            com.gmt2001.Console.out.print("Converting table " + table + "... 0");
-            int i = 0;
-            // Get the list of sections for this table.
-            String[] sections = secondaryDbInstance.GetCategoryList(table);
-            for (String section : sections) {
-                // Get all keys for this table.
-                String[] keys = secondaryDbInstance.GetKeyList(table, section);
-                for (String key : keys) {
-                    // Get the value from the old database and set it in the new one.
-                    primaryDbInstance.SetString(table, section, key, secondaryDbInstance.GetString(table, section, key));
-                    i++;
-                    if (i % 100 == 0) {
-                        com.gmt2001.Console.out.print("\rConverting table " + table + "... " + i);
-                    }
-                }
+            if (table.equalsIgnoreCase(PROGRESS_TABLE)) {
+                tablesDone.incrementAndGet();
+                continue;
             }
-            com.gmt2001.Console.out.print("\rConverting table " + table + "... " + i + System.lineSeparator());
+
+            futures.add(pool.submit(() -> {
+                convertTable(primaryDbInstance, secondaryDbInstance, table, rows);
+                tablesDone.incrementAndGet();
+                return null;
+            }));
+        }
+
+        pool.shutdown();
+
+        try {
+            while (!pool.awaitTermination(PROGRESS_INTERVAL, TimeUnit.SECONDS)) {
+                printProgress(tablesDone.get(), tables.length, rows.get(), start);
+            }
+        } catch (InterruptedException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+            Thread.currentThread().interrupt();
+        }
+
+        boolean failed = false;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception ex) {
+                failed = true;
+                com.gmt2001.Console.err.printStackTrace(ex);
+            }
+        }
+
+        printProgress(tablesDone.get(), tables.length, rows.get(), start);
+
+        if (failed) {
+            com.gmt2001.Console.warn.println("Some tables failed to convert, the conversion will resume on the next start");
+        } else {
+            primaryDbInstance.RemoveFile(PROGRESS_TABLE);
         }
 
         // Close the old database.
@@ -72,4 +140,79 @@ public final class DataStoreConverter {
         com.gmt2001.Console.out.println("Finished converting datastore.");
         com.gmt2001.Console.out.println();
     }
+
+    /**
+     * Copies a single table, page by page, recording the last copied key of each section
+     *
+     * @param primaryDbInstance - The destination datastore
+     * @param secondaryDbInstance - The source datastore
+     * @param table - The table to copy
+     * @param rows - Counter of copied rows
+     */
+    private static void convertTable(DataStore primaryDbInstance, DataStore secondaryDbInstance, String table, AtomicLong rows) {
+        if (primaryDbInstance.HasKey(PROGRESS_TABLE, "", table)) {
+            return;
+        }
+
+        for (String section : secondaryDbInstance.GetCategoryList(table)) {
+            String afterKey = primaryDbInstance.GetString(PROGRESS_TABLE, table, section);
+            KeyValue[] page;
+
+            do {
+                page = secondaryDbInstance.GetKeyValuePage(table, section, afterKey, PAGE_SIZE);
+
+                if (page.length > 0) {
+                    String[] keys = new String[page.length];
+                    String[] values = new String[page.length];
+
+                    for (int i = 0; i < page.length; i++) {
+                        keys[i] = page[i].getKey();
+                        values[i] = page[i].getValue();
+                    }
+
+                    primaryDbInstance.SetBatchString(table, section, keys, values);
+                    verifyPage(primaryDbInstance, table, section, keys, values);
+                    afterKey = keys[keys.length - 1];
+                    primaryDbInstance.SetString(PROGRESS_TABLE, table, section, afterKey);
+                    rows.addAndGet(page.length);
+                }
+            } while (page.length == PAGE_SIZE);
+        }
+
+        primaryDbInstance.SetString(PROGRESS_TABLE, "", table, "done");
+    }
+
+    /**
+     * Reads back a copied page, since the datastores log and swallow write errors
+     *
+     * @param primaryDbInstance - The destination datastore
+     * @param table - The table
+     * @param section - The section
+     * @param keys - The keys of the page
+     * @param values - The values which were written
+     * @throws IllegalStateException if any value was not written, so that the page is not recorded as copied
+     */
+    private static void verifyPage(DataStore primaryDbInstance, String table, String section, String[] keys, String[] values) {
+        String[] written = primaryDbInstance.GetBatchString(table, section, keys);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null && !values[i].equals(written[i])) {
+                throw new IllegalStateException("Failed to write " + table + "." + section + "." + keys[i]
+                        + ", the table will resume from this page on the next start");
+            }
+        }
+    }
+
+    /**
+     * Prints the conversion progress
+     *
+     * @param tablesDone - The number of finished tables
+     * @param tables - The total number of tables
+     * @param rows - The number of copied rows
+     * @param start - The value of {@link System#nanoTime()} when the conversion started
+     */
+    private static void printProgress(int tablesDone, int tables, long rows, long start) {
+        double seconds = Math.max(1, System.nanoTime() - start) / 1_000_000_000.0;
+        com.gmt2001.Console.out.println(String.format("Converted %d/%d tables, %d rows (%.0f rows/sec)", tablesDone, tables, rows, rows / seconds));
+    }
 }
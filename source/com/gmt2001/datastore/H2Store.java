@@ -26,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.Driver;
@@ -34,12 +35,18 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
-import org.h2.jdbcx.JdbcConnectionPool;
+import org.h2.jdbcx.JdbcDataSource;
 
 import com.gmt2001.PathValidator;
 
@@ -54,9 +61,20 @@ import tv.phantombot.PhantomBot;
 public final class H2Store extends DataStore {
 
     private static final String BACKUP_SUFFIX = ".h2.sql.gz";
-    private static final int MAX_CONNECTIONS = 30;
-    private static JdbcConnectionPool poolMgr;
+    /**
+     * Maximum number of keys bound into a single {@code IN} clause by {@link #GetBatchString(String, String, String[])}
+     */
+    private static final int MAX_BATCH_KEYS = 500;
+    /**
+     * Size of the per-session compiled statement cache of H2. The pool reuses sessions, so the per-key statements stay compiled
+     */
+    private static final int MAX_CACHED_STATEMENTS = 1024;
+    private static ConnectionPool poolMgr;
     private static H2Store instance;
+    /**
+     * Registry of known tables, keyed by lower-cased table name without the {@code phantombot_} prefix. Avoids a metadata query on every operation
+     */
+    private final ConcurrentMap<String, Boolean> tables = new ConcurrentHashMap<>();
 
     public static H2Store instance() {
         return instance("");
@@ -91,8 +109,11 @@ public final class H2Store extends DataStore {
             ex.printStackTrace(System.err);
         }
 
-        poolMgr = JdbcConnectionPool.create("jdbc:h2:./config/" + configStr + ";DB_CLOSE_ON_EXIT=FALSE;MAX_LENGTH_INPLACE_LOB=2048", "", "");
-        poolMgr.setMaxConnections(MAX_CONNECTIONS);
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:./config/" + configStr + ";DB_CLOSE_ON_EXIT=FALSE;MAX_LENGTH_INPLACE_LOB=2048;QUERY_CACHE_SIZE=" + MAX_CACHED_STATEMENTS);
+        dataSource.setUser("");
+        dataSource.setPassword("");
+        poolMgr = ConnectionPool.create("H2Store", dataSource);
 
         try {
             this.restoreBackup(configStr);
@@ -107,6 +128,10 @@ public final class H2Store extends DataStore {
         } catch (Exception ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
+
+        for (String table : this.GetFileList()) {
+            this.tables.put(table.toLowerCase(), Boolean.TRUE);
+        }
     }
 
     private void restoreBackup(String fileName) throws IOException {
@@ -283,11 +308,16 @@ public final class H2Store extends DataStore {
     public void AddFile(Connection connection, String fName) {
         fName = validateFname(fName);
 
+        if (this.tables.getOrDefault(fName.toLowerCase(), Boolean.FALSE)) {
+            return;
+        }
+
         // Creates a database with 3 columns, the section and variable are used as keys.  value is a 2GB CLOB of text.
         try ( Statement statement = connection.createStatement()) {
             statement.addBatch("CREATE TABLE IF NOT EXISTS phantombot_" + fName + " (`SECTION` varchar(255), `VARIABLE` varchar(255) NOT NULL, `VALUE` LONGTEXT);");
             statement.addBatch("CREATE UNIQUE INDEX IF NOT EXISTS phantombot_" + fName + "_idx ON phantombot_" + fName + "(`SECTION`, `VARIABLE`);");
             statement.executeBatch();
+            this.tables.put(fName.toLowerCase(), Boolean.TRUE);
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
@@ -335,6 +365,8 @@ public final class H2Store extends DataStore {
                 try ( Statement statement = connection.createStatement()) {
                     statement.execute("DROP TABLE phantombot_" + fName + ";");
                 }
+
+                this.tables.put(fName.toLowerCase(), Boolean.FALSE);
             }
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
@@ -358,7 +390,12 @@ public final class H2Store extends DataStore {
                 }
 
                 statement.execute("ALTER TABLE phantombot_" + fNameSource + " RENAME TO phantombot_" + fNameDest + ";");
+                /* Index names are global, move the index along so that a new source table can create its own */
+                statement.execute("ALTER INDEX IF EXISTS phantombot_" + fNameSource + "_idx RENAME TO phantombot_" + fNameDest + "_idx;");
             }
+
+            this.tables.put(fNameSource.toLowerCase(), Boolean.FALSE);
+            this.tables.put(fNameDest.toLowerCase(), Boolean.TRUE);
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
@@ -380,10 +417,18 @@ public final class H2Store extends DataStore {
     public boolean FileExists(Connection connection, String fName) {
         fName = validateFname(fName);
 
+        Boolean known = this.tables.get(fName.toLowerCase());
+
+        if (known != null) {
+            return known;
+        }
+
         try {
             DatabaseMetaData md = connection.getMetaData();
             try ( ResultSet rs = md.getTables(null, null, "PHANTOMBOT_" + fName.toUpperCase(), null)) {
-                return rs.next();
+                boolean out = rs.next();
+                this.tables.put(fName.toLowerCase(), out);
+                return out;
             }
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
@@ -529,6 +574,102 @@ public final class H2Store extends DataStore {
         return out;
     }
 
+    @Override
+    public KeyValue[] GetKeyValuePage(String fName, String section, String afterKey, int limit) {
+        if (section == null) {
+            return super.GetKeyValuePage(fName, section, afterKey, limit);
+        }
+
+        KeyValue[] out = new KeyValue[]{};
+
+        try ( Connection connection = GetConnection()) {
+            fName = validateFname(fName);
+
+            if (!FileExists(connection, fName)) {
+                return out;
+            }
+
+            String sql = "SELECT `VARIABLE`, `VALUE` FROM phantombot_" + fName + " WHERE `SECTION`=?" + (afterKey == null ? "" : " AND `VARIABLE`>?") + " ORDER BY `VARIABLE` LIMIT ?;";
+
+            try ( PreparedStatement statement = connection.prepareStatement(sql)) {
+                int idx = 1;
+                statement.setString(idx++, section);
+
+                if (afterKey != null) {
+                    statement.setString(idx++, afterKey);
+                }
+
+                statement.setInt(idx, limit);
+
+                try ( ResultSet rs = statement.executeQuery()) {
+                    ArrayList<KeyValue> s = new ArrayList<>();
+
+                    while (rs.next()) {
+                        s.add(new KeyValue(rs.getString(1), rs.getString(2)));
+                    }
+
+                    out = s.toArray(KeyValue[]::new);
+                }
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+
+        return out;
+    }
+
+
+    @Override
+    public NumberKeyValue[] GetKeyValuePageByNumberOrderValue(String fName, String section, String order, NumberKeyValue after, int limit) {
+        if (section == null) {
+            return super.GetKeyValuePageByNumberOrderValue(fName, section, order, after, limit);
+        }
+
+        NumberKeyValue[] out = new NumberKeyValue[]{};
+
+        try ( Connection connection = GetConnection()) {
+            fName = validateFname(fName);
+            order = sanitizeOrder(order);
+
+            if (!FileExists(connection, fName)) {
+                return out;
+            }
+
+            String op = order.equals("DESC") ? "<" : ">";
+            String sql = "SELECT `VARIABLE`, `VALUE`, CAST(`VALUE` AS INTEGER) FROM phantombot_" + fName + " WHERE `SECTION`=?"
+                    + (after == null ? "" : " AND (CAST(`VALUE` AS INTEGER) " + op + " ? OR (CAST(`VALUE` AS INTEGER) = ? AND `VARIABLE` " + op + " ?))")
+                    + " ORDER BY CAST(`VALUE` AS INTEGER) " + order + ", `VARIABLE` " + order + " LIMIT ?;";
+
+            try ( PreparedStatement statement = connection.prepareStatement(sql)) {
+                int idx = 1;
+                statement.setString(idx++, section);
+
+                if (after != null) {
+                    long number = Long.parseLong(after.getNumber());
+                    statement.setLong(idx++, number);
+                    statement.setLong(idx++, number);
+                    statement.setString(idx++, after.getKey());
+                }
+
+                statement.setInt(idx, limit);
+
+                try ( ResultSet rs = statement.executeQuery()) {
+                    ArrayList<NumberKeyValue> s = new ArrayList<>();
+
+                    while (rs.next()) {
+                        s.add(new NumberKeyValue(rs.getString(1), rs.getString(2), Long.toString(rs.getLong(3))));
+                    }
+
+                    out = s.toArray(NumberKeyValue[]::new);
+                }
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+
+        return out;
+    }
+
     @Override
     public String[] GetKeysByOrder(String fName, String section, String order, String limit, String offset) {
         return GetKeysByOrderInternal(fName, section, order, limit, offset, false);
@@ -930,6 +1071,56 @@ public final class H2Store extends DataStore {
         return result;
     }
 
+    @Override
+    public String[] GetBatchString(String fName, String section, String[] keys) {
+        if (section == null) {
+            return super.GetBatchString(fName, section, keys);
+        }
+
+        String[] out = new String[keys.length];
+
+        if (keys.length == 0) {
+            return out;
+        }
+
+        try ( Connection connection = GetConnection()) {
+            fName = validateFname(fName);
+
+            if (!FileExists(connection, fName)) {
+                return out;
+            }
+
+            Map<String, String> values = new HashMap<>();
+
+            for (int start = 0; start < keys.length; start += MAX_BATCH_KEYS) {
+                int end = Math.min(keys.length, start + MAX_BATCH_KEYS);
+
+                try ( PreparedStatement statement = connection.prepareStatement("SELECT `VARIABLE`, `VALUE` FROM phantombot_" + fName + " WHERE `SECTION`=? AND `VARIABLE` IN ("
+                        + String.join(", ", Collections.nCopies(end - start, "?")) + ");")) {
+                    statement.setString(1, section);
+
+                    for (int i = start; i < end; i++) {
+                        statement.setString(i - start + 2, keys[i]);
+                    }
+
+                    try ( ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            values.put(rs.getString(1), rs.getString(2));
+                        }
+                    }
+                }
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                out[i] = values.get(keys[i]);
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+
+        return out;
+    }
+
     @Override
     public void SetBatchString(String fName, String section, String[] keys, String[] values) {
         try ( Connection connection = GetConnection()) {
@@ -978,52 +1169,113 @@ public final class H2Store extends DataStore {
     }
 
     @Override
-    public void IncreaseBatchString(String fName, String section, String[] keys, String value) {
-        if (keys.length == 0) {
+    public void incr(String fName, String section, String key, long amount) {
+        if (section == null) {
+            super.incr(fName, section, key, amount);
             return;
         }
 
+        this.IncreaseBatchLong(fName, section, new String[]{key}, amount);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br /><br />
+     * H2 evaluates {@code MERGE ... WHEN MATCHED} against a snapshot of the row, which loses concurrent increments,
+     * so this is performed as a batched {@code UPDATE} followed by a batched {@code INSERT} of the missing rows. If another connection
+     * inserts one of the missing rows first, the transaction is rolled back and retried
+     */
+    @Override
+    public IncrementStats IncreaseBatchLong(String fName, String section, Map<String, Long> amounts) {
+        if (section == null) {
+            return super.IncreaseBatchLong(fName, section, amounts);
+        }
+
+        long start = System.nanoTime();
+        int statementCount = 0;
+
+        if (amounts.isEmpty()) {
+            return new IncrementStats(0, 0, System.nanoTime() - start);
+        }
+
         try ( Connection connection = GetConnection()) {
             fName = validateFname(fName);
 
             AddFile(connection, fName);
 
+            List<Map.Entry<String, Long>> rows = new ArrayList<>(new TreeMap<>(amounts).entrySet());
+
             connection.setAutoCommit(false);
 
-            StringBuilder sb = new StringBuilder(keys.length * 2);
+            try {
+                for (int attempt = 1;; attempt++) {
+                    try {
+                        List<Map.Entry<String, Long>> missing = new ArrayList<>();
+
+                        try ( PreparedStatement statement = connection.prepareStatement("UPDATE phantombot_" + fName + " SET `VALUE` = CASE WHEN REGEXP_LIKE(`VALUE`, '^-?[0-9]+$') THEN CAST(`VALUE` AS BIGINT) ELSE 0 END + ? WHERE `SECTION`=? AND `VARIABLE`=?;")) {
+                            for (Map.Entry<String, Long> row : rows) {
+                                statement.setLong(1, row.getValue());
+                                statement.setString(2, section);
+                                statement.setString(3, row.getKey());
+                                statement.addBatch();
+                            }
 
-            for (String unused : keys) {
-                sb.append("?,");
-            }
+                            int[] updated = statement.executeBatch();
+                            statementCount++;
 
-            try ( PreparedStatement statement = connection.prepareStatement("UPDATE phantombot_" + fName + " SET `VALUE` = CAST(`VALUE` AS INTEGER) + ? WHERE `SECTION` = ? AND `VARIABLE` IN (" + sb.deleteCharAt(sb.length() - 1).toString() + ");")) {
-                statement.setInt(1, Integer.parseUnsignedInt(value));
-                statement.setString(2, section);
-                int i = 3;
-                for (String k : keys) {
-                    statement.setString(i++, k);
-                }
-                statement.execute();
-            }
+                            for (int i = 0; i < rows.size(); i++) {
+                                if (updated[i] == 0) {
+                                    missing.add(rows.get(i));
+                                }
+                            }
+                        }
 
-            try ( PreparedStatement statement = connection.prepareStatement("MERGE INTO phantombot_" + fName + " USING DUAL ON `SECTION`=? AND `VARIABLE`=? WHEN NOT MATCHED THEN INSERT VALUES (?, ?, ?);")) {
-                for (String k : keys) {
-                    statement.setString(1, section);
-                    statement.setString(2, k);
-                    statement.setString(3, section);
-                    statement.setString(4, k);
-                    statement.setString(5, value);
-                    statement.addBatch();
-                }
+                        if (!missing.isEmpty()) {
+                            try ( PreparedStatement statement = connection.prepareStatement("INSERT INTO phantombot_" + fName + " (`SECTION`, `VARIABLE`, `VALUE`) VALUES (?, ?, ?);")) {
+                                for (Map.Entry<String, Long> row : missing) {
+                                    statement.setString(1, section);
+                                    statement.setString(2, row.getKey());
+                                    statement.setString(3, Long.toString(row.getValue()));
+                                    statement.addBatch();
+                                }
+
+                                statement.executeBatch();
+                                statementCount++;
+                            }
+                        }
 
-                statement.executeBatch();
-            }
+                        connection.commit();
+                        break;
+                    } catch (SQLException ex) {
+                        connection.rollback();
 
-            connection.commit();
-            connection.setAutoCommit(true);
+                        if (attempt >= 3 || !isUniqueViolation(ex)) {
+                            throw ex;
+                        }
+                    }
+                }
+            } finally {
+                connection.setAutoCommit(true);
+            }
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
+
+        return new IncrementStats(amounts.size(), statementCount, System.nanoTime() - start);
+    }
+
+    /**
+     * Indicates if the exception, or the first exception chained to a batch failure, is a unique constraint violation
+     *
+     * @param ex The exception to check
+     * @return
+     */
+    private static boolean isUniqueViolation(SQLException ex) {
+        if (ex instanceof BatchUpdateException && ex.getNextException() != null) {
+            ex = ex.getNextException();
+        }
+
+        return "23505".equals(ex.getSQLState());
     }
 
     @Override
@@ -1057,6 +1309,9 @@ public final class H2Store extends DataStore {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
 
+        /* Arbitrary SQL may have created or dropped tables */
+        this.tables.clear();
+
         return results;
     }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.datastore;
+
+import java.time.Duration;
+
+/**
+ * Timing information about a bulk increment performed by {@link DataStore#IncreaseBatchLong(String, String, java.util.Map)}
+ */
+public final class IncrementStats {
+
+    private final int rows;
+    private final int statements;
+    private final long nanos;
+
+    /**
+     * Constructor
+     *
+     * @param rows The number of distinct rows which were increased
+     * @param statements The number of statements sent to the database
+     * @param nanos The elapsed time, in nanoseconds
+     */
+    public IncrementStats(int rows, int statements, long nanos) {
+        this.rows = rows;
+        this.statements = statements;
+        this.nanos = nanos;
+    }
+
+    /**
+     * The number of distinct rows which were increased
+     *
+     * @return
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * The number of statements sent to the database
+     *
+     * @return
+     */
+    public int statements() {
+        return this.statements;
+    }
+
+    /**
+     * The elapsed time
+     *
+     * @return
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(this.nanos);
+    }
+
+    @Override
+    public String toString() {
+        return this.rows + " rows in " + this.statements + " statements, " + String.format("%.3f", this.nanos / 1_000_000.0) + " ms";
+    }
+}
@@ -16,8 +16,8 @@
  */
 package com.gmt2001.datastore;
 
-import biz.source_code.miniConnectionPoolManager.MiniConnectionPoolManager;
 import com.mysql.jdbc.jdbc2.optional.MysqlConnectionPoolDataSource;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
@@ -26,7 +26,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  *
@@ -34,9 +39,26 @@ import java.util.List;
  */
 public final class MySQLStore extends DataStore {
 
-    private static final int MAX_CONNECTIONS = 30;
+    /**
+     * Maximum number of keys bound into a single {@code IN} clause by {@link #GetBatchString(String, String, String[])}
+     */
+    private static final int MAX_BATCH_KEYS = 500;
+    /**
+     * Maximum number of rows sent in a single multi-row increment statement by {@link #IncreaseBatchLong(String, String, Map)}.
+     * Keeps the number of parameters below the smallest limit of the supported database versions
+     */
+    private static final int MAX_INCREMENT_ROWS = 1000;
+    /**
+     * Maximum number of prepared statements the driver keeps parsed on each connection
+     */
+    private static final int MAX_CACHED_STATEMENTS = 1024;
     private static MySQLStore instance;
-    private final MiniConnectionPoolManager poolMgr;
+    /**
+     * Registry of known tables, keyed by lower-cased table name without the {@code phantombot_} prefix. Avoids a metadata query on every operation.
+     * Filled lazily, since the server may not be reachable yet when the store is constructed
+     */
+    private final ConcurrentMap<String, Boolean> tables = new ConcurrentHashMap<>();
+    private final ConnectionPool poolMgr;
 
     public static MySQLStore instance() {
         return instance("");
@@ -61,8 +83,16 @@ public final class MySQLStore extends DataStore {
 
         MysqlConnectionPoolDataSource dataSource = new MysqlConnectionPoolDataSource();
         dataSource.setURL(configStr);
+        /* Let the driver keep parsed statements per connection, parameters in the URL take precedence */
+        dataSource.setCachePrepStmts(true);
+        try {
+            dataSource.setPrepStmtCacheSize(MAX_CACHED_STATEMENTS);
+            dataSource.setPrepStmtCacheSqlLimit(2048);
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
 
-        poolMgr = new MiniConnectionPoolManager(dataSource, MAX_CONNECTIONS);
+        poolMgr = ConnectionPool.create("MySQLStore", dataSource);
     }
 
     private String sanitizeOrder(String order) {
@@ -128,8 +158,13 @@ public final class MySQLStore extends DataStore {
     public void AddFile(Connection connection, String fName) {
         fName = validateFname(fName);
 
+        if (this.tables.getOrDefault(fName.toLowerCase(), Boolean.FALSE)) {
+            return;
+        }
+
         try ( Statement statement = connection.createStatement()) {
             statement.executeUpdate("CREATE TABLE IF NOT EXISTS phantombot_" + fName + " (section LONGTEXT, variable varchar(255) NOT NULL, value LONGTEXT, PRIMARY KEY (section(30), variable(150))) DEFAULT CHARSET=utf8mb4 COLLATE utf8mb4_general_ci;");
+            this.tables.put(fName.toLowerCase(), Boolean.TRUE);
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
@@ -177,6 +212,8 @@ public final class MySQLStore extends DataStore {
                 try ( Statement statement = connection.createStatement()) {
                     statement.execute("DROP TABLE phantombot_" + fName + ";");
                 }
+
+                this.tables.put(fName.toLowerCase(), Boolean.FALSE);
             }
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
@@ -201,6 +238,9 @@ public final class MySQLStore extends DataStore {
 
                 statement.execute("ALTER TABLE phantombot_" + fNameSource + " RENAME TO phantombot_" + fNameDest + ";");
             }
+
+            this.tables.put(fNameSource.toLowerCase(), Boolean.FALSE);
+            this.tables.put(fNameDest.toLowerCase(), Boolean.TRUE);
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
@@ -222,10 +262,18 @@ public final class MySQLStore extends DataStore {
     public boolean FileExists(Connection connection, String fName) {
         fName = validateFname(fName);
 
+        Boolean known = this.tables.get(fName.toLowerCase());
+
+        if (known != null) {
+            return known;
+        }
+
         try {
             DatabaseMetaData md = connection.getMetaData();
             try ( ResultSet rs = md.getTables(null, null, "phantombot_" + fName, null)) {
-                return rs.next();
+                boolean out = rs.next();
+                this.tables.put(fName.toLowerCase(), out);
+                return out;
             }
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
@@ -371,6 +419,102 @@ public final class MySQLStore extends DataStore {
         return out;
     }
 
+    @Override
+    public KeyValue[] GetKeyValuePage(String fName, String section, String afterKey, int limit) {
+        if (section == null) {
+            return super.GetKeyValuePage(fName, section, afterKey, limit);
+        }
+
+        KeyValue[] out = new KeyValue[]{};
+
+        try ( Connection connection = GetConnection()) {
+            fName = validateFname(fName);
+
+            if (!FileExists(connection, fName)) {
+                return out;
+            }
+
+            String sql = "SELECT variable, value FROM phantombot_" + fName + " WHERE section=?" + (afterKey == null ? "" : " AND variable>?") + " ORDER BY variable LIMIT ?;";
+
+            try ( PreparedStatement statement = connection.prepareStatement(sql)) {
+                int idx = 1;
+                statement.setString(idx++, section);
+
+                if (afterKey != null) {
+                    statement.setString(idx++, afterKey);
+                }
+
+                statement.setInt(idx, limit);
+
+                try ( ResultSet rs = statement.executeQuery()) {
+                    ArrayList<KeyValue> s = new ArrayList<>();
+
+                    while (rs.next()) {
+                        s.add(new KeyValue(rs.getString(1), rs.getString(2)));
+                    }
+
+                    out = s.toArray(KeyValue[]::new);
+                }
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+
+        return out;
+    }
+
+
+    @Override
+    public NumberKeyValue[] GetKeyValuePageByNumberOrderValue(String fName, String section, String order, NumberKeyValue after, int limit) {
+        if (section == null) {
+            return super.GetKeyValuePageByNumberOrderValue(fName, section, order, after, limit);
+        }
+
+        NumberKeyValue[] out = new NumberKeyValue[]{};
+
+        try ( Connection connection = GetConnection()) {
+            fName = validateFname(fName);
+            order = sanitizeOrder(order);
+
+            if (!FileExists(connection, fName)) {
+                return out;
+            }
+
+            String op = order.equals("DESC") ? "<" : ">";
+            String sql = "SELECT variable, value, CAST(value AS UNSIGNED) FROM phantombot_" + fName + " WHERE section=?"
+                    + (after == null ? "" : " AND (CAST(value AS UNSIGNED) " + op + " ? OR (CAST(value AS UNSIGNED) = ? AND variable " + op + " ?))")
+                    + " ORDER BY CAST(value AS UNSIGNED) " + order + ", variable " + order + " LIMIT ?;";
+
+            try ( PreparedStatement statement = connection.prepareStatement(sql)) {
+                int idx = 1;
+                statement.setString(idx++, section);
+
+                if (after != null) {
+                    BigDecimal number = new BigDecimal(after.getNumber());
+                    statement.setBigDecimal(idx++, number);
+                    statement.setBigDecimal(idx++, number);
+                    statement.setString(idx++, after.getKey());
+                }
+
+                statement.setInt(idx, limit);
+
+                try ( ResultSet rs = statement.executeQuery()) {
+                    ArrayList<NumberKeyValue> s = new ArrayList<>();
+
+                    while (rs.next()) {
+                        s.add(new NumberKeyValue(rs.getString(1), rs.getString(2), rs.getBigDecimal(3).toBigInteger().toString()));
+                    }
+
+                    out = s.toArray(NumberKeyValue[]::new);
+                }
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+
+        return out;
+    }
+
     @Override
     public String[] GetKeysByOrder(String fName, String section, String order, String limit, String offset) {
         return GetKeysByOrderInternal(fName, section, order, limit, offset, false);
@@ -772,6 +916,57 @@ public final class MySQLStore extends DataStore {
         return result;
     }
 
+    @Override
+    public String[] GetBatchString(String fName, String section, String[] keys) {
+        if (section == null) {
+            return super.GetBatchString(fName, section, keys);
+        }
+
+        String[] out = new String[keys.length];
+
+        if (keys.length == 0) {
+            return out;
+        }
+
+        try ( Connection connection = GetConnection()) {
+            fName = validateFname(fName);
+
+            if (!FileExists(connection, fName)) {
+                return out;
+            }
+
+            /* The default collation compares case-insensitively, match the returned rows the same way */
+            Map<String, String> values = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+            for (int start = 0; start < keys.length; start += MAX_BATCH_KEYS) {
+                int end = Math.min(keys.length, start + MAX_BATCH_KEYS);
+
+                try ( PreparedStatement statement = connection.prepareStatement("SELECT variable, value FROM phantombot_" + fName + " WHERE section=? AND variable IN ("
+                        + String.join(", ", Collections.nCopies(end - start, "?")) + ");")) {
+                    statement.setString(1, section);
+
+                    for (int i = start; i < end; i++) {
+                        statement.setString(i - start + 2, keys[i]);
+                    }
+
+                    try ( ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            values.put(rs.getString(1), rs.getString(2));
+                        }
+                    }
+                }
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                out[i] = values.get(keys[i]);
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+
+        return out;
+    }
+
     @Override
     public void SetBatchString(String fName, String section, String[] keys, String[] values) {
         try ( Connection connection = GetConnection()) {
@@ -781,7 +976,7 @@ public final class MySQLStore extends DataStore {
 
             connection.setAutoCommit(false);
 
-            try ( PreparedStatement statement = connection.prepareStatement("REPLACE INTO phantombot_" + fName + " (value, section, variable) values(?, ?, ?);")) {
+            try ( PreparedStatement statement = connection.prepareStatement("INSERT INTO phantombot_" + fName + " (value, section, variable) VALUES(?, ?, ?) ON DUPLICATE KEY UPDATE value=VALUES(value);")) {
                 for (int idx = 0; idx < keys.length; idx++) {
                     statement.setString(1, values[idx]);
                     statement.setString(2, section);
@@ -807,7 +1002,7 @@ public final class MySQLStore extends DataStore {
 
             AddFile(connection, fName);
 
-            try ( PreparedStatement statement = connection.prepareStatement("REPLACE INTO phantombot_" + fName + "(section, variable, value) values(?, ?, ?);")) {
+            try ( PreparedStatement statement = connection.prepareStatement("INSERT INTO phantombot_" + fName + " (section, variable, value) VALUES(?, ?, ?) ON DUPLICATE KEY UPDATE value=VALUES(value);")) {
                 statement.setString(1, section);
                 statement.setString(2, key);
                 statement.setString(3, value);
@@ -820,8 +1015,9 @@ public final class MySQLStore extends DataStore {
     }
 
     @Override
-    public void IncreaseBatchString(String fName, String section, String[] keys, String value) {
-        if (keys.length == 0) {
+    public void incr(String fName, String section, String key, long amount) {
+        if (section == null) {
+            super.incr(fName, section, key, amount);
             return;
         }
 
@@ -830,45 +1026,78 @@ public final class MySQLStore extends DataStore {
 
             AddFile(connection, fName);
 
-            connection.setAutoCommit(false);
+            try ( PreparedStatement statement = connection.prepareStatement("INSERT INTO phantombot_" + fName + " (section, variable, value) VALUES(?, ?, ?) ON DUPLICATE KEY UPDATE value = CASE WHEN value REGEXP '^-?[0-9]+$' THEN CAST(value AS SIGNED) ELSE 0 END + ?;")) {
+                statement.setString(1, section);
+                statement.setString(2, key);
+                statement.setString(3, Long.toString(amount));
+                statement.setLong(4, amount);
+                statement.execute();
+            }
+        } catch (SQLException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+    }
 
-            StringBuilder sb = new StringBuilder(keys.length * 2);
+    /**
+     * {@inheritDoc}
+     * <br /><br />
+     * Each chunk is a single multi-row {@code INSERT ... ON DUPLICATE KEY UPDATE} statement
+     */
+    @Override
+    public IncrementStats IncreaseBatchLong(String fName, String section, Map<String, Long> amounts) {
+        if (section == null) {
+            return super.IncreaseBatchLong(fName, section, amounts);
+        }
 
-            for (String unused : keys) {
-                sb.append("?,");
-            }
+        long start = System.nanoTime();
+        int statementCount = 0;
 
-            try ( PreparedStatement statement = connection.prepareStatement("UPDATE phantombot_" + fName + " SET value = CAST(value AS UNSIGNED) + ? WHERE section = ? AND variable IN (" + sb.deleteCharAt(sb.length() - 1).toString() + ");")) {
-                statement.setInt(1, Integer.parseUnsignedInt(value));
-                statement.setString(2, section);
-                int i = 3;
-                for (String k : keys) {
-                    statement.setString(i++, k);
-                }
-                statement.execute();
-            }
+        if (amounts.isEmpty()) {
+            return new IncrementStats(0, 0, System.nanoTime() - start);
+        }
 
-            sb = new StringBuilder(keys.length * 10);
+        try ( Connection connection = GetConnection()) {
+            fName = validateFname(fName);
 
-            for (String key : keys) {
-                sb.append("(?, ?, ?),");
-            }
+            AddFile(connection, fName);
 
-            try ( PreparedStatement statement = connection.prepareStatement("INSERT IGNORE INTO phantombot_" + fName + " (section, variable, value) VALUES " + sb.deleteCharAt(sb.length() - 1).toString() + ";")) {
-                int i = 1;
-                for (String k : keys) {
-                    statement.setString(i++, section);
-                    statement.setString(i++, k);
-                    statement.setString(i++, value);
+            List<Map.Entry<String, Long>> rows = new ArrayList<>(new TreeMap<>(amounts).entrySet());
+
+            connection.setAutoCommit(false);
+
+            try {
+                for (int from = 0; from < rows.size(); from += MAX_INCREMENT_ROWS) {
+                    int to = Math.min(rows.size(), from + MAX_INCREMENT_ROWS);
+
+                    try ( PreparedStatement statement = connection.prepareStatement("INSERT INTO phantombot_" + fName + " (section, variable, value) VALUES "
+                            + String.join(", ", Collections.nCopies(to - from, "(?, ?, ?)"))
+                            + " ON DUPLICATE KEY UPDATE value = CASE WHEN value REGEXP '^-?[0-9]+$' THEN CAST(value AS SIGNED) ELSE 0 END + CAST(VALUES(value) AS SIGNED);")) {
+                        int idx = 1;
+
+                        for (int i = from; i < to; i++) {
+                            statement.setString(idx++, section);
+                            statement.setString(idx++, rows.get(i).getKey());
+                            statement.setString(idx++, Long.toString(rows.get(i).getValue()));
+                        }
+
+                        statement.execute();
+                    }
+
+                    statementCount++;
                 }
-                statement.execute();
-            }
 
-            connection.commit();
-            connection.setAutoCommit(true);
+                connection.commit();
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(true);
+            }
         } catch (SQLException ex) {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
+
+        return new IncrementStats(amounts.size(), statementCount, System.nanoTime() - start);
     }
 
     @Override
@@ -902,6 +1131,16 @@ public final class MySQLStore extends DataStore {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
 
+        /* Arbitrary SQL may have created or dropped tables */
+        this.tables.clear();
+
         return results;
     }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+
+        this.poolMgr.dispose();
+    }
 }
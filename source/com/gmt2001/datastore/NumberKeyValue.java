@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.datastore;
+
+/**
+ * A key/value pair in the database, along with the {@code value} column as converted to an integer by the database for sorting
+ * <br /><br />
+ * Returned by {@link DataStore#GetKeyValuePageByNumberOrderValue(String, String, String, NumberKeyValue, int)}, where the last pair of a page is
+ * the cursor for the next page
+ */
+public final class NumberKeyValue extends KeyValue {
+
+    private final String number;
+
+    /**
+     * Constructor
+     *
+     * @param key The value of the {@code variable} column
+     * @param value The value of the {@code value} column
+     * @param number The value of the {@code value} column, converted to an integer by the database
+     */
+    public NumberKeyValue(String key, String value, String number) {
+        super(key, value);
+        this.number = number;
+    }
+
+    /**
+     * The value of the {@code value} column, converted to an integer by the database
+     *
+     * @return
+     */
+    public String getNumber() {
+        return this.number;
+    }
+}
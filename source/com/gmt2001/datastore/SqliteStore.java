@@ -16,7 +16,6 @@
  */
 package com.gmt2001.datastore;
 
-import biz.source_code.miniConnectionPoolManager.MiniConnectionPoolManager;
 import com.gmt2001.ExecutorService;
 import com.gmt2001.PathValidator;
 import java.io.File;
@@ -34,9 +33,15 @@ import java.sql.Statement;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.io.FileUtils;
@@ -52,12 +57,29 @@ import org.sqlite.javax.SQLiteConnectionPoolDataSource;
  */
 public final class SqliteStore extends DataStore {
 
-    private static final int MAX_CONNECTIONS = 30;
+    /**
+     * Maximum number of keys bound into a single {@code IN} clause by {@link #GetBatchString(String, String, String[])}
+     */
+    private static final int MAX_BATCH_KEYS = 500;
+    /**
+     * Maximum number of rows sent in a single multi-row increment statement by {@link #IncreaseBatchLong(String, String, Map)}.
+     * Keeps the number of parameters below the smallest limit of the supported database versions
+     */
+    private static final int MAX_INCREMENT_ROWS = 450;
     private static final long MAXWALSIZE = 104857600L;
+    /**
+     * Maximum number of prepared statements kept open on each connection. Large enough for the dozen per-key statements across ~100 tables
+     */
+    private static final int MAX_CACHED_STATEMENTS = 1024;
     private static SqliteStore instance;
     private final String dbFile;
-    private final MiniConnectionPoolManager poolMgr;
+    private final ConnectionPool poolMgr;
     private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
+    /**
+     * Registry of known tables, keyed by lower-cased table name without the {@code phantombot_} prefix. Avoids querying {@code sqlite_master} on every operation
+     */
+    private final ConcurrentMap<String, Boolean> tables = new ConcurrentHashMap<>();
+    private final StatementCache statements = new StatementCache(MAX_CACHED_STATEMENTS);
     private Instant nextVacuum = Instant.now().plus(1, ChronoUnit.DAYS);
 
     public static SqliteStore instance() {
@@ -124,7 +146,8 @@ public final class SqliteStore extends DataStore {
 
         SQLiteConnectionPoolDataSource dataSource = new SQLiteConnectionPoolDataSource(config);
         dataSource.setUrl("jdbc:sqlite:" + this.dbFile);
-        this.poolMgr = new MiniConnectionPoolManager(dataSource, MAX_CONNECTIONS);
+        this.poolMgr = ConnectionPool.create("SqliteStore", dataSource);
+        this.poolMgr.addDiscardListener(this.statements::release);
 
         try ( Connection connection = this.poolMgr.getConnection()) {
             boolean hasAutoVacuum = false;
@@ -159,6 +182,10 @@ public final class SqliteStore extends DataStore {
             com.gmt2001.Console.err.printStackTrace(ex);
         }
 
+        for (String table : this.GetFileList()) {
+            this.tables.put(table.toLowerCase(), Boolean.TRUE);
+        }
+
         ExecutorService.scheduleAtFixedRate(this::doMaintenance, 3, 3, TimeUnit.HOURS);
     }
 
@@ -260,9 +287,9 @@ public final class SqliteStore extends DataStore {
 
             if (!FileExists(connection, fName)) {
                 try ( Statement statement = connection.createStatement()) {
-                    statement.addBatch("CREATE TABLE IF NOT EXISTS phantombot_" + fName + " (section string, variable string, value string);");
-                    statement.addBatch("CREATE UNIQUE INDEX IF NOT EXISTS " + fName + "_idx on phantombot_" + fName + " (section, variable);");
-                    statement.executeBatch();
+                    statement.execute("CREATE TABLE IF NOT EXISTS phantombot_" + fName + " (section string, variable string, value string);");
+                    this.ensureUniqueIndex(connection, fName);
+                    this.tables.put(fName.toLowerCase(), Boolean.TRUE);
                 } catch (SQLException ex) {
                     com.gmt2001.Console.err.printStackTrace(ex);
                 }
@@ -280,11 +307,10 @@ public final class SqliteStore extends DataStore {
                 fName = validateFname(fName);
 
                 if (FileExists(connection, fName)) {
-                    try ( PreparedStatement statement = connection.prepareStatement("DELETE FROM phantombot_" + fName + " WHERE section=? AND variable=?;")) {
-                        statement.setString(1, section);
-                        statement.setString(2, key);
-                        statement.execute();
-                    }
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "DELETE FROM phantombot_" + fName + " WHERE section=? AND variable=?;");
+                    statement.setString(1, section);
+                    statement.setString(2, key);
+                    statement.execute();
                 }
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
@@ -302,10 +328,9 @@ public final class SqliteStore extends DataStore {
                 fName = validateFname(fName);
 
                 if (FileExists(connection, fName)) {
-                    try ( PreparedStatement statement = connection.prepareStatement("DELETE FROM phantombot_" + fName + " WHERE section=?;")) {
-                        statement.setString(1, section);
-                        statement.execute();
-                    }
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "DELETE FROM phantombot_" + fName + " WHERE section=?;");
+                    statement.setString(1, section);
+                    statement.execute();
                 }
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
@@ -326,6 +351,9 @@ public final class SqliteStore extends DataStore {
                     try ( Statement statement = connection.createStatement()) {
                         statement.execute("DROP TABLE phantombot_" + fName + ";");
                     }
+
+                    this.tables.put(fName.toLowerCase(), Boolean.FALSE);
+                    this.statements.invalidate(fName);
                 }
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
@@ -354,7 +382,16 @@ public final class SqliteStore extends DataStore {
                     }
 
                     statement.execute("ALTER TABLE phantombot_" + fNameSource + " RENAME TO phantombot_" + fNameDest + ";");
+                    /* Index names are global, move the index along so that a new source table can create its own */
+                    statement.execute("DROP INDEX IF EXISTS " + fNameSource + "_idx;");
                 }
+
+                this.ensureUniqueIndex(connection, fNameDest);
+
+                this.tables.put(fNameSource.toLowerCase(), Boolean.FALSE);
+                this.tables.put(fNameDest.toLowerCase(), Boolean.TRUE);
+                this.statements.invalidate(fNameSource);
+                this.statements.invalidate(fNameDest);
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
             }
@@ -381,12 +418,20 @@ public final class SqliteStore extends DataStore {
             this.rwl.readLock().lock();
             fName = validateFname(fName);
 
+            Boolean known = this.tables.get(fName.toLowerCase());
+
+            if (known != null) {
+                return known;
+            }
+
             boolean out = false;
 
             try ( Statement statement = connection.createStatement()) {
                 try ( ResultSet rs = statement.executeQuery("SELECT name FROM sqlite_master WHERE type='table' AND name='phantombot_" + fName + "';")) {
                     out = rs.next();
                 }
+
+                this.tables.put(fName.toLowerCase(), out);
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
             }
@@ -470,32 +515,30 @@ public final class SqliteStore extends DataStore {
 
                 if (FileExists(connection, fName)) {
                     if (section != null) {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + " WHERE section=?;")) {
-                            statement.setString(1, section);
-
-                            try ( ResultSet rs = statement.executeQuery()) {
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + " WHERE section=?;");
+                        statement.setString(1, section);
 
-                                ArrayList<String> s = new ArrayList<>();
+                        try ( ResultSet rs = statement.executeQuery()) {
 
-                                while (rs.next()) {
-                                    s.add(rs.getString("variable"));
-                                }
+                            ArrayList<String> s = new ArrayList<>();
 
-                                out = s.toArray(String[]::new);
+                            while (rs.next()) {
+                                s.add(rs.getString("variable"));
                             }
+
+                            out = s.toArray(String[]::new);
                         }
                     } else {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + ";")) {
-                            try ( ResultSet rs = statement.executeQuery()) {
-
-                                ArrayList<String> s = new ArrayList<>();
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + ";");
+                        try ( ResultSet rs = statement.executeQuery()) {
 
-                                while (rs.next()) {
-                                    s.add(rs.getString("variable"));
-                                }
+                            ArrayList<String> s = new ArrayList<>();
 
-                                out = s.toArray(String[]::new);
+                            while (rs.next()) {
+                                s.add(rs.getString("variable"));
                             }
+
+                            out = s.toArray(String[]::new);
                         }
                     }
                 }
@@ -520,31 +563,29 @@ public final class SqliteStore extends DataStore {
 
                 if (FileExists(connection, fName)) {
                     if (section != null) {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable, value FROM phantombot_" + fName + " WHERE section=?;")) {
-                            statement.setString(1, section);
-
-                            try ( ResultSet rs = statement.executeQuery()) {
-                                ArrayList<KeyValue> s = new ArrayList<>();
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable, value FROM phantombot_" + fName + " WHERE section=?;");
+                        statement.setString(1, section);
 
-                                while (rs.next()) {
-                                    s.add(new KeyValue(rs.getString("variable"), rs.getString("value")));
-                                }
+                        try ( ResultSet rs = statement.executeQuery()) {
+                            ArrayList<KeyValue> s = new ArrayList<>();
 
-                                out = s.toArray(KeyValue[]::new);
+                            while (rs.next()) {
+                                s.add(new KeyValue(rs.getString("variable"), rs.getString("value")));
                             }
+
+                            out = s.toArray(KeyValue[]::new);
                         }
                     } else {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable, value FROM phantombot_" + fName + ";")) {
-                            try ( ResultSet rs = statement.executeQuery()) {
-
-                                ArrayList<KeyValue> s = new ArrayList<>();
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable, value FROM phantombot_" + fName + ";");
+                        try ( ResultSet rs = statement.executeQuery()) {
 
-                                while (rs.next()) {
-                                    s.add(new KeyValue(rs.getString("variable"), rs.getString("value")));
-                                }
+                            ArrayList<KeyValue> s = new ArrayList<>();
 
-                                out = s.toArray(KeyValue[]::new);
+                            while (rs.next()) {
+                                s.add(new KeyValue(rs.getString("variable"), rs.getString("value")));
                             }
+
+                            out = s.toArray(KeyValue[]::new);
                         }
                     }
                 }
@@ -558,6 +599,110 @@ public final class SqliteStore extends DataStore {
         }
     }
 
+    @Override
+    public KeyValue[] GetKeyValuePage(String fName, String section, String afterKey, int limit) {
+        if (section == null) {
+            return super.GetKeyValuePage(fName, section, afterKey, limit);
+        }
+
+        try {
+            this.rwl.readLock().lock();
+            KeyValue[] out = new KeyValue[]{};
+
+            try ( Connection connection = GetConnection()) {
+                fName = validateFname(fName);
+
+                if (!FileExists(connection, fName)) {
+                    return out;
+                }
+
+                String sql = "SELECT variable, value FROM phantombot_" + fName + " WHERE section=?" + (afterKey == null ? "" : " AND variable>?") + " ORDER BY variable LIMIT ?;";
+
+                PreparedStatement statement = this.statements.prepare(connection, fName, sql);
+                int idx = 1;
+                statement.setString(idx++, section);
+
+                if (afterKey != null) {
+                    statement.setString(idx++, afterKey);
+                }
+
+                statement.setInt(idx, limit);
+
+                try ( ResultSet rs = statement.executeQuery()) {
+                    ArrayList<KeyValue> s = new ArrayList<>();
+
+                    while (rs.next()) {
+                        s.add(new KeyValue(rs.getString(1), rs.getString(2)));
+                    }
+
+                    out = s.toArray(KeyValue[]::new);
+                }
+            } catch (SQLException ex) {
+                com.gmt2001.Console.err.printStackTrace(ex);
+            }
+
+            return out;
+        } finally {
+            this.rwl.readLock().unlock();
+        }
+    }
+
+
+    @Override
+    public NumberKeyValue[] GetKeyValuePageByNumberOrderValue(String fName, String section, String order, NumberKeyValue after, int limit) {
+        if (section == null) {
+            return super.GetKeyValuePageByNumberOrderValue(fName, section, order, after, limit);
+        }
+
+        try {
+            this.rwl.readLock().lock();
+            NumberKeyValue[] out = new NumberKeyValue[]{};
+
+            try ( Connection connection = GetConnection()) {
+                fName = validateFname(fName);
+                order = sanitizeOrder(order);
+
+                if (!FileExists(connection, fName)) {
+                    return out;
+                }
+
+                String op = order.equals("DESC") ? "<" : ">";
+                String sql = "SELECT variable, value, CAST(value AS INTEGER) FROM phantombot_" + fName + " WHERE section=?"
+                        + (after == null ? "" : " AND (CAST(value AS INTEGER) " + op + " ? OR (CAST(value AS INTEGER) = ? AND variable " + op + " ?))")
+                        + " ORDER BY CAST(value AS INTEGER) " + order + ", variable " + order + " LIMIT ?;";
+
+                PreparedStatement statement = this.statements.prepare(connection, fName, sql);
+                int idx = 1;
+                statement.setString(idx++, section);
+
+                if (after != null) {
+                    long number = Long.parseLong(after.getNumber());
+                    statement.setLong(idx++, number);
+                    statement.setLong(idx++, number);
+                    statement.setString(idx++, after.getKey());
+                }
+
+                statement.setInt(idx, limit);
+
+                try ( ResultSet rs = statement.executeQuery()) {
+                    ArrayList<NumberKeyValue> s = new ArrayList<>();
+
+                    while (rs.next()) {
+                        s.add(new NumberKeyValue(rs.getString(1), rs.getString(2), Long.toString(rs.getLong(3))));
+                    }
+
+                    out = s.toArray(NumberKeyValue[]::new);
+                }
+            } catch (SQLException ex) {
+                com.gmt2001.Console.err.printStackTrace(ex);
+            }
+
+            return out;
+        } finally {
+            this.rwl.readLock().unlock();
+        }
+    }
+
     @Override
     public String[] GetKeysByOrder(String fName, String section, String order, String limit, String offset) {
         return GetKeysByOrderInternal(fName, section, order, limit, offset, false);
@@ -716,31 +861,29 @@ public final class SqliteStore extends DataStore {
 
                 if (FileExists(connection, fName)) {
                     if (section != null) {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + " WHERE section=? AND value LIKE ?;")) {
-                            statement.setString(1, section);
-                            statement.setString(2, "%" + search + "%");
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + " WHERE section=? AND value LIKE ?;");
+                        statement.setString(1, section);
+                        statement.setString(2, "%" + search + "%");
 
-                            try ( ResultSet rs = statement.executeQuery()) {
-                                ArrayList<String> s = new ArrayList<>();
+                        try ( ResultSet rs = statement.executeQuery()) {
+                            ArrayList<String> s = new ArrayList<>();
 
-                                while (rs.next()) {
-                                    s.add(rs.getString("variable"));
-                                }
-                                out = s.toArray(String[]::new);
+                            while (rs.next()) {
+                                s.add(rs.getString("variable"));
                             }
+                            out = s.toArray(String[]::new);
                         }
                     } else {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + " WHERE value LIKE ?;")) {
-                            statement.setString(1, "%" + search + "%");
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + " WHERE value LIKE ?;");
+                        statement.setString(1, "%" + search + "%");
 
-                            try ( ResultSet rs = statement.executeQuery()) {
-                                ArrayList<String> s = new ArrayList<>();
+                        try ( ResultSet rs = statement.executeQuery()) {
+                            ArrayList<String> s = new ArrayList<>();
 
-                                while (rs.next()) {
-                                    s.add(rs.getString("variable"));
-                                }
-                                out = s.toArray(String[]::new);
+                            while (rs.next()) {
+                                s.add(rs.getString("variable"));
                             }
+                            out = s.toArray(String[]::new);
                         }
                     }
                 }
@@ -765,31 +908,29 @@ public final class SqliteStore extends DataStore {
 
                 if (FileExists(connection, fName)) {
                     if (section != null) {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + " WHERE section=? AND variable LIKE ?;")) {
-                            statement.setString(1, section);
-                            statement.setString(2, "%" + search + "%");
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + " WHERE section=? AND variable LIKE ?;");
+                        statement.setString(1, section);
+                        statement.setString(2, "%" + search + "%");
 
-                            try ( ResultSet rs = statement.executeQuery()) {
-                                ArrayList<String> s = new ArrayList<>();
+                        try ( ResultSet rs = statement.executeQuery()) {
+                            ArrayList<String> s = new ArrayList<>();
 
-                                while (rs.next()) {
-                                    s.add(rs.getString("variable"));
-                                }
-                                out = s.toArray(String[]::new);
+                            while (rs.next()) {
+                                s.add(rs.getString("variable"));
                             }
+                            out = s.toArray(String[]::new);
                         }
                     } else {
-                        try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + " WHERE variable LIKE ?;")) {
-                            statement.setString(1, "%" + search + "%");
+                        PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + " WHERE variable LIKE ?;");
+                        statement.setString(1, "%" + search + "%");
 
-                            try ( ResultSet rs = statement.executeQuery()) {
-                                ArrayList<String> s = new ArrayList<>();
+                        try ( ResultSet rs = statement.executeQuery()) {
+                            ArrayList<String> s = new ArrayList<>();
 
-                                while (rs.next()) {
-                                    s.add(rs.getString("variable"));
-                                }
-                                out = s.toArray(String[]::new);
+                            while (rs.next()) {
+                                s.add(rs.getString("variable"));
                             }
+                            out = s.toArray(String[]::new);
                         }
                     }
                 }
@@ -871,26 +1012,24 @@ public final class SqliteStore extends DataStore {
                 }
 
                 if (section != null && !section.isEmpty()) {
-                    try ( PreparedStatement statement = connection.prepareStatement("SELECT value FROM phantombot_" + fName + " WHERE section=? AND variable=?;")) {
-                        statement.setString(1, section);
-                        statement.setString(2, key);
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT value FROM phantombot_" + fName + " WHERE section=? AND variable=?;");
+                    statement.setString(1, section);
+                    statement.setString(2, key);
 
-                        try ( ResultSet rs = statement.executeQuery()) {
+                    try ( ResultSet rs = statement.executeQuery()) {
 
-                            if (rs.next()) {
-                                out = true;
-                            }
+                        if (rs.next()) {
+                            out = true;
                         }
                     }
                 } else {
-                    try ( PreparedStatement statement = connection.prepareStatement("SELECT value FROM phantombot_" + fName + " WHERE variable=?;")) {
-                        statement.setString(1, key);
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT value FROM phantombot_" + fName + " WHERE variable=?;");
+                    statement.setString(1, key);
 
-                        try ( ResultSet rs = statement.executeQuery()) {
+                    try ( ResultSet rs = statement.executeQuery()) {
 
-                            if (rs.next()) {
-                                out = true;
-                            }
+                        if (rs.next()) {
+                            out = true;
                         }
                     }
                 }
@@ -918,26 +1057,24 @@ public final class SqliteStore extends DataStore {
                 }
 
                 if (section != null) {
-                    try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + " WHERE section=? AND value=?;")) {
-                        statement.setString(1, section);
-                        statement.setString(2, value);
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + " WHERE section=? AND value=?;");
+                    statement.setString(1, section);
+                    statement.setString(2, value);
 
-                        try ( ResultSet rs = statement.executeQuery()) {
+                    try ( ResultSet rs = statement.executeQuery()) {
 
-                            if (rs.next()) {
-                                result = rs.getString("variable");
-                            }
+                        if (rs.next()) {
+                            result = rs.getString("variable");
                         }
                     }
                 } else {
-                    try ( PreparedStatement statement = connection.prepareStatement("SELECT variable FROM phantombot_" + fName + " WHERE value=?;")) {
-                        statement.setString(1, value);
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT variable FROM phantombot_" + fName + " WHERE value=?;");
+                    statement.setString(1, value);
 
-                        try ( ResultSet rs = statement.executeQuery()) {
+                    try ( ResultSet rs = statement.executeQuery()) {
 
-                            if (rs.next()) {
-                                result = rs.getString("variable");
-                            }
+                        if (rs.next()) {
+                            result = rs.getString("variable");
                         }
                     }
                 }
@@ -965,26 +1102,24 @@ public final class SqliteStore extends DataStore {
                 }
 
                 if (section != null) {
-                    try ( PreparedStatement statement = connection.prepareStatement("SELECT value FROM phantombot_" + fName + " WHERE section=? AND variable=?;")) {
-                        statement.setString(1, section);
-                        statement.setString(2, key);
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT value FROM phantombot_" + fName + " WHERE section=? AND variable=?;");
+                    statement.setString(1, section);
+                    statement.setString(2, key);
 
-                        try ( ResultSet rs = statement.executeQuery()) {
+                    try ( ResultSet rs = statement.executeQuery()) {
 
-                            if (rs.next()) {
-                                result = rs.getString("value");
-                            }
+                        if (rs.next()) {
+                            result = rs.getString("value");
                         }
                     }
                 } else {
-                    try ( PreparedStatement statement = connection.prepareStatement("SELECT value FROM phantombot_" + fName + " WHERE variable=?;")) {
-                        statement.setString(1, key);
+                    PreparedStatement statement = this.statements.prepare(connection, fName, "SELECT value FROM phantombot_" + fName + " WHERE variable=?;");
+                    statement.setString(1, key);
 
-                        try ( ResultSet rs = statement.executeQuery()) {
+                    try ( ResultSet rs = statement.executeQuery()) {
 
-                            if (rs.next()) {
-                                result = rs.getString("value");
-                            }
+                        if (rs.next()) {
+                            result = rs.getString("value");
                         }
                     }
                 }
@@ -999,54 +1134,83 @@ public final class SqliteStore extends DataStore {
     }
 
     @Override
-    public void SetBatchString(String fName, String section, String[] keys, String[] values) {
+    public String[] GetBatchString(String fName, String section, String[] keys) {
+        if (section == null) {
+            return super.GetBatchString(fName, section, keys);
+        }
+
         try {
             this.rwl.readLock().lock();
-            try ( Connection connection = GetConnection()) {
+            String[] out = new String[keys.length];
 
-                fName = validateFname(fName);
-                AddFile(connection, fName);
+            if (keys.length == 0) {
+                return out;
+            }
 
-                /* Walk the list of keys to figure out which ones can pass INSERT and which ones need UPDATE */
-                Map<String, String> insertMap = new HashMap<>();
-                Map<String, String> updateMap = new HashMap<>();
+            try ( Connection connection = GetConnection()) {
+                fName = validateFname(fName);
 
-                for (int idx = 0; idx < keys.length; idx++) {
-                    if (HasKey(fName, section, keys[idx])) {
-                        updateMap.put(keys[idx], values[idx]);
-                    } else {
-                        insertMap.put(keys[idx], values[idx]);
-                    }
+                if (!FileExists(connection, fName)) {
+                    return out;
                 }
 
-                connection.setAutoCommit(false);
+                Map<String, String> values = new HashMap<>();
+
+                for (int start = 0; start < keys.length; start += MAX_BATCH_KEYS) {
+                    int end = Math.min(keys.length, start + MAX_BATCH_KEYS);
+
+                    try ( PreparedStatement statement = connection.prepareStatement("SELECT variable, value FROM phantombot_" + fName + " WHERE section=? AND variable IN ("
+                            + String.join(", ", Collections.nCopies(end - start, "?")) + ");")) {
+                        statement.setString(1, section);
 
-                if (!insertMap.isEmpty()) {
-                    try ( PreparedStatement statement = connection.prepareStatement("INSERT INTO phantombot_" + fName + " (value, section, variable) values(?, ?, ?);")) {
-                        for (String key : insertMap.keySet()) {
-                            statement.setString(1, insertMap.get(key));
-                            statement.setString(2, section);
-                            statement.setString(3, key);
-                            statement.addBatch();
+                        for (int i = start; i < end; i++) {
+                            statement.setString(i - start + 2, keys[i]);
                         }
 
-                        statement.executeBatch();
+                        try ( ResultSet rs = statement.executeQuery()) {
+                            while (rs.next()) {
+                                values.put(rs.getString(1), rs.getString(2));
+                            }
+                        }
                     }
                 }
 
-                if (!updateMap.isEmpty()) {
-                    try ( PreparedStatement statement = connection.prepareStatement("UPDATE phantombot_" + fName + " SET value=? WHERE section=? and variable=?;")) {
-                        for (String key : updateMap.keySet()) {
-                            statement.setString(1, updateMap.get(key));
-                            statement.setString(2, section);
-                            statement.setString(3, key);
-                            statement.addBatch();
-                        }
+                for (int i = 0; i < keys.length; i++) {
+                    out[i] = values.get(keys[i]);
+                }
+            } catch (SQLException ex) {
+                com.gmt2001.Console.err.printStackTrace(ex);
+            }
 
-                        statement.executeBatch();
-                    }
+            return out;
+        } finally {
+            this.rwl.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void SetBatchString(String fName, String section, String[] keys, String[] values) {
+        try {
+            this.rwl.readLock().lock();
+            try ( Connection connection = GetConnection()) {
+
+                fName = validateFname(fName);
+                AddFile(connection, fName);
+
+                connection.setAutoCommit(false);
+
+                PreparedStatement statement = this.statements.prepare(connection, fName, "INSERT INTO phantombot_" + fName + " (section, variable, value) VALUES(?, ?, ?) ON CONFLICT(section, variable) DO UPDATE SET value=excluded.value;");
+                statement.clearBatch();
+
+                for (int idx = 0; idx < keys.length; idx++) {
+                    statement.setString(1, section);
+                    statement.setString(2, keys[idx]);
+                    statement.setString(3, values[idx]);
+                    statement.addBatch();
                 }
 
+                statement.executeBatch();
+
                 connection.commit();
                 connection.setAutoCommit(true);
             } catch (SQLException ex) {
@@ -1067,22 +1231,39 @@ public final class SqliteStore extends DataStore {
 
                 AddFile(connection, fName);
 
-                if (HasKey(fName, section, key)) {
-                    try ( PreparedStatement statement = connection.prepareStatement("UPDATE phantombot_" + fName + " SET value=? WHERE section=? AND variable=?;")) {
-                        statement.setString(1, value);
-                        statement.setString(2, section);
-                        statement.setString(3, key);
-                        statement.execute();
-                    }
-                } else {
-                    try ( PreparedStatement statement = connection.prepareStatement("INSERT INTO phantombot_" + fName + " values(?, ?, ?);")) {
-                        statement.setString(1, section);
-                        statement.setString(2, key);
-                        statement.setString(3, value);
-                        statement.execute();
-                    }
-                }
+                PreparedStatement statement = this.statements.prepare(connection, fName, "INSERT INTO phantombot_" + fName + " (section, variable, value) VALUES(?, ?, ?) ON CONFLICT(section, variable) DO UPDATE SET value=excluded.value;");
+                statement.setString(1, section);
+                statement.setString(2, key);
+                statement.setString(3, value);
+                statement.execute();
+            } catch (SQLException ex) {
+                com.gmt2001.Console.err.printStackTrace(ex);
+            }
+        } finally {
+            this.rwl.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void incr(String fName, String section, String key, long amount) {
+        if (section == null) {
+            super.incr(fName, section, key, amount);
+            return;
+        }
 
+        try {
+            this.rwl.readLock().lock();
+            try ( Connection connection = GetConnection()) {
+                fName = validateFname(fName);
+
+                AddFile(connection, fName);
+
+                PreparedStatement statement = this.statements.prepare(connection, fName, "INSERT INTO phantombot_" + fName + " (section, variable, value) VALUES(?, ?, ?) ON CONFLICT(section, variable) DO UPDATE SET value=CAST(value AS INTEGER) + ?;");
+                statement.setString(1, section);
+                statement.setString(2, key);
+                statement.setString(3, Long.toString(amount));
+                statement.setLong(4, amount);
+                statement.execute();
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
             }
@@ -1091,12 +1272,24 @@ public final class SqliteStore extends DataStore {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <br /><br />
+     * Each chunk is a single {@code INSERT ... SELECT ... FROM (VALUES ...) ON CONFLICT DO UPDATE} statement
+     */
     @Override
-    public void IncreaseBatchString(String fName, String section, String[] keys, String value) {
+    public IncrementStats IncreaseBatchLong(String fName, String section, Map<String, Long> amounts) {
+        if (section == null) {
+            return super.IncreaseBatchLong(fName, section, amounts);
+        }
+
+        long start = System.nanoTime();
+        int statementCount = 0;
+
         try {
             this.rwl.readLock().lock();
-            if (keys.length == 0) {
-                return;
+            if (amounts.isEmpty()) {
+                return new IncrementStats(0, 0, System.nanoTime() - start);
             }
 
             try ( Connection connection = GetConnection()) {
@@ -1104,50 +1297,67 @@ public final class SqliteStore extends DataStore {
 
                 AddFile(connection, fName);
 
-                connection.setAutoCommit(false);
+                List<Map.Entry<String, Long>> rows = new ArrayList<>(new TreeMap<>(amounts).entrySet());
 
-                StringBuilder sb = new StringBuilder(keys.length * 2);
+                connection.setAutoCommit(false);
 
-                for (String unused : keys) {
-                    sb.append("?,");
-                }
+                try {
+                    for (int from = 0; from < rows.size(); from += MAX_INCREMENT_ROWS) {
+                        int to = Math.min(rows.size(), from + MAX_INCREMENT_ROWS);
+                        String sql = "INSERT INTO phantombot_" + fName + " (section, variable, value) SELECT ?, column1, column2 FROM (VALUES "
+                                + String.join(", ", Collections.nCopies(to - from, "(?, ?)"))
+                                + ") WHERE true ON CONFLICT(section, variable) DO UPDATE SET value=CAST(value AS INTEGER) + CAST(excluded.value AS INTEGER);";
+
+                        if (to - from == MAX_INCREMENT_ROWS) {
+                            this.executeIncrement(this.statements.prepare(connection, fName, sql), section, rows, from, to);
+                        } else {
+                            try ( PreparedStatement statement = connection.prepareStatement(sql)) {
+                                this.executeIncrement(statement, section, rows, from, to);
+                            }
+                        }
 
-                try ( PreparedStatement statement = connection.prepareStatement("UPDATE phantombot_" + fName + " SET value = CAST(value AS UNSIGNED) + ? WHERE section = ? AND variable IN (" + sb.deleteCharAt(sb.length() - 1).toString() + ");")) {
-                    statement.setInt(1, Integer.parseUnsignedInt(value));
-                    statement.setString(2, section);
-                    int i = 3;
-                    for (String k : keys) {
-                        statement.setString(i++, k);
+                        statementCount++;
                     }
-                    statement.execute();
-                }
-
-                sb = new StringBuilder(keys.length * 10);
 
-                for (String unused : keys) {
-                    sb.append("(?, ?, ?),");
-                }
-
-                try ( PreparedStatement statement = connection.prepareStatement("INSERT OR IGNORE INTO phantombot_" + fName + " (section, variable, value) VALUES " + sb.deleteCharAt(sb.length() - 1).toString() + ";")) {
-                    int i = 1;
-                    for (String k : keys) {
-                        statement.setString(i++, section);
-                        statement.setString(i++, k);
-                        statement.setString(i++, value);
-                    }
-                    statement.execute();
+                    connection.commit();
+                } catch (SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                } finally {
+                    connection.setAutoCommit(true);
                 }
-
-                connection.commit();
-                connection.setAutoCommit(true);
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
             }
+
+            return new IncrementStats(amounts.size(), statementCount, System.nanoTime() - start);
         } finally {
             this.rwl.readLock().unlock();
         }
     }
 
+    /**
+     * Binds one chunk of rows to a multi-row increment statement and executes it
+     *
+     * @param statement The statement, with a section parameter followed by {@code to - from} pairs of key and amount parameters
+     * @param section The section
+     * @param rows The sorted rows
+     * @param from The index of the first row of the chunk
+     * @param to The index after the last row of the chunk
+     * @throws SQLException
+     */
+    private void executeIncrement(PreparedStatement statement, String section, List<Map.Entry<String, Long>> rows, int from, int to) throws SQLException {
+        int idx = 1;
+        statement.setString(idx++, section);
+
+        for (int i = from; i < to; i++) {
+            statement.setString(idx++, rows.get(i).getKey());
+            statement.setString(idx++, Long.toString(rows.get(i).getValue()));
+        }
+
+        statement.execute();
+    }
+
     @Override
     public List<List<String>> query(String sql, String[] replacements) {
         try {
@@ -1181,6 +1391,10 @@ public final class SqliteStore extends DataStore {
                 com.gmt2001.Console.err.printStackTrace(ex);
             }
 
+            /* Arbitrary SQL may have created or dropped tables */
+            this.tables.clear();
+            this.statements.invalidateAll();
+
             return results;
         } finally {
             this.rwl.readLock().unlock();
@@ -1193,20 +1407,8 @@ public final class SqliteStore extends DataStore {
             this.rwl.writeLock().lock();
             try ( Connection connection = GetConnection()) {
                 String[] tableNames = GetFileList();
-                try ( Statement statement = connection.createStatement()) {
-                    for (String tableName : tableNames) {
-                        tableName = validateFname(tableName);
-                        try {
-                            statement.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + tableName + "_idx on phantombot_" + tableName + " (section, variable);");
-                        } catch (SQLiteException ex) {
-                            if (ex.getResultCode() == SQLiteErrorCode.SQLITE_CONSTRAINT || ex.getResultCode() == SQLiteErrorCode.SQLITE_CONSTRAINT_UNIQUE) {
-                                statement.execute("DELETE FROM phantombot_" + tableName + " WHERE rowid NOT IN (SELECT MIN(rowid) FROM phantombot_" + tableName + " GROUP BY section, variable);");
-                                statement.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + tableName + "_idx on phantombot_" + tableName + " (section, variable);");
-                            } else {
-                                throw ex;
-                            }
-                        }
-                    }
+                for (String tableName : tableNames) {
+                    this.ensureUniqueIndex(connection, validateFname(tableName));
                 }
             } catch (SQLException ex) {
                 com.gmt2001.Console.err.printStackTrace(ex);
@@ -1216,6 +1418,84 @@ public final class SqliteStore extends DataStore {
         }
     }
 
+    /**
+     * Ensures that a table has a unique index on {@code (section, variable)}, which the {@code ON CONFLICT} upserts require
+     * <br /><br />
+     * Index names are global in SQLite, and older versions of {@link #RenameFile(String, String)} left {@code <table>_idx} attached to the renamed
+     * table. A table later recreated under the old name therefore has no unique index, even though an index with its expected name exists. The
+     * indexes of the table itself are inspected instead, and a missing index is created under a free name, removing duplicate rows if needed
+     *
+     * @param connection The connection
+     * @param fName The validated table name, without the {@code phantombot_} prefix
+     * @throws SQLException
+     */
+    private void ensureUniqueIndex(Connection connection, String fName) throws SQLException {
+        String table = "phantombot_" + fName;
+        List<String> uniqueIndexes = new ArrayList<>();
+
+        try ( Statement statement = connection.createStatement();  ResultSet rs = statement.executeQuery("PRAGMA index_list(" + table + ");")) {
+            while (rs.next()) {
+                if (rs.getInt("unique") == 1 && rs.getInt("partial") == 0) {
+                    uniqueIndexes.add(rs.getString("name"));
+                }
+            }
+        }
+
+        for (String index : uniqueIndexes) {
+            Set<String> columns = new HashSet<>();
+
+            try ( Statement statement = connection.createStatement();  ResultSet rs = statement.executeQuery("PRAGMA index_info(\"" + index.replace("\"", "\"\"") + "\");")) {
+                while (rs.next()) {
+                    String column = rs.getString("name");
+                    columns.add(column == null ? "" : column.toLowerCase());
+                }
+            }
+
+            if (columns.size() == 2 && columns.contains("section") && columns.contains("variable")) {
+                return;
+            }
+        }
+
+        String indexName = fName + "_idx";
+
+        for (int i = 2; this.indexExists(connection, indexName); i++) {
+            indexName = fName + "_idx" + i;
+        }
+
+        String create = "CREATE UNIQUE INDEX " + indexName + " on " + table + " (section, variable);";
+
+        try ( Statement statement = connection.createStatement()) {
+            try {
+                statement.execute(create);
+            } catch (SQLiteException ex) {
+                if (ex.getResultCode() == SQLiteErrorCode.SQLITE_CONSTRAINT || ex.getResultCode() == SQLiteErrorCode.SQLITE_CONSTRAINT_UNIQUE) {
+                    statement.execute("DELETE FROM " + table + " WHERE rowid NOT IN (SELECT MIN(rowid) FROM " + table + " GROUP BY section, variable);");
+                    statement.execute(create);
+                } else {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Indicates if an index with the specified name exists on any table
+     *
+     * @param connection The connection
+     * @param indexName The index name
+     * @return {@code true} if the name is taken
+     * @throws SQLException
+     */
+    private boolean indexExists(Connection connection, String indexName) throws SQLException {
+        try ( PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM sqlite_master WHERE type='index' AND name=? COLLATE NOCASE;")) {
+            statement.setString(1, indexName);
+
+            try ( ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
     @Override
     public void DropIndexes() {
         try {
@@ -1323,10 +1603,6 @@ public final class SqliteStore extends DataStore {
             this.rwl.writeLock().unlock();
         }
 
-        try {
-            poolMgr.dispose();
-        } catch (SQLException ex) {
-            com.gmt2001.Console.err.printStackTrace(ex);
-        }
+        this.poolMgr.dispose();
     }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.datastore;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@link PreparedStatement} objects for each physical database connection
+ * <br /><br />
+ * Statements are keyed by table and SQL, and are kept open after use so that the database does not have to compile them again.
+ * Statements returned by {@link #prepare(Connection, String, String)} must not be closed by the caller, but any {@link java.sql.ResultSet} must be
+ * <br /><br />
+ * Invalidating a table only bumps its generation counter, the stale statements are closed by the next thread which looks them up on the same
+ * connection, so that a statement is never closed while another thread is executing it
+ * <br /><br />
+ * The statements of a connection must be released with {@link #release(Connection)} when the connection is closed, see
+ * {@link ConnectionPool#addDiscardListener(java.util.function.Consumer)}
+ */
+public final class StatementCache {
+
+    private final int maxStatements;
+    private final ConcurrentMap<Connection, ConnectionCache> connections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong(0);
+
+    /**
+     * Constructor
+     *
+     * @param maxStatements The maximum number of statements to keep open on each physical connection
+     */
+    public StatementCache(int maxStatements) {
+        this.maxStatements = Math.max(1, maxStatements);
+    }
+
+    /**
+     * Returns a cached statement for the given table and SQL, preparing it on a miss
+     * <br /><br />
+     * The caller must hold {@code connection} exclusively, as it does when it was obtained from a connection pool
+     *
+     * @param connection The connection, possibly a logical handle from a connection pool
+     * @param fName The table name, without the {@code phantombot_} prefix, which the statement operates on
+     * @param sql The SQL of the statement
+     * @return An open statement. Parameters from previous executions may still be set
+     * @throws SQLException if preparing the statement fails
+     */
+    public PreparedStatement prepare(Connection connection, String fName, String sql) throws SQLException {
+        Connection physical = ConnectionPool.physical(connection);
+        ConnectionCache cache = this.connections.computeIfAbsent(physical, c -> new ConnectionCache());
+
+        try {
+            return cache.prepare(physical, fName.toLowerCase(), sql);
+        } catch (SQLException ex) {
+            /* The connection may have been closed after it was released, do not keep its cache around */
+            if (physical.isClosed()) {
+                this.release(physical);
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * Closes and forgets all statements of a connection
+     *
+     * @param connection The connection, possibly a logical handle from a connection pool
+     */
+    public void release(Connection connection) {
+        ConnectionCache cache = this.connections.remove(ConnectionPool.physical(connection));
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Invalidates all statements which operate on the given table
+     *
+     * @param fName The table name, without the {@code phantombot_} prefix
+     */
+    public void invalidate(String fName) {
+        this.generations.merge(fName.toLowerCase(), 1L, Long::sum);
+    }
+
+    /**
+     * Invalidates all statements on all connections
+     */
+    public void invalidateAll() {
+        this.globalGeneration.incrementAndGet();
+    }
+
+    /**
+     * Returns the current generation of a table
+     *
+     * @param fName The lower-cased table name
+     * @return
+     */
+    private long generation(String fName) {
+        return this.globalGeneration.get() + this.generations.getOrDefault(fName, 0L);
+    }
+
+    /**
+     * A cached statement and the table generation it was prepared in
+     */
+    private static final class CachedStatement {
+
+        private final PreparedStatement statement;
+        private final long generation;
+
+        private CachedStatement(PreparedStatement statement, long generation) {
+            this.statement = statement;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The LRU statement cache of a single physical connection
+     */
+    private final class ConnectionCache {
+
+        private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (this.size() > StatementCache.this.maxStatements) {
+                    close(eldest.getValue().statement);
+                    return true;
+                }
+
+                return false;
+            }
+        };
+
+        /**
+         * Returns the cached statement, or prepares and caches a new one if it is missing, closed, or stale
+         *
+         * @param physical The physical connection
+         * @param fName The lower-cased table name
+         * @param sql The SQL of the statement
+         * @return
+         * @throws SQLException
+         */
+        private synchronized PreparedStatement prepare(Connection physical, String fName, String sql) throws SQLException {
+            String key = fName + '\0' + sql;
+            long generation = StatementCache.this.generation(fName);
+            CachedStatement cached = this.statements.get(key);
+
+            if (cached != null) {
+                if (cached.generation == generation && !cached.statement.isClosed()) {
+                    return cached.statement;
+                }
+
+                this.statements.remove(key);
+                close(cached.statement);
+            }
+
+            PreparedStatement statement = physical.prepareStatement(sql);
+            this.statements.put(key, new CachedStatement(statement, generation));
+            return statement;
+        }
+
+        /**
+         * Closes and removes all statements
+         */
+        private synchronized void clear() {
+            for (CachedStatement cached : this.statements.values()) {
+                close(cached.statement);
+            }
+
+            this.statements.clear();
+        }
+    }
+
+    /**
+     * Closes a statement, ignoring errors
+     *
+     * @param statement The statement to close
+     */
+    private static void close(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ex) {
+            com.gmt2001.Console.debug.printStackTrace(ex);
+        }
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.httpclient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import tv.phantombot.CaselessProperties;
+
+/**
+ * Performs HTTP GET requests through a response cache
+ * <br /><br />
+ * Responses are kept in memory and on disk. A stored response which is still fresh according to its {@code Cache-Control} or
+ * {@code Expires} header is returned without a request. Otherwise, the request is revalidated with {@code If-None-Match} and
+ * {@code If-Modified-Since}, and a {@code 304 Not Modified} reuses the stored body
+ * <br /><br />
+ * Intended for periodic polls of external APIs which return the same document most of the time
+ * <br /><br />
+ * Updates of the stored response of a URL are serialized by a striped lock. Files are replaced atomically, and the metadata records the
+ * SHA-256 of the body it belongs to, so that a body is never paired with the metadata of another response when it is read back from disk
+ */
+public final class HttpCache {
+
+    private static final Path DIRECTORY = Paths.get("./config/httpcache");
+    /**
+     * Stored responses in least-recently-used order, keyed by URL
+     */
+    private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true);
+    private static long memoryBytes = 0;
+    /**
+     * Striped locks which serialize the updates of the stored response of a URL, see {@link #lock(String)}
+     */
+    private static final Object[] LOCKS = new Object[32];
+
+    static {
+        for (int i = 0; i < LOCKS.length; i++) {
+            LOCKS[i] = new Object();
+        }
+    }
+
+    /**
+     * Hide the Constructor
+     */
+    private HttpCache() {
+    }
+
+    /**
+     * Performs a GET through the cache with the default headers
+     *
+     * @param url The URL to request
+     * @return A {@link HttpClientResponse} with the results
+     */
+    public static HttpClientResponse get(URI url) {
+        return get(url, HttpClient.createHeaders());
+    }
+
+    /**
+     * Performs a GET through the cache with the specified headers
+     * <br /><br />
+     * Responses returned from the cache have the status {@code 200 OK}, the stored response headers, and a {@code null}
+     * {@link HttpClientResponse#resourceUrl()}
+     *
+     * @param url The URL to request
+     * @param requestHeaders The headers to send
+     * @return A {@link HttpClientResponse} with the results
+     */
+    public static HttpClientResponse get(URI url, HttpHeaders requestHeaders) {
+        String key = url.toString();
+        Entry entry = entry(key);
+
+        if (entry != null && entry.isFresh()) {
+            return entry.toResponse(url, requestHeaders);
+        }
+
+        HttpHeaders headers = requestHeaders.copy();
+
+        if (entry != null) {
+            if (entry.etag != null) {
+                headers.set(HttpHeaderNames.IF_NONE_MATCH, entry.etag);
+            }
+
+            if (entry.lastModified != null) {
+                headers.set(HttpHeaderNames.IF_MODIFIED_SINCE, entry.lastModified);
+            }
+        }
+
+        HttpClientResponse response = HttpClient.get(url, headers);
+
+        if (entry != null && response.responseCode().equals(HttpResponseStatus.NOT_MODIFIED)) {
+            synchronized (lock(key)) {
+                entry.revalidated(response.responseHeaders());
+                writeMeta(key, entry);
+            }
+
+            return entry.toResponse(url, requestHeaders);
+        }
+
+        if (!response.hasException() && response.responseCode().equals(HttpResponseStatus.OK)) {
+            Entry newEntry = Entry.from(response.responseHeaders(), response.rawResponseBody());
+
+            if (newEntry != null) {
+                store(key, newEntry);
+            } else if (entry != null) {
+                remove(key);
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Returns the stored entry for a URL, loading it from disk if it is not in memory
+     *
+     * @param key The URL
+     * @return The entry; {@code null} if not stored
+     */
+    private static Entry entry(String key) {
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(key);
+
+            if (entry != null) {
+                return entry;
+            }
+        }
+
+        synchronized (lock(key)) {
+            synchronized (ENTRIES) {
+                Entry entry = ENTRIES.get(key);
+
+                if (entry != null) {
+                    return entry;
+                }
+            }
+
+            Entry entry = read(key);
+
+            if (entry != null) {
+                remember(key, entry);
+            }
+
+            return entry;
+        }
+    }
+
+    private static void store(String key, Entry entry) {
+        synchronized (lock(key)) {
+            remember(key, entry);
+
+            try {
+                Files.createDirectories(DIRECTORY);
+                write(path(key, ".body"), entry.body);
+            } catch (IOException ex) {
+                com.gmt2001.Console.err.printStackTrace(ex);
+                return;
+            }
+
+            writeMeta(key, entry);
+        }
+    }
+
+    private static void remove(String key) {
+        synchronized (lock(key)) {
+            synchronized (ENTRIES) {
+                Entry entry = ENTRIES.remove(key);
+
+                if (entry != null) {
+                    memoryBytes -= entry.body.length;
+                }
+            }
+
+            try {
+                Files.deleteIfExists(path(key, ".json"));
+                Files.deleteIfExists(path(key, ".body"));
+            } catch (IOException ex) {
+                com.gmt2001.Console.err.printStackTrace(ex);
+            }
+        }
+    }
+
+    /**
+     * Returns the lock which serializes the updates of the stored response of a URL
+     *
+     * @param key The URL
+     * @return The lock
+     */
+    private static Object lock(String key) {
+        return LOCKS[Math.floorMod(key.hashCode(), LOCKS.length)];
+    }
+
+    /**
+     * Replaces a file by writing to a temporary file in the same directory and moving it over the target, so that a crash can not leave
+     * a truncated file behind
+     *
+     * @param target The file to replace
+     * @param data The new contents
+     * @throws IOException if writing or moving the file fails
+     */
+    private static void write(Path target, byte[] data) throws IOException {
+        Path temp = Files.createTempFile(DIRECTORY, target.getFileName().toString(), ".tmp");
+
+        try {
+            Files.write(temp, data);
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Adds an entry to memory, evicting the least recently used entries until the total body size fits within {@code httpcachememory}
+     *
+     * @param key The URL
+     * @param entry The entry
+     */
+    private static void remember(String key, Entry entry) {
+        /**
+         * @botproperty httpcachememory - The maximum total size, in KB, of cached HTTP response bodies kept in memory. Default `8192`
+         * @botpropertycatsort httpcachememory 140 700 HTTP/WS
+         */
+        long limit = Math.max(0, CaselessProperties.instance().getPropertyAsLong("httpcachememory", 8192L)) * 1024L;
+
+        synchronized (ENTRIES) {
+            Entry old = ENTRIES.remove(key);
+
+            if (old != null) {
+                memoryBytes -= old.body.length;
+            }
+
+            if (entry.body.length > limit) {
+                return;
+            }
+
+            ENTRIES.put(key, entry);
+            memoryBytes += entry.body.length;
+
+            Iterator<Entry> it = ENTRIES.values().iterator();
+            while (memoryBytes > limit && it.hasNext()) {
+                memoryBytes -= it.next().body.length;
+                it.remove();
+            }
+        }
+    }
+
+    private static Entry read(String key) {
+        Path meta = path(key, ".json");
+        Path body = path(key, ".body");
+
+        if (!Files.exists(meta) || !Files.exists(body)) {
+            return null;
+        }
+
+        try {
+            JSONObject jso = new JSONObject(Files.readString(meta, StandardCharsets.UTF_8));
+            byte[] data = Files.readAllBytes(body);
+
+            if (!jso.getString("url").equals(key) || !jso.optString("sha256").equals(hex(sha256(data)))) {
+                return null;
+            }
+
+            HttpHeaders headers = new DefaultHttpHeaders();
+            JSONObject jsoHeaders = jso.getJSONObject("headers");
+
+            for (String name : jsoHeaders.keySet()) {
+                JSONArray values = jsoHeaders.getJSONArray(name);
+
+                for (int i = 0; i < values.length(); i++) {
+                    headers.add(name, values.getString(i));
+                }
+            }
+
+            Entry entry = new Entry(headers, data);
+            entry.expires = jso.getLong("expires");
+
+            return entry;
+        } catch (IOException | JSONException ex) {
+            com.gmt2001.Console.debug.printStackTrace(ex);
+            return null;
+        }
+    }
+
+    private static void writeMeta(String key, Entry entry) {
+        JSONObject jsoHeaders = new JSONObject();
+
+        synchronized (entry) {
+            for (String name : entry.headers.names()) {
+                jsoHeaders.put(name, new JSONArray(entry.headers.getAll(name)));
+            }
+        }
+
+        JSONObject jso = new JSONObject();
+        jso.put("url", key);
+        jso.put("expires", entry.expires);
+        jso.put("headers", jsoHeaders);
+        jso.put("sha256", hex(sha256(entry.body)));
+
+        try {
+            Files.createDirectories(DIRECTORY);
+            write(path(key, ".json"), jso.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        }
+    }
+
+    /**
+     * Returns the path of a cache file for a URL
+     *
+     * @param key The URL
+     * @param extension The file extension
+     * @return The path
+     */
+    private static Path path(String key, String extension) {
+        return DIRECTORY.resolve(hex(sha256(key.getBytes(StandardCharsets.UTF_8))) + extension);
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String hex(byte[] data) {
+        StringBuilder sb = new StringBuilder(data.length * 2);
+
+        for (byte b : data) {
+            sb.append(String.format("%02x", b));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * A stored response
+     */
+    private static final class Entry {
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private String etag;
+        private String lastModified;
+        /**
+         * The time, in epoch milliseconds, at which the entry must be revalidated
+         */
+        private long expires = 0;
+
+        private Entry(HttpHeaders headers, byte[] body) {
+            this.headers = headers;
+            this.body = body;
+            this.etag = headers.get(HttpHeaderNames.ETAG);
+            this.lastModified = headers.get(HttpHeaderNames.LAST_MODIFIED);
+        }
+
+        /**
+         * Creates an entry from a {@code 200 OK} response
+         *
+         * @param headers The response headers
+         * @param body The response body
+         * @return The entry; {@code null} if the response must not be stored or could never be revalidated
+         */
+        private static Entry from(HttpHeaders headers, byte[] body) {
+            Entry entry = new Entry(headers.copy(), body);
+
+            if (!entry.updateExpires()) {
+                return null;
+            }
+
+            if (entry.etag == null && entry.lastModified == null && entry.expires <= System.currentTimeMillis()) {
+                return null;
+            }
+
+            return entry;
+        }
+
+        private synchronized boolean isFresh() {
+            return System.currentTimeMillis() < this.expires;
+        }
+
+        /**
+         * Merges the headers of a {@code 304 Not Modified} response and recalculates the freshness
+         *
+         * @param notModified The response headers of the {@code 304 Not Modified}
+         */
+        private synchronized void revalidated(HttpHeaders notModified) {
+            for (String name : new String[] { HttpHeaderNames.CACHE_CONTROL.toString(), HttpHeaderNames.EXPIRES.toString(),
+                HttpHeaderNames.ETAG.toString(), HttpHeaderNames.LAST_MODIFIED.toString(), HttpHeaderNames.DATE.toString(),
+                HttpHeaderNames.AGE.toString() }) {
+                if (notModified.contains(name)) {
+                    this.headers.set(name, notModified.getAll(name));
+                }
+            }
+
+            this.etag = this.headers.get(HttpHeaderNames.ETAG);
+            this.lastModified = this.headers.get(HttpHeaderNames.LAST_MODIFIED);
+            this.updateExpires();
+        }
+
+        /**
+         * Calculates the freshness lifetime from {@code Cache-Control}, falling back to {@code Expires}
+         * <br /><br />
+         * {@code no-cache} and a missing lifetime both require revalidation on every use
+         *
+         * @return {@code false} if the response has {@code no-store}
+         */
+        private boolean updateExpires() {
+            long now = System.currentTimeMillis();
+            String cacheControl = this.headers.get(HttpHeaderNames.CACHE_CONTROL);
+            long maxAge = -1;
+            boolean noCache = false;
+
+            if (cacheControl != null) {
+                for (String directive : cacheControl.toLowerCase().split(",")) {
+                    directive = directive.trim();
+
+                    if (directive.equals("no-store")) {
+                        return false;
+                    } else if (directive.equals("no-cache")) {
+                        noCache = true;
+                    } else if (directive.startsWith("max-age=")) {
+                        try {
+                            maxAge = Long.parseLong(directive.substring(8).replace("\"", ""));
+                        } catch (NumberFormatException ex) {
+                            maxAge = 0;
+                        }
+                    }
+                }
+            }
+
+            if (noCache) {
+                this.expires = 0;
+            } else if (maxAge >= 0) {
+                long age = 0;
+
+                try {
+                    age = Math.max(0, Long.parseLong(this.headers.get(HttpHeaderNames.AGE, "0").trim()));
+                } catch (NumberFormatException ex) {
+                }
+
+                this.expires = now + (Math.max(0, maxAge - age) * 1000L);
+            } else if (this.headers.contains(HttpHeaderNames.EXPIRES)) {
+                try {
+                    this.expires = ZonedDateTime.parse(this.headers.get(HttpHeaderNames.EXPIRES), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant().toEpochMilli();
+                } catch (DateTimeParseException ex) {
+                    this.expires = 0;
+                }
+            } else {
+                this.expires = 0;
+            }
+
+            return true;
+        }
+
+        /**
+         * Creates a response from the entry. The response gets its own copy of the headers, since a revalidation may update them later
+         */
+        private synchronized HttpClientResponse toResponse(URI url, HttpHeaders requestHeaders) {
+            return new HttpClientResponse(null, true, HttpMethod.GET, null, this.body, requestHeaders, this.headers.copy(), HttpResponseStatus.OK,
+                url);
+        }
+    }
+}
@@ -19,7 +19,11 @@ package com.gmt2001.httpclient;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -28,6 +32,7 @@ import org.json.JSONObject;
 
 import com.gmt2001.dns.CompositeAddressResolverGroup;
 
+import io.netty.channel.ChannelOption;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
@@ -36,7 +41,10 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient.RequestSender;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.resources.ConnectionProvider;
 import tv.phantombot.CaselessProperties;
 
 /**
@@ -48,6 +56,34 @@ public final class HttpClient {
 
     private static final String DEFAULT_USER_AGENT = "PhantomBot/2022";
     private static final int TIMEOUT_TIME = 10;
+    /**
+     * The base clients, keyed by {@link #clientKey(boolean, boolean, boolean)}
+     * <br /><br />
+     * Every base client shares {@link #PROVIDER}, so connections to the same remote host are reused across all callers
+     */
+    private static final ConcurrentMap<Integer, reactor.netty.http.client.HttpClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final ConnectionProvider PROVIDER;
+
+    static {
+        /**
+         * @botproperty httpclientmaxconnections - The maximum number of pooled connections per remote host for HTTP requests. Default `16`
+         * @botpropertycatsort httpclientmaxconnections 110 700 HTTP/WS
+         * @botpropertyrestart httpclientmaxconnections
+         */
+        /**
+         * @botproperty httpclientidletime - The time, in seconds, that a pooled HTTP connection may be idle before it is closed. Default `30`
+         * @botpropertycatsort httpclientidletime 120 700 HTTP/WS
+         * @botpropertyrestart httpclientidletime
+         */
+        PROVIDER = ConnectionProvider.builder("HttpClient")
+            .maxConnections(Math.max(1, CaselessProperties.instance().getPropertyAsInt("httpclientmaxconnections", 16)))
+            .pendingAcquireMaxCount(-1)
+            .pendingAcquireTimeout(Duration.ofSeconds(TIMEOUT_TIME))
+            .maxIdleTime(Duration.ofSeconds(Math.max(1, CaselessProperties.instance().getPropertyAsInt("httpclientidletime", 30))))
+            .maxLifeTime(Duration.ofMinutes(5))
+            .evictInBackground(Duration.ofSeconds(30))
+            .build();
+    }
 
     /**
      * Hide the Constructor
@@ -55,8 +91,66 @@ public final class HttpClient {
     private HttpClient() {
     }
 
+    /**
+     * Returns the base client for the specified scheme and the current properties
+     * <br /><br />
+     * The base clients are created once and then reused; per-request configuration is applied to a lightweight copy which shares the same
+     * connection pool
+     *
+     * @param secure Whether the request uses https
+     * @return The base client
+     */
+    private static reactor.netty.http.client.HttpClient client(boolean secure) {
+        /**
+         * @botproperty usedefaultdnsresolver - If `true`, only the default Java/System DNS resolver is used. Default `false`
+         * @botpropertycatsort usedefaultdnsresolver 10 700 HTTP/WS
+         */
+        boolean defaultResolver = CaselessProperties.instance().getPropertyAsBoolean("usedefaultdnsresolver", false);
+        /**
+         * @botproperty httpclienthttp2 - If `true`, HTTP/2 is negotiated with https servers which support it. Default `true`
+         * @botpropertycatsort httpclienthttp2 130 700 HTTP/WS
+         */
+        boolean http2 = secure && CaselessProperties.instance().getPropertyAsBoolean("httpclienthttp2", true);
+
+        return CLIENTS.computeIfAbsent(clientKey(secure, defaultResolver, http2), k -> {
+            reactor.netty.http.client.HttpClient client = reactor.netty.http.client.HttpClient.create(PROVIDER)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .followRedirect(true);
+
+            if (secure) {
+                client = client.secure();
+            }
+
+            if (http2) {
+                client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+            } else {
+                client = client.protocol(HttpProtocol.HTTP11);
+            }
+
+            if (defaultResolver) {
+                client = client.resolver(DefaultAddressResolverGroup.INSTANCE);
+            } else {
+                client = client.resolver(CompositeAddressResolverGroup.INSTANCE);
+            }
+
+            return client;
+        });
+    }
+
+    private static int clientKey(boolean secure, boolean defaultResolver, boolean http2) {
+        return (secure ? 1 : 0) | (defaultResolver ? 2 : 0) | (http2 ? 4 : 0);
+    }
+
     /**
      * Performs an HTTP request
+     * <br /><br />
+     * Blocks the calling thread until the request completes or times out. Use {@link #requestAsync(HttpMethod, URI, HttpHeaders, String)}
+     * where the result can be handled asynchronously
+     * <br /><br />
+     * Must not be called from a non-blocking Reactor or Netty thread, such as inside the callbacks of
+     * {@link #requestAsync(HttpMethod, URI, HttpHeaders, String)}, since blocking the event loop can stall the request it is waiting for.
+     * On such a thread, the request is not sent and the response contains an {@link IllegalStateException}
      *
      * @param method The HTTP method
      * @param url The URL to request
@@ -65,22 +159,60 @@ public final class HttpClient {
      * @return A {@link HttpClientResponse} with the results
      */
     public static HttpClientResponse request(HttpMethod method, URI url, HttpHeaders requestHeaders, String requestBody) {
-        reactor.netty.http.client.HttpClient client = reactor.netty.http.client.HttpClient.create();
-        if (url.getScheme().equals("https")) {
-            client = client.secure();
+        if (Schedulers.isInNonBlockingThread()) {
+            IllegalStateException ex = new IllegalStateException("HttpClient.request() is blocking, which is not supported in thread "
+                + Thread.currentThread().getName() + ", use HttpClient.requestAsync() instead");
+            com.gmt2001.Console.err.printStackTrace(ex);
+            return new HttpClientResponse(ex, false, method, requestBody, ex.getClass().getName().getBytes(StandardCharsets.UTF_8), requestHeaders, null, null, url);
+        }
+
+        CompletableFuture<HttpClientResponse> future = exchange(method, url, requestHeaders, requestBody).toFuture();
+
+        try {
+            return future.get(CaselessProperties.instance().getPropertyAsInt("httpclienttimeout", TIMEOUT_TIME), TimeUnit.SECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException ex) {
+            future.cancel(true);
+            return new HttpClientResponse(ex, false, method, requestBody, ex.getClass().getName().getBytes(StandardCharsets.UTF_8), requestHeaders, null, null, url);
         }
+    }
 
+    /**
+     * Performs an HTTP request asynchronously
+     * <br /><br />
+     * The returned {@link Mono} does not error. If the request fails or times out, it emits a {@link HttpClientResponse} containing the
+     * exception. Unlike {@link #request(HttpMethod, URI, HttpHeaders, String)}, the exception is not wrapped in an {@link ExecutionException}
+     *
+     * @param method The HTTP method
+     * @param url The URL to request
+     * @param requestHeaders The request headers to send
+     * @param requestBody The request body to send for POST/PUT/PATCH
+     * @return A {@link Mono} which emits a {@link HttpClientResponse} with the results
+     */
+    public static Mono<HttpClientResponse> requestAsync(HttpMethod method, URI url, HttpHeaders requestHeaders, String requestBody) {
         /**
-         * @botproperty usedefaultdnsresolver - If `true`, only the default Java/System DNS resolver is used. Default `false`
-         * @botpropertycatsort usedefaultdnsresolver 10 700 HTTP/WS
+         * @botproperty httpclienttimeout - The timeout, in seconds, for an HTTP request to complete. Default `10`
+         * @botpropertycatsort httpclienttimeout 100 700 HTTP/WS
          */
-        if (CaselessProperties.instance().getPropertyAsBoolean("usedefaultdnsresolver", false)) {
-            client = client.resolver(DefaultAddressResolverGroup.INSTANCE);
-        } else {
-            client = client.resolver(CompositeAddressResolverGroup.INSTANCE);
-        }
+        return exchange(method, url, requestHeaders, requestBody)
+                .timeout(Duration.ofSeconds(CaselessProperties.instance().getPropertyAsInt("httpclienttimeout", TIMEOUT_TIME)))
+                .onErrorResume(ex -> {
+                    Exception exception = ex instanceof Exception ? (Exception) ex : new RuntimeException(ex);
+                    return Mono.just(new HttpClientResponse(exception, false, method, requestBody,
+                        ex.getClass().getName().getBytes(StandardCharsets.UTF_8), requestHeaders, null, null, url));
+                });
+    }
 
-        client = client.headers(h -> {
+    /**
+     * Builds the request pipeline, without a timeout or error handling
+     *
+     * @param method The HTTP method
+     * @param url The URL to request
+     * @param requestHeaders The request headers to send
+     * @param requestBody The request body to send for POST/PUT/PATCH
+     * @return A {@link Mono} which emits a {@link HttpClientResponse} with the results
+     */
+    private static Mono<HttpClientResponse> exchange(HttpMethod method, URI url, HttpHeaders requestHeaders, String requestBody) {
+        reactor.netty.http.client.HttpClient client = client(url.getScheme().equals("https")).headers(h -> {
             h.add(requestHeaders);
 
             if (!h.contains(HttpHeaderNames.USER_AGENT)) {
@@ -102,20 +234,11 @@ public final class HttpClient {
             _requestBody = "";
         }
 
-        RequestSender sender = client.followRedirect(true).request(method).uri(url);
+        RequestSender sender = client.request(method).uri(url);
 
-        try {
-            /**
-             * @botproperty httpclienttimeout - The timeout, in seconds, for an HTTP request to complete. Default `10`
-             * @botpropertycatsort httpclienttimeout 100 700 HTTP/WS
-             */
-            return sender.send(ByteBufFlux.fromString(Mono.just(_requestBody)))
-                    .responseSingle((res, buf) -> buf.asByteArray().map(content -> new HttpClientResponse(null, requestBody, content, url, res))
-                    .defaultIfEmpty(new HttpClientResponse(null, requestBody, new byte[0], url, res)))
-                    .toFuture().get(CaselessProperties.instance().getPropertyAsInt("httpclienttimeout", TIMEOUT_TIME), TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException ex) {
-            return new HttpClientResponse(ex, false, method, requestBody, ex.getClass().getName().getBytes(StandardCharsets.UTF_8), requestHeaders, null, null, url);
-        }
+        return sender.send(ByteBufFlux.fromString(Mono.just(_requestBody)))
+                .responseSingle((res, buf) -> buf.asByteArray().map(content -> new HttpClientResponse(null, requestBody, content, url, res))
+                .defaultIfEmpty(new HttpClientResponse(null, requestBody, new byte[0], url, res)));
     }
 
     /**
@@ -40,6 +40,7 @@ public final class Viewer {
     private boolean turbo = false;
     private boolean vip = false;
     private boolean hasAttributes = false;
+    private ViewerCache cache = null;
 
     /**
      * Constructor
@@ -50,6 +51,15 @@ public final class Viewer {
         this.id = id;
     }
 
+    /**
+     * Sets the cache that tracks the chat presence and activity of this viewer
+     *
+     * @param cache The owning cache; {@code null} if the viewer has been removed from the cache
+     */
+    synchronized void cache(ViewerCache cache) {
+        this.cache = cache;
+    }
+
     /**
      * The Twitch user id
      *
@@ -113,6 +123,10 @@ public final class Viewer {
     public synchronized Viewer active() {
         this.lastActive = Instant.now();
 
+        if (this.cache != null) {
+            this.cache.activeChanged(this);
+        }
+
         return this;
     }
 
@@ -239,8 +253,13 @@ public final class Viewer {
      * @return {@code this}
      */
     public synchronized Viewer inChat(boolean inChat) {
+        boolean changed = this.inChat != inChat;
         this.inChat = inChat;
 
+        if (changed && this.cache != null) {
+            this.cache.inChatChanged(this);
+        }
+
         return this;
     }
 
@@ -20,15 +20,24 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 import org.json.JSONArray;
-import org.json.JSONException;
 import org.json.JSONObject;
 
 import com.gmt2001.ExecutorService;
@@ -36,14 +45,13 @@ import com.gmt2001.ExecutorService;
 import net.engio.mbassy.listener.Handler;
 import reactor.core.publisher.Mono;
 import tv.phantombot.CaselessProperties;
-import tv.phantombot.PhantomBot;
 import tv.phantombot.event.EventBus;
 import tv.phantombot.event.Listener;
 import tv.phantombot.event.irc.channel.IrcChannelUsersUpdateEvent;
 import tv.phantombot.event.irc.message.IrcModerationEvent;
 import tv.phantombot.event.jvm.PropertiesReloadedEvent;
-import tv.phantombot.event.twitch.TwitchUserLoginChangedEvent;
 import tv.phantombot.twitch.api.Helix;
+import tv.phantombot.twitch.api.HelixScheduler;
 import tv.phantombot.twitch.api.TwitchValidate;
 
 /**
@@ -54,9 +62,51 @@ import tv.phantombot.twitch.api.TwitchValidate;
 public final class ViewerCache implements Listener {
     private static final ViewerCache INSTANCE = new ViewerCache();
     private static final Duration ACTIVE_TIMEOUT = Duration.ofMinutes(5);
+    /**
+     * Number of one-minute buckets used to expire active chatters. One more than the active timeout, so the bucket being reused always
+     * holds viewers that were last marked active before the start of the window
+     */
+    private static final int ACTIVE_BUCKETS = (int) ACTIVE_TIMEOUT.toMinutes() + 1;
+    /**
+     * Maximum time, in seconds, to wait for a batched lookup
+     */
+    private static final long LOOKUP_TIMEOUT = 15;
     private boolean registered = false;
-    private boolean chattersUpdated = false;
     private final ConcurrentMap<String, Viewer> viewers = new ConcurrentHashMap<>();
+    /**
+     * Secondary index of user login to user id. Entries are verified against {@link #viewers} on read, so a stale entry is only a cache miss
+     */
+    private final ConcurrentMap<String, String> logins = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+    private final AtomicBoolean syncingChatters = new AtomicBoolean(false);
+    /**
+     * Viewers that have joined chat since the last {@link IrcChannelUsersUpdateEvent}, keyed by user id
+     */
+    private final ConcurrentMap<String, Viewer> pendingJoins = new ConcurrentHashMap<>();
+    /**
+     * Viewers that have left chat since the last {@link IrcChannelUsersUpdateEvent}, keyed by user id
+     */
+    private final ConcurrentMap<String, Viewer> pendingParts = new ConcurrentHashMap<>();
+    /**
+     * Viewers that are in chat, keyed by user id
+     */
+    private final ConcurrentMap<String, Viewer> chatters = new ConcurrentHashMap<>();
+    /**
+     * Viewers that are in chat and were active in roughly the last {@link #ACTIVE_TIMEOUT}, keyed by user id
+     * <br /><br />
+     * Entries are expired a minute at a time by {@link #expireActive(long)}, so readers must still check {@link Viewer#lastActive()}
+     */
+    private final ConcurrentMap<String, Viewer> active = new ConcurrentHashMap<>();
+    /**
+     * The user ids marked active during each minute, indexed by {@code minute % ACTIVE_BUCKETS}
+     */
+    private final List<Set<String>> activeBuckets = new ArrayList<>(ACTIVE_BUCKETS);
+    /**
+     * Held for reading while adding to {@link #activeBuckets} and for writing while expiring a bucket
+     */
+    private final ReentrantReadWriteLock activeLock = new ReentrantReadWriteLock();
+    private volatile long activeMinute = currentMinute();
+    private final ViewerLoader loader = new ViewerLoader(this::lookupAsync);
     private Viewer bot;
     private Viewer broadcaster;
 
@@ -77,6 +127,11 @@ public final class ViewerCache implements Listener {
      * Constructor
      */
     private ViewerCache() {
+        for (int i = 0; i < ACTIVE_BUCKETS; i++) {
+            this.activeBuckets.add(ConcurrentHashMap.newKeySet());
+        }
+
+        ExecutorService.scheduleAtFixedRate(() -> this.expireActive(currentMinute()), 1, 1, TimeUnit.MINUTES);
         ExecutorService.scheduleAtFixedRate(this::doGC, 15, 15, TimeUnit.MINUTES);
         ExecutorService.scheduleAtFixedRate(this::getChatters, 0, 2, TimeUnit.MINUTES);
         ExecutorService.scheduleAtFixedRate(this::sendUpdate, 15, 15, TimeUnit.SECONDS);
@@ -93,15 +148,6 @@ public final class ViewerCache implements Listener {
         }
     }
 
-    /**
-     * Thread-safe get-and-set
-     */
-    private synchronized boolean chattersUpdated(boolean chattersUpdated) {
-        boolean old = this.chattersUpdated;
-        this.chattersUpdated = chattersUpdated;
-        return old;
-    }
-
     /**
      * Performs a lookup of the broadcaster and bot accounts
      *
@@ -127,30 +173,14 @@ public final class ViewerCache implements Listener {
     }
 
     /**
-     * Updates the user mapping database and sends an event if it is a login name change
-     * <br /><br />
-     * The data is stored in two tables: {@code idToLogin} is keyed by user id and valued by user login.
-     * {@code loginToId} is keyed by user login and valued by user id
+     * Queues an update of the user mapping database, which sends an event if it is a login name change
      *
      * @param id The user id
      * @param login The user login
+     * @see ViewerLoginMapping#update(String, String)
      */
     private void updateDatabase(String id, String login) {
-        String existing = PhantomBot.instance().getDataStore().GetString("idToLogin", "", id);
-
-        if (existing == null || !existing.equals(login)) {
-
-            PhantomBot.instance().getDataStore().SetString("idToLogin", "", id, login);
-            if (existing != null && !existing.isBlank()) {
-                PhantomBot.instance().getDataStore().RemoveKey("loginToId", "", existing);
-            }
-
-            PhantomBot.instance().getDataStore().SetString("loginToId", "", login, id);
-
-            if (existing != null && !existing.isBlank()) {
-                EventBus.instance().postAsync(new TwitchUserLoginChangedEvent(id, existing, login));
-            }
-        }
+        ViewerLoginMapping.instance().update(id, login);
     }
 
     /**
@@ -162,91 +192,365 @@ public final class ViewerCache implements Listener {
         final Instant expiresBefore = Instant.now().minus(15, ChronoUnit.MINUTES);
         this.viewers.forEach((k, v) -> {
             if (v.lastSeen().isBefore(expiresBefore) && !v.bot() && !v.broadcaster()) {
-                this.viewers.remove(k);
+                this.remove(v);
             }
         });
     }
 
     /**
-     * Sends IrcChannelUsersUpdateEvent if a change has ocurred
+     * The maximum number of viewers kept in the cache
+     *
+     * @return The maximum cache size
+     */
+    private int maxSize() {
+        /**
+         * @botproperty viewercachesize - The maximum number of viewers kept in the viewer cache. When exceeded, the least recently active viewers are evicted. Default `100000`
+         * @botpropertycatsort viewercachesize 50 900 Debug
+         */
+        return Math.max(1000, CaselessProperties.instance().getPropertyAsInt("viewercachesize", 100000));
+    }
+
+    /**
+     * Schedules an eviction pass if the cache has grown past the maximum size
+     */
+    private void checkSize() {
+        if (this.viewers.size() > this.maxSize() && this.evicting.compareAndSet(false, true)) {
+            ExecutorService.execute(this::evict);
+        }
+    }
+
+    /**
+     * Evicts the stalest viewers until the cache is at 90% of the maximum size
+     * <br /><br />
+     * Evicting below the maximum means a full pass only runs after the cache has grown by another 10%
+     */
+    private void evict() {
+        try {
+            final int target = this.maxSize() / 10 * 9;
+            final int excess = this.viewers.size() - target;
+
+            if (excess > 0) {
+                this.viewers.values().stream().filter(v -> !v.bot() && !v.broadcaster()).map(EvictionCandidate::new)
+                    .sorted().limit(excess).forEach(c -> this.remove(c.viewer));
+            }
+        } catch (Exception ex) {
+            com.gmt2001.Console.err.printStackTrace(ex);
+        } finally {
+            this.evicting.set(false);
+        }
+    }
+
+    /**
+     * A snapshot of the fields used to order viewers for eviction, so that the sort is stable while the viewers are being updated
+     * <br /><br />
+     * Viewers not in chat are evicted first, then the least recently active, then the least recently seen
+     */
+    private static final class EvictionCandidate implements Comparable<EvictionCandidate> {
+        private static final Comparator<EvictionCandidate> ORDER = Comparator.comparing((EvictionCandidate c) -> c.inChat)
+            .thenComparing(c -> c.lastActive).thenComparing(c -> c.lastSeen);
+        private final Viewer viewer;
+        private final boolean inChat;
+        private final Instant lastActive;
+        private final Instant lastSeen;
+
+        private EvictionCandidate(Viewer viewer) {
+            this.viewer = viewer;
+            this.inChat = viewer.inChat();
+            this.lastActive = viewer.lastActive();
+            this.lastSeen = viewer.lastSeen();
+        }
+
+        @Override
+        public int compareTo(EvictionCandidate o) {
+            return ORDER.compare(this, o);
+        }
+    }
+
+    /**
+     * Adds the login of the viewer to the login index
+     *
+     * @param viewer The viewer to index
+     */
+    private void index(Viewer viewer) {
+        if (!viewer.login().isBlank()) {
+            this.logins.put(viewer.login(), viewer.id());
+        }
+    }
+
+    /**
+     * Removes the viewer from the cache and the login index, if it is still the cached object for its user id
+     *
+     * @param viewer The viewer to remove
+     */
+    private void remove(Viewer viewer) {
+        if (this.viewers.remove(viewer.id(), viewer)) {
+            this.detach(viewer);
+        }
+    }
+
+    /**
+     * Starts tracking the chat presence and activity of a viewer that was just inserted into the cache
+     *
+     * @param viewer The viewer
+     */
+    private void attach(Viewer viewer) {
+        this.index(viewer);
+
+        synchronized (viewer) {
+            if (this.viewers.get(viewer.id()) != viewer) {
+                return;
+            }
+
+            viewer.cache(this);
+
+            if (viewer.inChat()) {
+                this.inChatChanged(viewer);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking a viewer that was just removed from the cache
+     *
+     * @param viewer The viewer
+     */
+    private void detach(Viewer viewer) {
+        synchronized (viewer) {
+            viewer.cache(null);
+            this.logins.remove(viewer.login(), viewer.id());
+
+            if (this.chatters.remove(viewer.id(), viewer)) {
+                this.recordDelta(viewer, false);
+            }
+
+            this.active.remove(viewer.id(), viewer);
+        }
+    }
+
+    /**
+     * Updates the chatter sets after {@link Viewer#inChat(boolean)} changed. Called while holding the lock on the viewer
+     *
+     * @param viewer The viewer
+     */
+    void inChatChanged(Viewer viewer) {
+        this.recordDelta(viewer, viewer.inChat());
+
+        if (viewer.inChat()) {
+            this.chatters.put(viewer.id(), viewer);
+
+            if (viewer.lastActive().isAfter(Instant.now().minus(ACTIVE_TIMEOUT))) {
+                this.markActive(viewer);
+            }
+        } else {
+            this.chatters.remove(viewer.id(), viewer);
+            this.active.remove(viewer.id(), viewer);
+        }
+    }
+
+    /**
+     * Records a join or part for the next {@link IrcChannelUsersUpdateEvent}. A join and a part of the same viewer cancel out
+     *
+     * @param viewer The viewer
+     * @param joined {@code true} if the viewer joined chat; {@code false} if the viewer left
+     */
+    private void recordDelta(Viewer viewer, boolean joined) {
+        if (joined) {
+            if (this.pendingParts.remove(viewer.id()) == null) {
+                this.pendingJoins.put(viewer.id(), viewer);
+            }
+        } else if (this.pendingJoins.remove(viewer.id()) == null) {
+            this.pendingParts.put(viewer.id(), viewer);
+        }
+    }
+
+    /**
+     * Removes and returns the logins of the pending joins or parts
+     *
+     * @param pending The pending joins or parts
+     * @return A list of login names
+     */
+    private static List<String> drain(ConcurrentMap<String, Viewer> pending) {
+        List<String> logins = new ArrayList<>(pending.size());
+
+        for (String id : pending.keySet()) {
+            Viewer viewer = pending.remove(id);
+
+            if (viewer != null && !viewer.login().isBlank()) {
+                logins.add(viewer.login());
+            }
+        }
+
+        return logins;
+    }
+
+    /**
+     * Updates the active chatter set after {@link Viewer#active()} was called. Called while holding the lock on the viewer
+     *
+     * @param viewer The viewer
+     */
+    void activeChanged(Viewer viewer) {
+        if (viewer.inChat()) {
+            this.markActive(viewer);
+        }
+    }
+
+    /**
+     * The current minute since the epoch
+     *
+     * @return The minute
+     */
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60000L;
+    }
+
+    /**
+     * Adds the viewer to the active set and to the expiry bucket of the current minute
+     *
+     * @param viewer The viewer
+     */
+    private void markActive(Viewer viewer) {
+        long minute = currentMinute();
+        this.expireActive(minute);
+
+        this.activeLock.readLock().lock();
+        try {
+            this.activeBuckets.get((int) (minute % ACTIVE_BUCKETS)).add(viewer.id());
+            this.active.put(viewer.id(), viewer);
+        } finally {
+            this.activeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Advances the expiry buckets to the specified minute, removing viewers that have not been active within {@link #ACTIVE_TIMEOUT}
+     * <br /><br />
+     * Each bucket that is reused only holds user ids marked active at least {@link #ACTIVE_TIMEOUT} ago, so only those viewers need to be checked
+     *
+     * @param minute The current minute
+     */
+    private void expireActive(long minute) {
+        if (minute <= this.activeMinute) {
+            return;
+        }
+
+        this.activeLock.writeLock().lock();
+        try {
+            if (minute <= this.activeMinute) {
+                return;
+            }
+
+            final Instant after = Instant.now().minus(ACTIVE_TIMEOUT);
+            final long first = Math.max(this.activeMinute + 1, minute - ACTIVE_BUCKETS + 1);
+
+            for (long m = first; m <= minute; m++) {
+                Set<String> bucket = this.activeBuckets.get((int) (m % ACTIVE_BUCKETS));
+
+                for (String id : bucket) {
+                    Viewer viewer = this.active.get(id);
+
+                    if (viewer != null && !viewer.lastActive().isAfter(after)) {
+                        this.active.remove(id, viewer);
+                    }
+                }
+
+                bucket.clear();
+            }
+
+            this.activeMinute = minute;
+        } finally {
+            this.activeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sends IrcChannelUsersUpdateEvent with the joins and parts since the previous event, if any
      */
     private void sendUpdate() {
-        if (this.chattersUpdated(false)) {
-            EventBus.instance().postAsync(new IrcChannelUsersUpdateEvent(this.viewers.entrySet().stream().filter(kv -> kv.getValue().inChat()).map(kv -> kv.getValue().login()).collect(Collectors.toList())));
+        if (this.pendingJoins.isEmpty() && this.pendingParts.isEmpty()) {
+            return;
+        }
+
+        List<String> joins = drain(this.pendingJoins);
+        List<String> parts = drain(this.pendingParts);
+
+        if (!joins.isEmpty() || !parts.isEmpty()) {
+            EventBus.instance().postAsync(new IrcChannelUsersUpdateEvent(joins, parts,
+                () -> this.chatters.values().stream().map(Viewer::login).collect(Collectors.toList())));
         }
     }
 
     /**
      * Updates the list of chatters from the API
+     * <br /><br />
+     * Each page is requested when the previous page arrives, without blocking, and the result is reconciled against the cache in a single
+     * pass over the chatters and a single pass over the response. The resulting joins and parts are published by {@link #sendUpdate()}
      */
     private void getChatters() {
-        Mono.<List<JSONObject>>create(emitter -> {
-            final List<JSONObject> newChatters = new ArrayList<>();
-            String cursor = null;
-            do {
-                try {
-                    final JSONObject jso = Helix.instance().getChattersAsync(1000, cursor).block();
-                    if (jso != null) {
-                        if (!jso.has("error")) {
-                            if (jso.has("data") && !jso.isNull("data")) {
-                                final JSONArray data = jso.getJSONArray("data");
-
-                                if (data.length() > 0) {
-                                    for (int i = 0; i < data.length(); i++) {
-                                        newChatters.add(data.getJSONObject(i));
-                                    }
-                                }
-                            }
-
-                            if (jso.has("pagination") && !jso.isNull("pagination")) {
-                                final JSONObject pagination = jso.getJSONObject("pagination");
-                                if (pagination.has("cursor") && !pagination.isNull("cursor")) {
-                                    cursor = pagination.getString("cursor");
-                                } else {
-                                    cursor = null;
-                                }
-                            } else {
-                                cursor = null;
-                            }
-                        } else {
-                            cursor = null;
-                            emitter.error(new RuntimeException(jso.toString()));
-                        }
-                    }
-                } catch (JSONException ex) {
-                    cursor = null;
-                    emitter.error(ex);
-                }
-            } while(cursor != null && !cursor.isBlank());
-            emitter.success(newChatters);
-        }).doOnSuccess(newChattersList -> {
-            final Instant after = Instant.now().minus(ACTIVE_TIMEOUT);
-            final List<String> found = new ArrayList<>();
-            final long count = this.viewers.entrySet().stream().filter(kv -> kv.getValue().inChat()).count();
-            this.viewers.entrySet().stream().filter(kv -> kv.getValue().inChat()).forEach(kv -> {
-                if (newChattersList.stream().filter(jso -> jso.getString("user_id").equals(kv.getValue().id())).findAny().isPresent()) {
-                    kv.getValue().seen();
-                    found.add(kv.getValue().id());
-                } else if (kv.getValue().lastActive().isBefore(after)) {
-                    kv.getValue().inChat(false);
-                }
-            });
-            newChattersList.stream().forEach(jso -> {
-                String id = jso.getString("user_id");
-                if (!found.contains(id)) {
-                    if (this.exists(id)) {
-                        this.get(id).inChat(true).seen();
-                    } else {
-                        this.add(new Viewer(id).login(jso.optString("user_login"))
-                            .name(jso.optString("user_name")).inChat(true));
-                    }
+        if (!this.syncingChatters.compareAndSet(false, true)) {
+            return;
+        }
+
+        this.getChattersPage(null).expand(jso -> {
+            String cursor = jso.optJSONObject("pagination") == null ? null : jso.getJSONObject("pagination").optString("cursor", null);
+            return cursor == null || cursor.isBlank() ? Mono.empty() : this.getChattersPage(cursor);
+        }).reduceWith(HashMap<String, JSONObject>::new, (newChatters, jso) -> {
+            JSONArray data = jso.optJSONArray("data");
+
+            if (data != null) {
+                for (int i = 0; i < data.length(); i++) {
+                    JSONObject chatter = data.getJSONObject(i);
+                    newChatters.put(chatter.getString("user_id"), chatter);
                 }
-            });
+            }
 
-            this.chattersUpdated(true);
-        }).doOnError(ex -> {
+            return newChatters;
+        }).doOnSuccess(this::reconcileChatters).doOnError(ex -> {
             com.gmt2001.Console.err.printStackTrace(ex, "Exception parsing getChattersAsync");
-        }).subscribe();
+        }).doFinally(signal -> this.syncingChatters.set(false)).subscribe(newChatters -> {}, ex -> {});
+    }
+
+    /**
+     * Requests a page of chatters
+     *
+     * @param cursor The pagination cursor; {@code null} for the first page
+     * @return A {@link Mono} which emits the page, or an error if Twitch returned an error
+     */
+    private Mono<JSONObject> getChattersPage(String cursor) {
+        return Mono.defer(() -> Helix.instance().getChattersAsync(1000, cursor)).flatMap(jso -> {
+            if (jso.has("error")) {
+                return Mono.error(new RuntimeException(jso.toString()));
+            }
+
+            return Mono.just(jso);
+        });
+    }
+
+    /**
+     * Reconciles the cache against the chatters returned by the API
+     * <br /><br />
+     * Viewers missing from the response leave chat unless they were active recently; viewers in the response join chat
+     *
+     * @param newChatters The chatters returned by the API, keyed by user id
+     */
+    private void reconcileChatters(Map<String, JSONObject> newChatters) {
+        final Instant after = Instant.now().minus(ACTIVE_TIMEOUT);
+
+        this.chatters.values().forEach(viewer -> {
+            if (!newChatters.containsKey(viewer.id()) && viewer.lastActive().isBefore(after)) {
+                viewer.inChat(false);
+            }
+        });
+
+        newChatters.forEach((id, jso) -> {
+            Viewer viewer = this.viewers.get(id);
+
+            if (viewer != null) {
+                viewer.inChat(true).seen();
+            } else {
+                this.add(new Viewer(id).login(jso.optString("user_login"))
+                    .name(jso.optString("user_name")).inChat(true));
+            }
+        });
     }
 
     /**
@@ -272,18 +576,12 @@ public final class ViewerCache implements Listener {
             Viewer viewer;
             if (this.exists(id)) {
                 viewer = this.get(id);
-                boolean inChat = viewer.inChat();
                 viewer.inChat(true).seen().active();
-
-                if (!inChat) {
-                    this.chattersUpdated(true);
-                }
             } else {
                 viewer = new Viewer(id).login(event.getSender())
                     .name(event.getTags().getOrDefault("display-name", "").replaceAll("\\\\s", " "))
                     .inChat(true).active();
                 this.add(viewer);
-                this.chattersUpdated(true);
             }
 
             viewer.admin(event.getTags().getOrDefault("user-type", "").equals("admin"))
@@ -335,19 +633,34 @@ public final class ViewerCache implements Listener {
      * Performs a Twitch API lookup of the user
      * <br /><br />
      * Can only use one of id or login
+     * <br /><br />
+     * Lookups are coalesced with other concurrent misses by the {@link ViewerLoader}, unless called from a {@link HelixScheduler} worker,
+     * which must not wait on another queued request
      *
      * @param id A user id to lookup
      * @param login A user login name to lookup
-     * @return A {@link Viewer} object; {@code null} if not found
+     * @return A {@link Viewer} object; {@code null} if not found, or if the lookup failed or took longer than {@link #LOOKUP_TIMEOUT}
      */
     private Viewer lookup(String id, String login) {
-        List<Viewer> viewers = this.lookupAsync(id == null ? null : List.of(id), login == null ? null : List.of(login)).block();
+        if (HelixScheduler.isWorkerThread()) {
+            List<Viewer> viewers = this.lookupAsync(id == null ? null : List.of(id), login == null ? null : List.of(login)).block();
+
+            if (viewers.isEmpty()) {
+                return null;
+            }
+
+            return viewers.get(0);
+        }
 
-        if (viewers.isEmpty()) {
-            return null;
+        try {
+            return (id != null ? this.loader.loadId(id) : this.loader.loadLogin(login)).get(LOOKUP_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            com.gmt2001.Console.err.printStackTrace(ex, "Exception waiting for a batched lookup of " + (id != null ? id : login));
         }
 
-        return viewers.get(0);
+        return null;
     }
 
     /**
@@ -400,15 +713,20 @@ public final class ViewerCache implements Listener {
             cacheViewer.seen();
 
             if (!cacheViewer.login().equals(viewer.login())) {
+                this.logins.remove(cacheViewer.login(), cacheViewer.id());
                 cacheViewer.login(viewer.login());
 
                 this.updateDatabase(cacheViewer.id(), cacheViewer.login());
             }
 
+            this.index(cacheViewer);
+
             return false;
         }
 
+        this.attach(viewer);
         this.updateDatabase(viewer.id(), viewer.login());
+        this.checkSize();
 
         return true;
     }
@@ -422,9 +740,21 @@ public final class ViewerCache implements Listener {
      * @return The {@link Viewer} object for the user; {@code null} if not found
      */
     public Viewer get(String id) {
-        return this.viewers.computeIfAbsent(id, k -> {
-            return this.lookup(id, null);
-        });
+        Viewer viewer = this.viewers.get(id);
+
+        if (viewer == null) {
+            viewer = this.lookup(id, null);
+
+            if (viewer != null && !this.add(viewer)) {
+                Viewer cacheViewer = this.viewers.get(id);
+
+                if (cacheViewer != null) {
+                    viewer = cacheViewer;
+                }
+            }
+        }
+
+        return viewer;
     }
 
     /**
@@ -434,7 +764,24 @@ public final class ViewerCache implements Listener {
      * @return An {@link Optional} containing the {@link Viewer} object for the user; an empty Optional if not in the cache
      */
     private Optional<Viewer> getByLoginInternal(String login) {
-        return this.viewers.entrySet().stream().filter(kv -> kv.getValue().login().equals(login)).map(kv -> kv.getValue()).findFirst();
+        if (login == null) {
+            return Optional.empty();
+        }
+
+        String id = this.logins.get(login);
+
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        Viewer viewer = this.viewers.get(id);
+
+        if (viewer == null || !viewer.login().equals(login)) {
+            this.logins.remove(login, id);
+            return Optional.empty();
+        }
+
+        return Optional.of(viewer);
     }
 
     /**
@@ -451,8 +798,8 @@ public final class ViewerCache implements Listener {
         if (!viewer.isPresent()) {
             viewer = Optional.ofNullable(this.lookup(null, login));
 
-            if (viewer.isPresent()) {
-                this.add(viewer.get());
+            if (viewer.isPresent() && !this.add(viewer.get())) {
+                viewer = Optional.ofNullable(this.viewers.getOrDefault(viewer.get().id(), viewer.get()));
             }
         }
 
@@ -485,7 +832,11 @@ public final class ViewerCache implements Listener {
      * @param id The user id to remove
      */
     public void remove(String id) {
-        this.viewers.remove(id);
+        Viewer viewer = this.viewers.remove(id);
+
+        if (viewer != null) {
+            this.detach(viewer);
+        }
     }
 
     /**
@@ -533,7 +884,27 @@ public final class ViewerCache implements Listener {
      * @return A {@link List} of {@link Viewer} objects
      */
     public List<Viewer> chatters() {
-        return this.viewers.entrySet().stream().filter(kv -> kv.getValue().inChat()).map(kv -> kv.getValue()).collect(Collectors.toList());
+        return new ArrayList<>(this.chatters.values());
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the {@link Viewer} objects representing users recently seen in chat
+     * <br /><br />
+     * The view does not allocate and reflects concurrent updates; iteration never throws {@link java.util.ConcurrentModificationException}
+     *
+     * @return A {@link Collection} of {@link Viewer} objects
+     */
+    public Collection<Viewer> chattersView() {
+        return Collections.unmodifiableCollection(this.chatters.values());
+    }
+
+    /**
+     * Returns the number of users recently seen in chat
+     *
+     * @return The number of chatters
+     */
+    public int chattersCount() {
+        return this.chatters.size();
     }
 
     /**
@@ -542,8 +913,20 @@ public final class ViewerCache implements Listener {
      * @return A {@link List} of {@link Viewer} objects
      */
     public List<Viewer> activeChatters() {
+        this.expireActive(currentMinute());
         Instant after = Instant.now().minus(ACTIVE_TIMEOUT);
-        return this.viewers.entrySet().stream().filter(kv -> kv.getValue().inChat() && kv.getValue().lastActive().isAfter(after)).map(kv -> kv.getValue()).collect(Collectors.toList());
+        return this.active.values().stream().filter(v -> v.inChat() && v.lastActive().isAfter(after)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of users recently seen in chat, who have sent a message in the past 5 minutes
+     *
+     * @return The number of active chatters
+     */
+    public int activeChattersCount() {
+        this.expireActive(currentMinute());
+        Instant after = Instant.now().minus(ACTIVE_TIMEOUT);
+        return (int) this.active.values().stream().filter(v -> v.inChat() && v.lastActive().isAfter(after)).count();
     }
 
     /**
@@ -553,11 +936,7 @@ public final class ViewerCache implements Listener {
      * @return The associated user login; {@code null} if the specified user id is not in the database
      */
     public String lookupLoginById(String id) {
-        if (PhantomBot.instance().getDataStore().HasKey("idToLogin", "", id)) {
-            return PhantomBot.instance().getDataStore().GetString("idToLogin", "", id);
-        }
-
-        return null;
+        return ViewerLoginMapping.instance().loginById(id);
     }
 
     /**
@@ -567,10 +946,6 @@ public final class ViewerCache implements Listener {
      * @return The associated user id; {@code null} if the specified user login is not in the database
      */
     public String lookupIdBylogin(String login) {
-        if (PhantomBot.instance().getDataStore().HasKey("loginToId", "", login)) {
-            return PhantomBot.instance().getDataStore().GetString("loginToId", "", login);
-        }
-
-        return null;
+        return ViewerLoginMapping.instance().idByLogin(login);
     }
 }
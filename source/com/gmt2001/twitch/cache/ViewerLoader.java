@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.twitch.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Coalesces viewer lookups into batched Helix {@code Get Users} requests
+ * <br /><br />
+ * Misses are collected for {@link #WINDOW_MILLIS} milliseconds, or until {@link #MAX_BATCH} are waiting, and then requested together.
+ * Concurrent requests for the same user id or login share a single future
+ * <br /><br />
+ * The batching window runs on a dedicated scheduler rather than the shared {@link com.gmt2001.ExecutorService}, since callers on that pool
+ * block waiting for the batch
+ */
+final class ViewerLoader {
+    /**
+     * The maximum combined number of ids and logins accepted by a single {@code Get Users} request
+     */
+    private static final int MAX_BATCH = 100;
+    private static final long WINDOW_MILLIS = 10;
+    private final Scheduler scheduler = Schedulers.newSingle("ViewerLoader", true);
+    private final BiFunction<List<String>, List<String>, Mono<List<Viewer>>> lookup;
+    private final ConcurrentMap<String, CompletableFuture<Viewer>> ids = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Viewer>> logins = new ConcurrentHashMap<>();
+    private final Queue<String> queuedIds = new ConcurrentLinkedQueue<>();
+    private final Queue<String> queuedLogins = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * Constructor
+     *
+     * @param lookup Performs a {@code Get Users} request for some user ids and some user logins
+     */
+    ViewerLoader(BiFunction<List<String>, List<String>, Mono<List<Viewer>>> lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * Queues a lookup by user id
+     *
+     * @param id The user id
+     * @return A future which is completed with the viewer; {@code null} if not found or the request failed
+     */
+    CompletableFuture<Viewer> loadId(String id) {
+        return this.load(id, this.ids, this.queuedIds);
+    }
+
+    /**
+     * Queues a lookup by user login
+     *
+     * @param login The user login
+     * @return A future which is completed with the viewer; {@code null} if not found or the request failed
+     */
+    CompletableFuture<Viewer> loadLogin(String login) {
+        return this.load(login.toLowerCase(), this.logins, this.queuedLogins);
+    }
+
+    private CompletableFuture<Viewer> load(String key, ConcurrentMap<String, CompletableFuture<Viewer>> waiting, Queue<String> queue) {
+        CompletableFuture<Viewer> future = new CompletableFuture<>();
+        CompletableFuture<Viewer> existing = waiting.putIfAbsent(key, future);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        queue.add(key);
+
+        if (this.queued.incrementAndGet() >= MAX_BATCH) {
+            this.scheduler.schedule(this::flush);
+        } else if (this.scheduled.compareAndSet(false, true)) {
+            Mono.delay(Duration.ofMillis(WINDOW_MILLIS), this.scheduler).subscribe(l -> {
+                this.scheduled.set(false);
+                this.flush();
+            });
+        }
+
+        return future;
+    }
+
+    /**
+     * Sends all queued lookups, in batches of up to {@link #MAX_BATCH}
+     */
+    private void flush() {
+        while (true) {
+            List<String> batchIds = new ArrayList<>();
+            List<String> batchLogins = new ArrayList<>();
+            String key;
+
+            while (batchIds.size() + batchLogins.size() < MAX_BATCH && (key = this.queuedIds.poll()) != null) {
+                batchIds.add(key);
+            }
+
+            while (batchIds.size() + batchLogins.size() < MAX_BATCH && (key = this.queuedLogins.poll()) != null) {
+                batchLogins.add(key);
+            }
+
+            if (batchIds.isEmpty() && batchLogins.isEmpty()) {
+                return;
+            }
+
+            this.queued.addAndGet(-(batchIds.size() + batchLogins.size()));
+            this.send(batchIds, batchLogins);
+        }
+    }
+
+    /**
+     * Sends a batch and completes its waiters from the response
+     * <br /><br />
+     * Waiters which are not in the response, including when the response is empty or fails, are completed with {@code null}
+     *
+     * @param batchIds The user ids
+     * @param batchLogins The user logins
+     */
+    private void send(List<String> batchIds, List<String> batchLogins) {
+        Map<String, CompletableFuture<Viewer>> idFutures = futures(batchIds, this.ids);
+        Map<String, CompletableFuture<Viewer>> loginFutures = futures(batchLogins, this.logins);
+        Mono<List<Viewer>> request;
+
+        try {
+            request = this.lookup.apply(batchIds.isEmpty() ? null : batchIds, batchLogins.isEmpty() ? null : batchLogins);
+        } catch (Exception ex) {
+            request = Mono.error(ex);
+        }
+
+        request.subscribe(viewers -> {
+            for (Viewer viewer : viewers) {
+                this.complete(this.ids, idFutures, viewer.id(), viewer);
+                this.complete(this.logins, loginFutures, viewer.login().toLowerCase(), viewer);
+            }
+        }, ex -> {
+            com.gmt2001.Console.err.printStackTrace(ex, "Exception in batched getUsersAsync");
+            this.completeMissing(idFutures, loginFutures);
+        }, () -> this.completeMissing(idFutures, loginFutures));
+    }
+
+    /**
+     * Captures the futures of a batch, so that only those are completed by its response
+     *
+     * @param keys The ids or logins in the batch
+     * @param waiting The futures waiting for ids or logins
+     * @return The futures of the batch
+     */
+    private static Map<String, CompletableFuture<Viewer>> futures(List<String> keys, Map<String, CompletableFuture<Viewer>> waiting) {
+        Map<String, CompletableFuture<Viewer>> futures = new HashMap<>();
+
+        for (String key : keys) {
+            CompletableFuture<Viewer> future = waiting.get(key);
+
+            if (future != null) {
+                futures.put(key, future);
+            }
+        }
+
+        return futures;
+    }
+
+    private synchronized void completeMissing(Map<String, CompletableFuture<Viewer>> idFutures, Map<String, CompletableFuture<Viewer>> loginFutures) {
+        new ArrayList<>(idFutures.keySet()).forEach(id -> this.complete(this.ids, idFutures, id, null));
+        new ArrayList<>(loginFutures.keySet()).forEach(login -> this.complete(this.logins, loginFutures, login, null));
+    }
+
+    private synchronized void complete(Map<String, CompletableFuture<Viewer>> waiting, Map<String, CompletableFuture<Viewer>> futures, String key,
+            Viewer viewer) {
+        CompletableFuture<Viewer> future = futures.remove(key);
+
+        if (future != null) {
+            waiting.remove(key, future);
+            future.complete(viewer);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.twitch.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.gmt2001.ExecutorService;
+import com.gmt2001.datastore.DataStore;
+
+import tv.phantombot.CaselessProperties;
+import tv.phantombot.PhantomBot;
+import tv.phantombot.event.EventBus;
+import tv.phantombot.event.twitch.TwitchUserLoginChangedEvent;
+
+/**
+ * Write-behind store for the user id to user login mapping tables
+ * <br /><br />
+ * The data is stored in two tables: {@code idToLogin} is keyed by user id and valued by user login.
+ * {@code loginToId} is keyed by user login and valued by user id
+ * <br /><br />
+ * Updates are deduplicated in memory and written in batches every {@link #FLUSH_INTERVAL_SECONDS} seconds. Lookups are served from a
+ * bounded, least recently used index before falling back to the database
+ */
+public final class ViewerLoginMapping {
+    private static final ViewerLoginMapping INSTANCE = new ViewerLoginMapping();
+    private static final long FLUSH_INTERVAL_SECONDS = 5;
+    /**
+     * The maximum number of keys read or written in one batch statement
+     */
+    private static final int BATCH_SIZE = 500;
+    private final Map<String, String> idToLogin;
+    private final Map<String, String> loginToId;
+    /**
+     * Pending writes, keyed by user id. Only the newest login of each user id is kept
+     */
+    private final ConcurrentMap<String, String> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+
+    /**
+     * Singleton method
+     *
+     * @return The singleton instance of ViewerLoginMapping
+     */
+    public static ViewerLoginMapping instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Constructor
+     */
+    private ViewerLoginMapping() {
+        /**
+         * @botproperty viewerloginmappingsize - The maximum number of user id/login pairs kept in memory for lookups. Default `100000`
+         * @botpropertycatsort viewerloginmappingsize 51 900 Debug
+         * @botpropertyrestart viewerloginmappingsize
+         */
+        int maxSize = Math.max(1000, CaselessProperties.instance().getPropertyAsInt("viewerloginmappingsize", 100000));
+        this.idToLogin = lruMap(maxSize);
+        this.loginToId = lruMap(maxSize);
+    }
+
+    /**
+     * Creates a synchronized map which evicts the least recently used entry when it grows past the specified size
+     *
+     * @param maxSize The maximum size
+     * @return The map
+     */
+    private static Map<String, String> lruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return this.size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Records the login of a user id, to be written to the database on the next flush
+     * <br /><br />
+     * If the database contains a different login for the user id when the flush occurs, a {@link TwitchUserLoginChangedEvent} is sent
+     *
+     * @param id The user id
+     * @param login The user login
+     */
+    public void update(String id, String login) {
+        if (id == null || id.isBlank() || login == null || login.isBlank()) {
+            return;
+        }
+
+        String known = this.pending.get(id);
+
+        if (known == null) {
+            known = this.idToLogin.get(id);
+        }
+
+        if (login.equals(known)) {
+            return;
+        }
+
+        this.pending.put(id, login);
+        this.idToLogin.put(id, login);
+        this.loginToId.put(login, id);
+
+        if (this.scheduled.compareAndSet(false, true)) {
+            ExecutorService.schedule(() -> {
+                this.scheduled.set(false);
+                this.flush();
+            }, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Returns the user login associated with the user id
+     *
+     * @param id The user id to lookup
+     * @return The associated user login; {@code null} if the user id is not known
+     */
+    public String loginById(String id) {
+        String login = this.pending.get(id);
+
+        if (login == null) {
+            login = this.idToLogin.get(id);
+        }
+
+        if (login == null) {
+            login = this.dataStore() == null ? null : this.dataStore().GetString("idToLogin", "", id);
+
+            if (login != null) {
+                this.idToLogin.put(id, login);
+            }
+        }
+
+        return login;
+    }
+
+    /**
+     * Returns the user id associated with the user login
+     *
+     * @param login The user login to lookup
+     * @return The associated user id; {@code null} if the user login is not known
+     */
+    public String idByLogin(String login) {
+        String id = this.loginToId.get(login);
+
+        if (id == null) {
+            id = this.dataStore() == null ? null : this.dataStore().GetString("loginToId", "", login);
+
+            if (id != null) {
+                this.loginToId.put(login, id);
+            }
+        }
+
+        return id;
+    }
+
+    /**
+     * Writes all pending updates to the database
+     */
+    public void flush() {
+        DataStore dataStore = this.dataStore();
+
+        if (dataStore == null) {
+            return;
+        }
+
+        synchronized (this.flushLock) {
+            List<String> ids = new ArrayList<>();
+            List<String> logins = new ArrayList<>();
+
+            for (Map.Entry<String, String> kv : this.pending.entrySet()) {
+                // Only take the entry if it was not replaced by a newer login in the meantime
+                if (this.pending.remove(kv.getKey(), kv.getValue())) {
+                    ids.add(kv.getKey());
+                    logins.add(kv.getValue());
+                }
+            }
+
+            for (int start = 0; start < ids.size(); start += BATCH_SIZE) {
+                int end = Math.min(ids.size(), start + BATCH_SIZE);
+
+                try {
+                    this.write(dataStore, ids.subList(start, end), logins.subList(start, end));
+                } catch (Exception ex) {
+                    com.gmt2001.Console.err.printStackTrace(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of updates, skipping user ids which already have the same login in the database
+     *
+     * @param dataStore The database
+     * @param ids The user ids
+     * @param logins The user logins, in the same order as the user ids
+     */
+    private void write(DataStore dataStore, List<String> ids, List<String> logins) {
+        String[] existing = dataStore.GetBatchString("idToLogin", "", ids.toArray(new String[0]));
+        List<String> changedIds = new ArrayList<>();
+        List<String> changedLogins = new ArrayList<>();
+        List<TwitchUserLoginChangedEvent> events = new ArrayList<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            String login = logins.get(i);
+            String old = existing[i];
+
+            if (old == null || !old.equals(login)) {
+                changedIds.add(id);
+                changedLogins.add(login);
+
+                if (old != null && !old.isBlank()) {
+                    dataStore.RemoveKey("loginToId", "", old);
+                    this.loginToId.remove(old, id);
+                    events.add(new TwitchUserLoginChangedEvent(id, old, login));
+                }
+            }
+        }
+
+        if (!changedIds.isEmpty()) {
+            dataStore.SetBatchString("idToLogin", "", changedIds.toArray(new String[0]), changedLogins.toArray(new String[0]));
+            dataStore.SetBatchString("loginToId", "", changedLogins.toArray(new String[0]), changedIds.toArray(new String[0]));
+        }
+
+        events.forEach(event -> EventBus.instance().postAsync(event));
+    }
+
+    /**
+     * The database, if it has been loaded
+     *
+     * @return The database; {@code null} during startup
+     */
+    private DataStore dataStore() {
+        return PhantomBot.instance() == null ? null : PhantomBot.instance().getDataStore();
+    }
+}
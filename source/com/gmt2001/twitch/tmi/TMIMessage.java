@@ -16,20 +16,39 @@
  */
 package com.gmt2001.twitch.tmi;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An IRCv3 formatted message from TMI
  *
+ * The raw line is retained and only the offsets of its components are indexed during construction. The individual components are extracted on
+ * first access, so messages which are only inspected by {@link #command()} never allocate their tags, badges, or emotes
+ *
  * @author gmt2001
  */
 public final class TMIMessage {
 
+    /**
+     * The maximum number of distinct tag and badge names that are canonicalized
+     */
+    private static final int MAX_FLYWEIGHT_KEYS = 512;
+    /**
+     * Canonical instances of tag and badge names, so that each message shares its keys instead of allocating new strings
+     */
+    private static final Map<String, String> FLYWEIGHT_KEYS = new ConcurrentHashMap<>();
+    private static final CompactMap<String> EMPTY_STRING_MAP = new CompactMap<>(new String[0], new String[0], 0);
+    private static final CompactMap<List<EmoteLocation>> EMPTY_EMOTE_MAP = new CompactMap<>(new String[0], new Object[0], 0);
+
     /**
      * The type of message
      */
@@ -49,34 +68,78 @@ public final class TMIMessage {
     }
 
     private final TMIMessageType messageType;
-    private final Map<String, String> tags;
-    private final Map<String, String> badges;
-    private final Map<String, List<EmoteLocation>> emotes;
-    private final List<String> emoteSets;
-    private final String nick;
-    private final String host;
-    private final String command;
-    private final String channel;
-    private final String parameters;
+    private final String raw;
+    private final int tagsStart;
+    private final int tagsEnd;
+    private final int sourceStart;
+    private final int sourceEnd;
+    private final int commandStart;
+    private final int commandEnd;
+    private final int parametersStart;
+    /*
+     * The fields below are populated on first access. Each is a pure function of the final fields above and every value
+     * held is immutable, so a racing thread at worst parses the same value twice
+     */
+    private Map<String, String> tags;
+    private Map<String, String> badges;
+    private Map<String, List<EmoteLocation>> emotes;
+    private List<String> emoteSets;
+    private String nick;
+    private String host;
+    private String command;
+    private String channel;
+    private String parameters;
 
     /**
-     * Constructs a TMIMessage and parses the message into it's individual components
+     * Constructs a TMIMessage and indexes the offsets of the message's individual components
      *
      * @param messageType The type of message
      * @param message A single raw IRC line conforming to the BNF in RFC1459
      */
     TMIMessage(TMIMessageType messageType, String message) {
-        String[] messageParts = this.parseMessage(message);
         this.messageType = messageType;
-        this.tags = Collections.unmodifiableMap(this.parseTags(messageParts[0]));
-        this.badges = Collections.unmodifiableMap(this.parseBadges(this.tags.getOrDefault("badges", ""), this.tags.getOrDefault("badge-info", "")));
-        this.emotes = Collections.unmodifiableMap(this.parseEmotes(this.tags.getOrDefault("emotes", "")));
-        this.emoteSets = Collections.unmodifiableList(this.parseEmoteSets(this.tags.getOrDefault("emote-sets", "")));
-        this.nick = messageParts[1];
-        this.host = messageParts[2];
-        this.command = messageParts[3];
-        this.channel = messageParts[4];
-        this.parameters = messageParts[5];
+        this.raw = message;
+
+        // https://dev.twitch.tv/docs/irc/example-parser
+        int length = message.length();
+        int idx = 0;
+        int endIdx;
+
+        if (idx < length && message.charAt(idx) == '@') {
+            idx++;
+            endIdx = indexOrLength(message, ' ', idx);
+            this.tagsStart = idx;
+            this.tagsEnd = endIdx;
+            idx = Math.min(endIdx + 1, length);
+        } else {
+            this.tagsStart = -1;
+            this.tagsEnd = -1;
+        }
+
+        if (idx < length && message.charAt(idx) == ':') {
+            idx++;
+            endIdx = indexOrLength(message, ' ', idx);
+            this.sourceStart = idx;
+            this.sourceEnd = endIdx;
+            idx = Math.min(endIdx + 1, length);
+        } else {
+            this.sourceStart = -1;
+            this.sourceEnd = -1;
+        }
+
+        endIdx = indexOrLength(message, ':', idx);
+        this.parametersStart = endIdx == length ? -1 : endIdx + 1;
+
+        while (idx < endIdx && message.charAt(idx) <= ' ') {
+            idx++;
+        }
+
+        while (endIdx > idx && message.charAt(endIdx - 1) <= ' ') {
+            endIdx--;
+        }
+
+        this.commandStart = idx;
+        this.commandEnd = endIdx;
     }
 
     /**
@@ -86,91 +149,166 @@ public final class TMIMessage {
      */
     TMIMessage(TMIMessageType messageType) {
         this.messageType = messageType;
-        this.tags = null;
-        this.badges = null;
-        this.emotes = null;
-        this.emoteSets = null;
-        this.nick = null;
-        this.host = null;
-        this.command = null;
-        this.channel = null;
-        this.parameters = null;
+        this.raw = null;
+        this.tagsStart = -1;
+        this.tagsEnd = -1;
+        this.sourceStart = -1;
+        this.sourceEnd = -1;
+        this.commandStart = -1;
+        this.commandEnd = -1;
+        this.parametersStart = -1;
+    }
+
+    private static int indexOrLength(String message, char ch, int fromIndex) {
+        int idx = message.indexOf(ch, fromIndex);
+        return idx == -1 ? message.length() : idx;
     }
 
-    // https://dev.twitch.tv/docs/irc/example-parser
     /**
-     * Parses a raw IRC message into it's constituent parts.
+     * Returns the canonical instance of a tag or badge name
      *
-     * rawTagsComponent - IRCv3 tags component, if present, with the leading {@code @ removed, but not split into individual tags<br />
-     * nick - The nick, if present. This is the name before the {@code !} in the rawSourceComponent<br />
-     * host - The user@host component of the rawSourceComponent. If the {@code !} is present, this is everything after it<br />
-     * command - The IRC command name, this is the first word of the rawCommandComponent. For
-     * {@code CAP} commands, the {@code ACK} or {@code NAK} part is appended to this, with a space in between<br />
-     * channel - The channel name. This is the second word, if present, of the rawCommandComponent<br />
-     * rawParametersComponent - The IRC parameters component, if present, with the leading {@code :} removed
+     * @param message The string containing the name
+     * @param start The start index of the name, inclusive
+     * @param end The end index of the name, exclusive
+     * @return The canonical instance, or a new string if the table is full
+     */
+    private static String flyweight(String message, int start, int end) {
+        String key = message.substring(start, end);
+        String canonical = FLYWEIGHT_KEYS.get(key);
+
+        if (canonical != null) {
+            return canonical;
+        }
+
+        if (FLYWEIGHT_KEYS.size() >= MAX_FLYWEIGHT_KEYS) {
+            return key;
+        }
+
+        canonical = FLYWEIGHT_KEYS.putIfAbsent(key, key);
+        return canonical == null ? key : canonical;
+    }
+
+    /**
+     * Reverses the IRCv3 escaping of a tag value
      *
-     * @param message A single raw IRC line conforming to the BNF in RFC1459
-     * @return String[] { rawTagsComponent, nick, host, command, channel, rawParametersComponent };
+     * @param message The string containing the value
+     * @param start The start index of the value, inclusive
+     * @param end The end index of the value, exclusive
+     * @return The unescaped value
      */
-    private String[] parseMessage(String message) {
-        int idx = 0;
-        int endIdx;
-        String rawTagsComponent = null;
-        String rawSourceComponent = null;
-        String rawCommandComponent;
-        String rawParametersComponent = null;
+    private static String unescapeTagValue(String message, int start, int end) {
+        int idx = message.indexOf('\\', start);
 
-        if (message.charAt(idx) == '@') {
-            idx++;
-            endIdx = message.indexOf(' ', idx);
-            rawTagsComponent = message.substring(idx, endIdx);
-            idx = endIdx + 1;
+        if (idx == -1 || idx >= end) {
+            return message.substring(start, end);
         }
 
-        if (message.charAt(idx) == ':') {
-            idx++;
-            endIdx = message.indexOf(' ', idx);
-            rawSourceComponent = message.substring(idx, endIdx);
-            idx = endIdx + 1;
+        StringBuilder sb = new StringBuilder(end - start);
+        sb.append(message, start, idx);
+
+        for (; idx < end; idx++) {
+            char c = message.charAt(idx);
+
+            if (c != '\\') {
+                sb.append(c);
+            } else if (idx + 1 < end) {
+                idx++;
+                switch (message.charAt(idx)) {
+                    case ':':
+                        sb.append(';');
+                        break;
+                    case 's':
+                        sb.append(' ');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    default:
+                        sb.append(message.charAt(idx));
+                        break;
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Splits the rawCommandComponent into words
+     *
+     * @return The words of the rawCommandComponent
+     */
+    private String[] commandParts() {
+        return this.raw.substring(this.commandStart, this.commandEnd).split(" ");
+    }
+
+    /**
+     * Extracts the command name
+     *
+     * @return The IRC command name, this is the first word of the rawCommandComponent. For {@code CAP} commands, the {@code ACK} or {@code NAK}
+     * part is appended to this, with a space in between
+     */
+    private String parseCommand() {
+        int space = this.raw.indexOf(' ', this.commandStart);
+
+        if (space == -1 || space >= this.commandEnd) {
+            return this.raw.substring(this.commandStart, this.commandEnd);
         }
 
-        endIdx = message.indexOf(':', idx);
-        if (endIdx == -1) {
-            endIdx = message.length();
+        if (this.raw.startsWith("CAP ", this.commandStart)) {
+            return "CAP " + this.commandParts()[2];
         }
 
-        rawCommandComponent = message.substring(idx, endIdx).trim();
+        return this.raw.substring(this.commandStart, space);
+    }
 
-        if (endIdx != message.length()) {
-            idx = endIdx + 1;
-            rawParametersComponent = message.substring(idx);
+    /**
+     * Extracts the channel name
+     *
+     * @return The channel name. This is the second word, if present, of the rawCommandComponent. For {@code 353} this is the fourth word
+     */
+    private String parseChannel() {
+        int space = this.raw.indexOf(' ', this.commandStart);
+
+        if (space == -1 || space >= this.commandEnd) {
+            return null;
         }
 
-        String rnick = null;
-        String rhost = null;
-        if (rawSourceComponent != null) {
-            String[] sourceParts = rawSourceComponent.split("!");
-            rnick = sourceParts.length == 2 ? sourceParts[0] : null;
-            rhost = sourceParts.length == 2 ? sourceParts[1] : sourceParts[0];
+        String[] commandParts = this.commandParts();
+        return commandParts[0].equals("353") ? commandParts[3] : commandParts[1];
+    }
+
+    /**
+     * Extracts the nick from the rawSourceComponent
+     *
+     * @return The nick, if present. This is the name before the {@code !} in the rawSourceComponent. If not present, the host is used
+     */
+    private String parseNick() {
+        int bang = this.raw.indexOf('!', this.sourceStart);
+
+        if (bang == -1 || bang >= this.sourceEnd) {
+            return this.parseHost();
         }
 
-        String rcommand;
-        String rchannel = null;
-        if (rawCommandComponent.contains(" ")) {
-            String[] commandParts = rawCommandComponent.split(" ");
-            rcommand = commandParts[0];
-            rchannel = commandParts[1];
+        return this.raw.substring(this.sourceStart, bang);
+    }
 
-            if (rcommand.equals("CAP")) {
-                rcommand += " " + commandParts[2];
-            } else if (rcommand.equals("353")) {
-                rchannel = commandParts[3];
-            }
-        } else {
-            rcommand = rawCommandComponent;
+    /**
+     * Extracts the host from the rawSourceComponent
+     *
+     * @return The user@host component of the rawSourceComponent. If the {@code !} is present, this is everything after it
+     */
+    private String parseHost() {
+        int bang = this.raw.indexOf('!', this.sourceStart);
+
+        if (bang == -1 || bang >= this.sourceEnd) {
+            return this.raw.substring(this.sourceStart, this.sourceEnd);
         }
 
-        return new String[]{rawTagsComponent, rnick == null ? rhost : rnick, rhost, rcommand, rchannel, rawParametersComponent};
+        return this.raw.substring(bang + 1, this.sourceEnd);
     }
 
     /**
@@ -179,32 +317,46 @@ public final class TMIMessage {
      * Certain special badges are additionally added to their legacy tags, if not already present, via a call to
      * {@link #parseLegacyBadges(java.lang.String)}
      *
-     * @param sTags The rawTagsComponent
      * @return A Map of tags
      */
-    private Map<String, String> parseTags(String sTags) {
-        Map<String, String> rtags = new HashMap<>();
+    private Map<String, String> parseTags() {
+        if (this.tagsStart == -1 || this.tagsStart >= this.tagsEnd) {
+            return EMPTY_STRING_MAP;
+        }
 
-        if (sTags == null) {
-            return rtags;
+        int capacity = 1;
+        for (int i = this.raw.indexOf(';', this.tagsStart); i != -1 && i < this.tagsEnd; i = this.raw.indexOf(';', i + 1)) {
+            capacity++;
         }
 
-        String[] tagParts = sTags.split(";");
+        CompactMap.Builder<String> rtags = new CompactMap.Builder<>(capacity + 5);
+        int idx = this.tagsStart;
+
+        while (idx < this.tagsEnd) {
+            int end = indexOrLength(this.raw, ';', idx);
+            if (end > this.tagsEnd) {
+                end = this.tagsEnd;
+            }
 
-        for (String tagPart : tagParts) {
-            String[] tagSpl = tagPart.split("=");
-            rtags.putIfAbsent(tagSpl[0], tagSpl.length > 1 ? tagSpl[1].replaceAll("\\\\s", " ").replaceAll("\\\\", "\\").replaceAll("\\:", ";") : "");
+            int eq = this.raw.indexOf('=', idx);
+            if (eq == -1 || eq > end) {
+                eq = end;
+            }
 
-            if (tagSpl[0].equals("badges") && tagSpl.length > 1) {
-                Map<String, String> rbadges = parseLegacyBadges(tagSpl[1]);
+            if (eq > idx) {
+                String key = flyweight(this.raw, idx, eq);
+                String value = eq < end ? unescapeTagValue(this.raw, eq + 1, end) : "";
+                rtags.putIfAbsent(key, value);
 
-                for (Map.Entry<String, String> badge : rbadges.entrySet()) {
-                    rtags.putIfAbsent(badge.getKey(), badge.getValue());
+                if (key.equals("badges") && !value.isEmpty()) {
+                    parseLegacyBadges(value, rtags);
                 }
             }
+
+            idx = end + 1;
         }
 
-        return rtags;
+        return rtags.build();
     }
 
     /**
@@ -214,28 +366,46 @@ public final class TMIMessage {
      * @param rawBadgeInfo The raw {@code badge-info} value of {@link #tags}
      * @return A Map of badges
      */
-    private Map<String, String> parseBadges(String rawBadges, String rawBadgeInfo) {
-        Map<String, String> rbadges = new HashMap<>();
+    private static Map<String, String> parseBadges(String rawBadges, String rawBadgeInfo) {
+        if (rawBadges.isBlank() && rawBadgeInfo.isBlank()) {
+            return EMPTY_STRING_MAP;
+        }
 
-        if (!rawBadges.isBlank()) {
-            String[] badgeParts = rawBadges.split(",");
+        CompactMap.Builder<String> rbadges = new CompactMap.Builder<>(8);
+        parseBadgeList(rawBadges, rbadges);
+        parseBadgeList(rawBadgeInfo, rbadges);
+        return rbadges.build();
+    }
 
-            for (String badgePart : badgeParts) {
-                String[] badge = badgePart.split("/");
-                rbadges.putIfAbsent(badge[0], badge.length > 1 ? badge[1] : "");
-            }
+    /**
+     * Parses a comma-separated list of {@code name/version} pairs into a builder
+     *
+     * @param rawBadges The raw badge list
+     * @param rbadges The builder to add the badges to
+     */
+    private static void parseBadgeList(String rawBadges, CompactMap.Builder<String> rbadges) {
+        if (rawBadges.isBlank()) {
+            return;
         }
 
-        if (!rawBadgeInfo.isBlank()) {
-            String[] badgeParts = rawBadgeInfo.split(",");
+        int idx = 0;
+        int length = rawBadges.length();
 
-            for (String badgePart : badgeParts) {
-                String[] badge = badgePart.split("/");
-                rbadges.putIfAbsent(badge[0], badge.length > 1 ? badge[1] : "");
+        while (idx < length) {
+            int end = indexOrLength(rawBadges, ',', idx);
+            int slash = rawBadges.indexOf('/', idx);
+            if (slash == -1 || slash > end) {
+                slash = end;
             }
-        }
 
-        return rbadges;
+            int versionEnd = indexOrLength(rawBadges, '/', slash + 1);
+            if (versionEnd > end) {
+                versionEnd = end;
+            }
+
+            rbadges.putIfAbsent(flyweight(rawBadges, idx, slash), slash < end ? rawBadges.substring(slash + 1, versionEnd) : "");
+            idx = end + 1;
+        }
     }
 
     /**
@@ -248,31 +418,31 @@ public final class TMIMessage {
      * {@link #parameters} matches that emote and would be replaced by the image in the Twitch chat window
      */
     private Map<String, List<EmoteLocation>> parseEmotes(String rawEmotes) {
-        Map<String, List<EmoteLocation>> remotes = new HashMap<>();
+        if (rawEmotes.isBlank()) {
+            return EMPTY_EMOTE_MAP;
+        }
 
-        if (!rawEmotes.isBlank()) {
-            String[] emotesParts = rawEmotes.split("/");
+        CompactMap.Builder<List<EmoteLocation>> remotes = new CompactMap.Builder<>(4);
 
-            for (String emote : emotesParts) {
-                String[] emoteParts = emote.split(":");
+        for (String emote : rawEmotes.split("/")) {
+            String[] emoteParts = emote.split(":");
 
-                if (emoteParts.length == 2) {
-                    List<EmoteLocation> emoteLocations = new ArrayList<>();
-                    String[] positions = emoteParts[1].split(",");
+            if (emoteParts.length == 2) {
+                String[] positions = emoteParts[1].split(",");
+                List<EmoteLocation> emoteLocations = new ArrayList<>(positions.length);
 
-                    for (String position : positions) {
-                        String[] positionParts = position.split("-");
-                        if (positionParts.length == 2) {
-                            emoteLocations.add(new EmoteLocation(positionParts[0], positionParts[1]));
-                        }
+                for (String position : positions) {
+                    String[] positionParts = position.split("-");
+                    if (positionParts.length == 2) {
+                        emoteLocations.add(new EmoteLocation(positionParts[0], positionParts[1]));
                     }
-
-                    remotes.putIfAbsent(emoteParts[0], Collections.unmodifiableList(emoteLocations));
                 }
+
+                remotes.putIfAbsent(emoteParts[0], Collections.unmodifiableList(emoteLocations));
             }
         }
 
-        return remotes;
+        return remotes.build();
     }
 
     /**
@@ -283,63 +453,86 @@ public final class TMIMessage {
      * @param rawEmoteSets The raw {@code emote-sets} value of {@link #tags}
      * @return A List of emoteSetIDs
      */
-    private List<String> parseEmoteSets(String rawEmoteSets) {
-        return Arrays.asList(rawEmoteSets.split(","));
+    private static List<String> parseEmoteSets(String rawEmoteSets) {
+        return Collections.unmodifiableList(Arrays.asList(rawEmoteSets.split(",")));
     }
 
     /**
-     * Parses the {@code badges} component of the IRCv3 tags, returning the legacy tags used previously to denote special statuses
+     * Parses the {@code badges} component of the IRCv3 tags, adding the legacy tags used previously to denote special statuses
      *
      * @param rawBadges The raw {@code badges} value of {@link #tags}
-     * @return A Map of legacy badges
+     * @param rtags The builder to add the legacy tags to, if not already present
      * @deprecated Please use official Twitch IRC tags instead {@link https://dev.twitch.tv/docs/irc/tags/}
      */
     @Deprecated(since = "3.8.2.0", forRemoval = true)
-    private Map<String, String> parseLegacyBadges(String rawBadges) {
-        Map<String, String> rbadges = new HashMap<>();
-
+    private static void parseLegacyBadges(String rawBadges, CompactMap.Builder<String> rtags) {
         if (rawBadges.isBlank()) {
-            return rbadges;
+            return;
         }
 
-        if (rawBadges.length() > 0) {
-            String badgeParts[] = rawBadges.split(",");
+        String userType = null;
+        boolean subscriber = false;
+        boolean turbo = false;
+        boolean premium = false;
+        boolean vip = false;
+        int idx = 0;
+        int length = rawBadges.length();
 
-            for (String badge : badgeParts) {
-                int idx = badge.indexOf('/');
-                if (idx == -1) {
-                    idx = badge.length();
-                }
-                badge = badge.substring(0, idx);
-
-                switch (badge) {
-                    case "staff":
-                    case "global_mod":
-                    case "admin":
-                    case "broadcaster":
-                    case "moderator":
-                        rbadges.put("user-type", badge);
-                        break;
-                    case "subscriber":
-                    case "founder":
-                        rbadges.put("subscriber", "1");
-                        break;
-                    case "turbo":
-                        rbadges.put("turbo", "1");
-                        break;
-                    case "premium":
-                        rbadges.put("premium", "1");
-                        break;
-                    case "vip":
-                        rbadges.put("vip", "1");
-                        break;
-                    default:
-                        break;
-                }
+        while (idx < length) {
+            int end = indexOrLength(rawBadges, ',', idx);
+            int slash = rawBadges.indexOf('/', idx);
+            if (slash == -1 || slash > end) {
+                slash = end;
+            }
+
+            String badge = rawBadges.substring(idx, slash);
+            switch (badge) {
+                case "staff":
+                case "global_mod":
+                case "admin":
+                case "broadcaster":
+                case "moderator":
+                    userType = badge;
+                    break;
+                case "subscriber":
+                case "founder":
+                    subscriber = true;
+                    break;
+                case "turbo":
+                    turbo = true;
+                    break;
+                case "premium":
+                    premium = true;
+                    break;
+                case "vip":
+                    vip = true;
+                    break;
+                default:
+                    break;
             }
+
+            idx = end + 1;
         }
 
-        return rbadges;
+        if (userType != null) {
+            rtags.putIfAbsent("user-type", userType);
+        }
+
+        if (subscriber) {
+            rtags.putIfAbsent("subscriber", "1");
+        }
+
+        if (turbo) {
+            rtags.putIfAbsent("turbo", "1");
+        }
+
+        if (premium) {
+            rtags.putIfAbsent("premium", "1");
+        }
+
+        if (vip) {
+            rtags.putIfAbsent("vip", "1");
+        }
     }
 
     /**
@@ -349,67 +542,165 @@ public final class TMIMessage {
         return this.messageType;
     }
 
+    /**
+     * @return The raw IRC line, if present
+     */
+    public String raw() {
+        return this.raw;
+    }
+
     /**
      * @return The IRCv3 tags. Badges, emotes, and emote-sets are still in raw form in this Map
      */
     public Map<String, String> tags() {
-        return this.tags;
+        if (this.raw == null) {
+            return null;
+        }
+
+        Map<String, String> rtags = this.tags;
+        if (rtags == null) {
+            rtags = this.parseTags();
+            this.tags = rtags;
+        }
+
+        return rtags;
     }
 
     /**
      * @return The badges and badge-info components of the IRCv3 tags
      */
     public Map<String, String> badges() {
-        return this.badges;
+        if (this.raw == null) {
+            return null;
+        }
+
+        Map<String, String> rbadges = this.badges;
+        if (rbadges == null) {
+            Map<String, String> rtags = this.tags();
+            rbadges = parseBadges(rtags.getOrDefault("badges", ""), rtags.getOrDefault("badge-info", ""));
+            this.badges = rbadges;
+        }
+
+        return rbadges;
     }
 
     /**
      * @return The emotes component of the IRCv3 tags, parsed into emoteId: List<{@link EmoteLocation}> pairs
      */
     public Map<String, List<EmoteLocation>> emotes() {
-        return this.emotes;
+        if (this.raw == null) {
+            return null;
+        }
+
+        Map<String, List<EmoteLocation>> remotes = this.emotes;
+        if (remotes == null) {
+            remotes = this.parseEmotes(this.tags().getOrDefault("emotes", ""));
+            this.emotes = remotes;
+        }
+
+        return remotes;
     }
 
     /**
      * @return The emote-sets component of the IRCv3 tags
      */
     public List<String> emoteSets() {
-        return this.emoteSets;
+        if (this.raw == null) {
+            return null;
+        }
+
+        List<String> remoteSets = this.emoteSets;
+        if (remoteSets == null) {
+            remoteSets = parseEmoteSets(this.tags().getOrDefault("emote-sets", ""));
+            this.emoteSets = remoteSets;
+        }
+
+        return remoteSets;
     }
 
     /**
      * @return The nick that sent the message, if present
      */
     public String nick() {
-        return this.nick;
+        if (this.sourceStart == -1) {
+            return null;
+        }
+
+        String rnick = this.nick;
+        if (rnick == null) {
+            rnick = this.parseNick();
+            this.nick = rnick;
+        }
+
+        return rnick;
     }
 
     /**
      * @return The host that sent the message, if present
      */
     public String host() {
-        return this.host;
+        if (this.sourceStart == -1) {
+            return null;
+        }
+
+        String rhost = this.host;
+        if (rhost == null) {
+            rhost = this.parseHost();
+            this.host = rhost;
+        }
+
+        return rhost;
     }
 
     /**
      * @return The IRC command received
      */
     public String command() {
-        return this.command;
+        if (this.raw == null) {
+            return null;
+        }
+
+        String rcommand = this.command;
+        if (rcommand == null) {
+            rcommand = this.parseCommand();
+            this.command = rcommand;
+        }
+
+        return rcommand;
     }
 
     /**
      * @return The channel the command was received in, if present
      */
     public String channel() {
-        return this.channel;
+        if (this.raw == null) {
+            return null;
+        }
+
+        String rchannel = this.channel;
+        if (rchannel == null) {
+            rchannel = this.parseChannel();
+            this.channel = rchannel;
+        }
+
+        return rchannel;
     }
 
     /**
      * @return The parameters of the command, if present
      */
     public String parameters() {
-        return this.parameters;
+        if (this.parametersStart == -1) {
+            return null;
+        }
+
+        String rparameters = this.parameters;
+        if (rparameters == null) {
+            rparameters = this.raw.substring(this.parametersStart);
+            this.parameters = rparameters;
+        }
+
+        return rparameters;
     }
 
     /**
@@ -446,4 +737,140 @@ public final class TMIMessage {
             return (this.end - this.start) + 1;
         }
     }
+
+    /**
+     * A compact, unmodifiable Map backed by parallel arrays, preserving insertion order
+     *
+     * TMI messages carry a few dozen tags at most, so a linear scan over keys which are mostly canonical instances is cheaper than hashing,
+     * and avoids allocating an entry per mapping
+     *
+     * @param <V> The type of the values
+     */
+    private static final class CompactMap<V> extends AbstractMap<String, V> {
+
+        private final String[] keys;
+        private final Object[] values;
+        private final int size;
+
+        private CompactMap(String[] keys, Object[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.keys[i] == key) {
+                    return i;
+                }
+            }
+
+            if (key != null) {
+                for (int i = 0; i < this.size; i++) {
+                    if (this.keys[i].equals(key)) {
+                        return i;
+                    }
+                }
+            }
+
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.indexOf(key) != -1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            int idx = this.indexOf(key);
+            return idx == -1 ? null : (V) this.values[idx];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getOrDefault(Object key, V defaultValue) {
+            int idx = this.indexOf(key);
+            return idx == -1 ? defaultValue : (V) this.values[idx];
+        }
+
+        @Override
+        public Set<Map.Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return CompactMap.this.size;
+                }
+
+                @Override
+                public Iterator<Map.Entry<String, V>> iterator() {
+                    return new Iterator<>() {
+                        private int idx = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.idx < CompactMap.this.size;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Map.Entry<String, V> next() {
+                            if (this.idx >= CompactMap.this.size) {
+                                throw new NoSuchElementException();
+                            }
+
+                            Map.Entry<String, V> entry = new AbstractMap.SimpleImmutableEntry<>(CompactMap.this.keys[this.idx],
+                                    (V) CompactMap.this.values[this.idx]);
+                            this.idx++;
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+
+        /**
+         * Accumulates the mappings of a {@link CompactMap}
+         *
+         * @param <V> The type of the values
+         */
+        private static final class Builder<V> {
+
+            private String[] keys;
+            private Object[] values;
+            private int size = 0;
+
+            private Builder(int capacity) {
+                this.keys = new String[capacity];
+                this.values = new Object[capacity];
+            }
+
+            private void putIfAbsent(String key, V value) {
+                for (int i = 0; i < this.size; i++) {
+                    if (this.keys[i].equals(key)) {
+                        return;
+                    }
+                }
+
+                if (this.size == this.keys.length) {
+                    this.keys = Arrays.copyOf(this.keys, this.size * 2);
+                    this.values = Arrays.copyOf(this.values, this.size * 2);
+                }
+
+                this.keys[this.size] = key;
+                this.values[this.size] = value;
+                this.size++;
+            }
+
+            private CompactMap<V> build() {
+                return new CompactMap<>(this.keys, this.values, this.size);
+            }
+        }
+    }
 }
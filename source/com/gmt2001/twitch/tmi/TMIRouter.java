@@ -0,0 +1,450 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.gmt2001.twitch.tmi;
+
+import com.gmt2001.twitch.tmi.TMIMessage.TMIMessageType;
+import com.gmt2001.twitch.tmi.processors.AbstractTMIProcessor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import tv.phantombot.CaselessProperties;
+
+/**
+ * Routes {@link TMIMessage} to the subscribers registered for the IRC command of each message
+ *
+ * Every subscriber has its own buffer and is drained serially on its own worker, so a slow processor only delays itself. Chat traffic
+ * ({@link #DROPPABLE_COMMANDS}) is bounded: when a subscriber already has {@code tmiprocessorbuffer} of those waiting, the message is dropped for
+ * that subscriber and counted in its {@link Statistics}. Control traffic, such as {@code PING}, {@code RECONNECT}, {@code CAP} and the
+ * connection lifecycle, is never dropped, and stays in order with the chat traffic<br /><br />
+ *
+ * {@link AbstractTMIProcessor} subscribers receive the messages matching {@link AbstractTMIProcessor#commands()}, or every message if that is
+ * empty. Other subscribers receive every message. {@link TMIMessageType#OPEN} and {@link TMIMessageType#CLOSE} are sent to all subscribers
+ */
+public final class TMIRouter implements Flow.Publisher<TMIMessage> {
+
+    /**
+     * The maximum number of messages delivered by a worker before yielding to other subscribers
+     */
+    private static final int DRAIN_BATCH = 64;
+    /**
+     * A drop warning is printed for the first dropped message of a subscriber, and then once every this many drops
+     */
+    private static final long DROP_WARNING_INTERVAL = 100;
+    /**
+     * The IRC commands which may be dropped when a subscriber falls behind
+     */
+    private static final Set<String> DROPPABLE_COMMANDS = Set.of("PRIVMSG", "WHISPER");
+    private final AtomicInteger nextWorkerId = new AtomicInteger(1);
+    private final ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "TMIRouter-" + this.nextWorkerId.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Route> routes = new ArrayList<>();
+    /**
+     * Copy-on-write snapshot of the subscribers of each IRC command. Rebuilt under the lock on {@link #routes}
+     */
+    private volatile Map<String, Route[]> byCommand = Collections.emptyMap();
+    /**
+     * Copy-on-write snapshot of the subscribers which receive every message
+     */
+    private volatile Route[] wildcard = new Route[0];
+    /**
+     * Copy-on-write snapshot of all subscribers
+     */
+    private volatile Route[] all = new Route[0];
+    private final int bufferSize;
+
+    /**
+     * Constructor
+     */
+    TMIRouter() {
+        /**
+         * @botproperty tmiprocessorbuffer - The maximum number of TMI chat messages buffered for each processor before chat messages are dropped. Default `1024`
+         * @botpropertycatsort tmiprocessorbuffer 130 900 Debug
+         * @botpropertyrestart tmiprocessorbuffer
+         */
+        this.bufferSize = Math.max(1, CaselessProperties.instance().getPropertyAsInt("tmiprocessorbuffer", 1024));
+    }
+
+    /**
+     * Registers a subscriber. Subscribing an already registered subscriber is ignored. The subscriber is registered for the commands it listens to, if it is a {@link AbstractTMIProcessor}
+     *
+     * @param subscriber The subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super TMIMessage> subscriber) {
+        List<String> commands = subscriber instanceof AbstractTMIProcessor ? ((AbstractTMIProcessor) subscriber).commands() : List.of();
+        Route route = new Route(subscriber, commands);
+
+        synchronized (this.routes) {
+            for (Route existing : this.routes) {
+                if (existing.subscriber == subscriber) {
+                    return;
+                }
+            }
+
+            this.routes.add(route);
+            this.rebuild();
+        }
+
+        subscriber.onSubscribe(route);
+    }
+
+    /**
+     * Sends a message to the subscribers registered for its command
+     *
+     * @param message The message
+     */
+    void submit(TMIMessage message) {
+        Route[] targets;
+
+        if (message.messageType() == TMIMessageType.MESSAGE) {
+            Route[] commandTargets = this.byCommand.get(message.command());
+            Route[] wildcardTargets = this.wildcard;
+
+            if (commandTargets != null) {
+                for (Route route : commandTargets) {
+                    route.offer(message);
+                }
+            }
+
+            targets = wildcardTargets;
+        } else {
+            targets = this.all;
+        }
+
+        for (Route route : targets) {
+            route.offer(message);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the buffer and lag metrics of each subscriber
+     *
+     * @return A list of statistics, in subscription order
+     */
+    public List<Statistics> statistics() {
+        List<Statistics> statistics = new ArrayList<>();
+
+        for (Route route : this.all) {
+            statistics.add(route.statistics());
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Rebuilds the routing snapshots. Must be called while holding the lock on {@link #routes}
+     */
+    private void rebuild() {
+        Map<String, List<Route>> commandLists = new HashMap<>();
+        List<Route> wildcardList = new ArrayList<>();
+
+        for (Route route : this.routes) {
+            if (route.commands.isEmpty()) {
+                wildcardList.add(route);
+            } else {
+                for (String command : route.commands) {
+                    commandLists.computeIfAbsent(command, k -> new ArrayList<>()).add(route);
+                }
+            }
+        }
+
+        Map<String, Route[]> newByCommand = new HashMap<>();
+        commandLists.forEach((command, list) -> newByCommand.put(command, list.toArray(new Route[0])));
+
+        this.byCommand = newByCommand;
+        this.wildcard = wildcardList.toArray(new Route[0]);
+        this.all = this.routes.toArray(new Route[0]);
+    }
+
+    /**
+     * Removes a subscriber
+     *
+     * @param route The route of the subscriber
+     */
+    private void remove(Route route) {
+        synchronized (this.routes) {
+            if (this.routes.remove(route)) {
+                this.rebuild();
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the buffer and lag metrics of a single subscriber, returned by {@link TMIRouter#statistics()}
+     */
+    public static final class Statistics {
+
+        private final String subscriber;
+        private final List<String> commands;
+        private final int buffered;
+        private final long received;
+        private final long delivered;
+        private final long dropped;
+        private final long lagNanos;
+        private final long maxLagNanos;
+
+        private Statistics(String subscriber, List<String> commands, int buffered, long received, long delivered, long dropped, long lagNanos,
+                long maxLagNanos) {
+            this.subscriber = subscriber;
+            this.commands = commands;
+            this.buffered = buffered;
+            this.received = received;
+            this.delivered = delivered;
+            this.dropped = dropped;
+            this.lagNanos = lagNanos;
+            this.maxLagNanos = maxLagNanos;
+        }
+
+        /**
+         * The simple name of the subscriber class
+         *
+         * @return
+         */
+        public String subscriber() {
+            return this.subscriber;
+        }
+
+        /**
+         * The IRC commands the subscriber is registered for. Empty if it receives every message
+         *
+         * @return
+         */
+        public List<String> commands() {
+            return this.commands;
+        }
+
+        /**
+         * The number of messages waiting in the buffer
+         *
+         * @return
+         */
+        public int buffered() {
+            return this.buffered;
+        }
+
+        /**
+         * The number of messages routed to the subscriber
+         *
+         * @return
+         */
+        public long received() {
+            return this.received;
+        }
+
+        /**
+         * The number of messages which have been passed to {@link Flow.Subscriber#onNext(Object)}
+         *
+         * @return
+         */
+        public long delivered() {
+            return this.delivered;
+        }
+
+        /**
+         * The number of chat messages discarded because the buffer was full
+         *
+         * @return
+         */
+        public long dropped() {
+            return this.dropped;
+        }
+
+        /**
+         * The average time between a message being routed and its delivery starting
+         *
+         * @return
+         */
+        public Duration averageLag() {
+            return Duration.ofNanos(this.delivered == 0 ? 0 : this.lagNanos / this.delivered);
+        }
+
+        /**
+         * The longest time between a message being routed and its delivery starting
+         *
+         * @return
+         */
+        public Duration maxLag() {
+            return Duration.ofNanos(this.maxLagNanos);
+        }
+
+        @Override
+        public String toString() {
+            return this.subscriber + " " + (this.commands.isEmpty() ? "[*]" : this.commands.toString()) + ": buffered=" + this.buffered
+                    + " received=" + this.received + " delivered=" + this.delivered + " dropped=" + this.dropped
+                    + " lagAvg=" + String.format("%.3f", this.averageLag().toNanos() / 1_000_000.0) + "ms lagMax=" + this.maxLag().toMillis() + "ms";
+        }
+    }
+
+    /**
+     * A buffered message and the time it was routed
+     */
+    private static final class Envelope {
+
+        private final TMIMessage message;
+        private final long routedNanos;
+        private final boolean droppable;
+
+        private Envelope(TMIMessage message, long routedNanos, boolean droppable) {
+            this.message = message;
+            this.routedNanos = routedNanos;
+            this.droppable = droppable;
+        }
+    }
+
+    /**
+     * The subscription and buffer of a single subscriber
+     */
+    private final class Route implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super TMIMessage> subscriber;
+        private final List<String> commands;
+        private final LinkedBlockingQueue<Envelope> buffer = new LinkedBlockingQueue<>();
+        /**
+         * The number of droppable messages in {@link #buffer}, which is bounded by {@code tmiprocessorbuffer}
+         */
+        private final AtomicInteger bufferedDroppable = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong lagNanos = new AtomicLong();
+        private final AtomicLong maxLagNanos = new AtomicLong();
+        private volatile boolean cancelled = false;
+
+        private Route(Flow.Subscriber<? super TMIMessage> subscriber, List<String> commands) {
+            this.subscriber = subscriber;
+            this.commands = commands;
+        }
+
+        private void offer(TMIMessage message) {
+            if (this.cancelled) {
+                return;
+            }
+
+            this.received.incrementAndGet();
+
+            boolean droppable = message.messageType() == TMIMessageType.MESSAGE && DROPPABLE_COMMANDS.contains(message.command());
+
+            if (droppable && this.bufferedDroppable.incrementAndGet() > TMIRouter.this.bufferSize) {
+                this.bufferedDroppable.decrementAndGet();
+                long count = this.dropped.incrementAndGet();
+
+                if (count % DROP_WARNING_INTERVAL == 1) {
+                    com.gmt2001.Console.warn.println("TMI buffer for " + this.name() + " is full, " + count + " chat messages dropped so far");
+                }
+
+                return;
+            }
+
+            this.buffer.add(new Envelope(message, System.nanoTime(), droppable));
+            this.schedule();
+        }
+
+        private String name() {
+            return this.subscriber.getClass().getSimpleName();
+        }
+
+        private void schedule() {
+            if (!this.cancelled && this.demand.get() > 0 && !this.buffer.isEmpty() && this.draining.compareAndSet(false, true)) {
+                try {
+                    TMIRouter.this.workers.execute(this);
+                } catch (RuntimeException ex) {
+                    this.draining.set(false);
+                    com.gmt2001.Console.err.printStackTrace(ex);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < DRAIN_BATCH && !this.cancelled && this.demand.get() > 0; i++) {
+                    Envelope envelope = this.buffer.poll();
+
+                    if (envelope == null) {
+                        break;
+                    }
+
+                    if (envelope.droppable) {
+                        this.bufferedDroppable.decrementAndGet();
+                    }
+
+                    this.demand.decrementAndGet();
+                    long lag = System.nanoTime() - envelope.routedNanos;
+                    this.lagNanos.addAndGet(lag);
+                    this.maxLagNanos.accumulateAndGet(lag, Math::max);
+                    this.delivered.incrementAndGet();
+
+                    try {
+                        this.subscriber.onNext(envelope.message);
+                    } catch (Throwable ex) {
+                        this.cancel();
+                        this.subscriber.onError(ex);
+                        return;
+                    }
+                }
+            } finally {
+                this.draining.set(false);
+            }
+
+            this.schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.subscriber.onError(new IllegalArgumentException("non-positive subscription request"));
+                return;
+            }
+
+            this.demand.accumulateAndGet(n, (current, add) -> {
+                long sum = current + add;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.buffer.clear();
+            this.bufferedDroppable.set(0);
+            TMIRouter.this.remove(this);
+        }
+
+        private Statistics statistics() {
+            return new Statistics(this.name(), this.commands, this.buffer.size(), this.received.get(), this.delivered.get(), this.dropped.get(),
+                    this.lagNanos.get(), this.maxLagNanos.get());
+        }
+    }
+}
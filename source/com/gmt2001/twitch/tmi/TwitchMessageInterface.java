@@ -35,7 +35,7 @@ import java.net.URISyntaxException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLException;
 import tv.phantombot.CaselessProperties;
@@ -47,7 +47,7 @@ import tv.phantombot.twitch.api.Helix;
  *
  * @author gmt2001
  */
-public final class TwitchMessageInterface extends SubmissionPublisher<TMIMessage> implements WsClientFrameHandler {
+public final class TwitchMessageInterface implements Flow.Publisher<TMIMessage>, WsClientFrameHandler {
 
     /**
      * The URI to TMI
@@ -73,6 +73,10 @@ public final class TwitchMessageInterface extends SubmissionPublisher<TMIMessage
      * Max message length to avoid dropping
      */
     private static final int MAXLEN = 500;
+    /**
+     * Routes received messages to the processors registered for their IRC command
+     */
+    private final TMIRouter router = new TMIRouter();
 
     /**
      * Initializes the Twitch Message Interface. Creates a new {@link WSClient}, then initializes all processors and starts connecting
@@ -114,6 +118,32 @@ public final class TwitchMessageInterface extends SubmissionPublisher<TMIMessage
         }, 100, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Registers a subscriber with the {@link TMIRouter}
+     *
+     * @param subscriber The subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super TMIMessage> subscriber) {
+        this.router.subscribe(subscriber);
+    }
+
+    /**
+     * Sends a message to the subscribed processors
+     *
+     * @param message The message
+     */
+    private void submit(TMIMessage message) {
+        this.router.submit(message);
+    }
+
+    /**
+     * @return The {@link TMIRouter} which delivers messages to the processors
+     */
+    public TMIRouter router() {
+        return this.router;
+    }
+
     /**
      * Calculates the maximum length for the message content of a PRIVMSG to avoid dropping
      *
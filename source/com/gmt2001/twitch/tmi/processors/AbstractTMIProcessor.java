@@ -43,7 +43,7 @@ public abstract class AbstractTMIProcessor implements Flow.Subscriber<TMIMessage
     protected final List<String> commands;
 
     /**
-     * Constructor. Subscribes to the Flow.Publisher and all IRC commands
+     * Constructor. Subscribes to the Flow.Publisher and all IRC commands. Only {@link #onFlowNext(TMIMessage)} is called for them
      */
     protected AbstractTMIProcessor() {
         this(new String[]{});
@@ -73,8 +73,18 @@ public abstract class AbstractTMIProcessor implements Flow.Subscriber<TMIMessage
      * @param commands The commands to subscribe to
      */
     protected AbstractTMIProcessor(List<String> commands) {
-        this.subscribe();
         this.commands = Collections.unmodifiableList(commands);
+        this.subscribe();
+    }
+
+    /**
+     * The IRC commands this processor listens to. The {@link com.gmt2001.twitch.tmi.TMIRouter} only sends messages with these commands to this
+     * processor, or every message if this is empty
+     *
+     * @return
+     */
+    public final List<String> commands() {
+        return this.commands;
     }
 
     /**
@@ -17,7 +17,7 @@
 package com.illusionaryone;
 
 import com.gmt2001.HttpRequest;
-import com.gmt2001.httpclient.HttpClient;
+import com.gmt2001.httpclient.HttpCache;
 import com.gmt2001.httpclient.HttpClientResponse;
 import com.gmt2001.httpclient.URIUtil;
 import org.json.JSONArray;
@@ -46,7 +46,7 @@ public class BTTVAPIv3 {
         JSONObject jsonResult = new JSONObject("{}");
 
         try {
-            HttpClientResponse resp = HttpClient.get(URIUtil.create(urlAddress));
+            HttpClientResponse resp = HttpCache.get(URIUtil.create(urlAddress));
             String jsonText = resp.responseBody();
 
             if (isJSONArray) {
@@ -19,7 +19,7 @@
 package com.illusionaryone;
 
 import com.gmt2001.HttpRequest;
-import com.gmt2001.httpclient.HttpClient;
+import com.gmt2001.httpclient.HttpCache;
 import com.gmt2001.httpclient.HttpClientResponse;
 import com.gmt2001.httpclient.URIUtil;
 import org.json.JSONException;
@@ -53,7 +53,7 @@ public class FrankerZAPIv1 {
         JSONObject jsonResult = new JSONObject("{}");
 
         try {
-            HttpClientResponse resp = HttpClient.get(URIUtil.create(urlAddress));
+            HttpClientResponse resp = HttpCache.get(URIUtil.create(urlAddress));
             String jsonText = resp.responseBody();
             if (jsonText.startsWith("{")) {
                 jsonResult = new JSONObject(jsonText);
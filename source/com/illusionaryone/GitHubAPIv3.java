@@ -18,7 +18,7 @@
 package com.illusionaryone;
 
 import com.gmt2001.HttpRequest;
-import com.gmt2001.httpclient.HttpClient;
+import com.gmt2001.httpclient.HttpCache;
 import com.gmt2001.httpclient.HttpClientResponse;
 import com.gmt2001.httpclient.URIUtil;
 import java.util.regex.Matcher;
@@ -45,7 +45,7 @@ public final class GitHubAPIv3 {
         JSONObject jsonResult = new JSONObject();
 
         try {
-            HttpClientResponse response = HttpClient.get(URIUtil.create(BASE_URL + endPoint));
+            HttpClientResponse response = HttpCache.get(URIUtil.create(BASE_URL + endPoint));
             if (isArray) {
                 jsonResult.put("array", new JSONArray(response.responseBody()));
             } else {
@@ -17,8 +17,11 @@
 package com.illusionaryone;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
@@ -28,28 +31,41 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Flow;
-import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import com.gmt2001.PathValidator;
 import com.gmt2001.RollbarProvider;
 
 import net.engio.mbassy.listener.Handler;
+import tv.phantombot.CaselessProperties;
 import tv.phantombot.PhantomBot;
 import tv.phantombot.event.EventBus;
 import tv.phantombot.event.Listener;
 import tv.phantombot.event.jvm.PropertiesLoadedEvent;
 import tv.phantombot.event.jvm.PropertiesReloadedEvent;
 
-public final class Logger extends SubmissionPublisher<Logger.LogItem> implements Flow.Processor<Logger.LogItem, Logger.LogItem>, Listener {
+/**
+ * Writes log lines to the daily log files
+ * <br /><br />
+ * Lines are queued by {@link #log(LogType, String)} and written by a single writer thread, which keeps one open {@link FileChannel} per log
+ * directory and rolls it over when the date changes. The writer drains up to {@code logbatchsize} items at a time and groups all items that
+ * arrive within {@code logflushinterval} milliseconds into a single write per file
+ * <br /><br />
+ * If the queue is full, the item is dropped and counted in {@link #dropped()}
+ */
+public final class Logger implements Listener {
 
-    private Flow.Subscription subscription = null;
     private static final DateTimeFormatter logdatefmt = DateTimeFormatter.ofPattern("MM-dd-yyyy @ HH:mm:ss.SSS z");
     private static final DateTimeFormatter filedatefmt = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final DateTimeFormatter filedatetimefmt = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final String LINE_SEPARATOR = System.lineSeparator();
     private ZoneId zoneId;
     private static final Map<LogType, String> LOG_PATHS = Map.of(
             LogType.Output, "./logs/core/",
@@ -62,6 +78,18 @@ public final class Logger extends SubmissionPublisher<Logger.LogItem> implements
     private static final Logger INSTANCE = new Logger();
     private static boolean subscribed = false;
     private final boolean pathsCreated;
+    private final ArrayBlockingQueue<LogItem> queue;
+    /**
+     * Open log files, keyed by directory. Only accessed by the writer thread, or by {@link #close()} after the writer thread has stopped
+     */
+    private final Map<String, LogFile> files = new HashMap<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile int batchSize;
+    private volatile long flushIntervalNanos;
+    private final AtomicLong dropped = new AtomicLong(0);
+    private final AtomicLong written = new AtomicLong(0);
+    private final AtomicLong writes = new AtomicLong(0);
 
     public enum LogType {
         Output,
@@ -72,50 +100,68 @@ public final class Logger extends SubmissionPublisher<Logger.LogItem> implements
         Moderation,
     }
 
-    @Override
-    public void onSubscribe(Flow.Subscription subscription) {
-        this.subscription = subscription;
-        this.subscription.request(1);
-    }
-
-    @Override
-    public void onNext(LogItem item) {
-        try {
-            Files.write(Paths.get(LOG_PATHS.get(item.type), this.logFileTimestamp() + ".txt"), item.lines,
-                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
-        } catch (IOException ex) {
-            RollbarProvider.instance().error(ex, Collections.singletonMap("LogItem", item));
-            ex.printStackTrace(System.err);
-        }
-        this.subscription.request(1);
-    }
-
-    @Override
-    public void onError(Throwable throwable) {
-        RollbarProvider.instance().error(throwable, null, "", true);
-        throwable.printStackTrace(System.err);
-        com.gmt2001.Console.err.println("Logger threw an exception and is being disconnected...");
-    }
-
-    @Override
-    public void onComplete() {
-        this.close();
-    }
-
     public final class LogItem {
 
+        /**
+         * The log type, or {@code null} if the item was logged directly to a directory
+         */
         public final LogType type;
+        public final String directory;
         public final List<String> lines;
 
         private LogItem(LogType type, String lines) {
-            this.type = type;
-            this.lines = Collections.unmodifiableList(lines.lines().collect(Collectors.toList()));
+            this(type, LOG_PATHS.get(type), lines);
         }
 
         private LogItem(LogType type, List<String> lines) {
             this.type = type;
+            this.directory = LOG_PATHS.get(type);
             this.lines = Collections.unmodifiableList(lines);
         }
+
+        private LogItem(LogType type, String directory, String lines) {
+            this.type = type;
+            this.directory = directory;
+            this.lines = Collections.unmodifiableList(lines.lines().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * An open daily log file
+     */
+    private static final class LogFile {
+
+        private final String directory;
+        private String date = null;
+        private FileChannel channel = null;
+
+        private LogFile(String directory) {
+            this.directory = directory;
+        }
+
+        private FileChannel channel(String date) throws IOException {
+            if (this.channel != null && this.channel.isOpen() && date.equals(this.date)) {
+                return this.channel;
+            }
+
+            this.close();
+            Path dir = Paths.get(this.directory);
+            Files.createDirectories(dir);
+            this.channel = FileChannel.open(dir.resolve(date + ".txt"), StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+            this.date = date;
+            return this.channel;
+        }
+
+        private void close() {
+            if (this.channel != null) {
+                try {
+                    this.channel.close();
+                } catch (IOException ex) {
+                    ex.printStackTrace(System.err);
+                }
+                this.channel = null;
+            }
+        }
     }
 
     public static Logger instance() {
@@ -123,7 +169,6 @@ public final class Logger extends SubmissionPublisher<Logger.LogItem> implements
             synchronized (LOG_PATHS) {
                 try {
                     if (!subscribed) {
-                        INSTANCE.subscribe(INSTANCE);
                         EventBus.instance().register(INSTANCE);
                     }
                     subscribed = true;
@@ -137,7 +182,6 @@ public final class Logger extends SubmissionPublisher<Logger.LogItem> implements
 
     @SuppressWarnings("UseSpecificCatch")
     private Logger() {
-        super();
         this.zoneId = PhantomBot.getTimeZoneId();
 
         List<Boolean> success = new ArrayList<>();
@@ -154,16 +198,42 @@ public final class Logger extends SubmissionPublisher<Logger.LogItem> implements
         });
 
         this.pathsCreated = !success.contains(Boolean.FALSE);
+
+        /**
+         * @botproperty logbuffer - The maximum number of log items waiting to be written before new items are dropped. Default `16384`
+         * @botpropertycatsort logbuffer 40 900 Debug
+         * @botpropertyrestart logbuffer
+         */
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, CaselessProperties.instance().getPropertyAsInt("logbuffer", 16384)));
+        this.loadProperties();
+
+        this.writer = new Thread(this::run, "com.illusionaryone.Logger::run");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    private void loadProperties() {
+        this.zoneId = PhantomBot.getTimeZoneId();
+        /**
+         * @botproperty logbatchsize - The maximum number of log items written in one batch. Default `512`
+         * @botpropertycatsort logbatchsize 41 900 Debug
+         */
+        this.batchSize = Math.max(1, CaselessProperties.instance().getPropertyAsInt("logbatchsize", 512));
+        /**
+         * @botproperty logflushinterval - The number of milliseconds log items are collected before they are written to disk. `0` writes as soon as items arrive. Default `500`
+         * @botpropertycatsort logflushinterval 42 900 Debug
+         */
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, CaselessProperties.instance().getPropertyAsInt("logflushinterval", 500)));
     }
 
     @Handler
     public void onPropertiesLoadedEvent(PropertiesLoadedEvent event) {
-        this.zoneId = PhantomBot.getTimeZoneId();
+        this.loadProperties();
     }
 
     @Handler
     public void onPropertiesReloadedEvent(PropertiesReloadedEvent event) {
-        this.zoneId = PhantomBot.getTimeZoneId();
+        this.loadProperties();
     }
 
     public void log(LogType type, String lines) {
@@ -182,6 +252,174 @@ public final class Logger extends SubmissionPublisher<Logger.LogItem> implements
         this.submit(new LogItem(type, lines));
     }
 
+    /**
+     * Logs to the daily log file in the specified directory, which is created if it does not exist
+     * <br /><br />
+     * The caller is responsible for validating the directory
+     *
+     * @param directory The directory to write the log file to
+     * @param lines The lines to log
+     */
+    public void log(String directory, String lines) {
+        this.submit(new LogItem(null, directory, lines));
+    }
+
+    private void submit(LogItem item) {
+        if (!this.running || !this.queue.offer(item)) {
+            long count = this.dropped.incrementAndGet();
+
+            if (this.running && (count == 1 || count % 1000 == 0)) {
+                System.err.println("Logger queue is full, " + count + " log items have been dropped");
+            }
+        }
+    }
+
+    /**
+     * The writer loop
+     */
+    private void run() {
+        List<LogItem> pending = new ArrayList<>();
+        long deadline = 0;
+
+        while (this.running) {
+            try {
+                LogItem item;
+
+                if (pending.isEmpty()) {
+                    item = this.queue.poll(1, TimeUnit.SECONDS);
+                } else {
+                    item = this.queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+
+                if (item != null) {
+                    if (pending.isEmpty()) {
+                        deadline = System.nanoTime() + this.flushIntervalNanos;
+                    }
+
+                    pending.add(item);
+                    this.queue.drainTo(pending, this.batchSize - pending.size());
+                }
+
+                if (!pending.isEmpty() && (pending.size() >= this.batchSize || System.nanoTime() - deadline >= 0)) {
+                    this.write(pending);
+                    pending.clear();
+                }
+            } catch (InterruptedException ex) {
+                break;
+            } catch (Exception ex) {
+                RollbarProvider.instance().error(ex);
+                ex.printStackTrace(System.err);
+                pending.clear();
+            }
+        }
+
+        this.write(pending);
+    }
+
+    /**
+     * Writes a batch of log items, with one write per log file
+     *
+     * @param items The items to write
+     */
+    private void write(List<LogItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        String date = this.logFileTimestamp();
+        Map<String, StringBuilder> buffers = new LinkedHashMap<>();
+
+        for (LogItem item : items) {
+            StringBuilder sb = buffers.computeIfAbsent(item.directory, k -> new StringBuilder(4096));
+
+            for (String line : item.lines) {
+                sb.append(line).append(LINE_SEPARATOR);
+            }
+        }
+
+        buffers.forEach((directory, sb) -> {
+            LogFile file = this.files.computeIfAbsent(directory, LogFile::new);
+
+            try {
+                ByteBuffer buffer = StandardCharsets.UTF_8.encode(sb.toString());
+                FileChannel channel = file.channel(date);
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+
+                this.writes.incrementAndGet();
+            } catch (IOException ex) {
+                file.close();
+                RollbarProvider.instance().error(ex, Collections.singletonMap("directory", directory));
+                ex.printStackTrace(System.err);
+            }
+        });
+
+        this.written.addAndGet(items.size());
+    }
+
+    /**
+     * Stops the writer thread, writes any queued items, and closes the log files
+     */
+    public void close() {
+        if (!this.running) {
+            return;
+        }
+
+        this.running = false;
+
+        try {
+            this.writer.join(5000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!this.writer.isAlive()) {
+            List<LogItem> remaining = new ArrayList<>();
+            this.queue.drainTo(remaining);
+            this.write(remaining);
+            this.files.values().forEach(LogFile::close);
+            this.files.clear();
+        }
+    }
+
+    /**
+     * The number of log items waiting to be written
+     *
+     * @return The queue depth
+     */
+    public int queued() {
+        return this.queue.size();
+    }
+
+    /**
+     * The number of log items dropped because the queue was full
+     *
+     * @return The drop count
+     */
+    public long dropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * The number of log items written
+     *
+     * @return The written count
+     */
+    public long written() {
+        return this.written.get();
+    }
+
+    /**
+     * The number of writes issued to log files. Each write contains one or more log items
+     *
+     * @return The write count
+     */
+    public long writes() {
+        return this.writes.get();
+    }
+
     public static DateTimeFormatter getLogTimestampFormatter() {
         return logdatefmt;
     }
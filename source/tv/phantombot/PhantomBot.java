@@ -45,6 +45,7 @@ import com.gmt2001.Reflect;
 import com.gmt2001.RestartRunner;
 import com.gmt2001.RollbarProvider;
 import com.gmt2001.TwitchAPIv5;
+import com.gmt2001.datastore.CachedDataStore;
 import com.gmt2001.datastore.DataStore;
 import com.gmt2001.datastore.DataStoreConverter;
 import com.gmt2001.datastore.H2Store;
@@ -56,9 +57,11 @@ import com.gmt2001.httpwsserver.HTTPWSServer;
 import com.gmt2001.ratelimiters.ExponentialBackoff;
 import com.gmt2001.twitch.TwitchAuthorizationCodeFlow;
 import com.gmt2001.twitch.cache.ViewerCache;
+import com.gmt2001.twitch.cache.ViewerLoginMapping;
 import com.gmt2001.twitch.eventsub.EventSub;
 import com.gmt2001.twitch.tmi.TwitchMessageInterface;
 import com.illusionaryone.GitHubAPIv3;
+import com.illusionaryone.Logger;
 import com.illusionaryone.StreamLabsAPI;
 import com.illusionaryone.YouTubeAPIv3;
 import com.scaniatv.CustomAPI;
@@ -386,7 +389,7 @@ public final class PhantomBot implements Listener {
                 PhantomBot.exitError();
             }
             /* Convert to MySql */
-            if (MySQLStore.instance().GetFileList().length == 0 && SqliteStore.hasDatabase(CaselessProperties.instance().getProperty("datastoreconfig", ""))
+            if ((MySQLStore.instance().GetFileList().length == 0 || DataStoreConverter.isIncomplete(MySQLStore.instance())) && SqliteStore.hasDatabase(CaselessProperties.instance().getProperty("datastoreconfig", ""))
                 && SqliteStore.isAvailable(CaselessProperties.instance().getProperty("datastoreconfig", ""))
                 && SqliteStore.instance().GetFileList().length > 0) {
                 DataStoreConverter.convertDataStore(MySQLStore.instance(), SqliteStore.instance());
@@ -395,7 +398,7 @@ public final class PhantomBot implements Listener {
             || !SqliteStore.isAvailable(CaselessProperties.instance().getProperty("datastoreconfig", ""))) {
             this.dataStore = H2Store.instance(CaselessProperties.instance().getProperty("datastoreconfig", ""));
 
-            if (H2Store.instance().GetFileList().length == 0 && SqliteStore.hasDatabase(CaselessProperties.instance().getProperty("datastoreconfig", ""))
+            if ((H2Store.instance().GetFileList().length == 0 || DataStoreConverter.isIncomplete(H2Store.instance())) && SqliteStore.hasDatabase(CaselessProperties.instance().getProperty("datastoreconfig", ""))
                 && SqliteStore.isAvailable(CaselessProperties.instance().getProperty("datastoreconfig", ""))
                 && SqliteStore.instance().GetFileList().length > 0) {
                 DataStoreConverter.convertDataStore(H2Store.instance(), SqliteStore.instance());
@@ -412,6 +415,33 @@ public final class PhantomBot implements Listener {
             PhantomBot.exitError();
         }
 
+        /**
+         * @botproperty datastorecache - If `true`, frequently used tables are cached in memory and writes to them are flushed to the database in batches. Default `false`
+         * @botpropertycatsort datastorecache 300 30 Datastore
+         * @botpropertyrestart datastorecache
+         */
+        /**
+         * @botproperty datastorecachetables - A comma-separated list of tables to cache when `datastorecache` is enabled. Default `points,time,settings,followed,aliases`
+         * @botpropertycatsort datastorecachetables 310 30 Datastore
+         * @botpropertyrestart datastorecachetables
+         */
+        /**
+         * @botproperty datastorecachesize - The maximum number of rows of each table to keep in memory when `datastorecache` is enabled. Default `25000`
+         * @botpropertycatsort datastorecachesize 320 30 Datastore
+         * @botpropertyrestart datastorecachesize
+         */
+        /**
+         * @botproperty datastorecacheflushinterval - The interval, in seconds, between writes of cached changes to the database when `datastorecache` is enabled. Default `5`
+         * @botpropertycatsort datastorecacheflushinterval 330 30 Datastore
+         * @botpropertyrestart datastorecacheflushinterval
+         */
+        if (CaselessProperties.instance().getPropertyAsBoolean("datastorecache", false)) {
+            this.dataStore = CachedDataStore.instance(this.dataStore,
+                List.of(CaselessProperties.instance().getProperty("datastorecachetables", "points,time,settings,followed,aliases").replaceAll("\\s", "").split(",")),
+                CaselessProperties.instance().getPropertyAsInt("datastorecachesize", 25000),
+                CaselessProperties.instance().getPropertyAsInt("datastorecacheflushinterval", 5));
+        }
+
         /* Set the oauth key in the Twitch api and perform a validation. */
         this.validateOAuth();
 
@@ -1065,6 +1095,7 @@ public final class PhantomBot implements Listener {
 
         com.gmt2001.Console.out.print("\r\n");
         this.print("Closing the database...");
+        ViewerLoginMapping.instance().flush();
         this.dataStore.dispose();
 
         CaselessProperties.instance().store(false);
@@ -1084,6 +1115,7 @@ public final class PhantomBot implements Listener {
         }
 
         this.print(this.getBotName() + " is exiting.");
+        Logger.instance().close();
     }
 
     @Handler
@@ -23,7 +23,7 @@
 package tv.phantombot.cache;
 
 import com.gmt2001.ExecutorService;
-import com.gmt2001.httpclient.HttpClient;
+import com.gmt2001.httpclient.HttpCache;
 import com.gmt2001.httpclient.HttpClientResponse;
 import com.gmt2001.httpclient.URIUtil;
 import com.gmt2001.twitch.cache.ViewerCache;
@@ -313,26 +313,22 @@ public final class TwitchCache implements Listener {
 
                         if (Instant.now().isAfter(this.nextLogoCheck)) {
                             this.nextLogoCheck = Instant.now().plus(1, ChronoUnit.HOURS);
-                            HttpClientResponse headResponse = HttpClient.head(URIUtil.create(data.getString("profile_image_url")));
+                            HttpClientResponse logoResponse = HttpCache.get(URIUtil.create(data.getString("profile_image_url")));
 
-                            if (headResponse.isSuccess()) {
-                                ZonedDateTime lastModified = ZonedDateTime.parse(headResponse.responseHeaders().get("last-modified"), DateTimeFormatter.RFC_1123_DATE_TIME);
+                            if (logoResponse.isSuccess()) {
+                                ZonedDateTime lastModified = ZonedDateTime.parse(logoResponse.responseHeaders().get("last-modified"), DateTimeFormatter.RFC_1123_DATE_TIME);
 
                                 if (lastModified.isAfter(this.latestLogo) || !oldLogoLink.equals(data.getString("profile_image_url"))) {
-                                    HttpClientResponse logoResponse = HttpClient.get(URIUtil.create(data.getString("profile_image_url")));
+                                    Path logoPath = Paths.get("./web/panel/img/logo.jpeg");
 
-                                    if (logoResponse.isSuccess()) {
-                                        Path logoPath = Paths.get("./web/panel/img/logo.jpeg");
+                                    try {
+                                        Files.createDirectories(logoPath.getParent());
 
-                                        try {
-                                            Files.createDirectories(logoPath.getParent());
+                                        Files.write(logoPath, logoResponse.rawResponseBody(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
 
-                                            Files.write(logoPath, logoResponse.rawResponseBody(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
-
-                                            this.latestLogo = lastModified;
-                                        } catch (IOException ex) {
-                                            com.gmt2001.Console.err.printStackTrace(ex);
-                                        }
+                                        this.latestLogo = lastModified;
+                                    } catch (IOException ex) {
+                                        com.gmt2001.Console.err.printStackTrace(ex);
                                     }
                                 }
                             }
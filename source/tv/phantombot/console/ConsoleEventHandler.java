@@ -30,6 +30,7 @@ import com.gmt2001.GamesListUpdater;
 import com.gmt2001.HttpRequest;
 import com.gmt2001.HttpResponse;
 import com.gmt2001.Reflect;
+import com.illusionaryone.Logger;
 
 import net.engio.mbassy.listener.Handler;
 import tv.phantombot.CaselessProperties;
@@ -54,6 +55,8 @@ import tv.phantombot.event.twitch.subscriber.TwitchReSubscriberEvent;
 import tv.phantombot.event.twitch.subscriber.TwitchSubscriberEvent;
 import tv.phantombot.event.twitch.subscriber.TwitchSubscriptionGiftEvent;
 import tv.phantombot.script.Script;
+import tv.phantombot.twitch.api.Helix;
+import tv.phantombot.twitch.api.HelixScheduler;
 
 public final class ConsoleEventHandler implements Listener {
 
@@ -741,6 +744,48 @@ public final class ConsoleEventHandler implements Listener {
             com.gmt2001.Console.out.println("Heap Dump Completed");
         }
 
+        /**
+         * @consolecommand eventbusstats - Prints the queue depth, dispatch latency, and handler time of each event type
+         */
+        if (message.equalsIgnoreCase("eventbusstats")) {
+            EventBus.instance().statistics().forEach(statistics -> com.gmt2001.Console.out.println(statistics.toString()));
+            return;
+        }
+
+        /**
+         * @consolecommand tmistats - Prints the buffer depth, drops, and delivery lag of each TMI processor
+         */
+        if (message.equalsIgnoreCase("tmistats")) {
+            if (PhantomBot.instance().getTMI() == null) {
+                com.gmt2001.Console.out.println("TMI is not connected");
+                return;
+            }
+
+            PhantomBot.instance().getTMI().router().statistics().forEach(statistics -> com.gmt2001.Console.out.println(statistics.toString()));
+            return;
+        }
+
+        /**
+         * @consolecommand helixstats - Prints the token bucket, in-flight requests, and queue wait of each Twitch Helix API priority lane
+         */
+        if (message.equalsIgnoreCase("helixstats")) {
+            HelixScheduler scheduler = Helix.instance().scheduler();
+            com.gmt2001.Console.out.println("Helix tokens=" + String.format("%.1f", scheduler.tokens()) + "/" + Helix.instance().maxRateLimit()
+                    + " inFlight=" + scheduler.inFlight());
+            scheduler.statistics().forEach(statistics -> com.gmt2001.Console.out.println(statistics.toString()));
+            return;
+        }
+
+        /**
+         * @consolecommand logstats - Prints the queue depth, drops, and write counts of the log file writer
+         */
+        if (message.equalsIgnoreCase("logstats")) {
+            Logger logger = Logger.instance();
+            com.gmt2001.Console.out.println("Logger queued=" + logger.queued() + ", dropped=" + logger.dropped() + ", written=" + logger.written()
+                    + ", writes=" + logger.writes());
+            return;
+        }
+
         // Check to see if any settings have been changed.
         if (changed) {
             transaction.commit();
@@ -16,9 +16,26 @@
  */
 package tv.phantombot.event;
 
-import net.engio.mbassy.bus.MBassador;
-import net.engio.mbassy.bus.config.BusConfiguration;
-import net.engio.mbassy.bus.config.Feature;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import net.engio.mbassy.listener.Handler;
+import tv.phantombot.CaselessProperties;
 import tv.phantombot.PhantomBot;
 import tv.phantombot.event.jvm.JVMEvent;
 
@@ -33,12 +50,33 @@ import tv.phantombot.event.jvm.JVMEvent;
  * The event bus will deliver each event to all subscribers of the matching event class, as well as subscribers of any event class in
  * the parent chain going back up to the {@link Event} base class. For example: subscribing to {@link JVMEvent} will receive all
  * events in the {@code tv.phantombot.event.jvm} package, as it is the base event for the package
+ * <br /><br />
+ * The subscribers of each event class are resolved once and cached. A listener can decline event classes with
+ * {@link Listener#acceptsEvent(Class)}, and events without any subscriber are discarded without being queued
+ * <br /><br />
+ * Subscribers of an event are called in descending order of {@link Handler#priority()}, then in order of registration.
+ * Asynchronous events are queued in a bounded queue for each event class, which is drained by a shared pool of worker threads.
+ * The {@link OverflowPolicy} decides what happens when a queue is full. Listeners which return {@code true} from {@link Listener#isOrdered()}
+ * receive asynchronous events one at a time, and events of the same class in the order in which they were queued. The queues of the event
+ * classes they subscribe to are drained by one worker at a time
+ * <br /><br />
+ * The queue depth, dispatch latency, and handler time of each event class are available from {@link #statistics()}
  */
 public final class EventBus {
     private static final EventBus instance = new EventBus();
-    private static final MBassador<Event> bus = new MBassador<>(new BusConfiguration().addFeature(Feature.SyncPubSub.Default())
-            .addFeature(Feature.AsynchronousHandlerInvocation.Default()).addFeature(Feature.AsynchronousMessageDispatch.Default()
-            .setNumberOfMessageDispatchers(10)).addPublicationErrorHandler(new ExceptionHandler()));
+    /**
+     * The maximum number of events one worker dispatches from a queue before yielding to other queues
+     */
+    private static final int DRAIN_BATCH = 64;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<? extends Event>, Route> resolved = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Event>, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<Listener, SerialInvoker> invokers = new ConcurrentHashMap<>();
+    private final ExceptionHandler exceptionHandler = new ExceptionHandler();
+    private final AtomicLong registrations = new AtomicLong(0);
+    private volatile ThreadPoolExecutor workers;
+    private volatile int queueCapacity;
+    private volatile OverflowPolicy overflowPolicy;
 
     /**
      * Class constructor.
@@ -62,7 +100,27 @@ public final class EventBus {
      * @param listener An instance to register to receive events
      */
     public void register(Listener listener) {
-        bus.subscribe(listener);
+        for (Method method : listener.getClass().getMethods()) {
+            Handler handler = method.getAnnotation(Handler.class);
+
+            if (handler == null || !handler.enabled() || method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+
+            try {
+                method.setAccessible(true);
+            } catch (RuntimeException ex) {
+                com.gmt2001.Console.debug.printStackTrace(ex);
+            }
+
+            this.subscriptions.add(new Subscription(listener, method, handler, this.registrations.incrementAndGet()));
+        }
+
+        if (listener.isOrdered()) {
+            this.invokers.putIfAbsent(listener, new SerialInvoker());
+        }
+
+        this.resolved = new ConcurrentHashMap<>();
     }
 
     /**
@@ -71,7 +129,9 @@ public final class EventBus {
      * @param listener An instance to deregister to no longer receive events
      */
     public void unregister(Listener listener) {
-        bus.unsubscribe(listener);
+        this.subscriptions.removeIf(subscription -> subscription.listener == listener);
+        this.invokers.remove(listener);
+        this.resolved = new ConcurrentHashMap<>();
     }
 
     /**
@@ -82,11 +142,13 @@ public final class EventBus {
      * @param event An event to publish
      */
     public void post(Event event) {
-        if (PhantomBot.isInExitState()) {
+        if (PhantomBot.isInExitState() || this.route(event.getClass()).subscribers.length == 0) {
             return;
         }
 
-        bus.publish(event);
+        Lane lane = this.lane(event.getClass());
+        lane.posted.increment();
+        lane.dispatch(event, System.nanoTime(), false);
     }
 
     /**
@@ -95,10 +157,401 @@ public final class EventBus {
      * @param event An event to publish
      */
     public void postAsync(Event event) {
-        if (PhantomBot.isInExitState()) {
+        if (PhantomBot.isInExitState() || this.route(event.getClass()).subscribers.length == 0) {
             return;
         }
 
-        bus.publishAsync(event);
+        this.lane(event.getClass()).offer(event);
+    }
+
+    /**
+     * Discards the resolved subscribers of all event classes
+     * <br /><br />
+     * Must be called when the result of {@link Listener#acceptsEvent(Class)} changes for a registered listener
+     */
+    public void invalidate() {
+        this.resolved = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the dispatch metrics of every event class which has been posted
+     *
+     * @return
+     */
+    public List<EventStatistics> statistics() {
+        List<EventStatistics> statistics = new ArrayList<>();
+        this.lanes.values().forEach(lane -> statistics.add(lane.statistics()));
+        statistics.sort(Comparator.comparing(EventStatistics::eventClass));
+        return statistics;
+    }
+
+    /**
+     * Returns the subscriptions which receive events of the given class
+     *
+     * @param eventClass The class of the event
+     * @return
+     */
+    private Route route(Class<? extends Event> eventClass) {
+        return this.resolved.computeIfAbsent(eventClass, c -> {
+            Subscription[] subscribers = this.subscriptions.stream()
+                    .filter(subscription -> subscription.accepts(eventClass) && subscription.listener.acceptsEvent(eventClass))
+                    .sorted(Comparator.comparingInt((Subscription subscription) -> -subscription.priority).thenComparingLong(subscription -> subscription.order))
+                    .toArray(Subscription[]::new);
+            boolean ordered = false;
+
+            for (Subscription subscription : subscribers) {
+                ordered = ordered || this.invokers.containsKey(subscription.listener);
+            }
+
+            return new Route(subscribers, ordered);
+        });
+    }
+
+    /**
+     * Returns the queue and metrics of an event class
+     *
+     * @param eventClass The class of the event
+     * @return
+     */
+    private Lane lane(Class<? extends Event> eventClass) {
+        Lane lane = this.lanes.get(eventClass);
+
+        if (lane == null) {
+            this.workers();
+            lane = this.lanes.computeIfAbsent(eventClass, Lane::new);
+        }
+
+        return lane;
+    }
+
+    /**
+     * Returns the worker pool, creating it and loading the queue settings from the bot properties on first use
+     *
+     * @return
+     */
+    private ThreadPoolExecutor workers() {
+        ThreadPoolExecutor pool = this.workers;
+
+        if (pool == null) {
+            synchronized (this) {
+                pool = this.workers;
+
+                if (pool == null) {
+                    /**
+                     * @botproperty eventbusworkers - The number of threads which dispatch asynchronous events. Default `10`
+                     * @botpropertycatsort eventbusworkers 100 900 Debug
+                     * @botpropertyrestart eventbusworkers
+                     */
+                    /**
+                     * @botproperty eventbusqueuesize - The maximum number of queued asynchronous events of each event type. Default `10000`
+                     * @botpropertycatsort eventbusqueuesize 110 900 Debug
+                     * @botpropertyrestart eventbusqueuesize
+                     */
+                    /**
+                     * @botproperty eventbusoverflow - The action taken when an event queue is full. Valid values: `block`, `caller_runs`, `drop_oldest`, `drop_newest`. Default `block`
+                     * @botpropertycatsort eventbusoverflow 120 900 Debug
+                     * @botpropertyrestart eventbusoverflow
+                     */
+                    int threads = Math.max(1, CaselessProperties.instance().getPropertyAsInt("eventbusworkers", 10));
+                    this.queueCapacity = Math.max(1, CaselessProperties.instance().getPropertyAsInt("eventbusqueuesize", 10000));
+
+                    try {
+                        this.overflowPolicy = OverflowPolicy.valueOf(CaselessProperties.instance().getProperty("eventbusoverflow", "block").toUpperCase());
+                    } catch (IllegalArgumentException ex) {
+                        com.gmt2001.Console.warn.println("Invalid eventbusoverflow value, using block");
+                        this.overflowPolicy = OverflowPolicy.BLOCK;
+                    }
+
+                    pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new WorkerThreadFactory());
+                    this.workers = pool;
+                }
+            }
+        }
+
+        return pool;
+    }
+
+    /**
+     * Indicates if the current thread is an event bus worker
+     *
+     * @return
+     */
+    private static boolean isWorkerThread() {
+        return Thread.currentThread() instanceof WorkerThread;
+    }
+
+    /**
+     * A handler method of a registered listener
+     */
+    private final class Subscription {
+
+        private final Listener listener;
+        private final Method method;
+        private final Class<?> eventClass;
+        private final boolean rejectSubtypes;
+        private final int priority;
+        private final long order;
+
+        private Subscription(Listener listener, Method method, Handler handler, long order) {
+            this.listener = listener;
+            this.method = method;
+            this.eventClass = method.getParameterTypes()[0];
+            this.rejectSubtypes = handler.rejectSubtypes();
+            this.priority = handler.priority();
+            this.order = order;
+        }
+
+        private boolean accepts(Class<?> eventClass) {
+            return this.rejectSubtypes ? this.eventClass == eventClass : this.eventClass.isAssignableFrom(eventClass);
+        }
+
+        /**
+         * Calls the handler, reporting any exception to the {@link ExceptionHandler}
+         *
+         * @param event The event
+         * @param lane The lane to record the handler time in
+         */
+        private void invoke(Event event, Lane lane) {
+            long start = System.nanoTime();
+
+            try {
+                this.method.invoke(this.listener, event);
+            } catch (InvocationTargetException ex) {
+                EventBus.this.exceptionHandler.handleError(this.method, this.listener, ex.getCause() != null ? ex.getCause() : ex);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                EventBus.this.exceptionHandler.handleError(this.method, this.listener, ex);
+            } finally {
+                lane.recordHandler(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * The bounded queue and the metrics of a single event class
+     */
+    private final class Lane {
+
+        private final Class<? extends Event> eventClass;
+        private final ArrayBlockingQueue<Envelope> queue;
+        private final AtomicInteger drainers = new AtomicInteger(0);
+        private final LongAdder posted = new LongAdder();
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong(0);
+        private final LongAdder handlerNanos = new LongAdder();
+        private final AtomicLong maxHandlerNanos = new AtomicLong(0);
+
+        private Lane(Class<? extends Event> eventClass) {
+            this.eventClass = eventClass;
+            this.queue = new ArrayBlockingQueue<>(EventBus.this.queueCapacity);
+        }
+
+        /**
+         * Queues an event, applying the overflow policy if the queue is full
+         *
+         * @param event The event
+         */
+        private void offer(Event event) {
+            this.posted.increment();
+            Envelope envelope = new Envelope(event, System.nanoTime());
+
+            if (!this.queue.offer(envelope)) {
+                switch (EventBus.this.overflowPolicy) {
+                    case BLOCK:
+                        if (isWorkerThread()) {
+                            this.dispatch(event, envelope.posted, true);
+                            return;
+                        }
+
+                        try {
+                            this.queue.put(envelope);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            this.drop(event);
+                            return;
+                        }
+                        break;
+                    case CALLER_RUNS:
+                        this.dispatch(event, envelope.posted, true);
+                        return;
+                    case DROP_OLDEST:
+                        do {
+                            Envelope oldest = this.queue.poll();
+
+                            if (oldest != null) {
+                                this.drop(oldest.event);
+                            }
+                        } while (!this.queue.offer(envelope));
+                        break;
+                    default:
+                        this.drop(event);
+                        return;
+                }
+            }
+
+            this.schedule();
+        }
+
+        /**
+         * Starts another drainer on the worker pool if there are queued events
+         */
+        private void schedule() {
+            int maxDrainers = EventBus.this.route(this.eventClass).ordered ? 1 : EventBus.this.workers.getMaximumPoolSize();
+            int active;
+
+            while (!this.queue.isEmpty() && (active = this.drainers.get()) < maxDrainers) {
+                if (this.drainers.compareAndSet(active, active + 1)) {
+                    EventBus.this.workers.execute(this::drain);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Dispatches up to {@link #DRAIN_BATCH} queued events
+         */
+        private void drain() {
+            try {
+                Envelope envelope;
+                int count = 0;
+
+                while (count++ < DRAIN_BATCH && (envelope = this.queue.poll()) != null) {
+                    this.dispatch(envelope.event, envelope.posted, true);
+                }
+            } finally {
+                this.drainers.decrementAndGet();
+                this.schedule();
+            }
+        }
+
+        /**
+         * Delivers an event to its subscribers
+         *
+         * @param event The event
+         * @param posted The value of {@link System#nanoTime()} when the event was posted
+         * @param async If {@code true}, listeners which require ordering are called through their {@link SerialInvoker}
+         */
+        private void dispatch(Event event, long posted, boolean async) {
+            long latency = System.nanoTime() - posted;
+            this.latencyNanos.add(latency);
+            this.maxLatencyNanos.accumulateAndGet(latency, Math::max);
+
+            for (Subscription subscription : EventBus.this.route(this.eventClass).subscribers) {
+                SerialInvoker invoker = async ? EventBus.this.invokers.get(subscription.listener) : null;
+
+                if (invoker == null) {
+                    subscription.invoke(event, this);
+                } else {
+                    invoker.submit(() -> subscription.invoke(event, this));
+                }
+            }
+
+            this.dispatched.increment();
+        }
+
+        private void drop(Event event) {
+            this.dropped.increment();
+            com.gmt2001.Console.debug.println("Dropped " + event.getClass().getSimpleName() + ", the queue is full");
+        }
+
+        private void recordHandler(long nanos) {
+            this.handlerNanos.add(nanos);
+            this.maxHandlerNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private EventStatistics statistics() {
+            return new EventStatistics(this.eventClass.getSimpleName(), this.queue.size(), this.posted.sum(), this.dispatched.sum(), this.dropped.sum(),
+                    this.latencyNanos.sum(), this.maxLatencyNanos.get(), this.handlerNanos.sum(), this.maxHandlerNanos.get());
+        }
+    }
+
+    /**
+     * The subscriptions of an event class, in invocation order
+     */
+    private static final class Route {
+
+        private final Subscription[] subscribers;
+        /**
+         * {@code true} if one of the subscribers requires ordering, in which case the queue is drained by one worker at a time
+         */
+        private final boolean ordered;
+
+        private Route(Subscription[] subscribers, boolean ordered) {
+            this.subscribers = subscribers;
+            this.ordered = ordered;
+        }
+    }
+
+    /**
+     * A queued event and the time it was posted
+     */
+    private static final class Envelope {
+
+        private final Event event;
+        private final long posted;
+
+        private Envelope(Event event, long posted) {
+            this.event = event;
+            this.posted = posted;
+        }
+    }
+
+    /**
+     * Runs the handler calls of a single listener one at a time, in submission order, on the worker pool
+     */
+    private final class SerialInvoker {
+
+        private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private void submit(Runnable task) {
+            this.tasks.add(task);
+            this.schedule();
+        }
+
+        private void schedule() {
+            if (!this.tasks.isEmpty() && this.running.compareAndSet(false, true)) {
+                EventBus.this.workers.execute(this::run);
+            }
+        }
+
+        private void run() {
+            try {
+                Runnable task;
+                int count = 0;
+
+                while (count++ < DRAIN_BATCH && (task = this.tasks.poll()) != null) {
+                    task.run();
+                }
+            } finally {
+                this.running.set(false);
+                this.schedule();
+            }
+        }
+    }
+
+    /**
+     * Marks the threads of the worker pool
+     */
+    private static final class WorkerThread extends Thread {
+
+        private WorkerThread(Runnable runnable, String name) {
+            super(runnable, name);
+            this.setDaemon(true);
+        }
+    }
+
+    /**
+     * Creates named {@link WorkerThread} instances
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new WorkerThread(runnable, "EventBus-" + this.count.incrementAndGet());
+        }
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package tv.phantombot.event;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the dispatch metrics of a single event class, returned by {@link EventBus#statistics()}
+ */
+public final class EventStatistics {
+
+    private final String eventClass;
+    private final int queueDepth;
+    private final long posted;
+    private final long dispatched;
+    private final long dropped;
+    private final long latencyNanos;
+    private final long maxLatencyNanos;
+    private final long handlerNanos;
+    private final long maxHandlerNanos;
+
+    EventStatistics(String eventClass, int queueDepth, long posted, long dispatched, long dropped, long latencyNanos, long maxLatencyNanos,
+            long handlerNanos, long maxHandlerNanos) {
+        this.eventClass = eventClass;
+        this.queueDepth = queueDepth;
+        this.posted = posted;
+        this.dispatched = dispatched;
+        this.dropped = dropped;
+        this.latencyNanos = latencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+        this.handlerNanos = handlerNanos;
+        this.maxHandlerNanos = maxHandlerNanos;
+    }
+
+    /**
+     * The simple name of the event class
+     *
+     * @return
+     */
+    public String eventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * The number of events waiting in the queue
+     *
+     * @return
+     */
+    public int queueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * The number of events posted with {@link EventBus#post(Event)} or {@link EventBus#postAsync(Event)}
+     *
+     * @return
+     */
+    public long posted() {
+        return this.posted;
+    }
+
+    /**
+     * The number of events which have been delivered to all subscribers
+     *
+     * @return
+     */
+    public long dispatched() {
+        return this.dispatched;
+    }
+
+    /**
+     * The number of events discarded by the {@link OverflowPolicy}
+     *
+     * @return
+     */
+    public long dropped() {
+        return this.dropped;
+    }
+
+    /**
+     * The average time between an event being posted and its dispatch starting
+     *
+     * @return
+     */
+    public Duration averageLatency() {
+        return Duration.ofNanos(this.dispatched == 0 ? 0 : this.latencyNanos / this.dispatched);
+    }
+
+    /**
+     * The longest time between an event being posted and its dispatch starting
+     *
+     * @return
+     */
+    public Duration maxLatency() {
+        return Duration.ofNanos(this.maxLatencyNanos);
+    }
+
+    /**
+     * The average time spent in the handlers of a single event
+     *
+     * @return
+     */
+    public Duration averageHandlerTime() {
+        return Duration.ofNanos(this.dispatched == 0 ? 0 : this.handlerNanos / this.dispatched);
+    }
+
+    /**
+     * The longest time spent in a single handler
+     *
+     * @return
+     */
+    public Duration maxHandlerTime() {
+        return Duration.ofNanos(this.maxHandlerNanos);
+    }
+
+    @Override
+    public String toString() {
+        return this.eventClass + ": queued=" + this.queueDepth + " posted=" + this.posted + " dispatched=" + this.dispatched + " dropped=" + this.dropped
+                + " latencyAvg=" + this.averageLatency().toMillis() + "ms latencyMax=" + this.maxLatency().toMillis() + "ms"
+                + " handlerAvg=" + String.format("%.3f", this.averageHandlerTime().toNanos() / 1_000_000.0) + "ms handlerMax="
+                + this.maxHandlerTime().toMillis() + "ms";
+    }
+}
@@ -16,17 +16,22 @@
  */
 package tv.phantombot.event;
 
-import net.engio.mbassy.bus.error.IPublicationErrorHandler;
-import net.engio.mbassy.bus.error.PublicationError;
+import java.lang.reflect.Method;
 
 /**
  * Error handler for {@link EventBus}
  */
-public class ExceptionHandler implements IPublicationErrorHandler {
+public class ExceptionHandler {
 
-    @Override
-    public void handleError(PublicationError err) {
-        com.gmt2001.Console.err.println("Failed to dispatch event [" + err.getHandler().toString() + "] to [" + err.getListener().toString() + "] " + err.getCause().getMessage());
-        com.gmt2001.Console.err.printStackTrace(err.getCause());
+    /**
+     * Reports an exception thrown by an event handler
+     *
+     * @param handler The handler method
+     * @param listener The listener instance
+     * @param cause The exception
+     */
+    public void handleError(Method handler, Object listener, Throwable cause) {
+        com.gmt2001.Console.err.println("Failed to dispatch event [" + handler.toString() + "] to [" + listener.toString() + "] " + cause.getMessage());
+        com.gmt2001.Console.err.printStackTrace(cause);
     }
 }
@@ -20,4 +20,27 @@ package tv.phantombot.event;
  * Interface which marks a class as a receiver of events posted by {@link EventBus}
  */
 public interface Listener {
+
+    /**
+     * Indicates if this listener must receive asynchronous events one at a time, and events of the same class in the order in which they were queued
+     * <br /><br />
+     * Other listeners may be called concurrently from several event bus threads
+     *
+     * @return {@code true} to serialize the handler calls of this listener
+     */
+    default boolean isOrdered() {
+        return false;
+    }
+
+    /**
+     * Indicates if this listener wants events of the given class, in addition to having a matching handler
+     * <br /><br />
+     * The result is cached by {@link EventBus}, which must be told with {@link EventBus#invalidate()} when it changes
+     *
+     * @param eventClass The class of the event
+     * @return {@code false} to not receive events of this class
+     */
+    default boolean acceptsEvent(Class<? extends Event> eventClass) {
+        return true;
+    }
 }
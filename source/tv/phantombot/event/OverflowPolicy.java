@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package tv.phantombot.event;
+
+/**
+ * The action taken by {@link EventBus#postAsync(Event)} when the queue of an event class is full
+ */
+public enum OverflowPolicy {
+    /**
+     * The posting thread waits until there is room in the queue. Event bus worker threads dispatch the event themselves instead of waiting
+     */
+    BLOCK,
+    /**
+     * The posting thread dispatches the event itself
+     */
+    CALLER_RUNS,
+    /**
+     * The oldest queued event is discarded to make room
+     */
+    DROP_OLDEST,
+    /**
+     * The posted event is discarded
+     */
+    DROP_NEWEST
+}
@@ -18,6 +18,7 @@ package tv.phantombot.event.irc.channel;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import tv.phantombot.twitch.irc.TwitchSession;
 
@@ -26,7 +27,10 @@ import tv.phantombot.twitch.irc.TwitchSession;
  * @author gmt2001
  */
 public class IrcChannelUsersUpdateEvent extends IrcChannelEvent {
-    private final List<String> chatters;
+    private final List<String> joins;
+    private final List<String> parts;
+    private final Supplier<List<String>> chattersSupplier;
+    private List<String> chatters;
 
     /**
      * Constructor
@@ -35,9 +39,27 @@ public class IrcChannelUsersUpdateEvent extends IrcChannelEvent {
      */
     public IrcChannelUsersUpdateEvent(List<String> chatters) {
         super(null);
+        this.joins = Collections.emptyList();
+        this.parts = Collections.emptyList();
+        this.chattersSupplier = null;
         this.chatters = Collections.unmodifiableList(chatters);
     }
 
+    /**
+     * Constructor
+     *
+     * @param joins A list of login names for users who have joined chat since the previous event
+     * @param parts A list of login names for users who have left chat since the previous event
+     * @param chatters A supplier for the list of login names for users who are currently in chat, called the first time {@link #chatters()} is called
+     */
+    public IrcChannelUsersUpdateEvent(List<String> joins, List<String> parts, Supplier<List<String>> chatters) {
+        super(null);
+        this.joins = Collections.unmodifiableList(joins);
+        this.parts = Collections.unmodifiableList(parts);
+        this.chattersSupplier = chatters;
+        this.chatters = null;
+    }
+
     /**
      * Class constructor.
      *
@@ -49,6 +71,9 @@ public class IrcChannelUsersUpdateEvent extends IrcChannelEvent {
     @Deprecated(since = "3.8.0.0", forRemoval = true)
     public IrcChannelUsersUpdateEvent(TwitchSession session, String[] joins, String[] parts) {
         super(session);
+        this.joins = Collections.emptyList();
+        this.parts = Collections.emptyList();
+        this.chattersSupplier = null;
         this.chatters = null;
     }
 
@@ -62,37 +87,64 @@ public class IrcChannelUsersUpdateEvent extends IrcChannelEvent {
     @Deprecated(since = "3.8.0.0", forRemoval = true)
     public IrcChannelUsersUpdateEvent(String[] joins, String[] parts) {
         super(null);
+        this.joins = Collections.emptyList();
+        this.parts = Collections.emptyList();
+        this.chattersSupplier = null;
         this.chatters = null;
     }
 
     /**
-     * Method that returns the current array of users who joined the channel in the last 10 minutes.
+     * Method that returns the current array of users who joined the channel since the previous event.
      *
      * @return joins
-     * @deprecated Joins/Parts are not calculated anymore
+     * @deprecated Use {@link #joins()} instead
      */
     @Deprecated(since = "3.8.0.0", forRemoval = true)
     public String[] getJoins() {
-        return new String[0];
+        return this.joins.toArray(new String[0]);
     }
 
     /**
-     * Method that returns the current array of users who left the channel in the last 10 minutes.
+     * Method that returns the current array of users who left the channel since the previous event.
      *
      * @return parts
-     * @deprecated Joins/Parts are not calculated anymore
+     * @deprecated Use {@link #parts()} instead
      */
     @Deprecated(since = "3.8.0.0", forRemoval = true)
     public String[] getParts() {
-        return new String[0];
+        return this.parts.toArray(new String[0]);
+    }
+
+    /**
+     * A list of login names for users who have joined chat since the previous event
+     *
+     * @return A list of login names for users who have joined chat
+     */
+    public List<String> joins() {
+        return this.joins;
+    }
+
+    /**
+     * A list of login names for users who have left chat since the previous event
+     *
+     * @return A list of login names for users who have left chat
+     */
+    public List<String> parts() {
+        return this.parts;
     }
 
     /**
      * A list of login names for users who are currently in chat
+     * <br /><br />
+     * If the event was created with joins and parts, the list is built the first time this method is called
      *
      * @return A list of login names for users who are currently in chat
      */
-    public List<String> chatters() {
+    public synchronized List<String> chatters() {
+        if (this.chatters == null && this.chattersSupplier != null) {
+            this.chatters = Collections.unmodifiableList(this.chattersSupplier.get());
+        }
+
         return this.chatters;
     }
 }
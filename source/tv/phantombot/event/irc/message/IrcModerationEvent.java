@@ -18,6 +18,8 @@ package tv.phantombot.event.irc.message;
 
 import java.util.Map;
 
+import com.gmt2001.MessageAnalysis;
+import com.gmt2001.PatternDetector;
 import com.gmt2001.twitch.tmi.TMIMessage;
 
 import reactor.core.publisher.Mono;
@@ -31,6 +33,7 @@ public class IrcModerationEvent extends IrcMessageEvent {
     private final Sinks.One<Void> completed = Sinks.one();
     private final ModerationAction action = new ModerationAction();
     private final TMIMessage tmimsg;
+    private volatile MessageAnalysis analysis = null;
 
     /**
      * Class constructor.
@@ -126,6 +129,22 @@ public class IrcModerationEvent extends IrcMessageEvent {
         return this.tmimsg;
     }
 
+    /**
+     * Returns the {@link MessageAnalysis} of this message, which is computed on the first call and shared by all moderation hooks
+     *
+     * @return The {@link MessageAnalysis}
+     */
+    public MessageAnalysis analysis() {
+        MessageAnalysis ranalysis = this.analysis;
+
+        if (ranalysis == null) {
+            ranalysis = PatternDetector.analyze(this.message, this.tags);
+            this.analysis = ranalysis;
+        }
+
+        return ranalysis;
+    }
+
     /**
      * Converts this message into a {@link CommandEvent}
      *
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package tv.phantombot.moderation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A compiled chat moderation blacklist
+ *
+ * All plain phrases are compiled into a single Aho-Corasick automaton, so a message is scanned once regardless of the number of phrases. Regex
+ * entries which can be safely combined are joined into one alternation which is used as a pre-filter, so the individual patterns are only
+ * evaluated when at least one of them matches<br /><br />
+ *
+ * As with the previous script implementation, the entry with the lowest index wins when several entries match
+ */
+public final class Blacklist {
+
+    /**
+     * Backreferences and named groups change meaning when patterns are joined into a single alternation
+     */
+    private static final Pattern UNCOMBINABLE = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]");
+    private static final Blacklist EMPTY = new Blacklist(new BlacklistEntry[0], new char[][]{new char[0]}, new int[][]{new int[0]}, new int[]{0},
+            new int[]{Integer.MAX_VALUE}, new BlacklistEntry[0], new Pattern[0], new boolean[0], null);
+    private final BlacklistEntry[] entries;
+    /**
+     * The sorted transition labels of each automaton state
+     */
+    private final char[][] labels;
+    /**
+     * The target states of {@link #labels}
+     */
+    private final int[][] targets;
+    /**
+     * The failure link of each automaton state
+     */
+    private final int[] fail;
+    /**
+     * The lowest entry index of any phrase ending at each automaton state, following the failure links
+     */
+    private final int[] minMatch;
+    private final BlacklistEntry[] regexEntries;
+    private final Pattern[] regexPatterns;
+    private final boolean[] regexCombined;
+    private final Pattern combined;
+
+    private Blacklist(BlacklistEntry[] entries, char[][] labels, int[][] targets, int[] fail, int[] minMatch, BlacklistEntry[] regexEntries,
+            Pattern[] regexPatterns, boolean[] regexCombined, Pattern combined) {
+        this.entries = entries;
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.minMatch = minMatch;
+        this.regexEntries = regexEntries;
+        this.regexPatterns = regexPatterns;
+        this.regexCombined = regexCombined;
+        this.combined = combined;
+    }
+
+    /**
+     * @return An empty blacklist
+     */
+    public static Blacklist empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compiles a blacklist. Regex entries which do not compile are skipped
+     *
+     * @param entries The entries, in priority order. The {@link BlacklistEntry#index()} of each entry must be its position in this list
+     * @return The compiled blacklist
+     */
+    public static Blacklist compile(List<BlacklistEntry> entries) {
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> own = new ArrayList<>();
+        trie.add(new HashMap<>());
+        own.add(Integer.MAX_VALUE);
+
+        List<BlacklistEntry> regexEntries = new ArrayList<>();
+        List<Pattern> regexPatterns = new ArrayList<>();
+        List<Boolean> regexCombined = new ArrayList<>();
+        StringBuilder combined = new StringBuilder();
+
+        for (BlacklistEntry entry : entries) {
+            if (entry.isRegex()) {
+                Pattern pattern;
+                try {
+                    pattern = Pattern.compile(entry.phrase());
+                } catch (PatternSyntaxException ex) {
+                    com.gmt2001.Console.debug.println("Skipping invalid blacklist regex " + entry.phrase() + ": " + ex.getDescription());
+                    continue;
+                }
+
+                boolean combinable = !UNCOMBINABLE.matcher(entry.phrase()).find();
+                if (combinable) {
+                    if (combined.length() > 0) {
+                        combined.append('|');
+                    }
+
+                    combined.append("(?:").append(entry.phrase()).append(')');
+                }
+
+                regexEntries.add(entry);
+                regexPatterns.add(pattern);
+                regexCombined.add(combinable);
+            } else {
+                int state = 0;
+                String phrase = entry.phrase();
+
+                for (int i = 0; i < phrase.length(); i++) {
+                    Integer next = trie.get(state).get(phrase.charAt(i));
+
+                    if (next == null) {
+                        next = trie.size();
+                        trie.add(new HashMap<>());
+                        own.add(Integer.MAX_VALUE);
+                        trie.get(state).put(phrase.charAt(i), next);
+                    }
+
+                    state = next;
+                }
+
+                own.set(state, Math.min(own.get(state), entry.index()));
+            }
+        }
+
+        int size = trie.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> transitions = trie.get(state);
+            char[] stateLabels = new char[transitions.size()];
+            int i = 0;
+
+            for (char c : transitions.keySet()) {
+                stateLabels[i++] = c;
+            }
+
+            Arrays.sort(stateLabels);
+            int[] stateTargets = new int[stateLabels.length];
+
+            for (i = 0; i < stateLabels.length; i++) {
+                stateTargets[i] = transitions.get(stateLabels[i]);
+            }
+
+            labels[state] = stateLabels;
+            targets[state] = stateTargets;
+        }
+
+        int[] fail = new int[size];
+        int[] minMatch = new int[size];
+        Queue<Integer> queue = new LinkedList<>();
+        minMatch[0] = own.get(0);
+        queue.add(0);
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+
+            for (int i = 0; i < labels[state].length; i++) {
+                char c = labels[state][i];
+                int next = targets[state][i];
+
+                if (state == 0) {
+                    fail[next] = 0;
+                } else {
+                    int f = fail[state];
+                    int t;
+
+                    while ((t = transition(labels, targets, f, c)) == -1 && f != 0) {
+                        f = fail[f];
+                    }
+
+                    fail[next] = t == -1 ? 0 : t;
+                }
+
+                minMatch[next] = Math.min(own.get(next), minMatch[fail[next]]);
+                queue.add(next);
+            }
+        }
+
+        Pattern combinedPattern = null;
+        if (combined.length() > 0) {
+            try {
+                combinedPattern = Pattern.compile(combined.toString());
+            } catch (PatternSyntaxException ex) {
+                regexCombined.replaceAll(b -> false);
+            }
+        }
+
+        boolean[] combinedFlags = new boolean[regexCombined.size()];
+        for (int i = 0; i < combinedFlags.length; i++) {
+            combinedFlags[i] = regexCombined.get(i);
+        }
+
+        return new Blacklist(entries.toArray(new BlacklistEntry[0]), labels, targets, fail, minMatch, regexEntries.toArray(new BlacklistEntry[0]),
+                regexPatterns.toArray(new Pattern[0]), combinedFlags, combinedPattern);
+    }
+
+    private static int transition(char[][] labels, int[][] targets, int state, char c) {
+        int idx = Arrays.binarySearch(labels[state], c);
+        return idx < 0 ? -1 : targets[state][idx];
+    }
+
+    /**
+     * @return The number of entries
+     */
+    public int size() {
+        return this.entries.length;
+    }
+
+    /**
+     * @return The entries, in priority order
+     */
+    public List<BlacklistEntry> entries() {
+        return List.of(this.entries);
+    }
+
+    /**
+     * Finds the highest priority entry which matches a message
+     *
+     * @param message The message, already lower-cased
+     * @return The matching entry; {@code null} if no entries match
+     */
+    public BlacklistEntry match(String message) {
+        int best = this.minMatch[0];
+        int state = 0;
+
+        for (int i = 0; i < message.length() && best > 0; i++) {
+            char c = message.charAt(i);
+            int next;
+
+            while ((next = transition(this.labels, this.targets, state, c)) == -1 && state != 0) {
+                state = this.fail[state];
+            }
+
+            state = next == -1 ? 0 : next;
+            best = Math.min(best, this.minMatch[state]);
+        }
+
+        if (this.regexEntries.length > 0 && (this.regexEntries[0].index() < best)) {
+            boolean combinedMatched = this.combined != null && this.combined.matcher(message).find();
+
+            for (int i = 0; i < this.regexEntries.length && this.regexEntries[i].index() < best; i++) {
+                if ((!this.regexCombined[i] || combinedMatched) && this.regexPatterns[i].matcher(message).find()) {
+                    return this.regexEntries[i];
+                }
+            }
+        }
+
+        return best == Integer.MAX_VALUE ? null : this.entries[best];
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package tv.phantombot.moderation;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * An entry of the chat moderation blacklist, as stored by chatModerator.js in the {@code blackList} table
+ */
+public final class BlacklistEntry {
+
+    private static final String REGEX_PREFIX = "regex:";
+    private final int index;
+    private final String id;
+    private final String phrase;
+    private final boolean regex;
+    private final int timeout;
+    private final boolean silent;
+    private final boolean excludeRegulars;
+    private final boolean excludeSubscribers;
+    private final boolean excludeVips;
+    private final String message;
+    private final String banReason;
+
+    /**
+     * Constructor
+     *
+     * @param index The position of this entry in the blacklist. Entries with a lower index take priority
+     * @param json The JSON object of the entry
+     */
+    private BlacklistEntry(int index, JSONObject json) {
+        this.index = index;
+        this.id = json.optString("id", "");
+        this.regex = json.optBoolean("isRegex", false);
+        this.timeout = parseTimeout(json.opt("timeout"));
+        this.silent = json.optBoolean("isSilent", false);
+        this.excludeRegulars = json.optBoolean("excludeRegulars", false);
+        this.excludeSubscribers = json.optBoolean("excludeSubscribers", false);
+        this.excludeVips = json.optBoolean("excludeVips", false);
+        this.message = json.optString("message", "");
+        this.banReason = json.optString("banReason", "");
+
+        String rphrase = json.optString("phrase", "");
+        if (this.regex) {
+            this.phrase = rphrase.replaceFirst(REGEX_PREFIX, "");
+        } else {
+            this.phrase = rphrase.toLowerCase();
+        }
+    }
+
+    /**
+     * Parses a stored blacklist entry
+     *
+     * @param index The position of this entry in the blacklist
+     * @param json The stored JSON string
+     * @return The entry; {@code null} if the JSON is invalid
+     */
+    static BlacklistEntry parse(int index, String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+
+        try {
+            return new BlacklistEntry(index, new JSONObject(json));
+        } catch (JSONException ex) {
+            com.gmt2001.Console.err.println("Invalid blacklist entry: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private static int parseTimeout(Object timeout) {
+        if (timeout instanceof Number) {
+            return ((Number) timeout).intValue();
+        }
+
+        try {
+            return Integer.parseInt(String.valueOf(timeout).trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * @return The position of this entry in the blacklist
+     */
+    int index() {
+        return this.index;
+    }
+
+    /**
+     * @return The id of the entry, which is the key in the {@code blackList} table
+     */
+    public String id() {
+        return this.id;
+    }
+
+    /**
+     * @return The phrase. For regex entries, the {@code regex:} prefix is removed; otherwise, it is lower-cased
+     */
+    public String phrase() {
+        return this.phrase;
+    }
+
+    /**
+     * @return {@code true} if {@link #phrase()} is a regular expression
+     */
+    public boolean isRegex() {
+        return this.regex;
+    }
+
+    /**
+     * @return The timeout in seconds. {@code 0} deletes the message; {@code -1} bans the user
+     */
+    public int timeout() {
+        return this.timeout;
+    }
+
+    /**
+     * @return {@code true} if a match bans the user
+     */
+    public boolean isBan() {
+        return this.timeout == -1;
+    }
+
+    /**
+     * @return {@code true} if no message is sent to chat when this entry matches
+     */
+    public boolean isSilent() {
+        return this.silent;
+    }
+
+    /**
+     * @return {@code true} if regulars are not moderated by this entry
+     */
+    public boolean excludeRegulars() {
+        return this.excludeRegulars;
+    }
+
+    /**
+     * @return {@code true} if subscribers are not moderated by this entry
+     */
+    public boolean excludeSubscribers() {
+        return this.excludeSubscribers;
+    }
+
+    /**
+     * @return {@code true} if VIPs are not moderated by this entry
+     */
+    public boolean excludeVips() {
+        return this.excludeVips;
+    }
+
+    /**
+     * @return The message sent to chat when this entry matches
+     */
+    public String message() {
+        return this.message;
+    }
+
+    /**
+     * @return The reason attached to the timeout or ban
+     */
+    public String banReason() {
+        return this.banReason;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package tv.phantombot.moderation;
+
+import com.gmt2001.MessageAnalysis;
+
+/**
+ * The outcome of {@link ModerationEngine#evaluate(tv.phantombot.event.irc.message.IrcModerationEvent, int)}
+ *
+ * Only the first filter triggered by the message is reported, in the order the filters are checked. Exemptions, warnings, and the resulting
+ * timeout are handled by the caller
+ */
+public final class ModerationAction {
+
+    /**
+     * The chat moderation filters, in the order they are checked
+     */
+    public enum Filter {
+        /**
+         * No filter was triggered
+         */
+        None,
+        /**
+         * A blacklist entry matched, see {@link ModerationAction#blacklistEntry()}
+         */
+        Blacklist,
+        /**
+         * The message contains a link
+         */
+        Links,
+        /**
+         * The message contains too many symbols
+         */
+        Symbols,
+        /**
+         * The message contains a long sequence of a repeated character
+         */
+        Spam,
+        /**
+         * The message is too long
+         */
+        LongMessage,
+        /**
+         * The message imitates a deleted message
+         */
+        FakePurge,
+        /**
+         * The message contains too many emotes
+         */
+        Emotes,
+        /**
+         * The message contains too many capital letters
+         */
+        Caps,
+        /**
+         * The message is a {@code /me} message
+         */
+        Colors
+    }
+
+    private final Filter filter;
+    private final BlacklistEntry blacklistEntry;
+    private final MessageAnalysis analysis;
+    private final long nanos;
+
+    ModerationAction(Filter filter, BlacklistEntry blacklistEntry, MessageAnalysis analysis, long nanos) {
+        this.filter = filter;
+        this.blacklistEntry = blacklistEntry;
+        this.analysis = analysis;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return The filter which was triggered
+     */
+    public Filter filter() {
+        return this.filter;
+    }
+
+    /**
+     * @return The name of the filter which was triggered
+     */
+    public String filterName() {
+        return this.filter.name();
+    }
+
+    /**
+     * @return {@code true} if a filter was triggered
+     */
+    public boolean triggered() {
+        return this.filter != Filter.None;
+    }
+
+    /**
+     * @return The matching blacklist entry, if {@link #filter()} is {@link Filter#Blacklist}; otherwise {@code null}
+     */
+    public BlacklistEntry blacklistEntry() {
+        return this.blacklistEntry;
+    }
+
+    /**
+     * @return The analysis of the message; {@code null} if a blacklist entry matched before it was computed
+     */
+    public MessageAnalysis analysis() {
+        return this.analysis;
+    }
+
+    /**
+     * @return The time taken to evaluate the message, in nanoseconds
+     */
+    public long nanos() {
+        return this.nanos;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package tv.phantombot.moderation;
+
+import com.gmt2001.MessageAnalysis;
+import com.gmt2001.datastore.DataStore;
+import java.util.ArrayList;
+import java.util.List;
+import tv.phantombot.PhantomBot;
+import tv.phantombot.event.irc.message.IrcModerationEvent;
+import tv.phantombot.moderation.ModerationAction.Filter;
+
+/**
+ * Evaluates chat messages against the blacklist and the chat moderation filters configured by chatModerator.js
+ *
+ * The blacklist is read from the {@code blackList} table and the filter settings from the {@code chatModerator} table. Both are cached and must
+ * be refreshed with {@link #reload()} after they are changed
+ */
+public final class ModerationEngine {
+
+    private static final ModerationEngine INSTANCE = new ModerationEngine();
+    private volatile Blacklist blacklist = Blacklist.empty();
+    private volatile Settings settings = new Settings(null);
+
+    /**
+     * Singleton
+     */
+    private ModerationEngine() {
+    }
+
+    /**
+     * @return The instance
+     */
+    public static ModerationEngine instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Reloads the blacklist and the filter settings from the database
+     */
+    public void reload() {
+        this.reloadSettings();
+        this.reloadBlacklist();
+    }
+
+    /**
+     * Reloads the filter settings from the {@code chatModerator} table
+     */
+    public void reloadSettings() {
+        this.settings = new Settings(PhantomBot.instance().getDataStore());
+    }
+
+    /**
+     * Reloads and recompiles the blacklist from the {@code blackList} table
+     */
+    public void reloadBlacklist() {
+        DataStore dataStore = PhantomBot.instance().getDataStore();
+        List<BlacklistEntry> entries = new ArrayList<>();
+
+        for (String key : dataStore.GetKeyList("blackList", "")) {
+            BlacklistEntry entry = BlacklistEntry.parse(entries.size(), dataStore.GetString("blackList", "", key));
+
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+
+        this.blacklist = Blacklist.compile(entries);
+    }
+
+    /**
+     * @return The compiled blacklist
+     */
+    public Blacklist blacklist() {
+        return this.blacklist;
+    }
+
+    /**
+     * Evaluates a message against the blacklist, then each enabled filter, stopping at the first match
+     *
+     * @param event The moderation event
+     * @param extraEmotes The number of emotes in the message which are not Twitch emotes, such as BTTV and FFZ emotes
+     * @return The first triggered filter
+     */
+    public ModerationAction evaluate(IrcModerationEvent event, int extraEmotes) {
+        return this.evaluate(event, extraEmotes, false);
+    }
+
+    /**
+     * Evaluates a message against the blacklist, unless skipped, then each enabled filter, stopping at the first match
+     * <br /><br />
+     * The blacklist is skipped when the caller found the sender exempt from the matched entry, so that the remaining filters still apply
+     *
+     * @param event The moderation event
+     * @param extraEmotes The number of emotes in the message which are not Twitch emotes, such as BTTV and FFZ emotes
+     * @param skipBlacklist If {@code true}, the blacklist is not checked
+     * @return The first triggered filter
+     */
+    public ModerationAction evaluate(IrcModerationEvent event, int extraEmotes, boolean skipBlacklist) {
+        long start = System.nanoTime();
+        Settings rsettings = this.settings;
+        String message = event.getMessage();
+        String lowerMessage = message.toLowerCase();
+        int length = lowerMessage.length();
+
+        BlacklistEntry entry = skipBlacklist ? null : this.blacklist.match(lowerMessage);
+        if (entry != null) {
+            return new ModerationAction(Filter.Blacklist, entry, null, System.nanoTime() - start);
+        }
+
+        MessageAnalysis analysis = event.analysis();
+        Filter filter = Filter.None;
+
+        if (rsettings.linksToggle && analysis.hasLinks()) {
+            filter = Filter.Links;
+        } else if (rsettings.symbolsToggle && length >= rsettings.symbolsTriggerLength
+                && (analysis.longestNonLetterSequence() >= rsettings.symbolsGroupLimit
+                || ((analysis.nonLetters() / (float) length) * 100) >= rsettings.symbolsLimitPercent)) {
+            filter = Filter.Symbols;
+        } else if (rsettings.spamToggle && analysis.longestRepeatedSequence() >= rsettings.spamLimit) {
+            filter = Filter.Spam;
+        } else if (rsettings.longMessageToggle && length >= rsettings.longMessageLimit) {
+            filter = Filter.LongMessage;
+        } else if (rsettings.fakePurgeToggle && analysis.fakePurge()) {
+            filter = Filter.FakePurge;
+        } else if (rsettings.emotesToggle && analysis.emotes() + extraEmotes >= rsettings.emotesLimit) {
+            filter = Filter.Emotes;
+        } else if (rsettings.capsToggle && length >= rsettings.capsTriggerLength
+                && ((analysis.caps() / (float) length) * 100) >= rsettings.capsLimitPercent) {
+            filter = Filter.Caps;
+        } else if (rsettings.colorsToggle && analysis.colored()) {
+            filter = Filter.Colors;
+        }
+
+        return new ModerationAction(filter, null, analysis, System.nanoTime() - start);
+    }
+
+    /**
+     * A snapshot of the filter settings. The defaults match those set by chatModerator.js
+     */
+    private static final class Settings {
+
+        private final boolean linksToggle;
+        private final boolean capsToggle;
+        private final float capsLimitPercent;
+        private final int capsTriggerLength;
+        private final boolean spamToggle;
+        private final int spamLimit;
+        private final boolean symbolsToggle;
+        private final float symbolsLimitPercent;
+        private final float symbolsGroupLimit;
+        private final int symbolsTriggerLength;
+        private final boolean emotesToggle;
+        private final int emotesLimit;
+        private final boolean longMessageToggle;
+        private final int longMessageLimit;
+        private final boolean colorsToggle;
+        private final boolean fakePurgeToggle;
+
+        /**
+         * Constructor
+         *
+         * @param dataStore The database to read from; {@code null} to use the defaults
+         */
+        private Settings(DataStore dataStore) {
+            this.linksToggle = bool(dataStore, "linksToggle", false);
+            this.capsToggle = bool(dataStore, "capsToggle", false);
+            this.capsLimitPercent = number(dataStore, "capsLimitPercent", 70);
+            this.capsTriggerLength = (int) number(dataStore, "capsTriggerLength", 20);
+            this.spamToggle = bool(dataStore, "spamToggle", false);
+            this.spamLimit = (int) number(dataStore, "spamLimit", 15);
+            this.symbolsToggle = bool(dataStore, "symbolsToggle", false);
+            this.symbolsLimitPercent = number(dataStore, "symbolsLimitPercent", 50);
+            this.symbolsGroupLimit = number(dataStore, "symbolsGroupLimit", 10);
+            this.symbolsTriggerLength = (int) number(dataStore, "symbolsTriggerLength", 20);
+            this.emotesToggle = bool(dataStore, "emotesToggle", false);
+            this.emotesLimit = (int) number(dataStore, "emotesLimit", 5);
+            this.longMessageToggle = bool(dataStore, "longMessageToggle", false);
+            this.longMessageLimit = (int) number(dataStore, "longMessageLimit", 325);
+            this.colorsToggle = bool(dataStore, "colorsToggle", false);
+            this.fakePurgeToggle = bool(dataStore, "fakePurgeToggle", false);
+        }
+
+        private static boolean bool(DataStore dataStore, String key, boolean defaultValue) {
+            if (dataStore == null || !dataStore.exists("chatModerator", key)) {
+                return defaultValue;
+            }
+
+            return dataStore.GetBoolean("chatModerator", "", key);
+        }
+
+        private static float number(DataStore dataStore, String key, float defaultValue) {
+            if (dataStore == null) {
+                return defaultValue;
+            }
+
+            String value = dataStore.GetString("chatModerator", "", key);
+
+            if (value == null) {
+                return defaultValue;
+            }
+
+            try {
+                return Float.parseFloat(value.trim());
+            } catch (NumberFormatException ex) {
+                return defaultValue;
+            }
+        }
+    }
+}
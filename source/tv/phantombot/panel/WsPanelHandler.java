@@ -62,6 +62,7 @@ public class WsPanelHandler implements WsFrameHandler {
     @SuppressWarnings("MismatchedReadAndWriteOfArray")
     private static final String[] BLOCKED_DB_QUERY_TABLES = new String[]{"commandtoken"};
     private static final String[] BLOCKED_DB_UPDATE_TABLES = new String[]{};
+    private static final int DB_RESULTS_CHUNK_SIZE = 1000;
     private final WsAuthenticationHandler authHandler;
 
     public WsPanelHandler(String panelAuthRO, String panelAuth) {
@@ -518,23 +519,11 @@ public class WsPanelHandler implements WsFrameHandler {
             return;
         }
 
-        JSONStringer jsonObject = new JSONStringer();
-
-        jsonObject.object().key("query_id").value(uniqueID).key("results").array();
-
-        String[] dbKeys = PhantomBot.instance().getDataStore().GetKeyList(table, "");
-        for (String dbKey : dbKeys) {
-            String value = PhantomBot.instance().getDataStore().GetString(table, "", dbKey);
-            jsonObject.object().key("table").value(table).key("key").value(dbKey).key("value").value(value).endObject();
-        }
+        DBResultsWriter results = new DBResultsWriter(ctx, frame, uniqueID);
 
-        jsonObject.endArray().endObject();
+        PhantomBot.instance().getDataStore().StreamKeyValues(table, "").forEachOrdered(kv -> results.add(table, kv.getKey(), kv.getValue()));
 
-        if (ctx == null) {
-            sendJSONToAll(jsonObject.toString());
-        } else {
-            WebSocketFrameHandler.sendWsFrame(ctx, frame, WebSocketFrameHandler.prepareTextWebSocketResponse(jsonObject.toString()));
-        }
+        results.finish();
     }
 
     public void handleDBKeysListQuery(ChannelHandlerContext ctx, WebSocketFrame frame, JSONObject jso) {
@@ -549,9 +538,7 @@ public class WsPanelHandler implements WsFrameHandler {
             return;
         }
 
-        JSONStringer jsonObject = new JSONStringer();
-
-        jsonObject.object().key("query_id").value(uniqueID).key("results").array();
+        DBResultsWriter results = new DBResultsWriter(ctx, frame, uniqueID);
 
         for (int i = 0; i < jsonArray.length(); i++) {
             if (jsonArray.getJSONObject(i).has("table")) {
@@ -561,16 +548,11 @@ public class WsPanelHandler implements WsFrameHandler {
                     continue;
                 }
 
-                String[] dbKeys = PhantomBot.instance().getDataStore().GetKeyList(table, "");
-                for (String dbKey : dbKeys) {
-                    String value = PhantomBot.instance().getDataStore().GetString(table, "", dbKey);
-                    jsonObject.object().key("table").value(table).key("key").value(dbKey).key("value").value(value).endObject();
-                }
+                PhantomBot.instance().getDataStore().StreamKeyValues(table, "").forEachOrdered(kv -> results.add(table, kv.getKey(), kv.getValue()));
             }
         }
 
-        jsonObject.endArray().endObject();
-        WebSocketFrameHandler.sendWsFrame(ctx, frame, WebSocketFrameHandler.prepareTextWebSocketResponse(jsonObject.toString()));
+        results.finish();
     }
 
     public void handleDBKeysByOrderQuery(ChannelHandlerContext ctx, WebSocketFrame frame, JSONObject jso) {
@@ -588,18 +570,8 @@ public class WsPanelHandler implements WsFrameHandler {
             return;
         }
 
-        JSONStringer jsonObject = new JSONStringer();
-
-        jsonObject.object().key("query_id").value(uniqueID).key("results").array();
-
         String[] dbKeys = PhantomBot.instance().getDataStore().GetKeysByOrder(table, "", order, limit, offset);
-        for (String dbKey : dbKeys) {
-            String value = PhantomBot.instance().getDataStore().GetString(table, "", dbKey);
-            jsonObject.object().key("table").value(table).key("key").value(dbKey).key("value").value(value).endObject();
-        }
-
-        jsonObject.endArray().endObject();
-        WebSocketFrameHandler.sendWsFrame(ctx, frame, WebSocketFrameHandler.prepareTextWebSocketResponse(jsonObject.toString()));
+        sendDBKeys(ctx, frame, uniqueID, table, dbKeys);
     }
 
     public void handleDBValuesByOrderQuery(ChannelHandlerContext ctx, WebSocketFrame frame, JSONObject jso) {
@@ -618,23 +590,13 @@ public class WsPanelHandler implements WsFrameHandler {
             return;
         }
 
-        JSONStringer jsonObject = new JSONStringer();
-
-        jsonObject.object().key("query_id").value(uniqueID).key("results").array();
-
         String[] dbKeys;
         if (isNumber.equals("true")) {
             dbKeys = PhantomBot.instance().getDataStore().GetKeysByNumberOrderValue(table, "", order, limit, offset);
         } else {
             dbKeys = PhantomBot.instance().getDataStore().GetKeysByOrderValue(table, "", order, limit, offset);
         }
-        for (String dbKey : dbKeys) {
-            String value = PhantomBot.instance().getDataStore().GetString(table, "", dbKey);
-            jsonObject.object().key("table").value(table).key("key").value(dbKey).key("value").value(value).endObject();
-        }
-
-        jsonObject.endArray().endObject();
-        WebSocketFrameHandler.sendWsFrame(ctx, frame, WebSocketFrameHandler.prepareTextWebSocketResponse(jsonObject.toString()));
+        sendDBKeys(ctx, frame, uniqueID, table, dbKeys);
     }
 
     public void handleDBKeysSearchQuery(ChannelHandlerContext ctx, WebSocketFrame frame, JSONObject jso) {
@@ -653,18 +615,104 @@ public class WsPanelHandler implements WsFrameHandler {
             return;
         }
 
-        JSONStringer jsonObject = new JSONStringer();
+        String[] dbKeys = PhantomBot.instance().getDataStore().GetKeysByLikeKeysOrder(table, "", key, order, limit, offset);
+        sendDBKeys(ctx, frame, uniqueID, table, dbKeys);
+    }
 
-        jsonObject.object().key("query_id").value(uniqueID).key("results").array();
+    /**
+     * Sends the values of the given keys of a table, read with a single bulk query
+     *
+     * @param ctx The context, or {@code null} to broadcast to all panel sockets
+     * @param frame The frame being answered
+     * @param uniqueID The query id
+     * @param table The table
+     * @param dbKeys The keys to send
+     */
+    private void sendDBKeys(ChannelHandlerContext ctx, WebSocketFrame frame, String uniqueID, String table, String[] dbKeys) {
+        DBResultsWriter results = new DBResultsWriter(ctx, frame, uniqueID);
+        String[] values = PhantomBot.instance().getDataStore().GetBatchString(table, "", dbKeys);
 
-        String[] dbKeys = PhantomBot.instance().getDataStore().GetKeysByLikeKeysOrder(table, "", key, order, limit, offset);
-        for (String dbKey : dbKeys) {
-            String value = PhantomBot.instance().getDataStore().GetString(table, "", dbKey);
-            jsonObject.object().key("table").value(table).key("key").value(dbKey).key("value").value(value).endObject();
+        for (int i = 0; i < dbKeys.length; i++) {
+            results.add(table, dbKeys[i], values[i]);
         }
 
-        jsonObject.endArray().endObject();
-        WebSocketFrameHandler.sendWsFrame(ctx, frame, WebSocketFrameHandler.prepareTextWebSocketResponse(jsonObject.toString()));
+        results.finish();
+    }
+
+    /**
+     * Streams database rows to the panel in chunks of {@link #DB_RESULTS_CHUNK_SIZE} rows, instead of one frame holding the entire result
+     * <br /><br />
+     * Every chunk is a normal response with a {@code results} array. All chunks except the last one also have {@code more} set to {@code true},
+     * and the panel concatenates the arrays before calling the callback
+     */
+    private final class DBResultsWriter {
+
+        private final ChannelHandlerContext ctx;
+        private final WebSocketFrame frame;
+        private final String uniqueID;
+        private JSONStringer jsonObject;
+        private int rows;
+
+        private DBResultsWriter(ChannelHandlerContext ctx, WebSocketFrame frame, String uniqueID) {
+            this.ctx = ctx;
+            this.frame = frame;
+            this.uniqueID = uniqueID;
+            this.start();
+        }
+
+        /**
+         * Adds a row, sending the current chunk first if it is full
+         *
+         * @param table The table
+         * @param key The key
+         * @param value The value
+         */
+        private void add(String table, String key, String value) {
+            if (this.rows == DB_RESULTS_CHUNK_SIZE) {
+                this.send(true);
+                this.start();
+            }
+
+            this.jsonObject.object().key("table").value(table).key("key").value(key).key("value").value(value).endObject();
+            this.rows++;
+        }
+
+        /**
+         * Sends the last chunk
+         */
+        private void finish() {
+            this.send(false);
+        }
+
+        /**
+         * Starts a new chunk
+         */
+        private void start() {
+            this.jsonObject = new JSONStringer();
+            this.jsonObject.object().key("query_id").value(this.uniqueID).key("results").array();
+            this.rows = 0;
+        }
+
+        /**
+         * Closes and sends the current chunk
+         *
+         * @param more {@code true} if more chunks will follow
+         */
+        private void send(boolean more) {
+            this.jsonObject.endArray();
+
+            if (more) {
+                this.jsonObject.key("more").value(true);
+            }
+
+            this.jsonObject.endObject();
+
+            if (this.ctx == null) {
+                sendJSONToAll(this.jsonObject.toString());
+            } else {
+                WebSocketFrameHandler.sendWsFrame(this.ctx, this.frame, WebSocketFrameHandler.prepareTextWebSocketResponse(this.jsonObject.toString()));
+            }
+        }
     }
 
     public void sendJSONToAll(String jsonString) {
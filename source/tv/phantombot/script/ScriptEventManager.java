@@ -17,22 +17,35 @@
 package tv.phantombot.script;
 
 import com.gmt2001.Reflect;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 import net.engio.mbassy.listener.Handler;
 import org.apache.commons.text.WordUtils;
+import tv.phantombot.PhantomBot;
 import tv.phantombot.event.Event;
+import tv.phantombot.event.EventBus;
 import tv.phantombot.event.Listener;
 
+/**
+ * Dispatches events from the {@link EventBus} to the handlers registered by scripts
+ * <br /><br />
+ * Handlers are kept in a copy-on-write table keyed by event class, so dispatch is a single lookup. Event classes without a script handler
+ * are declined through {@link #acceptsEvent(Class)}, so the event bus discards them before they are queued
+ */
 public final class ScriptEventManager implements Listener {
 
     private static final ScriptEventManager instance = new ScriptEventManager();
-    private final ConcurrentHashMap<String, ScriptEventHandler> events = new ConcurrentHashMap<>();
-    private final List<String> classes = new ArrayList<>();
+    /**
+     * Copy-on-write table of the registered handlers, replaced under the lock of this instance
+     */
+    private volatile Map<Class<? extends Event>, ScriptEventHandler> handlers = Collections.emptyMap();
+    /**
+     * Copy-on-write index of all event classes by simple name
+     */
+    private volatile Map<String, Class<? extends Event>> eventClasses = Collections.emptyMap();
     private boolean isKilled = false;
 
     /**
@@ -53,12 +66,15 @@ public final class ScriptEventManager implements Listener {
         registerClasses();
     }
 
-    private void registerClasses() {
+    private synchronized void registerClasses() {
         Reflect.instance().loadPackageRecursive(Event.class.getName().substring(0, Event.class.getName().lastIndexOf('.')));
-        Reflect.instance().getSubTypesOf(Event.class).stream().filter((c) -> (!this.classes.contains(c.getName().substring(0, c.getName().lastIndexOf('.'))))).forEachOrdered((c) -> {
-            this.classes.add(c.getName().substring(0, c.getName().lastIndexOf('.')));
-            com.gmt2001.Console.debug.println("Registered event package " + c.getName().substring(0, c.getName().lastIndexOf('.')));
+        Map<String, Class<? extends Event>> newEventClasses = new HashMap<>(this.eventClasses);
+        Reflect.instance().getSubTypesOf(Event.class).forEach((c) -> {
+            newEventClasses.putIfAbsent(c.getSimpleName(), c);
         });
+        newEventClasses.putIfAbsent(Event.class.getSimpleName(), Event.class);
+        this.eventClasses = newEventClasses;
+        com.gmt2001.Console.debug.println("Registered " + newEventClasses.size() + " event classes");
     }
 
     /**
@@ -70,14 +86,15 @@ public final class ScriptEventManager implements Listener {
     public void onEvent(Event event) {
         if (!isKilled) {
             try {
-                String eventName = event.getClass().getSimpleName();
-                ScriptEventHandler e = events.get(eventName);
+                ScriptEventHandler e = this.handlers.get(event.getClass());
 
                 if (e != null) {
                     e.handle(event);
-                }
 
-                com.gmt2001.Console.debug.println("Dispatched event " + eventName);
+                    if (PhantomBot.getEnableDebugging()) {
+                        com.gmt2001.Console.debug.println("Dispatched event " + event.getClass().getSimpleName());
+                    }
+                }
             } catch (Exception ex) {
                 com.gmt2001.Console.err.println("Failed to dispatch event " + event.getClass().getName());
                 com.gmt2001.Console.err.printStackTrace(ex, false, true);
@@ -85,6 +102,17 @@ public final class ScriptEventManager implements Listener {
         }
     }
 
+    /**
+     * Indicates if a script has registered a handler for the given event class
+     *
+     * @param eventClass The class of the event
+     * @return
+     */
+    @Override
+    public boolean acceptsEvent(Class<? extends Event> eventClass) {
+        return this.handlers.containsKey(eventClass);
+    }
+
     /**
      * Method to see if an event exists, this is used from init.js.
      *
@@ -92,7 +120,13 @@ public final class ScriptEventManager implements Listener {
      * @return
      */
     public boolean hasEvent(String eventName) {
-        return events.containsKey((WordUtils.capitalize(eventName) + "Event"));
+        String ceventName = WordUtils.capitalize(eventName) + "Event";
+
+        if (!this.eventClasses.containsKey(ceventName)) {
+            registerClasses();
+        }
+
+        return this.eventClasses.containsKey(ceventName);
     }
 
     /**
@@ -110,25 +144,22 @@ public final class ScriptEventManager implements Listener {
     }
 
     protected List<String> getEventNames() {
-        Reflect.instance().loadPackageRecursive(Event.class.getName().substring(0, Event.class.getName().lastIndexOf('.')));
-        return Reflect.instance().getSubTypesOf(Event.class).stream().map((c) -> this.formatEventName(c.getName().substring(c.getName().lastIndexOf('.') + 1))).collect(Collectors.toList());
+        this.registerClasses();
+        return this.eventClasses.values().stream().filter((c) -> c != Event.class).map((c) -> this.formatEventName(c.getSimpleName())).collect(Collectors.toList());
     }
 
     private void register(String eventName, ScriptEventHandler handler, boolean recurse) {
         String ceventName = WordUtils.capitalize(eventName) + (eventName.equalsIgnoreCase("Event") ? "" : "Event");
-        Class<? extends Event> event = null;
-
-        for (String c : classes) {
-            try {
-                event = Class.forName(c + "." + ceventName).asSubclass(Event.class);
-                break;
-            } catch (ClassNotFoundException ex) {
+        Class<? extends Event> event = this.eventClasses.get(ceventName);
 
+        if (event != null) {
+            synchronized (this) {
+                Map<Class<? extends Event>, ScriptEventHandler> newHandlers = new HashMap<>(this.handlers);
+                newHandlers.put(event, handler);
+                this.handlers = newHandlers;
             }
-        }
 
-        if (event != null) {
-            events.put(event.getSimpleName(), handler);
+            EventBus.instance().invalidate();
         } else if (recurse) {
             registerClasses();
             register(eventName, handler, false);
@@ -143,11 +174,17 @@ public final class ScriptEventManager implements Listener {
      * @param handler
      */
     public void unregister(ScriptEventHandler handler) {
-        Set<Entry<String, ScriptEventHandler>> entries = events.entrySet();
+        synchronized (this) {
+            Map<Class<? extends Event>, ScriptEventHandler> newHandlers = new HashMap<>(this.handlers);
 
-        entries.stream().filter((e) -> (e.getValue() == handler)).forEachOrdered((e) -> {
-            events.remove(e.getKey());
-        });
+            if (!newHandlers.values().removeIf((e) -> e == handler)) {
+                return;
+            }
+
+            this.handlers = newHandlers;
+        }
+
+        EventBus.instance().invalidate();
     }
 
     /**
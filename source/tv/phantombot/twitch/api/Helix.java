@@ -28,12 +28,9 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -92,17 +89,14 @@ public class Helix {
     // The rate limit, when full
     private int maxRateLimit = 120;
     private String oAuthToken = null;
-    private final Queue<Mono<JSONObject>> requestQueue = new ConcurrentLinkedQueue<>();
+    private final HelixScheduler scheduler = new HelixScheduler(RATELIMIT_DEFMAX);
     @SuppressWarnings("MismatchedQueryAndUpdateOfCollection")
     private final ConcurrentMap<String, CallRequest> calls = new ConcurrentHashMap<>();
-    private final ReentrantLock lock = new ReentrantLock();
     private Instant nextWarning = Instant.now();
 
     private Helix() {
         Thread.setDefaultUncaughtExceptionHandler(com.gmt2001.UncaughtExceptionHandler.instance());
-        ExecutorService.schedule(() -> {
-            ExecutorService.scheduleWithFixedDelay(Helix.instance()::processQueue, QUEUE_TIME, QUEUE_TIME, TimeUnit.MILLISECONDS);
-        }, 1000, TimeUnit.MILLISECONDS);
+        ExecutorService.scheduleWithFixedDelay(this::expireCalls, QUEUE_TIME, QUEUE_TIME, TimeUnit.MILLISECONDS);
     }
 
     public void setOAuth(String oauth) {
@@ -115,83 +109,47 @@ public class Helix {
      * @param limit The number of requests left.
      * @param reset The time when our limits will reset.
      */
-    private synchronized void updateRateLimits(int maxLimit, int limit, long reset) {
-        maxRateLimit = maxLimit;
-        remainingRateLimit = limit;
-        rateLimitResetEpoch = reset;
-    }
+    private void updateRateLimits(int maxLimit, int limit, long reset) {
+        synchronized (this) {
+            maxRateLimit = maxLimit;
+            remainingRateLimit = limit;
+            rateLimitResetEpoch = reset;
+        }
 
-    /**
-     * The maximum value of {@link #remainingRateLimit()}
-     * @return
-     */
-    public int maxRateLimit() {
-        return this.maxRateLimit;
+        this.scheduler.update(maxLimit, limit, reset);
     }
 
     /**
-     * The remaining rate limit for Helix
+     * The scheduler which rate limits and prioritizes requests
+     *
      * @return
      */
-    public int remainingRateLimit() {
-        return this.remainingRateLimit;
+    public HelixScheduler scheduler() {
+        return this.scheduler;
     }
 
     /**
-     * Method that gets the reset time for the rate limit.
-     *
+     * The maximum value of {@link #remainingRateLimit()}
      * @return
      */
-    private synchronized long getLimitResetTime() {
-        return rateLimitResetEpoch;
+    public int maxRateLimit() {
+        return this.maxRateLimit;
     }
 
     /**
-     * Method that gets the current rate limits.
-     *
+     * The remaining rate limit for Helix
      * @return
      */
-    private synchronized int getRemainingRateLimit() {
-        return remainingRateLimit;
+    public int remainingRateLimit() {
+        return this.remainingRateLimit;
     }
 
     /**
-     * Method that checks if we hit the limit.
+     * Removes expired entries from the request de-duplication cache
      */
-    private void checkRateLimit() {
-        if (getRemainingRateLimit() <= 0) {
-            try {
-                // Sleep until a token is returned to the bucket
-                Thread.sleep(System.currentTimeMillis() - (this.getLimitResetTime() / maxRateLimit) + 20);
-            } catch (InterruptedException ex) {
-                com.gmt2001.Console.err.printStackTrace(ex);
-            }
-        }
-    }
-
-    private Mono<Long> waitForRateLimit() {
-        if (getRemainingRateLimit() <= 0) {
-            return Mono.delay(Duration.ofMillis(System.currentTimeMillis() - (this.getLimitResetTime() / maxRateLimit) + 20));
-        }
-
-        return Mono.delay(Duration.ZERO);
-    }
-
-    private void processQueue() {
-        if (!lock.isHeldByCurrentThread() && lock.tryLock()) {
-            try {
-                while (!requestQueue.isEmpty()) {
-                    waitForRateLimit().then(requestQueue.poll()).block();
-                }
-
-                Instant d = Instant.now();
-                calls.entrySet().stream().filter(kvp -> (kvp.getValue().expires.isBefore(d))).forEachOrdered(kvp -> {
-                    calls.remove(kvp.getKey());
-                });
-            } finally {
-                lock.unlock();
-            }
-        }
+    private void expireCalls() {
+        Instant d = Instant.now();
+        calls.entrySet().removeIf(kvp -> kvp.getValue().expires.isBefore(d));
     }
 
     private String uriEncode(String input) {
@@ -258,8 +216,6 @@ public class Helix {
         JSONObject returnObject = new JSONObject();
         int responseCode = 0;
 
-        this.checkRateLimit();
-
         try {
             if ((this.oAuthToken == null || this.oAuthToken.isBlank()) && (oauth == null || oauth.isBlank())) {
                 throw new IllegalArgumentException("apioauth is required");
@@ -355,31 +311,41 @@ public class Helix {
     }
 
     private Mono<JSONObject> handleQueryAsync(String callid, Supplier<JSONObject> action) {
-        return calls.computeIfAbsent(this.digest(callid), k -> {
-            Mono<JSONObject> processor = Mono.<JSONObject>create(emitter -> {
-                try {
-                    emitter.success(action.get());
-                } catch (JSONException | IllegalArgumentException ex) {
-                    emitter.error(ex);
-                }
-            }).cache();
-            requestQueue.add(processor);
-            return new CallRequest(Instant.now().plusMillis(CACHE_TIME), processor);
-        }).processor;
+        return this.handleQueryAsync(callid, HelixScheduler.Priority.Query, action);
+    }
+
+    private Mono<JSONObject> handleQueryAsync(String callid, HelixScheduler.Priority priority, Supplier<JSONObject> action) {
+        return this.handleAsync(callid, priority, CACHE_TIME, action);
     }
 
     private Mono<JSONObject> handleMutatorAsync(String callid, Supplier<JSONObject> action) {
-        return calls.computeIfAbsent(this.digest(callid), k -> {
-            Mono<JSONObject> processor = Mono.<JSONObject>create(emitter -> {
-                try {
-                    emitter.success(action.get());
-                } catch (JSONException | IllegalArgumentException ex) {
-                    emitter.error(ex);
-                }
-            }).cache();
-            requestQueue.add(processor);
-            return new CallRequest(Instant.now().plusMillis(MUTATOR_CACHE_TIME), processor);
+        return this.handleAsync(callid, HelixScheduler.Priority.Mutator, MUTATOR_CACHE_TIME, action);
+    }
+
+    /**
+     * Queues a request with the scheduler, or returns the pending or cached result of an identical request
+     * <br /><br />
+     * The request is queued immediately, even if the returned {@link Mono} is never subscribed to
+     *
+     * @param callid The request identifier used for de-duplication
+     * @param priority The scheduler lane
+     * @param cacheTime How long, in milliseconds, the result is returned to identical requests
+     * @param action The request
+     * @return
+     */
+    private Mono<JSONObject> handleAsync(String callid, HelixScheduler.Priority priority, int cacheTime, Supplier<JSONObject> action) {
+        final List<Mono<JSONObject>> created = new ArrayList<>(1);
+        Mono<JSONObject> processor = calls.computeIfAbsent(this.digest(callid), k -> {
+            Mono<JSONObject> newProcessor = Mono.<JSONObject>create(emitter -> this.scheduler.submit(priority, action, emitter)).cache();
+            created.add(newProcessor);
+            return new CallRequest(Instant.now().plusMillis(cacheTime), newProcessor);
         }).processor;
+
+        if (!created.isEmpty()) {
+            processor.subscribe(jso -> {}, ex -> {});
+        }
+
+        return processor;
     }
 
     private String digest(String input) {
@@ -599,7 +565,7 @@ public class Helix {
         String endpoint = "/users/follows?" + this.qspValid("from_id", from_id) + (both ? "&" : "")
                 + this.qspValid("to_id", to_id) + "&first=" + first + this.qspValid("&after", after);
 
-        return this.handleQueryAsync(endpoint, () -> {
+        return this.handleQueryAsync(endpoint, HelixScheduler.Priority.Bulk, () -> {
             return this.handleRequest(HttpMethod.GET, endpoint);
         });
     }
@@ -656,7 +622,7 @@ public class Helix {
         String endpoint = "/subscriptions?broadcaster_id=" + broadcaster_id + "&first=" + first
                 + this.qspValid("&user_id", userIds) + this.qspValid("&after", after);
 
-        return this.handleQueryAsync(endpoint, () -> {
+        return this.handleQueryAsync(endpoint, HelixScheduler.Priority.Bulk, () -> {
             return this.handleRequest(HttpMethod.GET, endpoint);
         });
     }
@@ -1037,7 +1003,7 @@ public class Helix {
                 + this.qspValid("&before", before) + this.qspValid("&language", language) + this.qspValid("&period", period)
                 + this.qspValid("&sort", sort) + this.qspValid("&type", type);
 
-        return this.handleQueryAsync(endpoint, () -> {
+        return this.handleQueryAsync(endpoint, HelixScheduler.Priority.Bulk, () -> {
             return this.handleRequest(HttpMethod.GET, endpoint);
         });
     }
@@ -1251,7 +1217,7 @@ public class Helix {
                 + this.qspValid("&broadcaster_id", broadcaster_id) + this.qspValid("&game_id", game_id) + this.qspValid("&after", after)
                 + this.qspValid("&before", before) + this.qspValid("&started_at", started_at) + this.qspValid("&ended_at", ended_at);
 
-        return this.handleQueryAsync(endpoint, () -> {
+        return this.handleQueryAsync(endpoint, HelixScheduler.Priority.Bulk, () -> {
             return this.handleRequest(HttpMethod.GET, endpoint);
         });
     }
@@ -2847,7 +2813,7 @@ public class Helix {
         String endpoint = "/channels/followers?" + this.qspValid("broadcaster_id", ViewerCache.instance().broadcaster().id())
         + this.qspValid("&user_id", user_id) + this.qspValid("&first", first) + this.qspValid("&after", after);
 
-        return this.handleQueryAsync(endpoint, () -> {
+        return this.handleQueryAsync(endpoint, HelixScheduler.Priority.Bulk, () -> {
             return this.handleRequest(HttpMethod.GET, endpoint);
         });
     }
@@ -2871,7 +2837,7 @@ public class Helix {
         + this.qspValid("&moderator_id", TwitchValidate.instance().getAPIUserID()) + this.qspValid("&first", first)
         + this.qspValid("&after", after);
 
-        return this.handleQueryAsync(endpoint, () -> {
+        return this.handleQueryAsync(endpoint, HelixScheduler.Priority.Bulk, () -> {
             return this.handleRequest(HttpMethod.GET, endpoint);
         });
     }
@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2016-2023 phantombot.github.io/PhantomBot
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package tv.phantombot.twitch.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.json.JSONObject;
+
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import tv.phantombot.CaselessProperties;
+
+/**
+ * Schedules Helix requests against the Twitch rate limit
+ * <br /><br />
+ * Requests wait in one of three priority lanes and are started on a worker pool, up to {@code helixmaxinflight} at a time, whenever the
+ * token bucket has a token available. The bucket is synced from the {@code Ratelimit-*} headers of every response and refills
+ * continuously between responses, so nothing ever sleeps waiting for a token; a wakeup is scheduled for when the next token is due instead
+ * <br /><br />
+ * Lanes are strictly ordered, and {@link Priority#Bulk} requests are held back while the bucket is below {@link #BULK_RESERVE_RATIO} of its
+ * capacity, so mutators such as bans and message deletions are never starved by bulk reads
+ */
+public final class HelixScheduler {
+
+    /**
+     * Fraction of the bucket that is reserved for {@link Priority#Mutator} and {@link Priority#Query} requests
+     */
+    private static final double BULK_RESERVE_RATIO = 0.1;
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    /**
+     * Set on worker threads, so that a request made while running another request is executed inline instead of waiting for a worker
+     */
+    private static final ThreadLocal<Boolean> WORKER = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final AtomicInteger nextWorkerId = new AtomicInteger(1);
+    private final ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(() -> {
+            WORKER.set(Boolean.TRUE);
+            runnable.run();
+        }, "HelixScheduler-" + this.nextWorkerId.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * Runs the token wakeups. Kept off the shared {@link com.gmt2001.ExecutorService}, whose threads may be blocked waiting on a request
+     */
+    private final Scheduler timer = Schedulers.newSingle("HelixScheduler-timer", true);
+    private final Lane[] lanes = new Lane[Priority.values().length];
+    private final int maxInFlight;
+    private int inFlight = 0;
+    private final AtomicBoolean wakeupScheduled = new AtomicBoolean(false);
+    private double tokens;
+    private int capacity;
+    private double refillPerNano;
+    private long lastRefill = System.nanoTime();
+
+    /**
+     * The priority lanes, in dispatch order
+     */
+    public enum Priority {
+        /**
+         * Requests that change state, such as bans, message deletions, and announcements
+         */
+        Mutator,
+        /**
+         * Single lookups
+         */
+        Query,
+        /**
+         * Paginated or bulk reads, such as followers, subscriptions, chatters, clips, and videos
+         */
+        Bulk
+    }
+
+    /**
+     * Constructor
+     *
+     * @param capacity The initial capacity of the token bucket, used until the first response is received
+     */
+    HelixScheduler(int capacity) {
+        for (Priority priority : Priority.values()) {
+            this.lanes[priority.ordinal()] = new Lane(priority);
+        }
+
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.refillPerNano = (double) capacity / MINUTE_NANOS;
+        /**
+         * @botproperty helixmaxinflight - The maximum number of concurrent requests to the Twitch Helix API. Default `4`
+         * @botpropertycatsort helixmaxinflight 110 900 Debug
+         * @botpropertyrestart helixmaxinflight
+         */
+        this.maxInFlight = Math.max(1, CaselessProperties.instance().getPropertyAsInt("helixmaxinflight", 4));
+    }
+
+    /**
+     * Indicates if the calling thread is a scheduler worker
+     * <br /><br />
+     * Callers which block waiting on another Helix request must not do so from a worker thread
+     *
+     * @return {@code true} if the calling thread is a scheduler worker
+     */
+    public static boolean isWorkerThread() {
+        return WORKER.get();
+    }
+
+    /**
+     * Queues a request
+     * <br /><br />
+     * If called from a worker thread, the request is executed immediately on the calling thread, since waiting for another worker could
+     * deadlock the pool
+     *
+     * @param priority The lane to queue the request in
+     * @param action The request
+     * @param sink The sink which receives the result
+     */
+    void submit(Priority priority, Supplier<JSONObject> action, MonoSink<JSONObject> sink) {
+        Task task = new Task(this.lanes[priority.ordinal()], action, sink);
+
+        if (WORKER.get()) {
+            synchronized (this) {
+                this.refill();
+                this.tokens = Math.max(0, this.tokens - 1);
+            }
+
+            task.lane.queued.incrementAndGet();
+            task.run();
+            return;
+        }
+
+        task.lane.queued.incrementAndGet();
+        task.lane.queue.add(task);
+        this.dispatch();
+    }
+
+    /**
+     * Syncs the token bucket with the rate limit headers of a response
+     *
+     * @param limit The value of the {@code Ratelimit-Limit} header
+     * @param remaining The value of the {@code Ratelimit-Remaining} header
+     * @param resetEpochMillis The value of the {@code Ratelimit-Reset} header, converted to milliseconds
+     */
+    void update(int limit, int remaining, long resetEpochMillis) {
+        synchronized (this) {
+            this.capacity = Math.max(1, limit);
+            // Requests that are still in flight have already taken their token locally, but may not be counted by Twitch yet
+            this.tokens = Math.max(0, Math.min(this.capacity, remaining - Math.max(0, this.inFlight - 1)));
+            long untilReset = resetEpochMillis - System.currentTimeMillis();
+
+            if (untilReset > 0 && remaining < limit) {
+                this.refillPerNano = (double) (limit - remaining) / TimeUnit.MILLISECONDS.toNanos(untilReset);
+            } else {
+                this.refillPerNano = (double) this.capacity / MINUTE_NANOS;
+            }
+
+            this.lastRefill = System.nanoTime();
+        }
+
+        this.dispatch();
+    }
+
+    /**
+     * Adds the tokens that have accrued since the last refill. Must be called while synchronized
+     */
+    private void refill() {
+        long now = System.nanoTime();
+        this.tokens = Math.min(this.capacity, this.tokens + ((now - this.lastRefill) * this.refillPerNano));
+        this.lastRefill = now;
+    }
+
+    /**
+     * Starts as many queued requests as the in-flight limit and the token bucket allow
+     */
+    private void dispatch() {
+        List<Task> start = new ArrayList<>();
+        long wakeupNanos = 0;
+
+        synchronized (this) {
+            this.refill();
+
+            while (this.inFlight < this.maxInFlight) {
+                Task task = null;
+
+                for (Lane lane : this.lanes) {
+                    if (lane.queue.isEmpty()) {
+                        continue;
+                    }
+
+                    double required = lane.priority == Priority.Bulk ? Math.max(1, this.capacity * BULK_RESERVE_RATIO) : 1;
+
+                    if (this.tokens < required) {
+                        wakeupNanos = (long) Math.ceil((required - this.tokens) / this.refillPerNano);
+                        break;
+                    }
+
+                    task = lane.queue.poll();
+
+                    if (task != null) {
+                        break;
+                    }
+                }
+
+                if (task == null) {
+                    break;
+                }
+
+                this.tokens -= 1;
+                this.inFlight++;
+                start.add(task);
+            }
+        }
+
+        for (Task task : start) {
+            this.workers.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    synchronized (this) {
+                        this.inFlight--;
+                    }
+
+                    this.dispatch();
+                }
+            });
+        }
+
+        if (wakeupNanos > 0 && this.wakeupScheduled.compareAndSet(false, true)) {
+            this.timer.schedule(() -> {
+                this.wakeupScheduled.set(false);
+                this.dispatch();
+            }, wakeupNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The number of tokens currently in the bucket
+     *
+     * @return
+     */
+    public synchronized double tokens() {
+        this.refill();
+        return this.tokens;
+    }
+
+    /**
+     * The number of requests currently running
+     *
+     * @return
+     */
+    public synchronized int inFlight() {
+        return this.inFlight;
+    }
+
+    /**
+     * Returns a snapshot of the queue metrics of each lane
+     *
+     * @return A list of statistics, in priority order
+     */
+    public List<Statistics> statistics() {
+        List<Statistics> statistics = new ArrayList<>();
+
+        for (Lane lane : this.lanes) {
+            statistics.add(new Statistics(lane.priority, lane.queued.get(), lane.started.get(), lane.waitNanos.get(), lane.maxWaitNanos.get()));
+        }
+
+        return statistics;
+    }
+
+    /**
+     * A snapshot of the queue metrics of a single lane, returned by {@link HelixScheduler#statistics()}
+     */
+    public static final class Statistics {
+
+        private final Priority priority;
+        private final int queued;
+        private final long started;
+        private final long waitNanos;
+        private final long maxWaitNanos;
+
+        private Statistics(Priority priority, int queued, long started, long waitNanos, long maxWaitNanos) {
+            this.priority = priority;
+            this.queued = queued;
+            this.started = started;
+            this.waitNanos = waitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        /**
+         * The lane
+         *
+         * @return
+         */
+        public Priority priority() {
+            return this.priority;
+        }
+
+        /**
+         * The number of requests waiting for a worker or a token
+         *
+         * @return
+         */
+        public int queued() {
+            return this.queued;
+        }
+
+        /**
+         * The number of requests that have been started
+         *
+         * @return
+         */
+        public long started() {
+            return this.started;
+        }
+
+        /**
+         * The average time between a request being queued and being started
+         *
+         * @return
+         */
+        public Duration averageWait() {
+            return Duration.ofNanos(this.started == 0 ? 0 : this.waitNanos / this.started);
+        }
+
+        /**
+         * The longest time between a request being queued and being started
+         *
+         * @return
+         */
+        public Duration maxWait() {
+            return Duration.ofNanos(this.maxWaitNanos);
+        }
+
+        @Override
+        public String toString() {
+            return this.priority + ": queued=" + this.queued + " started=" + this.started
+                    + " waitAvg=" + String.format("%.3f", this.averageWait().toNanos() / 1_000_000.0) + "ms waitMax=" + this.maxWait().toMillis() + "ms";
+        }
+    }
+
+    /**
+     * The queue and metrics of a priority lane
+     */
+    private static final class Lane {
+
+        private final Priority priority;
+        private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong waitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private Lane(Priority priority) {
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * A queued request
+     */
+    private static final class Task {
+
+        private final Lane lane;
+        private final Supplier<JSONObject> action;
+        private final MonoSink<JSONObject> sink;
+        private final long queuedNanos = System.nanoTime();
+
+        private Task(Lane lane, Supplier<JSONObject> action, MonoSink<JSONObject> sink) {
+            this.lane = lane;
+            this.action = action;
+            this.sink = sink;
+        }
+
+        private void run() {
+            long wait = System.nanoTime() - this.queuedNanos;
+            this.lane.queued.decrementAndGet();
+            this.lane.started.incrementAndGet();
+            this.lane.waitNanos.addAndGet(wait);
+            this.lane.maxWaitNanos.accumulateAndGet(wait, Math::max);
+
+            try {
+                this.sink.success(this.action.get());
+            } catch (Exception ex) {
+                this.sink.error(ex);
+            }
+        }
+    }
+}